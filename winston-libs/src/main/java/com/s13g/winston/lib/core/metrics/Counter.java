@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.lib.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing count. Lock-free and cheap to update from many threads.
+ */
+public class Counter {
+  private final LongAdder mCount;
+
+  Counter() {
+    mCount = new LongAdder();
+  }
+
+  /** Increments the count by one. */
+  public void increment() {
+    mCount.increment();
+  }
+
+  /** Increments the count by the given amount. */
+  public void add(long amount) {
+    mCount.add(amount);
+  }
+
+  /** @return The current count. */
+  public long get() {
+    return mCount.sum();
+  }
+}
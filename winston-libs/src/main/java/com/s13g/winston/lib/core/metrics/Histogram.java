@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.lib.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A latency histogram with fixed buckets. Lock-free and cheap to update from many threads.
+ */
+public class Histogram {
+  /** Upper bounds of the buckets in seconds, from 1ms for local work to 30s for slow devices. */
+  static final double[] BUCKETS =
+      {0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30};
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  /** Non-cumulative counts per bucket. The last one counts everything above the last bound. */
+  private final LongAdder[] mCounts;
+  private final DoubleAdder mSumSeconds;
+
+  Histogram() {
+    mCounts = new LongAdder[BUCKETS.length + 1];
+    for (int i = 0; i < mCounts.length; ++i) {
+      mCounts[i] = new LongAdder();
+    }
+    mSumSeconds = new DoubleAdder();
+  }
+
+  /** Records a duration in nanoseconds, e.g. the difference of two {@link System#nanoTime()}. */
+  public void observeNanos(long nanos) {
+    double seconds = nanos / NANOS_PER_SECOND;
+    int bucket = 0;
+    while (bucket < BUCKETS.length && seconds > BUCKETS[bucket]) {
+      ++bucket;
+    }
+    mCounts[bucket].increment();
+    mSumSeconds.add(seconds);
+  }
+
+  /** Records the time since the given start time, as returned by {@link System#nanoTime()}. */
+  public void observeSince(long startNanos) {
+    observeNanos(System.nanoTime() - startNanos);
+  }
+
+  /** @return The number of observations up to the given bucket, including it. */
+  long getCumulativeCount(int bucket) {
+    long result = 0;
+    for (int i = 0; i <= bucket; ++i) {
+      result += mCounts[i].sum();
+    }
+    return result;
+  }
+
+  /** @return The total number of observations. */
+  public long getCount() {
+    return getCumulativeCount(BUCKETS.length);
+  }
+
+  /** @return The sum of all observed durations in seconds. */
+  public double getSumSeconds() {
+    return mSumSeconds.sum();
+  }
+}
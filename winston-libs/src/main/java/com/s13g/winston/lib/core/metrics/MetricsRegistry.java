@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.lib.core.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Holds counters, gauges and latency histograms and exports them in the Prometheus text format.
+ * <p>
+ * Metrics are identified by a name and label pairs, e.g.
+ * {@code histogram("winston_request_duration_seconds", "...", "handler", "io")}. Looking up a
+ * metric is a hash map lookup, updating it is lock-free. Callers on hot paths should keep the
+ * returned metric instead of looking it up every time.
+ */
+public class MetricsRegistry {
+  private static final MetricsRegistry sGlobal = new MetricsRegistry();
+
+  /** Metric name -> family of metrics with that name but different labels. */
+  private final ConcurrentMap<String, Family<?>> mFamilies;
+
+  public MetricsRegistry() {
+    mFamilies = new ConcurrentHashMap<>();
+  }
+
+  /** @return The registry shared by everything in this process. */
+  public static MetricsRegistry global() {
+    return sGlobal;
+  }
+
+  /**
+   * @param name the name of the metric, e.g. 'winston_requests_total'.
+   * @param help a description of the metric.
+   * @param labels pairs of label names and values.
+   * @return The counter with the given name and labels, created if it does not exist yet.
+   */
+  public Counter counter(String name, String help, String... labels) {
+    return this.<Counter>getFamily(name, help, Type.COUNTER, Counter.class)
+        .get(labels, key -> new Counter());
+  }
+
+  /**
+   * Registers a counter whose value is supplied by the caller, e.g. from existing statistics.
+   * Replaces a previously registered supplier with the same name and labels.
+   */
+  public void counter(String name, String help, Supplier<Long> supplier, String... labels) {
+    this.<Supplier<Long>>getFamily(name, help, Type.COUNTER, Supplier.class)
+        .put(labels, supplier);
+  }
+
+  /**
+   * Registers a gauge, whose value is read from the given supplier at export time. Replaces a
+   * previously registered gauge with the same name and labels.
+   */
+  public void gauge(String name, String help, DoubleSupplier supplier, String... labels) {
+    this.<DoubleSupplier>getFamily(name, help, Type.GAUGE, DoubleSupplier.class)
+        .put(labels, supplier);
+  }
+
+  /**
+   * @return The latency histogram with the given name and labels, created if it does not exist
+   * yet. By convention, the name should end in '_seconds'.
+   */
+  public Histogram histogram(String name, String help, String... labels) {
+    return this.<Histogram>getFamily(name, help, Type.HISTOGRAM, Histogram.class)
+        .get(labels, key -> new Histogram());
+  }
+
+  /** Writes all metrics in the Prometheus text exposition format. */
+  public void writeTo(Writer writer) throws IOException {
+    for (Map.Entry<String, Family<?>> family : new TreeMap<>(mFamilies).entrySet()) {
+      family.getValue().writeTo(family.getKey(), writer);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Family<T> getFamily(String name, String help, Type type, Class<?> metricClass) {
+    Family<?> family = mFamilies.computeIfAbsent(name, key -> new Family<>(help, type,
+        metricClass));
+    if (family.mType != type || family.mMetricClass != metricClass) {
+      throw new IllegalArgumentException("Metric already registered with another type: " + name);
+    }
+    return (Family<T>) family;
+  }
+
+  private enum Type {
+    COUNTER, GAUGE, HISTOGRAM
+  }
+
+  /** All metrics with the same name. */
+  private static class Family<T> {
+    private final String mHelp;
+    private final Type mType;
+    private final Class<?> mMetricClass;
+    /** Formatted labels, e.g. 'handler="io"', -> metric. */
+    private final ConcurrentMap<String, T> mMetrics;
+
+    private Family(String help, Type type, Class<?> metricClass) {
+      mHelp = help;
+      mType = type;
+      mMetricClass = metricClass;
+      mMetrics = new ConcurrentHashMap<>();
+    }
+
+    private T get(String[] labels, Function<String, T> creator) {
+      return mMetrics.computeIfAbsent(formatLabels(labels), creator);
+    }
+
+    private void put(String[] labels, T metric) {
+      mMetrics.put(formatLabels(labels), metric);
+    }
+
+    private void writeTo(String name, Writer writer) throws IOException {
+      writer.append("# HELP ").append(name).append(' ').append(mHelp).append('\n');
+      writer.append("# TYPE ").append(name).append(' ')
+          .append(mType.name().toLowerCase()).append('\n');
+      for (Map.Entry<String, T> entry : new TreeMap<>(mMetrics).entrySet()) {
+        String labels = entry.getKey();
+        Object metric = entry.getValue();
+        if (metric instanceof Counter) {
+          writeSample(writer, name, labels, ((Counter) metric).get());
+        } else if (metric instanceof Supplier) {
+          writeSample(writer, name, labels, ((Supplier<?>) metric).get());
+        } else if (metric instanceof DoubleSupplier) {
+          writeSample(writer, name, labels, ((DoubleSupplier) metric).getAsDouble());
+        } else if (metric instanceof Histogram) {
+          Histogram histogram = (Histogram) metric;
+          String separator = labels.isEmpty() ? "" : ",";
+          for (int i = 0; i < Histogram.BUCKETS.length; ++i) {
+            writeSample(writer, name + "_bucket",
+                labels + separator + "le=\"" + Histogram.BUCKETS[i] + "\"",
+                histogram.getCumulativeCount(i));
+          }
+          writeSample(writer, name + "_bucket", labels + separator + "le=\"+Inf\"",
+              histogram.getCount());
+          writeSample(writer, name + "_sum", labels, histogram.getSumSeconds());
+          writeSample(writer, name + "_count", labels, histogram.getCount());
+        }
+      }
+    }
+  }
+
+  private static void writeSample(Writer writer, String name, String labels, Object value)
+      throws IOException {
+    writer.append(name);
+    if (!labels.isEmpty()) {
+      writer.append('{').append(labels).append('}');
+    }
+    writer.append(' ').append(String.valueOf(value)).append('\n');
+  }
+
+  private static String formatLabels(String[] labels) {
+    if (labels.length % 2 != 0) {
+      throw new IllegalArgumentException("Labels must be pairs of names and values.");
+    }
+    StringBuilder result = new StringBuilder();
+    for (int i = 0; i < labels.length; i += 2) {
+      if (i > 0) {
+        result.append(',');
+      }
+      result.append(labels[i]).append("=\"");
+      for (char c : labels[i + 1].toCharArray()) {
+        if (c == '\\' || c == '"') {
+          result.append('\\').append(c);
+        } else if (c == '\n') {
+          result.append("\\n");
+        } else {
+          result.append(c);
+        }
+      }
+      result.append('"');
+    }
+    return result.toString();
+  }
+}
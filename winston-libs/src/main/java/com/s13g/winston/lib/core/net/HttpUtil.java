@@ -16,10 +16,14 @@
 
 package com.s13g.winston.lib.core.net;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.s13g.winston.lib.core.metrics.MetricsRegistry;
+
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.OutputStreamWriter;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
@@ -27,11 +31,39 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * HTTP request utility methods.
+ * <p>
+ * Blocking requests time out if connecting or reading stalls for
+ * {@value #DEFAULT_TIMEOUT_MILLIS} ms. Asynchronous requests run on a small shared pool of I/O
+ * threads and fail once their deadline has passed.
  */
 public class HttpUtil {
+  static final int DEFAULT_TIMEOUT_MILLIS = 30000;
+  /** Asynchronous requests beyond this many wait for a free I/O thread. */
+  private static final int IO_THREADS = 8;
+  static final String METRIC_DURATION = "winston_outbound_request_duration_seconds";
+  static final String METRIC_DURATION_HELP = "Duration of outbound HTTP requests.";
+  static final String METRIC_ERRORS = "winston_outbound_request_errors_total";
+  static final String METRIC_ERRORS_HELP = "Failed outbound HTTP requests.";
+
+  private static final ThreadPoolExecutor sIoExecutor = createIoExecutor();
+  private static final ScheduledExecutorService sDeadlineScheduler =
+      Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+          .setNameFormat("http-deadline").setDaemon(true).build());
+
   /**
    * Makes a GET request to the given URL.
    *
@@ -105,10 +137,97 @@ public class HttpUtil {
                                   Method method,
                                   Map<String, String> header,
                                   Optional<String> data) throws IOException {
+    return request(rpcUrl, method, header, data,
+        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DEFAULT_TIMEOUT_MILLIS),
+        connection -> { });
+  }
+
+  /**
+   * Makes a GET request to the given URL, without blocking the caller.
+   *
+   * @param rpcUrl the give HTTP URL
+   * @param timeoutMillis the deadline for the whole request, relative to now.
+   * @return The response, see {@link #requestUrlAsync(String, Method, Map, Optional, long)}.
+   */
+  public static CompletableFuture<String> requestUrlAsync(String rpcUrl, long timeoutMillis) {
+    return requestUrlAsync(rpcUrl, Method.GET, new HashMap<>(), Optional.empty(), timeoutMillis);
+  }
+
+  /**
+   * Makes a request to the given URL, without blocking the caller.
+   * <p>
+   * The request runs on a shared pool of I/O threads. Cancelling the returned future, or missing
+   * the deadline, closes the connection and frees the thread.
+   *
+   * @param rpcUrl the give HTTP URL
+   * @param method which method to use for the request.
+   * @param header sets the headers for this request.
+   * @param timeoutMillis the deadline for the whole request, relative to now. This includes the
+   *     time waiting for a free I/O thread.
+   * @return The response, or an exception: an {@link IOException} if the request failed, a
+   *     {@link TimeoutException} if the deadline passed.
+   */
+  public static CompletableFuture<String> requestUrlAsync(String rpcUrl,
+                                                          Method method,
+                                                          Map<String, String> header,
+                                                          Optional<String> data,
+                                                          long timeoutMillis) {
+    CompletableFuture<String> result = new CompletableFuture<>();
+    long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    AtomicReference<HttpURLConnection> connection = new AtomicReference<>();
+    Future<?> task = sIoExecutor.submit(() -> {
+      try {
+        result.complete(request(rpcUrl, method, header, data, deadlineNanos, connection::set));
+      } catch (IOException | RuntimeException e) {
+        // Socket timeouts and the deadline race, both mean the same to the caller.
+        result.completeExceptionally(System.nanoTime() - deadlineNanos >= 0
+            ? createTimeoutException(rpcUrl, timeoutMillis) : e);
+      }
+    });
+    ScheduledFuture<?> deadline = sDeadlineScheduler.schedule(
+        () -> result.completeExceptionally(createTimeoutException(rpcUrl, timeoutMillis)),
+        timeoutMillis, TimeUnit.MILLISECONDS);
+    result.whenComplete((response, error) -> {
+      deadline.cancel(false);
+      if (error != null) {
+        // Interrupting does not stop blocking socket I/O, closing the connection does.
+        task.cancel(true);
+        HttpURLConnection openConnection = connection.get();
+        if (openConnection != null) {
+          openConnection.disconnect();
+        }
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Makes a request to the given URL on the calling thread.
+   *
+   * @param deadlineNanos the request fails if connecting or reading blocks beyond this.
+   * @param onConnection called with the connection before it is used, e.g. to close it from
+   *     another thread.
+   */
+  private static String request(String rpcUrl,
+                                Method method,
+                                Map<String, String> header,
+                                Optional<String> data,
+                                long deadlineNanos,
+                                Consumer<HttpURLConnection> onConnection) throws IOException {
     StringBuilder resultStr = new StringBuilder();
+    String host = getHost(rpcUrl);
+    long startNanos = System.nanoTime();
     try {
       final HttpURLConnection connection = (HttpURLConnection) (new URL(
           rpcUrl)).openConnection();
+      onConnection.accept(connection);
+      if (Thread.currentThread().isInterrupted()) {
+        throw new InterruptedIOException("HTTP request cancelled.");
+      }
+      int timeoutMillis = (int) Math.max(1,
+          TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+      connection.setConnectTimeout(timeoutMillis);
+      connection.setReadTimeout(timeoutMillis);
       connection.setRequestMethod(method.methodStr);
       for (String key : header.keySet()) {
         String value = header.get(key);
@@ -116,9 +235,8 @@ public class HttpUtil {
       }
 
       connection.setUseCaches(false);
-      connection.setDoOutput(true);
       if (data.isPresent()) {
-        connection.setDoInput(true);
+        connection.setDoOutput(true);
         BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(connection
             .getOutputStream()));
         writer.append(data.get());
@@ -142,11 +260,37 @@ public class HttpUtil {
     } catch (final MalformedURLException e) {
       throw new IOException("HTTP request failed. Malformed URL.");
     } catch (final IOException e) {
+      MetricsRegistry.global().counter(METRIC_ERRORS, METRIC_ERRORS_HELP, "host", host).increment();
       throw new IOException("HTTP request failed.", e);
+    } finally {
+      MetricsRegistry.global().histogram(METRIC_DURATION, METRIC_DURATION_HELP, "host",
+          host).observeSince(startNanos);
     }
     return resultStr.toString();
   }
 
+  private static TimeoutException createTimeoutException(String rpcUrl, long timeoutMillis) {
+    return new TimeoutException(
+        "HTTP request did not complete within " + timeoutMillis + " ms: " + rpcUrl);
+  }
+
+  private static ThreadPoolExecutor createIoExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(IO_THREADS, IO_THREADS, 60,
+        TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        new ThreadFactoryBuilder().setNameFormat("http-io-%d").setDaemon(true).build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /** @return The host of the given URL, to group metrics by device. */
+  private static String getHost(String url) {
+    try {
+      return new URL(url).getHost();
+    } catch (MalformedURLException e) {
+      return "invalid";
+    }
+  }
+
   public enum Method {
     POST("POST"), GET("GET"), PUT("PUT");
 
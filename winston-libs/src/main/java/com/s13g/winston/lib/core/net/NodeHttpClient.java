@@ -0,0 +1,420 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.lib.core.net;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ascii;
+import com.s13g.winston.lib.core.metrics.Counter;
+import com.s13g.winston.lib.core.metrics.Histogram;
+import com.s13g.winston.lib.core.metrics.MetricsRegistry;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP client for requests to a single node, e.g. a Winston node.
+ * <p>
+ * Unlike {@link HttpUtil}, connections are kept open and reused by later requests, requests time
+ * out and the bytes of a request are prepared once using {@link #prepareGet(String)}. Only the
+ * parts of HTTP/1.1 that nodes use are supported: GET requests and responses with a
+ * 'Content-Length', chunked or connection-delimited body.
+ * <p>
+ * This class is thread-safe, concurrent requests use separate connections.
+ */
+public class NodeHttpClient {
+  private static final int DEFAULT_CONNECT_TIMEOUT_MILLIS = 2000;
+  private static final int DEFAULT_READ_TIMEOUT_MILLIS = 5000;
+  /** More idle connections per node than this are closed. */
+  private static final int MAX_IDLE_CONNECTIONS = 4;
+  /** Idle connections are not reused after this, as the node might have closed them. */
+  private static final long MAX_IDLE_NANOS = TimeUnit.SECONDS.toNanos(30);
+  private static final int BUFFER_SIZE = 4096;
+  private static final String METRIC_CONNECTIONS = "winston_outbound_connections_total";
+
+  private final String mHost;
+  private final int mPort;
+  private final int mConnectTimeoutMillis;
+  private final int mReadTimeoutMillis;
+  /** Idle connections, the most recently used one last. */
+  private final Deque<Connection> mIdle;
+  private final Histogram mDuration;
+  private final Counter mErrors;
+  private final Counter mConnections;
+  private boolean mClosed;
+
+  /**
+   * @param host the host name or IP address of the node.
+   * @param port the HTTP port of the node.
+   */
+  public NodeHttpClient(String host, int port) {
+    this(host, port, DEFAULT_CONNECT_TIMEOUT_MILLIS, DEFAULT_READ_TIMEOUT_MILLIS,
+        MetricsRegistry.global());
+  }
+
+  @VisibleForTesting
+  NodeHttpClient(String host, int port, int connectTimeoutMillis, int readTimeoutMillis,
+                 MetricsRegistry metrics) {
+    mHost = host;
+    mPort = port;
+    mConnectTimeoutMillis = connectTimeoutMillis;
+    mReadTimeoutMillis = readTimeoutMillis;
+    mIdle = new ArrayDeque<>();
+    mDuration = metrics.histogram(HttpUtil.METRIC_DURATION, HttpUtil.METRIC_DURATION_HELP,
+        "host", host);
+    mErrors = metrics.counter(HttpUtil.METRIC_ERRORS, HttpUtil.METRIC_ERRORS_HELP, "host", host);
+    mConnections = metrics.counter(METRIC_CONNECTIONS, "Outbound connections opened to nodes.",
+        "host", host);
+  }
+
+  /**
+   * Prepares a GET request, so that sending it does not need to format anything. The request is
+   * resent if a reused connection turns out to be closed by the node, so it must not have side
+   * effects.
+   *
+   * @param path the absolute path of the request, e.g. '/io/temp'.
+   * @return The request, to be sent with {@link #get(Request)}.
+   */
+  public Request prepareGet(String path) {
+    return prepareGet(path, true);
+  }
+
+  /**
+   * Prepares a GET request, so that sending it does not need to format anything.
+   *
+   * @param path the absolute path of the request, e.g. '/io/relay/0'.
+   * @param retryable whether the request may be sent twice. If not, e.g. because it triggers an
+   * action on the node, it is always sent on a new connection and never resent, since the node
+   * might have handled it before the connection broke.
+   * @return The request, to be sent with {@link #get(Request)}.
+   */
+  public Request prepareGet(String path, boolean retryable) {
+    if (!path.startsWith("/") || path.chars().anyMatch(c -> c <= ' ' || c >= 0x7f)) {
+      throw new IllegalArgumentException("Invalid request path: '" + path + "'");
+    }
+    String request = "GET " + path + " HTTP/1.1\r\n"
+        + "Host: " + mHost + ":" + mPort + "\r\n"
+        + "\r\n";
+    return new Request(path, request.getBytes(StandardCharsets.US_ASCII), retryable);
+  }
+
+  /**
+   * Sends the given request. For retryable requests, a reused connection that turns out to be
+   * closed by the node is replaced by a new one transparently.
+   *
+   * @return The response body, without trailing line breaks.
+   * @throws IOException if the request failed, timed out or the response status is not 2xx.
+   */
+  public String get(Request request) throws IOException {
+    long startNanos = System.nanoTime();
+    try {
+      while (true) {
+        Connection connection = request.mRetryable ? takeIdleConnection() : null;
+        boolean reused = connection != null;
+        if (!reused) {
+          connection = openConnection();
+        }
+        String body;
+        try {
+          body = connection.send(request);
+        } catch (StaleConnectionException e) {
+          connection.close();
+          if (reused) {
+            continue;
+          }
+          throw new IOException("Connection closed by " + mHost + " without response.");
+        } catch (IOException e) {
+          connection.close();
+          throw e;
+        }
+        long status = connection.mStatus;
+        if (connection.isReusable()) {
+          releaseConnection(connection);
+        } else {
+          connection.close();
+        }
+        if (status / 100 != 2) {
+          throw new IOException("HTTP status " + status);
+        }
+        return body;
+      }
+    } catch (IOException e) {
+      mErrors.increment();
+      throw new IOException("HTTP request to " + mHost + request.mPath + " failed.", e);
+    } finally {
+      mDuration.observeSince(startNanos);
+    }
+  }
+
+  /** Closes all idle connections. Requests made after this do not keep their connection. */
+  public void close() {
+    synchronized (mIdle) {
+      mClosed = true;
+      for (Connection connection : mIdle) {
+        connection.close();
+      }
+      mIdle.clear();
+    }
+  }
+
+  /** @return The most recently used idle connection, or null if there is none. */
+  private Connection takeIdleConnection() {
+    long now = System.nanoTime();
+    synchronized (mIdle) {
+      while (!mIdle.isEmpty()) {
+        Connection connection = mIdle.pollLast();
+        if (now - connection.mIdleSinceNanos < MAX_IDLE_NANOS) {
+          return connection;
+        }
+        connection.close();
+      }
+    }
+    return null;
+  }
+
+  private void releaseConnection(Connection connection) {
+    connection.mIdleSinceNanos = System.nanoTime();
+    synchronized (mIdle) {
+      if (!mClosed) {
+        mIdle.addLast(connection);
+        connection = mIdle.size() > MAX_IDLE_CONNECTIONS ? mIdle.pollFirst() : null;
+      }
+    }
+    if (connection != null) {
+      connection.close();
+    }
+  }
+
+  private Connection openConnection() throws IOException {
+    Socket socket = new Socket();
+    try {
+      socket.setTcpNoDelay(true);
+      socket.setSoTimeout(mReadTimeoutMillis);
+      socket.connect(new InetSocketAddress(mHost, mPort), mConnectTimeoutMillis);
+    } catch (IOException e) {
+      socket.close();
+      throw e;
+    }
+    mConnections.increment();
+    return new Connection(socket);
+  }
+
+  /** A GET request, prepared by {@link #prepareGet(String, boolean)}. */
+  public static final class Request {
+    private final String mPath;
+    private final byte[] mBytes;
+    private final boolean mRetryable;
+
+    private Request(String path, byte[] bytes, boolean retryable) {
+      mPath = path;
+      mBytes = bytes;
+      mRetryable = retryable;
+    }
+
+    @Override
+    public String toString() {
+      return mPath;
+    }
+  }
+
+  /** Thrown if a connection was closed before any part of the response was received. */
+  private static class StaleConnectionException extends IOException {
+  }
+
+  /** A connection to the node, with buffers that are reused by all its requests. */
+  private static class Connection {
+    private final Socket mSocket;
+    private final InputStream mIn;
+    private final OutputStream mOut;
+    /** Read buffer, the bytes from mPosition to mLimit are not consumed yet. */
+    private final byte[] mBuffer;
+    private int mPosition;
+    private int mLimit;
+    /** Holds the status line, header lines and the response body. */
+    private byte[] mBytes;
+    private int mLength;
+    private long mStatus;
+    private boolean mReusable;
+    private long mIdleSinceNanos;
+
+    private Connection(Socket socket) throws IOException {
+      mSocket = socket;
+      mIn = socket.getInputStream();
+      mOut = socket.getOutputStream();
+      mBuffer = new byte[BUFFER_SIZE];
+      mBytes = new byte[BUFFER_SIZE];
+    }
+
+    private String send(Request request) throws IOException {
+      try {
+        mOut.write(request.mBytes);
+        mOut.flush();
+      } catch (IOException e) {
+        throw new StaleConnectionException();
+      }
+      mLength = 0;
+      try {
+        if (!fill()) {
+          throw new StaleConnectionException();
+        }
+      } catch (SocketTimeoutException e) {
+        throw e;
+      } catch (IOException e) {
+        // E.g. reset, because the node closed the connection before reading the request.
+        throw new StaleConnectionException();
+      }
+      String statusLine = readLine();
+      boolean http10 = statusLine.startsWith("HTTP/1.0 ");
+      if (!http10 && !statusLine.startsWith("HTTP/1.1 ") || statusLine.length() < 12) {
+        throw new IOException("Invalid status line: '" + statusLine + "'");
+      }
+      mStatus = parseNumber(statusLine.substring(9, 12), 10);
+
+      long contentLength = -1;
+      boolean chunked = false;
+      mReusable = !http10;
+      String header;
+      while (!(header = readLine()).isEmpty()) {
+        int colon = header.indexOf(':');
+        if (colon < 0) {
+          continue;
+        }
+        String name = header.substring(0, colon).trim();
+        String value = header.substring(colon + 1).trim();
+        if (name.equalsIgnoreCase("Content-Length")) {
+          contentLength = parseNumber(value, 10);
+        } else if (name.equalsIgnoreCase("Transfer-Encoding")) {
+          chunked = Ascii.toLowerCase(value).endsWith("chunked");
+        } else if (name.equalsIgnoreCase("Connection")) {
+          mReusable = value.equalsIgnoreCase("keep-alive")
+              || (!http10 && !value.equalsIgnoreCase("close"));
+        }
+      }
+
+      if (chunked) {
+        long chunkSize;
+        while ((chunkSize = parseNumber(readLine().split(";", 2)[0].trim(), 16)) > 0) {
+          readBody(chunkSize, false);
+          readLine();
+        }
+        // Trailers.
+        while (!readLine().isEmpty()) {
+          // Not used.
+        }
+      } else if (contentLength >= 0) {
+        readBody(contentLength, false);
+      } else if (mStatus / 100 != 1 && mStatus != 204 && mStatus != 304) {
+        // The body ends when the node closes the connection.
+        readBody(Long.MAX_VALUE, true);
+        mReusable = false;
+      }
+      while (mLength > 0 && (mBytes[mLength - 1] == '\n' || mBytes[mLength - 1] == '\r')) {
+        --mLength;
+      }
+      return new String(mBytes, 0, mLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends a line, without its line break, to the bytes after mLength and returns it.
+     */
+    private String readLine() throws IOException {
+      int start = mLength;
+      while (true) {
+        if (mPosition == mLimit && !fill()) {
+          throw new EOFException("Connection closed during response.");
+        }
+        byte b = mBuffer[mPosition++];
+        if (b == '\n') {
+          int end = mLength > start && mBytes[mLength - 1] == '\r' ? mLength - 1 : mLength;
+          mLength = start;
+          return new String(mBytes, start, end - start, StandardCharsets.US_ASCII);
+        }
+        ensureCapacity(1);
+        mBytes[mLength++] = b;
+      }
+    }
+
+    /**
+     * Appends the given number of body bytes.
+     *
+     * @param untilClosed whether the body may end early, when the node closes the connection.
+     */
+    private void readBody(long length, boolean untilClosed) throws IOException {
+      while (length > 0) {
+        if (mPosition == mLimit && !fill()) {
+          if (untilClosed) {
+            return;
+          }
+          throw new EOFException("Connection closed during response.");
+        }
+        int count = (int) Math.min(length, mLimit - mPosition);
+        ensureCapacity(count);
+        System.arraycopy(mBuffer, mPosition, mBytes, mLength, count);
+        mPosition += count;
+        mLength += count;
+        length -= count;
+      }
+    }
+
+    /** @return False, if the connection is closed. */
+    private boolean fill() throws IOException {
+      int count = mIn.read(mBuffer);
+      if (count <= 0) {
+        return false;
+      }
+      mPosition = 0;
+      mLimit = count;
+      return true;
+    }
+
+    private void ensureCapacity(int count) {
+      if (mLength + count > mBytes.length) {
+        mBytes = Arrays.copyOf(mBytes, Math.max(mBytes.length * 2, mLength + count));
+      }
+    }
+
+    private boolean isReusable() {
+      // Bytes beyond the response mean the connection is out of sync.
+      return mReusable && mPosition == mLimit;
+    }
+
+    private void close() {
+      try {
+        mSocket.close();
+      } catch (IOException ignored) {
+        // The connection is dropped either way.
+      }
+    }
+
+    private static long parseNumber(String value, int radix) throws IOException {
+      try {
+        return Long.parseLong(value, radix);
+      } catch (NumberFormatException e) {
+        throw new IOException("Invalid number in response: '" + value + "'");
+      }
+    }
+  }
+}
@@ -16,46 +16,23 @@
 
 package com.s13g.winston.lib.core.util;
 
+import com.s13g.winston.lib.core.net.HttpUtil;
 import com.s13g.winston.lib.core.util.concurrent.HttpRequester;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.MalformedURLException;
-import java.net.URL;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Default implementation for making HTTP requests.
+ * Default implementation for making HTTP requests, using {@link HttpUtil}.
  */
 public class HttpRequesterImpl implements HttpRequester {
   @Override
   public String requestUrl(String rpcUrl) throws IOException {
-    StringBuilder resultStr = new StringBuilder();
-    try {
-      final HttpURLConnection connection = (HttpURLConnection) (new URL(
-          rpcUrl)).openConnection();
-      connection.setRequestMethod("GET");
-      connection.setUseCaches(false);
-      BufferedReader reader = new BufferedReader(new InputStreamReader(
-          connection.getInputStream()));
-      String line;
-      boolean first = true;
-      while ((line = reader.readLine()) != null) {
-        if (first) {
-          first = false;
-        } else {
-          resultStr.append('\n');
-        }
-        resultStr.append(line);
-      }
-      reader.close();
-    } catch (final MalformedURLException e) {
-      throw new IOException("HTTP request failed. Malformed URL.");
-    } catch (final IOException e) {
-      throw new IOException("HTTP request failed.", e);
-    }
-    return resultStr.toString();
+    return HttpUtil.requestUrl(rpcUrl);
   }
 
+  @Override
+  public CompletableFuture<String> requestUrlAsync(String rpcUrl, long timeoutMillis) {
+    return HttpUtil.requestUrlAsync(rpcUrl, timeoutMillis);
+  }
 }
@@ -17,6 +17,7 @@
 package com.s13g.winston.lib.core.util.concurrent;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface for classes that make HTTP requests.
@@ -30,4 +31,13 @@ public interface HttpRequester {
    * @return Response received from the request.
    */
   String requestUrl(String rpcUrl) throws IOException;
+
+  /**
+   * Makes a request to the given URL, without blocking the caller.
+   *
+   * @param rpcUrl the give HTTP URL
+   * @param timeoutMillis the deadline for the request, relative to now.
+   * @return Response received from the request. Cancelling it aborts the request.
+   */
+  CompletableFuture<String> requestUrlAsync(String rpcUrl, long timeoutMillis);
 }
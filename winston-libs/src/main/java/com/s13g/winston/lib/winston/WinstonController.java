@@ -16,23 +16,38 @@
 
 package com.s13g.winston.lib.winston;
 
+import com.s13g.winston.lib.core.net.NodeHttpClient;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Controller that is used to communicate with Winston nodes.
  * <p>
+ * Controllers of the same node share its {@link NodeHttpClient}, and thus its connections.
+ * <p>
  * TODO: Add node communication authentication/encryption
  */
 public class WinstonController {
+  // TODO: Port should not be hardcoded.
+  private static final int NODE_PORT = 1984;
+
+  /** Node address -> client. */
+  private final Map<String, NodeHttpClient> mClients = new ConcurrentHashMap<>();
 
   public WinstonSensorNodeController getSensorNodeController(String address) {
-    return new WinstonSensorNodeController(address);
+    return new WinstonSensorNodeController(address, getClient(address));
   }
 
   public WinstonPowerNodeController getPowerNodeController(String address) {
-    return new WinstonPowerNodeController(address);
+    return new WinstonPowerNodeController(address, getClient(address));
   }
 
   public WinstonGarageNodeController getGarageNodeController(String address) {
-    return new WinstonGarageNodeController(address);
+    return new WinstonGarageNodeController(address, getClient(address));
   }
 
+  private NodeHttpClient getClient(String address) {
+    return mClients.computeIfAbsent(address, key -> new NodeHttpClient(key, NODE_PORT));
+  }
 }
@@ -18,7 +18,8 @@ package com.s13g.winston.lib.winston;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.flogger.FluentLogger;
-import com.s13g.winston.lib.core.net.HttpUtil;
+import com.s13g.winston.lib.core.net.NodeHttpClient;
+import com.s13g.winston.lib.core.net.NodeHttpClient.Request;
 import com.s13g.winston.shared.data.TypeConversion;
 
 import java.io.IOException;
@@ -34,11 +35,13 @@ public class WinstonGarageNodeController {
   private static final FluentLogger log = FluentLogger.forEnclosingClass();
 
   private final String mNodeAddress;
+  private final NodeHttpClient mClient;
   private final List<Supplier<Boolean>> mClickers;
   private final List<Supplier<Optional<Boolean>>> mClosedStates;
 
-  WinstonGarageNodeController(String nodeAddress) {
+  WinstonGarageNodeController(String nodeAddress, NodeHttpClient client) {
     mNodeAddress = nodeAddress;
+    mClient = client;
     mClickers = new LinkedList<>();
     mClosedStates = new LinkedList<>();
   }
@@ -64,29 +67,28 @@ public class WinstonGarageNodeController {
   }
 
   private Supplier<Boolean> forClicker(String path) {
-    final String addressFmt = "http://%s:1984/io/%s/2";
+    // Every click moves the door, so a click must never be sent twice.
+    final Request request = mClient.prepareGet("/io/" + path + "/2", false);
     return () -> {
-      String address = String.format(addressFmt, mNodeAddress, path);
       try {
-        String response = HttpUtil.requestUrl(address);
+        String response = mClient.get(request);
         return "OK".equals(response);
       } catch (IOException e) {
-        log.atWarning().withCause(e).log("Cannot get garage stratus '%s'", address);
+        log.atWarning().withCause(e).log("Cannot get garage stratus '%s'", request);
       }
       return false;
     };
   }
 
   private Supplier<Optional<Boolean>> forClosedState(String path) {
-    final String addressFmt = "http://%s:1984/io/%s";
+    final Request request = mClient.prepareGet("/io/" + path);
     return () -> {
-      String address = String.format(addressFmt, mNodeAddress, path);
       try {
-        return Optional.of(TypeConversion.stringToBoolean(HttpUtil.requestUrl(address)));
+        return Optional.of(TypeConversion.stringToBoolean(mClient.get(request)));
       } catch (IOException e) {
-        log.atWarning().withCause(e).log("Cannot get garage status '%s'", address);
+        log.atWarning().withCause(e).log("Cannot get garage status '%s'", request);
       } catch (TypeConversion.IllegalFormatException e) {
-        log.atWarning().withCause(e).log("Return value of type conversion not valid '%s'", address);
+        log.atWarning().withCause(e).log("Return value of type conversion not valid '%s'", request);
       }
       return Optional.empty();
     };
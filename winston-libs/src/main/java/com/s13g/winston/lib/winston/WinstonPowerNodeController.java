@@ -18,7 +18,8 @@ package com.s13g.winston.lib.winston;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.flogger.FluentLogger;
-import com.s13g.winston.lib.core.net.HttpUtil;
+import com.s13g.winston.lib.core.net.NodeHttpClient;
+import com.s13g.winston.lib.core.net.NodeHttpClient.Request;
 
 import java.io.IOException;
 import java.util.LinkedList;
@@ -34,10 +35,12 @@ public class WinstonPowerNodeController {
   private static final FluentLogger log = FluentLogger.forEnclosingClass();
 
   private final String mNodeAddress;
+  private final NodeHttpClient mClient;
   private final List<SwitchActions> mSwitches;
 
-  WinstonPowerNodeController(String nodeAddress) {
+  WinstonPowerNodeController(String nodeAddress, NodeHttpClient client) {
     mNodeAddress = nodeAddress;
+    mClient = client;
     mSwitches = new LinkedList<>();
   }
 
@@ -54,25 +57,25 @@ public class WinstonPowerNodeController {
   }
 
   private Function<Boolean, Boolean> forSwitchChange(String path) {
-    final String addressFmt = "http://%s:1984/io/%s/%s";
+    final Request switchOn = mClient.prepareGet("/io/" + path + "/1", false);
+    final Request switchOff = mClient.prepareGet("/io/" + path + "/0", false);
     return (on) -> {
-      final String address = String.format(addressFmt, mNodeAddress, path, on ? "1" : "0");
+      final Request request = on ? switchOn : switchOff;
       try {
-        String response = HttpUtil.requestUrl(address);
+        String response = mClient.get(request);
         return "OK".equals(response);
       } catch (IOException e) {
-        log.atWarning().log("Cannot perform switch action '%s'.", address);
+        log.atWarning().log("Cannot perform switch action '%s'.", request);
       }
       return false;
     };
   }
 
   private Supplier<Optional<Boolean>> forStatusReader(String path) {
-    final String addressFmt = "http://%s:1984/io/%s";
+    final Request request = mClient.prepareGet("/io/" + path);
     return () -> {
-      final String address = String.format(addressFmt, mNodeAddress, path);
       try {
-        String response = HttpUtil.requestUrl(address);
+        String response = mClient.get(request);
         if ("1".equals(response) || "true".equalsIgnoreCase(response)) {
           return Optional.of(true);
         } else if ("0".equals(response) || "false".equalsIgnoreCase(response)) {
@@ -81,7 +84,7 @@ public class WinstonPowerNodeController {
         log.atWarning().log("Illegal witch status response '%s'.", response);
         return Optional.empty();
       } catch (IOException e) {
-        log.atWarning().log("Cannot perform switch action '%s'.", address);
+        log.atWarning().log("Cannot perform switch action '%s'.", request);
       }
       return Optional.empty();
     };
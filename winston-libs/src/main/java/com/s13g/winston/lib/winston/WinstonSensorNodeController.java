@@ -18,7 +18,8 @@ package com.s13g.winston.lib.winston;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.flogger.FluentLogger;
-import com.s13g.winston.lib.core.net.HttpUtil;
+import com.s13g.winston.lib.core.net.NodeHttpClient;
+import com.s13g.winston.lib.core.net.NodeHttpClient.Request;
 import com.s13g.winston.shared.data.Temperature;
 
 import java.io.IOException;
@@ -34,10 +35,12 @@ public class WinstonSensorNodeController {
   private static final FluentLogger log = FluentLogger.forEnclosingClass();
 
   private final String mNodeAddress;
+  private final NodeHttpClient mClient;
   private final List<Supplier<Optional<Temperature>>> mTemperatureSensors;
 
-  WinstonSensorNodeController(String nodeAddress) {
+  WinstonSensorNodeController(String nodeAddress, NodeHttpClient client) {
     mNodeAddress = nodeAddress;
+    mClient = client;
     mTemperatureSensors = new LinkedList<>();
   }
 
@@ -54,13 +57,11 @@ public class WinstonSensorNodeController {
   }
 
   private Supplier<Optional<Temperature>> forTemperatureSensor(String path) {
-    // TODO: Port should not be hardcoded.
-    final String addressFmt = "http://%s:1984/io/%s";
-    final String address = String.format(addressFmt, mNodeAddress, path);
+    final Request request = mClient.prepareGet("/io/" + path);
     return () -> {
       String tempStr = "";
       try {
-        tempStr = HttpUtil.requestUrl(address);
+        tempStr = mClient.get(request);
         return Optional.of(Temperature.parse(tempStr));
       } catch (IllegalArgumentException e) {
         log.atWarning().withCause(e).log("Request to '%s'resulted in illegal " +
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.lib.core.metrics;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsRegistryTest {
+  private MetricsRegistry mRegistry;
+
+  @Before
+  public void setUp() {
+    mRegistry = new MetricsRegistry();
+  }
+
+  @Test
+  public void testCounter() throws Exception {
+    Counter counter = mRegistry.counter("requests_total", "Requests.", "handler", "io");
+    counter.increment();
+    counter.add(2);
+    assertSame(counter, mRegistry.counter("requests_total", "Requests.", "handler", "io"));
+
+    assertEquals("# HELP requests_total Requests.\n"
+        + "# TYPE requests_total counter\n"
+        + "requests_total{handler=\"io\"} 3\n", export());
+  }
+
+  @Test
+  public void testGaugeAndLabelEscaping() throws Exception {
+    mRegistry.gauge("queued", "Queued.", () -> 4, "name", "a\"b");
+    assertTrue(export().contains("queued{name=\"a\\\"b\"} 4.0\n"));
+  }
+
+  @Test
+  public void testHistogram() throws Exception {
+    Histogram histogram = mRegistry.histogram("duration_seconds", "Duration.");
+    histogram.observeNanos(TimeUnit.MILLISECONDS.toNanos(3));
+    histogram.observeNanos(TimeUnit.SECONDS.toNanos(60));
+
+    String text = export();
+    assertTrue(text.contains("duration_seconds_bucket{le=\"0.0025\"} 0\n"));
+    assertTrue(text.contains("duration_seconds_bucket{le=\"0.005\"} 1\n"));
+    assertTrue(text.contains("duration_seconds_bucket{le=\"30.0\"} 1\n"));
+    assertTrue(text.contains("duration_seconds_bucket{le=\"+Inf\"} 2\n"));
+    assertTrue(text.contains("duration_seconds_count 2\n"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTypeMismatch() {
+    mRegistry.counter("metric", "Help.");
+    mRegistry.histogram("metric", "Help.");
+  }
+
+  private String export() throws Exception {
+    StringWriter writer = new StringWriter();
+    mRegistry.writeTo(writer);
+    return writer.toString();
+  }
+}
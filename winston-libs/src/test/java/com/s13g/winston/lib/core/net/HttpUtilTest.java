@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.lib.core.net;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the asynchronous requests of {@link HttpUtil}.
+ */
+public class HttpUtilTest {
+  private ServerSocket mServer;
+  private String mUrl;
+  /** Counted down when the client closed a connection the server never answered. */
+  private CountDownLatch mClientGone;
+
+  @Before
+  public void setUp() throws IOException {
+    mServer = new ServerSocket(0);
+    mUrl = "http://localhost:" + mServer.getLocalPort();
+    mClientGone = new CountDownLatch(1);
+    Thread acceptor = new Thread(() -> {
+      try {
+        while (true) {
+          Socket socket = mServer.accept();
+          new Thread(() -> serve(socket)).start();
+        }
+      } catch (IOException e) {
+        // Server closed.
+      }
+    });
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    mServer.close();
+  }
+
+  @Test
+  public void testRequest() throws Exception {
+    CompletableFuture<String> first = HttpUtil.requestUrlAsync(mUrl + "/io/a", 2000);
+    CompletableFuture<String> second = HttpUtil.requestUrlAsync(mUrl + "/io/b", 2000);
+    assertEquals("/io/a\n/io/b",
+        first.thenCombine(second, (a, b) -> a + "\n" + b).get(2, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testDeadline() throws Exception {
+    long start = System.nanoTime();
+    CompletableFuture<String> response = HttpUtil.requestUrlAsync(mUrl + "/hang", 200);
+    try {
+      response.get(2, TimeUnit.SECONDS);
+      fail();
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof TimeoutException);
+    }
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+    assertTrue(mClientGone.await(2, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testCancelClosesConnection() throws Exception {
+    CompletableFuture<String> response = HttpUtil.requestUrlAsync(mUrl + "/hang", 10000);
+    Thread.sleep(100);
+    response.cancel(true);
+    assertTrue(mClientGone.await(2, TimeUnit.SECONDS));
+  }
+
+  /** Answers with the request path, requests to '/hang' are never answered. */
+  private void serve(Socket socket) {
+    try (Socket s = socket) {
+      BufferedReader reader = new BufferedReader(new InputStreamReader(s.getInputStream(),
+          StandardCharsets.US_ASCII));
+      String path = reader.readLine().split(" ")[1];
+      if (path.equals("/hang")) {
+        while (reader.readLine() != null) {
+          // Wait for the client to close the connection.
+        }
+        mClientGone.countDown();
+        return;
+      }
+      s.getOutputStream().write(("HTTP/1.0 200 OK\r\n\r\n" + path + "\n")
+          .getBytes(StandardCharsets.US_ASCII));
+    } catch (IOException e) {
+      mClientGone.countDown();
+    }
+  }
+}
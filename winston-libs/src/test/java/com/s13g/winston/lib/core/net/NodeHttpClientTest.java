@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.lib.core.net;
+
+import com.s13g.winston.lib.core.metrics.MetricsRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link NodeHttpClient}.
+ */
+public class NodeHttpClientTest {
+  /** Responses ending with this are followed by closing the connection. */
+  private static final String CLOSE = "<close>";
+  /** Responses like this are never sent. */
+  private static final String HANG = "<hang>";
+
+  private ServerSocket mServer;
+  private BlockingQueue<String> mResponses;
+  private List<String> mRequestLines;
+  private AtomicInteger mConnections;
+  private NodeHttpClient mClient;
+
+  @Before
+  public void setUp() throws IOException {
+    mServer = new ServerSocket(0);
+    mResponses = new LinkedBlockingQueue<>();
+    mRequestLines = new CopyOnWriteArrayList<>();
+    mConnections = new AtomicInteger();
+    Thread acceptor = new Thread(() -> {
+      try {
+        while (true) {
+          Socket socket = mServer.accept();
+          mConnections.incrementAndGet();
+          new Thread(() -> serve(socket)).start();
+        }
+      } catch (IOException e) {
+        // Server closed.
+      }
+    });
+    acceptor.setDaemon(true);
+    acceptor.start();
+    mClient = new NodeHttpClient("localhost", mServer.getLocalPort(), 1000, 300,
+        new MetricsRegistry());
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    mClient.close();
+    mServer.close();
+  }
+
+  @Test
+  public void testConnectionIsReused() throws IOException {
+    NodeHttpClient.Request request = mClient.prepareGet("/io/relay/0");
+    mResponses.add("HTTP/1.1 200 OK\r\nContent-Length: 3\r\n\r\nOK\n");
+    mResponses.add("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n"
+        + "2\r\n21\r\n3;ext=1\r\n.25\r\n0\r\n\r\n");
+    assertEquals("OK", mClient.get(request));
+    assertEquals("21.25", mClient.get(request));
+    assertEquals(1, mConnections.get());
+    assertEquals("GET /io/relay/0 HTTP/1.1", mRequestLines.get(0));
+  }
+
+  @Test
+  public void testReconnectsIfNodeClosedConnection() throws IOException {
+    NodeHttpClient.Request request = mClient.prepareGet("/io/temp");
+    mResponses.add("HTTP/1.1 200 OK\r\nContent-Length: 1\r\n\r\n1" + CLOSE);
+    mResponses.add("HTTP/1.1 200 OK\r\n\r\n0" + CLOSE);
+    mResponses.add("HTTP/1.1 200 OK\r\nContent-Length: 1\r\n\r\n1");
+    assertEquals("1", mClient.get(request));
+    assertEquals("0", mClient.get(request));
+    assertEquals("1", mClient.get(request));
+    assertEquals(3, mConnections.get());
+  }
+
+  @Test
+  public void testRequestWithSideEffectsUsesNewConnection() throws IOException {
+    NodeHttpClient.Request read = mClient.prepareGet("/io/garage");
+    NodeHttpClient.Request click = mClient.prepareGet("/io/relay/2", false);
+    mResponses.add("HTTP/1.1 200 OK\r\nContent-Length: 1\r\n\r\n1");
+    mResponses.add("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nOK");
+    mResponses.add("HTTP/1.1 200 OK\r\nContent-Length: 1\r\n\r\n0");
+    assertEquals("1", mClient.get(read));
+    assertEquals("OK", mClient.get(click));
+    assertEquals(2, mConnections.get());
+    // Its connection is reused by later requests, though.
+    assertEquals("0", mClient.get(read));
+    assertEquals(2, mConnections.get());
+  }
+
+  @Test
+  public void testRequestWithSideEffectsIsNotResent() throws IOException {
+    mResponses.add(CLOSE);
+    try {
+      mClient.get(mClient.prepareGet("/io/relay/2", false));
+      fail();
+    } catch (IOException e) {
+      // Expected.
+    }
+    assertEquals(1, mRequestLines.size());
+  }
+
+  @Test
+  public void testErrorStatusKeepsConnection() throws IOException {
+    NodeHttpClient.Request request = mClient.prepareGet("/io/unknown");
+    mResponses.add("HTTP/1.1 404 Not Found\r\nContent-Length: 9\r\n\r\nNot Found");
+    mResponses.add("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nOK");
+    try {
+      mClient.get(request);
+      fail();
+    } catch (IOException e) {
+      assertTrue(e.getCause().getMessage().contains("404"));
+    }
+    assertEquals("OK", mClient.get(request));
+    assertEquals(1, mConnections.get());
+  }
+
+  @Test
+  public void testRequestTimesOut() throws IOException {
+    mResponses.add(HANG);
+    long start = System.nanoTime();
+    try {
+      mClient.get(mClient.prepareGet("/io/garage"));
+      fail();
+    } catch (IOException e) {
+      // Expected.
+    }
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPath() {
+    mClient.prepareGet("/io/a b");
+  }
+
+  /** Answers the requests of a connection with the queued responses. */
+  private void serve(Socket socket) {
+    try (Socket s = socket) {
+      BufferedReader reader = new BufferedReader(new InputStreamReader(s.getInputStream(),
+          StandardCharsets.US_ASCII));
+      OutputStream out = s.getOutputStream();
+      String line;
+      while ((line = reader.readLine()) != null) {
+        mRequestLines.add(line);
+        while (!reader.readLine().isEmpty()) {
+          // Skip the headers.
+        }
+        String response = mResponses.take();
+        if (response.equals(HANG)) {
+          Thread.sleep(5000);
+          return;
+        }
+        boolean close = response.endsWith(CLOSE);
+        out.write(response.replace(CLOSE, "").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        if (close) {
+          return;
+        }
+      }
+    } catch (IOException | InterruptedException e) {
+      // Client went away.
+    }
+  }
+}
@@ -61,6 +61,16 @@ public final class ForClients {
      */
     com.s13g.winston.proto.ForClients.ChannelData.ChannelOrBuilder getChannelOrBuilder(
         int index);
+
+    /**
+     * <pre>
+     * Only set if values were requested. Pass this as 'since' to only get the values that changed
+     * after this snapshot.
+     * </pre>
+     *
+     * <code>int64 version = 2;</code>
+     */
+    long getVersion();
   }
   /**
    * <pre>
@@ -80,6 +90,7 @@ public final class ForClients {
     }
     private ChannelData() {
       channel_ = java.util.Collections.emptyList();
+      version_ = 0L;
     }
 
     @java.lang.Override
@@ -115,6 +126,11 @@ public final class ForClients {
                   input.readMessage(com.s13g.winston.proto.ForClients.ChannelData.Channel.parser(), extensionRegistry));
               break;
             }
+            case 16: {
+
+              version_ = input.readInt64();
+              break;
+            }
             default: {
               if (!parseUnknownFieldProto3(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -425,6 +441,42 @@ public final class ForClients {
          */
         com.google.protobuf.ByteString
             getModeBytes();
+
+        /**
+         * <pre>
+         * The last known value. Only set if values were requested and could be read. 
+         * </pre>
+         *
+         * <code>string value = 3;</code>
+         */
+        java.lang.String getValue();
+        /**
+         * <pre>
+         * The last known value. Only set if values were requested and could be read. 
+         * </pre>
+         *
+         * <code>string value = 3;</code>
+         */
+        com.google.protobuf.ByteString
+            getValueBytes();
+
+        /**
+         * <pre>
+         * The version at which the value last changed. 
+         * </pre>
+         *
+         * <code>int64 version = 4;</code>
+         */
+        long getVersion();
+
+        /**
+         * <pre>
+         * The time at which the value was last read, in millis since epoch. 
+         * </pre>
+         *
+         * <code>int64 timestamp_millis = 5;</code>
+         */
+        long getTimestampMillis();
       }
       /**
        * <pre>
@@ -445,6 +497,9 @@ public final class ForClients {
         private ChannelValue() {
           id_ = "";
           mode_ = "";
+          value_ = "";
+          version_ = 0L;
+          timestampMillis_ = 0L;
         }
 
         @java.lang.Override
@@ -483,6 +538,22 @@ public final class ForClients {
                   mode_ = s;
                   break;
                 }
+                case 26: {
+                  java.lang.String s = input.readStringRequireUtf8();
+
+                  value_ = s;
+                  break;
+                }
+                case 32: {
+
+                  version_ = input.readInt64();
+                  break;
+                }
+                case 40: {
+
+                  timestampMillis_ = input.readInt64();
+                  break;
+                }
                 default: {
                   if (!parseUnknownFieldProto3(
                       input, unknownFields, extensionRegistry, tag)) {
@@ -599,6 +670,74 @@ public final class ForClients {
           }
         }
 
+        public static final int VALUE_FIELD_NUMBER = 3;
+        private volatile java.lang.Object value_;
+        /**
+         * <pre>
+         * The last known value. Only set if values were requested and could be read. 
+         * </pre>
+         *
+         * <code>string value = 3;</code>
+         */
+        public java.lang.String getValue() {
+          java.lang.Object ref = value_;
+          if (ref instanceof java.lang.String) {
+            return (java.lang.String) ref;
+          } else {
+            com.google.protobuf.ByteString bs = 
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            value_ = s;
+            return s;
+          }
+        }
+        /**
+         * <pre>
+         * The last known value. Only set if values were requested and could be read. 
+         * </pre>
+         *
+         * <code>string value = 3;</code>
+         */
+        public com.google.protobuf.ByteString
+            getValueBytes() {
+          java.lang.Object ref = value_;
+          if (ref instanceof java.lang.String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            value_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+
+        public static final int VERSION_FIELD_NUMBER = 4;
+        private long version_;
+        /**
+         * <pre>
+         * The version at which the value last changed. 
+         * </pre>
+         *
+         * <code>int64 version = 4;</code>
+         */
+        public long getVersion() {
+          return version_;
+        }
+
+        public static final int TIMESTAMP_MILLIS_FIELD_NUMBER = 5;
+        private long timestampMillis_;
+        /**
+         * <pre>
+         * The time at which the value was last read, in millis since epoch. 
+         * </pre>
+         *
+         * <code>int64 timestamp_millis = 5;</code>
+         */
+        public long getTimestampMillis() {
+          return timestampMillis_;
+        }
+
         private byte memoizedIsInitialized = -1;
         @java.lang.Override
         public final boolean isInitialized() {
@@ -619,6 +758,15 @@ public final class ForClients {
           if (!getModeBytes().isEmpty()) {
             com.google.protobuf.GeneratedMessageV3.writeString(output, 2, mode_);
           }
+          if (!getValueBytes().isEmpty()) {
+            com.google.protobuf.GeneratedMessageV3.writeString(output, 3, value_);
+          }
+          if (version_ != 0L) {
+            output.writeInt64(4, version_);
+          }
+          if (timestampMillis_ != 0L) {
+            output.writeInt64(5, timestampMillis_);
+          }
           unknownFields.writeTo(output);
         }
 
@@ -634,6 +782,17 @@ public final class ForClients {
           if (!getModeBytes().isEmpty()) {
             size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, mode_);
           }
+          if (!getValueBytes().isEmpty()) {
+            size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, value_);
+          }
+          if (version_ != 0L) {
+            size += com.google.protobuf.CodedOutputStream
+              .computeInt64Size(4, version_);
+          }
+          if (timestampMillis_ != 0L) {
+            size += com.google.protobuf.CodedOutputStream
+              .computeInt64Size(5, timestampMillis_);
+          }
           size += unknownFields.getSerializedSize();
           memoizedSize = size;
           return size;
@@ -654,6 +813,12 @@ public final class ForClients {
               .equals(other.getId());
           result = result && getMode()
               .equals(other.getMode());
+          result = result && getValue()
+              .equals(other.getValue());
+          result = result && (getVersion()
+              == other.getVersion());
+          result = result && (getTimestampMillis()
+              == other.getTimestampMillis());
           result = result && unknownFields.equals(other.unknownFields);
           return result;
         }
@@ -669,6 +834,14 @@ public final class ForClients {
           hash = (53 * hash) + getId().hashCode();
           hash = (37 * hash) + MODE_FIELD_NUMBER;
           hash = (53 * hash) + getMode().hashCode();
+          hash = (37 * hash) + VALUE_FIELD_NUMBER;
+          hash = (53 * hash) + getValue().hashCode();
+          hash = (37 * hash) + VERSION_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+              getVersion());
+          hash = (37 * hash) + TIMESTAMP_MILLIS_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+              getTimestampMillis());
           hash = (29 * hash) + unknownFields.hashCode();
           memoizedHashCode = hash;
           return hash;
@@ -810,6 +983,12 @@ public final class ForClients {
 
             mode_ = "";
 
+            value_ = "";
+
+            version_ = 0L;
+
+            timestampMillis_ = 0L;
+
             return this;
           }
 
@@ -838,6 +1017,9 @@ public final class ForClients {
             com.s13g.winston.proto.ForClients.ChannelData.Channel.ChannelValue result = new com.s13g.winston.proto.ForClients.ChannelData.Channel.ChannelValue(this);
             result.id_ = id_;
             result.mode_ = mode_;
+            result.value_ = value_;
+            result.version_ = version_;
+            result.timestampMillis_ = timestampMillis_;
             onBuilt();
             return result;
           }
@@ -894,6 +1076,16 @@ public final class ForClients {
               mode_ = other.mode_;
               onChanged();
             }
+            if (!other.getValue().isEmpty()) {
+              value_ = other.value_;
+              onChanged();
+            }
+            if (other.getVersion() != 0L) {
+              setVersion(other.getVersion());
+            }
+            if (other.getTimestampMillis() != 0L) {
+              setTimestampMillis(other.getTimestampMillis());
+            }
             this.mergeUnknownFields(other.unknownFields);
             onChanged();
             return this;
@@ -1100,6 +1292,171 @@ public final class ForClients {
             onChanged();
             return this;
           }
+
+          private java.lang.Object value_ = "";
+          /**
+           * <pre>
+           * The last known value. Only set if values were requested and could be read. 
+           * </pre>
+           *
+           * <code>string value = 3;</code>
+           */
+          public java.lang.String getValue() {
+            java.lang.Object ref = value_;
+            if (!(ref instanceof java.lang.String)) {
+              com.google.protobuf.ByteString bs =
+                  (com.google.protobuf.ByteString) ref;
+              java.lang.String s = bs.toStringUtf8();
+              value_ = s;
+              return s;
+            } else {
+              return (java.lang.String) ref;
+            }
+          }
+          /**
+           * <pre>
+           * The last known value. Only set if values were requested and could be read. 
+           * </pre>
+           *
+           * <code>string value = 3;</code>
+           */
+          public com.google.protobuf.ByteString
+              getValueBytes() {
+            java.lang.Object ref = value_;
+            if (ref instanceof String) {
+              com.google.protobuf.ByteString b = 
+                  com.google.protobuf.ByteString.copyFromUtf8(
+                      (java.lang.String) ref);
+              value_ = b;
+              return b;
+            } else {
+              return (com.google.protobuf.ByteString) ref;
+            }
+          }
+          /**
+           * <pre>
+           * The last known value. Only set if values were requested and could be read. 
+           * </pre>
+           *
+           * <code>string value = 3;</code>
+           */
+          public Builder setValue(
+              java.lang.String value) {
+            if (value == null) {
+    throw new NullPointerException();
+  }
+  
+            value_ = value;
+            onChanged();
+            return this;
+          }
+          /**
+           * <pre>
+           * The last known value. Only set if values were requested and could be read. 
+           * </pre>
+           *
+           * <code>string value = 3;</code>
+           */
+          public Builder clearValue() {
+            
+            value_ = getDefaultInstance().getValue();
+            onChanged();
+            return this;
+          }
+          /**
+           * <pre>
+           * The last known value. Only set if values were requested and could be read. 
+           * </pre>
+           *
+           * <code>string value = 3;</code>
+           */
+          public Builder setValueBytes(
+              com.google.protobuf.ByteString value) {
+            if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+            
+            value_ = value;
+            onChanged();
+            return this;
+          }
+
+          private long version_ ;
+          /**
+           * <pre>
+           * The version at which the value last changed. 
+           * </pre>
+           *
+           * <code>int64 version = 4;</code>
+           */
+          public long getVersion() {
+            return version_;
+          }
+          /**
+           * <pre>
+           * The version at which the value last changed. 
+           * </pre>
+           *
+           * <code>int64 version = 4;</code>
+           */
+          public Builder setVersion(long value) {
+            
+            version_ = value;
+            onChanged();
+            return this;
+          }
+          /**
+           * <pre>
+           * The version at which the value last changed. 
+           * </pre>
+           *
+           * <code>int64 version = 4;</code>
+           */
+          public Builder clearVersion() {
+            
+            version_ = 0L;
+            onChanged();
+            return this;
+          }
+
+          private long timestampMillis_ ;
+          /**
+           * <pre>
+           * The time at which the value was last read, in millis since epoch. 
+           * </pre>
+           *
+           * <code>int64 timestamp_millis = 5;</code>
+           */
+          public long getTimestampMillis() {
+            return timestampMillis_;
+          }
+          /**
+           * <pre>
+           * The time at which the value was last read, in millis since epoch. 
+           * </pre>
+           *
+           * <code>int64 timestamp_millis = 5;</code>
+           */
+          public Builder setTimestampMillis(long value) {
+            
+            timestampMillis_ = value;
+            onChanged();
+            return this;
+          }
+          /**
+           * <pre>
+           * The time at which the value was last read, in millis since epoch. 
+           * </pre>
+           *
+           * <code>int64 timestamp_millis = 5;</code>
+           */
+          public Builder clearTimestampMillis() {
+            
+            timestampMillis_ = 0L;
+            onChanged();
+            return this;
+          }
           @java.lang.Override
           public final Builder setUnknownFields(
               final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -2514,6 +2871,7 @@ public final class ForClients {
 
     }
 
+    private int bitField0_;
     public static final int CHANNEL_FIELD_NUMBER = 1;
     private java.util.List<com.s13g.winston.proto.ForClients.ChannelData.Channel> channel_;
     /**
@@ -2569,6 +2927,20 @@ public final class ForClients {
       return channel_.get(index);
     }
 
+    public static final int VERSION_FIELD_NUMBER = 2;
+    private long version_;
+    /**
+     * <pre>
+     * Only set if values were requested. Pass this as 'since' to only get the values that changed
+     * after this snapshot.
+     * </pre>
+     *
+     * <code>int64 version = 2;</code>
+     */
+    public long getVersion() {
+      return version_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -2586,6 +2958,9 @@ public final class ForClients {
       for (int i = 0; i < channel_.size(); i++) {
         output.writeMessage(1, channel_.get(i));
       }
+      if (version_ != 0L) {
+        output.writeInt64(2, version_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -2599,6 +2974,10 @@ public final class ForClients {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, channel_.get(i));
       }
+      if (version_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, version_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2617,6 +2996,8 @@ public final class ForClients {
       boolean result = true;
       result = result && getChannelList()
           .equals(other.getChannelList());
+      result = result && (getVersion()
+          == other.getVersion());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -2632,6 +3013,9 @@ public final class ForClients {
         hash = (37 * hash) + CHANNEL_FIELD_NUMBER;
         hash = (53 * hash) + getChannelList().hashCode();
       }
+      hash = (37 * hash) + VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getVersion());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -2776,6 +3160,8 @@ public final class ForClients {
         } else {
           channelBuilder_.clear();
         }
+        version_ = 0L;
+
         return this;
       }
 
@@ -2803,6 +3189,7 @@ public final class ForClients {
       public com.s13g.winston.proto.ForClients.ChannelData buildPartial() {
         com.s13g.winston.proto.ForClients.ChannelData result = new com.s13g.winston.proto.ForClients.ChannelData(this);
         int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         if (channelBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001)) {
             channel_ = java.util.Collections.unmodifiableList(channel_);
@@ -2812,6 +3199,8 @@ public final class ForClients {
         } else {
           result.channel_ = channelBuilder_.build();
         }
+        result.version_ = version_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -2886,6 +3275,9 @@ public final class ForClients {
             }
           }
         }
+        if (other.getVersion() != 0L) {
+          setVersion(other.getVersion());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -3227,6 +3619,47 @@ public final class ForClients {
         }
         return channelBuilder_;
       }
+
+      private long version_ ;
+      /**
+       * <pre>
+       * Only set if values were requested. Pass this as 'since' to only get the values that changed
+       * after this snapshot.
+       * </pre>
+       *
+       * <code>int64 version = 2;</code>
+       */
+      public long getVersion() {
+        return version_;
+      }
+      /**
+       * <pre>
+       * Only set if values were requested. Pass this as 'since' to only get the values that changed
+       * after this snapshot.
+       * </pre>
+       *
+       * <code>int64 version = 2;</code>
+       */
+      public Builder setVersion(long value) {
+        
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Only set if values were requested. Pass this as 'since' to only get the values that changed
+       * after this snapshot.
+       * </pre>
+       *
+       * <code>int64 version = 2;</code>
+       */
+      public Builder clearVersion() {
+        
+        version_ = 0L;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -3280,9 +3713,1935 @@ public final class ForClients {
 
   }
 
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_com_s13g_winston_proto_ChannelData_descriptor;
-  private static final 
+  public interface BatchResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.BatchResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * One item for each requested read or write, in the order of the request. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+     */
+    java.util.List<com.s13g.winston.proto.ForClients.BatchResponse.Item> 
+        getItemList();
+    /**
+     * <pre>
+     * One item for each requested read or write, in the order of the request. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+     */
+    com.s13g.winston.proto.ForClients.BatchResponse.Item getItem(int index);
+    /**
+     * <pre>
+     * One item for each requested read or write, in the order of the request. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+     */
+    int getItemCount();
+    /**
+     * <pre>
+     * One item for each requested read or write, in the order of the request. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+     */
+    java.util.List<? extends com.s13g.winston.proto.ForClients.BatchResponse.ItemOrBuilder> 
+        getItemOrBuilderList();
+    /**
+     * <pre>
+     * One item for each requested read or write, in the order of the request. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+     */
+    com.s13g.winston.proto.ForClients.BatchResponse.ItemOrBuilder getItemOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * The result of a batch of channel value reads and writes, as requested through '/io/batch'. 
+   * </pre>
+   *
+   * Protobuf type {@code com.s13g.winston.proto.BatchResponse}
+   */
+  public  static final class BatchResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.BatchResponse)
+      BatchResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchResponse.newBuilder() to construct.
+    private BatchResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchResponse() {
+      item_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                item_ = new java.util.ArrayList<com.s13g.winston.proto.ForClients.BatchResponse.Item>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              item_.add(
+                  input.readMessage(com.s13g.winston.proto.ForClients.BatchResponse.Item.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          item_ = java.util.Collections.unmodifiableList(item_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.s13g.winston.proto.ForClients.internal_static_com_s13g_winston_proto_BatchResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.s13g.winston.proto.ForClients.internal_static_com_s13g_winston_proto_BatchResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.s13g.winston.proto.ForClients.BatchResponse.class, com.s13g.winston.proto.ForClients.BatchResponse.Builder.class);
+    }
+
+    public interface ItemOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.BatchResponse.Item)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * The item as given in the request, e.g. 'nest/abc/humidity' or 'wemo/tv/switch/1'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      java.lang.String getPath();
+      /**
+       * <pre>
+       * The item as given in the request, e.g. 'nest/abc/humidity' or 'wemo/tv/switch/1'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getPathBytes();
+
+      /**
+       * <pre>
+       * Whether the read or write succeeded. 
+       * </pre>
+       *
+       * <code>bool success = 2;</code>
+       */
+      boolean getSuccess();
+
+      /**
+       * <pre>
+       * The value that was read. Empty for writes. 
+       * </pre>
+       *
+       * <code>string value = 3;</code>
+       */
+      java.lang.String getValue();
+      /**
+       * <pre>
+       * The value that was read. Empty for writes. 
+       * </pre>
+       *
+       * <code>string value = 3;</code>
+       */
+      com.google.protobuf.ByteString
+          getValueBytes();
+
+      /**
+       * <pre>
+       * Describes why the item failed. Empty on success. 
+       * </pre>
+       *
+       * <code>string error = 4;</code>
+       */
+      java.lang.String getError();
+      /**
+       * <pre>
+       * Describes why the item failed. Empty on success. 
+       * </pre>
+       *
+       * <code>string error = 4;</code>
+       */
+      com.google.protobuf.ByteString
+          getErrorBytes();
+    }
+    /**
+     * <pre>
+     * The result of a single read or write. 
+     * </pre>
+     *
+     * Protobuf type {@code com.s13g.winston.proto.BatchResponse.Item}
+     */
+    public  static final class Item extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.BatchResponse.Item)
+        ItemOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use Item.newBuilder() to construct.
+      private Item(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private Item() {
+        path_ = "";
+        success_ = false;
+        value_ = "";
+        error_ = "";
+      }
+
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Item(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+
+                path_ = s;
+                break;
+              }
+              case 16: {
+
+                success_ = input.readBool();
+                break;
+              }
+              case 26: {
+                java.lang.String s = input.readStringRequireUtf8();
+
+                value_ = s;
+                break;
+              }
+              case 34: {
+                java.lang.String s = input.readStringRequireUtf8();
+
+                error_ = s;
+                break;
+              }
+              default: {
+                if (!parseUnknownFieldProto3(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.s13g.winston.proto.ForClients.internal_static_com_s13g_winston_proto_BatchResponse_Item_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.s13g.winston.proto.ForClients.internal_static_com_s13g_winston_proto_BatchResponse_Item_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.s13g.winston.proto.ForClients.BatchResponse.Item.class, com.s13g.winston.proto.ForClients.BatchResponse.Item.Builder.class);
+      }
+
+      public static final int PATH_FIELD_NUMBER = 1;
+      private volatile java.lang.Object path_;
+      /**
+       * <pre>
+       * The item as given in the request, e.g. 'nest/abc/humidity' or 'wemo/tv/switch/1'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          path_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * The item as given in the request, e.g. 'nest/abc/humidity' or 'wemo/tv/switch/1'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int SUCCESS_FIELD_NUMBER = 2;
+      private boolean success_;
+      /**
+       * <pre>
+       * Whether the read or write succeeded. 
+       * </pre>
+       *
+       * <code>bool success = 2;</code>
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+
+      public static final int VALUE_FIELD_NUMBER = 3;
+      private volatile java.lang.Object value_;
+      /**
+       * <pre>
+       * The value that was read. Empty for writes. 
+       * </pre>
+       *
+       * <code>string value = 3;</code>
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          value_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * The value that was read. Empty for writes. 
+       * </pre>
+       *
+       * <code>string value = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int ERROR_FIELD_NUMBER = 4;
+      private volatile java.lang.Object error_;
+      /**
+       * <pre>
+       * Describes why the item failed. Empty on success. 
+       * </pre>
+       *
+       * <code>string error = 4;</code>
+       */
+      public java.lang.String getError() {
+        java.lang.Object ref = error_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          error_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * Describes why the item failed. Empty on success. 
+       * </pre>
+       *
+       * <code>string error = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getErrorBytes() {
+        java.lang.Object ref = error_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          error_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!getPathBytes().isEmpty()) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, path_);
+        }
+        if (success_ != false) {
+          output.writeBool(2, success_);
+        }
+        if (!getValueBytes().isEmpty()) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 3, value_);
+        }
+        if (!getErrorBytes().isEmpty()) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 4, error_);
+        }
+        unknownFields.writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!getPathBytes().isEmpty()) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, path_);
+        }
+        if (success_ != false) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(2, success_);
+        }
+        if (!getValueBytes().isEmpty()) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, value_);
+        }
+        if (!getErrorBytes().isEmpty()) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, error_);
+        }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof com.s13g.winston.proto.ForClients.BatchResponse.Item)) {
+          return super.equals(obj);
+        }
+        com.s13g.winston.proto.ForClients.BatchResponse.Item other = (com.s13g.winston.proto.ForClients.BatchResponse.Item) obj;
+
+        boolean result = true;
+        result = result && getPath()
+            .equals(other.getPath());
+        result = result && (getSuccess()
+            == other.getSuccess());
+        result = result && getValue()
+            .equals(other.getValue());
+        result = result && getError()
+            .equals(other.getError());
+        result = result && unknownFields.equals(other.unknownFields);
+        return result;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + PATH_FIELD_NUMBER;
+        hash = (53 * hash) + getPath().hashCode();
+        hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getSuccess());
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValue().hashCode();
+        hash = (37 * hash) + ERROR_FIELD_NUMBER;
+        hash = (53 * hash) + getError().hashCode();
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static com.s13g.winston.proto.ForClients.BatchResponse.Item parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.s13g.winston.proto.ForClients.BatchResponse.Item parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.s13g.winston.proto.ForClients.BatchResponse.Item parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.s13g.winston.proto.ForClients.BatchResponse.Item parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.s13g.winston.proto.ForClients.BatchResponse.Item parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.s13g.winston.proto.ForClients.BatchResponse.Item parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.s13g.winston.proto.ForClients.BatchResponse.Item parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.s13g.winston.proto.ForClients.BatchResponse.Item parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.s13g.winston.proto.ForClients.BatchResponse.Item parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static com.s13g.winston.proto.ForClients.BatchResponse.Item parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.s13g.winston.proto.ForClients.BatchResponse.Item parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.s13g.winston.proto.ForClients.BatchResponse.Item parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(com.s13g.winston.proto.ForClients.BatchResponse.Item prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * The result of a single read or write. 
+       * </pre>
+       *
+       * Protobuf type {@code com.s13g.winston.proto.BatchResponse.Item}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.BatchResponse.Item)
+          com.s13g.winston.proto.ForClients.BatchResponse.ItemOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return com.s13g.winston.proto.ForClients.internal_static_com_s13g_winston_proto_BatchResponse_Item_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return com.s13g.winston.proto.ForClients.internal_static_com_s13g_winston_proto_BatchResponse_Item_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  com.s13g.winston.proto.ForClients.BatchResponse.Item.class, com.s13g.winston.proto.ForClients.BatchResponse.Item.Builder.class);
+        }
+
+        // Construct using com.s13g.winston.proto.ForClients.BatchResponse.Item.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+          }
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          path_ = "";
+
+          success_ = false;
+
+          value_ = "";
+
+          error_ = "";
+
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return com.s13g.winston.proto.ForClients.internal_static_com_s13g_winston_proto_BatchResponse_Item_descriptor;
+        }
+
+        @java.lang.Override
+        public com.s13g.winston.proto.ForClients.BatchResponse.Item getDefaultInstanceForType() {
+          return com.s13g.winston.proto.ForClients.BatchResponse.Item.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public com.s13g.winston.proto.ForClients.BatchResponse.Item build() {
+          com.s13g.winston.proto.ForClients.BatchResponse.Item result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public com.s13g.winston.proto.ForClients.BatchResponse.Item buildPartial() {
+          com.s13g.winston.proto.ForClients.BatchResponse.Item result = new com.s13g.winston.proto.ForClients.BatchResponse.Item(this);
+          result.path_ = path_;
+          result.success_ = success_;
+          result.value_ = value_;
+          result.error_ = error_;
+          onBuilt();
+          return result;
+        }
+
+        @java.lang.Override
+        public Builder clone() {
+          return (Builder) super.clone();
+        }
+        @java.lang.Override
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.setField(field, value);
+        }
+        @java.lang.Override
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return (Builder) super.clearField(field);
+        }
+        @java.lang.Override
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return (Builder) super.clearOneof(oneof);
+        }
+        @java.lang.Override
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return (Builder) super.setRepeatedField(field, index, value);
+        }
+        @java.lang.Override
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.addRepeatedField(field, value);
+        }
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof com.s13g.winston.proto.ForClients.BatchResponse.Item) {
+            return mergeFrom((com.s13g.winston.proto.ForClients.BatchResponse.Item)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(com.s13g.winston.proto.ForClients.BatchResponse.Item other) {
+          if (other == com.s13g.winston.proto.ForClients.BatchResponse.Item.getDefaultInstance()) return this;
+          if (!other.getPath().isEmpty()) {
+            path_ = other.path_;
+            onChanged();
+          }
+          if (other.getSuccess() != false) {
+            setSuccess(other.getSuccess());
+          }
+          if (!other.getValue().isEmpty()) {
+            value_ = other.value_;
+            onChanged();
+          }
+          if (!other.getError().isEmpty()) {
+            error_ = other.error_;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          com.s13g.winston.proto.ForClients.BatchResponse.Item parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (com.s13g.winston.proto.ForClients.BatchResponse.Item) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+
+        private java.lang.Object path_ = "";
+        /**
+         * <pre>
+         * The item as given in the request, e.g. 'nest/abc/humidity' or 'wemo/tv/switch/1'. 
+         * </pre>
+         *
+         * <code>string path = 1;</code>
+         */
+        public java.lang.String getPath() {
+          java.lang.Object ref = path_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            path_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * The item as given in the request, e.g. 'nest/abc/humidity' or 'wemo/tv/switch/1'. 
+         * </pre>
+         *
+         * <code>string path = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getPathBytes() {
+          java.lang.Object ref = path_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            path_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * The item as given in the request, e.g. 'nest/abc/humidity' or 'wemo/tv/switch/1'. 
+         * </pre>
+         *
+         * <code>string path = 1;</code>
+         */
+        public Builder setPath(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  
+          path_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * The item as given in the request, e.g. 'nest/abc/humidity' or 'wemo/tv/switch/1'. 
+         * </pre>
+         *
+         * <code>string path = 1;</code>
+         */
+        public Builder clearPath() {
+          
+          path_ = getDefaultInstance().getPath();
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * The item as given in the request, e.g. 'nest/abc/humidity' or 'wemo/tv/switch/1'. 
+         * </pre>
+         *
+         * <code>string path = 1;</code>
+         */
+        public Builder setPathBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+          
+          path_ = value;
+          onChanged();
+          return this;
+        }
+
+        private boolean success_ ;
+        /**
+         * <pre>
+         * Whether the read or write succeeded. 
+         * </pre>
+         *
+         * <code>bool success = 2;</code>
+         */
+        public boolean getSuccess() {
+          return success_;
+        }
+        /**
+         * <pre>
+         * Whether the read or write succeeded. 
+         * </pre>
+         *
+         * <code>bool success = 2;</code>
+         */
+        public Builder setSuccess(boolean value) {
+          
+          success_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Whether the read or write succeeded. 
+         * </pre>
+         *
+         * <code>bool success = 2;</code>
+         */
+        public Builder clearSuccess() {
+          
+          success_ = false;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object value_ = "";
+        /**
+         * <pre>
+         * The value that was read. Empty for writes. 
+         * </pre>
+         *
+         * <code>string value = 3;</code>
+         */
+        public java.lang.String getValue() {
+          java.lang.Object ref = value_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            value_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * The value that was read. Empty for writes. 
+         * </pre>
+         *
+         * <code>string value = 3;</code>
+         */
+        public com.google.protobuf.ByteString
+            getValueBytes() {
+          java.lang.Object ref = value_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            value_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * The value that was read. Empty for writes. 
+         * </pre>
+         *
+         * <code>string value = 3;</code>
+         */
+        public Builder setValue(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  
+          value_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * The value that was read. Empty for writes. 
+         * </pre>
+         *
+         * <code>string value = 3;</code>
+         */
+        public Builder clearValue() {
+          
+          value_ = getDefaultInstance().getValue();
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * The value that was read. Empty for writes. 
+         * </pre>
+         *
+         * <code>string value = 3;</code>
+         */
+        public Builder setValueBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+          
+          value_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object error_ = "";
+        /**
+         * <pre>
+         * Describes why the item failed. Empty on success. 
+         * </pre>
+         *
+         * <code>string error = 4;</code>
+         */
+        public java.lang.String getError() {
+          java.lang.Object ref = error_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            error_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * Describes why the item failed. Empty on success. 
+         * </pre>
+         *
+         * <code>string error = 4;</code>
+         */
+        public com.google.protobuf.ByteString
+            getErrorBytes() {
+          java.lang.Object ref = error_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            error_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * Describes why the item failed. Empty on success. 
+         * </pre>
+         *
+         * <code>string error = 4;</code>
+         */
+        public Builder setError(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  
+          error_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Describes why the item failed. Empty on success. 
+         * </pre>
+         *
+         * <code>string error = 4;</code>
+         */
+        public Builder clearError() {
+          
+          error_ = getDefaultInstance().getError();
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Describes why the item failed. Empty on success. 
+         * </pre>
+         *
+         * <code>string error = 4;</code>
+         */
+        public Builder setErrorBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+          
+          error_ = value;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFieldsProto3(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.BatchResponse.Item)
+      }
+
+      // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.BatchResponse.Item)
+      private static final com.s13g.winston.proto.ForClients.BatchResponse.Item DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new com.s13g.winston.proto.ForClients.BatchResponse.Item();
+      }
+
+      public static com.s13g.winston.proto.ForClients.BatchResponse.Item getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Item>
+          PARSER = new com.google.protobuf.AbstractParser<Item>() {
+        @java.lang.Override
+        public Item parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Item(input, extensionRegistry);
+        }
+      };
+
+      public static com.google.protobuf.Parser<Item> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Item> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.ForClients.BatchResponse.Item getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int ITEM_FIELD_NUMBER = 1;
+    private java.util.List<com.s13g.winston.proto.ForClients.BatchResponse.Item> item_;
+    /**
+     * <pre>
+     * One item for each requested read or write, in the order of the request. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+     */
+    public java.util.List<com.s13g.winston.proto.ForClients.BatchResponse.Item> getItemList() {
+      return item_;
+    }
+    /**
+     * <pre>
+     * One item for each requested read or write, in the order of the request. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+     */
+    public java.util.List<? extends com.s13g.winston.proto.ForClients.BatchResponse.ItemOrBuilder> 
+        getItemOrBuilderList() {
+      return item_;
+    }
+    /**
+     * <pre>
+     * One item for each requested read or write, in the order of the request. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+     */
+    public int getItemCount() {
+      return item_.size();
+    }
+    /**
+     * <pre>
+     * One item for each requested read or write, in the order of the request. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+     */
+    public com.s13g.winston.proto.ForClients.BatchResponse.Item getItem(int index) {
+      return item_.get(index);
+    }
+    /**
+     * <pre>
+     * One item for each requested read or write, in the order of the request. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+     */
+    public com.s13g.winston.proto.ForClients.BatchResponse.ItemOrBuilder getItemOrBuilder(
+        int index) {
+      return item_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < item_.size(); i++) {
+        output.writeMessage(1, item_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < item_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, item_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.s13g.winston.proto.ForClients.BatchResponse)) {
+        return super.equals(obj);
+      }
+      com.s13g.winston.proto.ForClients.BatchResponse other = (com.s13g.winston.proto.ForClients.BatchResponse) obj;
+
+      boolean result = true;
+      result = result && getItemList()
+          .equals(other.getItemList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getItemCount() > 0) {
+        hash = (37 * hash) + ITEM_FIELD_NUMBER;
+        hash = (53 * hash) + getItemList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.s13g.winston.proto.ForClients.BatchResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.ForClients.BatchResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.ForClients.BatchResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.ForClients.BatchResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.ForClients.BatchResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.ForClients.BatchResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.ForClients.BatchResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.ForClients.BatchResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.ForClients.BatchResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.ForClients.BatchResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.ForClients.BatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.ForClients.BatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.s13g.winston.proto.ForClients.BatchResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * The result of a batch of channel value reads and writes, as requested through '/io/batch'. 
+     * </pre>
+     *
+     * Protobuf type {@code com.s13g.winston.proto.BatchResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.BatchResponse)
+        com.s13g.winston.proto.ForClients.BatchResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.s13g.winston.proto.ForClients.internal_static_com_s13g_winston_proto_BatchResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.s13g.winston.proto.ForClients.internal_static_com_s13g_winston_proto_BatchResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.s13g.winston.proto.ForClients.BatchResponse.class, com.s13g.winston.proto.ForClients.BatchResponse.Builder.class);
+      }
+
+      // Construct using com.s13g.winston.proto.ForClients.BatchResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getItemFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (itemBuilder_ == null) {
+          item_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          itemBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.s13g.winston.proto.ForClients.internal_static_com_s13g_winston_proto_BatchResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.ForClients.BatchResponse getDefaultInstanceForType() {
+        return com.s13g.winston.proto.ForClients.BatchResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.ForClients.BatchResponse build() {
+        com.s13g.winston.proto.ForClients.BatchResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.ForClients.BatchResponse buildPartial() {
+        com.s13g.winston.proto.ForClients.BatchResponse result = new com.s13g.winston.proto.ForClients.BatchResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (itemBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            item_ = java.util.Collections.unmodifiableList(item_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.item_ = item_;
+        } else {
+          result.item_ = itemBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.s13g.winston.proto.ForClients.BatchResponse) {
+          return mergeFrom((com.s13g.winston.proto.ForClients.BatchResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.s13g.winston.proto.ForClients.BatchResponse other) {
+        if (other == com.s13g.winston.proto.ForClients.BatchResponse.getDefaultInstance()) return this;
+        if (itemBuilder_ == null) {
+          if (!other.item_.isEmpty()) {
+            if (item_.isEmpty()) {
+              item_ = other.item_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureItemIsMutable();
+              item_.addAll(other.item_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.item_.isEmpty()) {
+            if (itemBuilder_.isEmpty()) {
+              itemBuilder_.dispose();
+              itemBuilder_ = null;
+              item_ = other.item_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              itemBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getItemFieldBuilder() : null;
+            } else {
+              itemBuilder_.addAllMessages(other.item_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.s13g.winston.proto.ForClients.BatchResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.s13g.winston.proto.ForClients.BatchResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.s13g.winston.proto.ForClients.BatchResponse.Item> item_ =
+        java.util.Collections.emptyList();
+      private void ensureItemIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          item_ = new java.util.ArrayList<com.s13g.winston.proto.ForClients.BatchResponse.Item>(item_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.ForClients.BatchResponse.Item, com.s13g.winston.proto.ForClients.BatchResponse.Item.Builder, com.s13g.winston.proto.ForClients.BatchResponse.ItemOrBuilder> itemBuilder_;
+
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.ForClients.BatchResponse.Item> getItemList() {
+        if (itemBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(item_);
+        } else {
+          return itemBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public int getItemCount() {
+        if (itemBuilder_ == null) {
+          return item_.size();
+        } else {
+          return itemBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public com.s13g.winston.proto.ForClients.BatchResponse.Item getItem(int index) {
+        if (itemBuilder_ == null) {
+          return item_.get(index);
+        } else {
+          return itemBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public Builder setItem(
+          int index, com.s13g.winston.proto.ForClients.BatchResponse.Item value) {
+        if (itemBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemIsMutable();
+          item_.set(index, value);
+          onChanged();
+        } else {
+          itemBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public Builder setItem(
+          int index, com.s13g.winston.proto.ForClients.BatchResponse.Item.Builder builderForValue) {
+        if (itemBuilder_ == null) {
+          ensureItemIsMutable();
+          item_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          itemBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public Builder addItem(com.s13g.winston.proto.ForClients.BatchResponse.Item value) {
+        if (itemBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemIsMutable();
+          item_.add(value);
+          onChanged();
+        } else {
+          itemBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public Builder addItem(
+          int index, com.s13g.winston.proto.ForClients.BatchResponse.Item value) {
+        if (itemBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemIsMutable();
+          item_.add(index, value);
+          onChanged();
+        } else {
+          itemBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public Builder addItem(
+          com.s13g.winston.proto.ForClients.BatchResponse.Item.Builder builderForValue) {
+        if (itemBuilder_ == null) {
+          ensureItemIsMutable();
+          item_.add(builderForValue.build());
+          onChanged();
+        } else {
+          itemBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public Builder addItem(
+          int index, com.s13g.winston.proto.ForClients.BatchResponse.Item.Builder builderForValue) {
+        if (itemBuilder_ == null) {
+          ensureItemIsMutable();
+          item_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          itemBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public Builder addAllItem(
+          java.lang.Iterable<? extends com.s13g.winston.proto.ForClients.BatchResponse.Item> values) {
+        if (itemBuilder_ == null) {
+          ensureItemIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, item_);
+          onChanged();
+        } else {
+          itemBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public Builder clearItem() {
+        if (itemBuilder_ == null) {
+          item_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          itemBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public Builder removeItem(int index) {
+        if (itemBuilder_ == null) {
+          ensureItemIsMutable();
+          item_.remove(index);
+          onChanged();
+        } else {
+          itemBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public com.s13g.winston.proto.ForClients.BatchResponse.Item.Builder getItemBuilder(
+          int index) {
+        return getItemFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public com.s13g.winston.proto.ForClients.BatchResponse.ItemOrBuilder getItemOrBuilder(
+          int index) {
+        if (itemBuilder_ == null) {
+          return item_.get(index);  } else {
+          return itemBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public java.util.List<? extends com.s13g.winston.proto.ForClients.BatchResponse.ItemOrBuilder> 
+           getItemOrBuilderList() {
+        if (itemBuilder_ != null) {
+          return itemBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(item_);
+        }
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public com.s13g.winston.proto.ForClients.BatchResponse.Item.Builder addItemBuilder() {
+        return getItemFieldBuilder().addBuilder(
+            com.s13g.winston.proto.ForClients.BatchResponse.Item.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public com.s13g.winston.proto.ForClients.BatchResponse.Item.Builder addItemBuilder(
+          int index) {
+        return getItemFieldBuilder().addBuilder(
+            index, com.s13g.winston.proto.ForClients.BatchResponse.Item.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * One item for each requested read or write, in the order of the request. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.BatchResponse.Item item = 1;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.ForClients.BatchResponse.Item.Builder> 
+           getItemBuilderList() {
+        return getItemFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.ForClients.BatchResponse.Item, com.s13g.winston.proto.ForClients.BatchResponse.Item.Builder, com.s13g.winston.proto.ForClients.BatchResponse.ItemOrBuilder> 
+          getItemFieldBuilder() {
+        if (itemBuilder_ == null) {
+          itemBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.s13g.winston.proto.ForClients.BatchResponse.Item, com.s13g.winston.proto.ForClients.BatchResponse.Item.Builder, com.s13g.winston.proto.ForClients.BatchResponse.ItemOrBuilder>(
+                  item_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        return itemBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.BatchResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.BatchResponse)
+    private static final com.s13g.winston.proto.ForClients.BatchResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.ForClients.BatchResponse();
+    }
+
+    public static com.s13g.winston.proto.ForClients.BatchResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BatchResponse>() {
+      @java.lang.Override
+      public BatchResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.s13g.winston.proto.ForClients.BatchResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_s13g_winston_proto_ChannelData_descriptor;
+  private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_com_s13g_winston_proto_ChannelData_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
@@ -3295,6 +5654,16 @@ public final class ForClients {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_com_s13g_winston_proto_ChannelData_Channel_ChannelValue_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_s13g_winston_proto_BatchResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_s13g_winston_proto_BatchResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_s13g_winston_proto_BatchResponse_Item_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_s13g_winston_proto_BatchResponse_Item_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -3305,15 +5674,20 @@ public final class ForClients {
   static {
     java.lang.String[] descriptorData = {
       "\n\034etc/protos/for_clients.proto\022\026com.s13g" +
-      ".winston.proto\"\207\002\n\013ChannelData\022<\n\007channe" +
+      ".winston.proto\"\322\002\n\013ChannelData\022<\n\007channe" +
       "l\030\001 \003(\0132+.com.s13g.winston.proto.Channel" +
-      "Data.Channel\032\271\001\n\007Channel\022\n\n\002id\030\001 \001(\t\022\023\n\013" +
-      "module_type\030\002 \001(\t\022\014\n\004type\030\003 \001(\t\022\014\n\004name\030" +
-      "\004 \001(\t\022G\n\005value\030\005 \003(\01328.com.s13g.winston." +
-      "proto.ChannelData.Channel.ChannelValue\032(" +
-      "\n\014ChannelValue\022\n\n\002id\030\001 \001(\t\022\014\n\004mode\030\002 \001(\t" +
-      "B$\n\026com.s13g.winston.protoB\nForClientsb\006" +
-      "proto3"
+      "Data.Channel\022\017\n\007version\030\002 \001(\003\032\363\001\n\007Channe" +
+      "l\022\n\n\002id\030\001 \001(\t\022\023\n\013module_type\030\002 \001(\t\022\014\n\004ty" +
+      "pe\030\003 \001(\t\022\014\n\004name\030\004 \001(\t\022G\n\005value\030\005 \003(\01328." +
+      "com.s13g.winston.proto.ChannelData.Chann" +
+      "el.ChannelValue\032b\n\014ChannelValue\022\n\n\002id\030\001 " +
+      "\001(\t\022\014\n\004mode\030\002 \001(\t\022\r\n\005value\030\003 \001(\t\022\017\n\007vers" +
+      "ion\030\004 \001(\003\022\030\n\020timestamp_millis\030\005 \001(\003\"\216\001\n\r" +
+      "BatchResponse\0228\n\004item\030\001 \003(\0132*.com.s13g.w" +
+      "inston.proto.BatchResponse.Item\032C\n\004Item\022" +
+      "\014\n\004path\030\001 \001(\t\022\017\n\007success\030\002 \001(\010\022\r\n\005value\030" +
+      "\003 \001(\t\022\r\n\005error\030\004 \001(\tB$\n\026com.s13g.winston" +
+      ".protoB\nForClientsb\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -3332,7 +5706,7 @@ public final class ForClients {
     internal_static_com_s13g_winston_proto_ChannelData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_s13g_winston_proto_ChannelData_descriptor,
-        new java.lang.String[] { "Channel", });
+        new java.lang.String[] { "Channel", "Version", });
     internal_static_com_s13g_winston_proto_ChannelData_Channel_descriptor =
       internal_static_com_s13g_winston_proto_ChannelData_descriptor.getNestedTypes().get(0);
     internal_static_com_s13g_winston_proto_ChannelData_Channel_fieldAccessorTable = new
@@ -3344,7 +5718,19 @@ public final class ForClients {
     internal_static_com_s13g_winston_proto_ChannelData_Channel_ChannelValue_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_s13g_winston_proto_ChannelData_Channel_ChannelValue_descriptor,
-        new java.lang.String[] { "Id", "Mode", });
+        new java.lang.String[] { "Id", "Mode", "Value", "Version", "TimestampMillis", });
+    internal_static_com_s13g_winston_proto_BatchResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_com_s13g_winston_proto_BatchResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_s13g_winston_proto_BatchResponse_descriptor,
+        new java.lang.String[] { "Item", });
+    internal_static_com_s13g_winston_proto_BatchResponse_Item_descriptor =
+      internal_static_com_s13g_winston_proto_BatchResponse_descriptor.getNestedTypes().get(0);
+    internal_static_com_s13g_winston_proto_BatchResponse_Item_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_s13g_winston_proto_BatchResponse_Item_descriptor,
+        new java.lang.String[] { "Path", "Success", "Value", "Error", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
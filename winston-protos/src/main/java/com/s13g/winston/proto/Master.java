@@ -238,6 +238,286 @@ public final class Master {
      */
     com.s13g.winston.proto.Master.KnownNodeOrBuilder getKnownClientOrBuilder(
         int index);
+
+    /**
+     * <pre>
+     * The number of threads handling HTTP requests. Uses the daemon's default if not set. 
+     * </pre>
+     *
+     * <code>int32 http_threads = 9;</code>
+     */
+    int getHttpThreads();
+
+    /**
+     * <pre>
+     * The number of TLS sessions that clients can resume. Uses the JDK default if not set. 
+     * </pre>
+     *
+     * <code>int32 ssl_session_cache_size = 10;</code>
+     */
+    int getSslSessionCacheSize();
+
+    /**
+     * <pre>
+     * How long a TLS session can be resumed, in seconds. Uses the JDK default if not set. 
+     * </pre>
+     *
+     * <code>int32 ssl_session_timeout_seconds = 11;</code>
+     */
+    int getSslSessionTimeoutSeconds();
+
+    /**
+     * <pre>
+     * Disables TLS session tickets, which are enabled by default on Java 13 and later. If not set,
+     * or if the 'jdk.tls.server.enableSessionTicketExtension' system property is given, the JDK's
+     * setting is used.
+     * </pre>
+     *
+     * <code>bool disable_ssl_session_tickets = 12;</code>
+     */
+    boolean getDisableSslSessionTickets();
+
+    /**
+     * <pre>
+     * The maximum number of client requests handled at the same time. Unlimited if not set. 
+     * </pre>
+     *
+     * <code>int32 max_concurrent_requests = 13;</code>
+     */
+    int getMaxConcurrentRequests();
+
+    /**
+     * <pre>
+     * The maximum number of client requests waiting to be handled. Others are rejected with 503. 
+     * </pre>
+     *
+     * <code>int32 max_queued_requests = 14;</code>
+     */
+    int getMaxQueuedRequests();
+
+    /**
+     * <pre>
+     * The fraction of successful requests written to the access log, between 0 and 1. Failed
+     * requests are always logged. Logs every request if not set.
+     * </pre>
+     *
+     * <code>double access_log_sample_rate = 15;</code>
+     */
+    double getAccessLogSampleRate();
+
+    /**
+     * <pre>
+     * Channel values whose reads are cached, instead of asking the device every time. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+     */
+    java.util.List<com.s13g.winston.proto.Master.ValueCache> 
+        getValueCacheList();
+    /**
+     * <pre>
+     * Channel values whose reads are cached, instead of asking the device every time. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+     */
+    com.s13g.winston.proto.Master.ValueCache getValueCache(int index);
+    /**
+     * <pre>
+     * Channel values whose reads are cached, instead of asking the device every time. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+     */
+    int getValueCacheCount();
+    /**
+     * <pre>
+     * Channel values whose reads are cached, instead of asking the device every time. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+     */
+    java.util.List<? extends com.s13g.winston.proto.Master.ValueCacheOrBuilder> 
+        getValueCacheOrBuilderList();
+    /**
+     * <pre>
+     * Channel values whose reads are cached, instead of asking the device every time. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+     */
+    com.s13g.winston.proto.Master.ValueCacheOrBuilder getValueCacheOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * Channel values that are polled in the background and served from memory. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+     */
+    java.util.List<com.s13g.winston.proto.Master.PollSchedule> 
+        getPollScheduleList();
+    /**
+     * <pre>
+     * Channel values that are polled in the background and served from memory. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+     */
+    com.s13g.winston.proto.Master.PollSchedule getPollSchedule(int index);
+    /**
+     * <pre>
+     * Channel values that are polled in the background and served from memory. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+     */
+    int getPollScheduleCount();
+    /**
+     * <pre>
+     * Channel values that are polled in the background and served from memory. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+     */
+    java.util.List<? extends com.s13g.winston.proto.Master.PollScheduleOrBuilder> 
+        getPollScheduleOrBuilderList();
+    /**
+     * <pre>
+     * Channel values that are polled in the background and served from memory. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+     */
+    com.s13g.winston.proto.Master.PollScheduleOrBuilder getPollScheduleOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * The maximum number of polls running at the same time per device address. Default 1. 
+     * </pre>
+     *
+     * <code>int32 max_polls_per_device = 18;</code>
+     */
+    int getMaxPollsPerDevice();
+
+    /**
+     * <pre>
+     * How long the history of channel values is kept in memory, in hours. Default 14 days. 
+     * </pre>
+     *
+     * <code>int32 history_retention_hours = 19;</code>
+     */
+    int getHistoryRetentionHours();
+
+    /**
+     * <pre>
+     * The directory in which the history is stored, so that it survives restarts. The history is
+     * kept in memory only if not set.
+     * </pre>
+     *
+     * <code>string history_directory = 20;</code>
+     */
+    java.lang.String getHistoryDirectory();
+    /**
+     * <pre>
+     * The directory in which the history is stored, so that it survives restarts. The history is
+     * kept in memory only if not set.
+     * </pre>
+     *
+     * <code>string history_directory = 20;</code>
+     */
+    com.google.protobuf.ByteString
+        getHistoryDirectoryBytes();
+
+    /**
+     * <pre>
+     * Rules that write channel values when conditions on other values are met. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+     */
+    java.util.List<com.s13g.winston.proto.Master.Rule> 
+        getRuleList();
+    /**
+     * <pre>
+     * Rules that write channel values when conditions on other values are met. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+     */
+    com.s13g.winston.proto.Master.Rule getRule(int index);
+    /**
+     * <pre>
+     * Rules that write channel values when conditions on other values are met. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+     */
+    int getRuleCount();
+    /**
+     * <pre>
+     * Rules that write channel values when conditions on other values are met. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+     */
+    java.util.List<? extends com.s13g.winston.proto.Master.RuleOrBuilder> 
+        getRuleOrBuilderList();
+    /**
+     * <pre>
+     * Rules that write channel values when conditions on other values are met. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+     */
+    com.s13g.winston.proto.Master.RuleOrBuilder getRuleOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+     */
+    java.util.List<com.s13g.winston.proto.Master.WriteDebounce> 
+        getWriteDebounceList();
+    /**
+     * <pre>
+     * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+     */
+    com.s13g.winston.proto.Master.WriteDebounce getWriteDebounce(int index);
+    /**
+     * <pre>
+     * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+     */
+    int getWriteDebounceCount();
+    /**
+     * <pre>
+     * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+     */
+    java.util.List<? extends com.s13g.winston.proto.Master.WriteDebounceOrBuilder> 
+        getWriteDebounceOrBuilderList();
+    /**
+     * <pre>
+     * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+     */
+    com.s13g.winston.proto.Master.WriteDebounceOrBuilder getWriteDebounceOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code com.s13g.winston.proto.MasterConfig}
@@ -259,6 +539,20 @@ public final class Master {
       group_ = java.util.Collections.emptyList();
       authClient_ = java.util.Collections.emptyList();
       knownClient_ = java.util.Collections.emptyList();
+      httpThreads_ = 0;
+      sslSessionCacheSize_ = 0;
+      sslSessionTimeoutSeconds_ = 0;
+      disableSslSessionTickets_ = false;
+      maxConcurrentRequests_ = 0;
+      maxQueuedRequests_ = 0;
+      accessLogSampleRate_ = 0D;
+      valueCache_ = java.util.Collections.emptyList();
+      pollSchedule_ = java.util.Collections.emptyList();
+      maxPollsPerDevice_ = 0;
+      historyRetentionHours_ = 0;
+      historyDirectory_ = "";
+      rule_ = java.util.Collections.emptyList();
+      writeDebounce_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -338,6 +632,93 @@ public final class Master {
                   input.readMessage(com.s13g.winston.proto.Master.KnownNode.parser(), extensionRegistry));
               break;
             }
+            case 72: {
+
+              httpThreads_ = input.readInt32();
+              break;
+            }
+            case 80: {
+
+              sslSessionCacheSize_ = input.readInt32();
+              break;
+            }
+            case 88: {
+
+              sslSessionTimeoutSeconds_ = input.readInt32();
+              break;
+            }
+            case 96: {
+
+              disableSslSessionTickets_ = input.readBool();
+              break;
+            }
+            case 104: {
+
+              maxConcurrentRequests_ = input.readInt32();
+              break;
+            }
+            case 112: {
+
+              maxQueuedRequests_ = input.readInt32();
+              break;
+            }
+            case 121: {
+
+              accessLogSampleRate_ = input.readDouble();
+              break;
+            }
+            case 130: {
+              if (!((mutable_bitField0_ & 0x00004000) == 0x00004000)) {
+                valueCache_ = new java.util.ArrayList<com.s13g.winston.proto.Master.ValueCache>();
+                mutable_bitField0_ |= 0x00004000;
+              }
+              valueCache_.add(
+                  input.readMessage(com.s13g.winston.proto.Master.ValueCache.parser(), extensionRegistry));
+              break;
+            }
+            case 138: {
+              if (!((mutable_bitField0_ & 0x00008000) == 0x00008000)) {
+                pollSchedule_ = new java.util.ArrayList<com.s13g.winston.proto.Master.PollSchedule>();
+                mutable_bitField0_ |= 0x00008000;
+              }
+              pollSchedule_.add(
+                  input.readMessage(com.s13g.winston.proto.Master.PollSchedule.parser(), extensionRegistry));
+              break;
+            }
+            case 144: {
+
+              maxPollsPerDevice_ = input.readInt32();
+              break;
+            }
+            case 152: {
+
+              historyRetentionHours_ = input.readInt32();
+              break;
+            }
+            case 162: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              historyDirectory_ = s;
+              break;
+            }
+            case 170: {
+              if (!((mutable_bitField0_ & 0x00080000) == 0x00080000)) {
+                rule_ = new java.util.ArrayList<com.s13g.winston.proto.Master.Rule>();
+                mutable_bitField0_ |= 0x00080000;
+              }
+              rule_.add(
+                  input.readMessage(com.s13g.winston.proto.Master.Rule.parser(), extensionRegistry));
+              break;
+            }
+            case 178: {
+              if (!((mutable_bitField0_ & 0x00100000) == 0x00100000)) {
+                writeDebounce_ = new java.util.ArrayList<com.s13g.winston.proto.Master.WriteDebounce>();
+                mutable_bitField0_ |= 0x00100000;
+              }
+              writeDebounce_.add(
+                  input.readMessage(com.s13g.winston.proto.Master.WriteDebounce.parser(), extensionRegistry));
+              break;
+            }
             default: {
               if (!parseUnknownFieldProto3(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -365,6 +746,18 @@ public final class Master {
         if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
           knownClient_ = java.util.Collections.unmodifiableList(knownClient_);
         }
+        if (((mutable_bitField0_ & 0x00004000) == 0x00004000)) {
+          valueCache_ = java.util.Collections.unmodifiableList(valueCache_);
+        }
+        if (((mutable_bitField0_ & 0x00008000) == 0x00008000)) {
+          pollSchedule_ = java.util.Collections.unmodifiableList(pollSchedule_);
+        }
+        if (((mutable_bitField0_ & 0x00080000) == 0x00080000)) {
+          rule_ = java.util.Collections.unmodifiableList(rule_);
+        }
+        if (((mutable_bitField0_ & 0x00100000) == 0x00100000)) {
+          writeDebounce_ = java.util.Collections.unmodifiableList(writeDebounce_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -700,33 +1093,417 @@ public final class Master {
       return knownClient_.get(index);
     }
 
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
+    public static final int HTTP_THREADS_FIELD_NUMBER = 9;
+    private int httpThreads_;
+    /**
+     * <pre>
+     * The number of threads handling HTTP requests. Uses the daemon's default if not set. 
+     * </pre>
+     *
+     * <code>int32 http_threads = 9;</code>
+     */
+    public int getHttpThreads() {
+      return httpThreads_;
+    }
 
-      memoizedIsInitialized = 1;
-      return true;
+    public static final int SSL_SESSION_CACHE_SIZE_FIELD_NUMBER = 10;
+    private int sslSessionCacheSize_;
+    /**
+     * <pre>
+     * The number of TLS sessions that clients can resume. Uses the JDK default if not set. 
+     * </pre>
+     *
+     * <code>int32 ssl_session_cache_size = 10;</code>
+     */
+    public int getSslSessionCacheSize() {
+      return sslSessionCacheSize_;
     }
 
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (daemonPort_ != 0) {
-        output.writeInt32(1, daemonPort_);
-      }
-      if (!getSslKeystorePathBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, sslKeystorePath_);
-      }
-      if (!getSslKeystorePasswordBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, sslKeystorePassword_);
-      }
-      for (int i = 0; i < module_.size(); i++) {
-        output.writeMessage(4, module_.get(i));
-      }
-      for (int i = 0; i < group_.size(); i++) {
+    public static final int SSL_SESSION_TIMEOUT_SECONDS_FIELD_NUMBER = 11;
+    private int sslSessionTimeoutSeconds_;
+    /**
+     * <pre>
+     * How long a TLS session can be resumed, in seconds. Uses the JDK default if not set. 
+     * </pre>
+     *
+     * <code>int32 ssl_session_timeout_seconds = 11;</code>
+     */
+    public int getSslSessionTimeoutSeconds() {
+      return sslSessionTimeoutSeconds_;
+    }
+
+    public static final int DISABLE_SSL_SESSION_TICKETS_FIELD_NUMBER = 12;
+    private boolean disableSslSessionTickets_;
+    /**
+     * <pre>
+     * Disables TLS session tickets, which are enabled by default on Java 13 and later. If not set,
+     * or if the 'jdk.tls.server.enableSessionTicketExtension' system property is given, the JDK's
+     * setting is used.
+     * </pre>
+     *
+     * <code>bool disable_ssl_session_tickets = 12;</code>
+     */
+    public boolean getDisableSslSessionTickets() {
+      return disableSslSessionTickets_;
+    }
+
+    public static final int MAX_CONCURRENT_REQUESTS_FIELD_NUMBER = 13;
+    private int maxConcurrentRequests_;
+    /**
+     * <pre>
+     * The maximum number of client requests handled at the same time. Unlimited if not set. 
+     * </pre>
+     *
+     * <code>int32 max_concurrent_requests = 13;</code>
+     */
+    public int getMaxConcurrentRequests() {
+      return maxConcurrentRequests_;
+    }
+
+    public static final int MAX_QUEUED_REQUESTS_FIELD_NUMBER = 14;
+    private int maxQueuedRequests_;
+    /**
+     * <pre>
+     * The maximum number of client requests waiting to be handled. Others are rejected with 503. 
+     * </pre>
+     *
+     * <code>int32 max_queued_requests = 14;</code>
+     */
+    public int getMaxQueuedRequests() {
+      return maxQueuedRequests_;
+    }
+
+    public static final int ACCESS_LOG_SAMPLE_RATE_FIELD_NUMBER = 15;
+    private double accessLogSampleRate_;
+    /**
+     * <pre>
+     * The fraction of successful requests written to the access log, between 0 and 1. Failed
+     * requests are always logged. Logs every request if not set.
+     * </pre>
+     *
+     * <code>double access_log_sample_rate = 15;</code>
+     */
+    public double getAccessLogSampleRate() {
+      return accessLogSampleRate_;
+    }
+
+    public static final int VALUE_CACHE_FIELD_NUMBER = 16;
+    private java.util.List<com.s13g.winston.proto.Master.ValueCache> valueCache_;
+    /**
+     * <pre>
+     * Channel values whose reads are cached, instead of asking the device every time. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+     */
+    public java.util.List<com.s13g.winston.proto.Master.ValueCache> getValueCacheList() {
+      return valueCache_;
+    }
+    /**
+     * <pre>
+     * Channel values whose reads are cached, instead of asking the device every time. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+     */
+    public java.util.List<? extends com.s13g.winston.proto.Master.ValueCacheOrBuilder> 
+        getValueCacheOrBuilderList() {
+      return valueCache_;
+    }
+    /**
+     * <pre>
+     * Channel values whose reads are cached, instead of asking the device every time. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+     */
+    public int getValueCacheCount() {
+      return valueCache_.size();
+    }
+    /**
+     * <pre>
+     * Channel values whose reads are cached, instead of asking the device every time. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+     */
+    public com.s13g.winston.proto.Master.ValueCache getValueCache(int index) {
+      return valueCache_.get(index);
+    }
+    /**
+     * <pre>
+     * Channel values whose reads are cached, instead of asking the device every time. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+     */
+    public com.s13g.winston.proto.Master.ValueCacheOrBuilder getValueCacheOrBuilder(
+        int index) {
+      return valueCache_.get(index);
+    }
+
+    public static final int POLL_SCHEDULE_FIELD_NUMBER = 17;
+    private java.util.List<com.s13g.winston.proto.Master.PollSchedule> pollSchedule_;
+    /**
+     * <pre>
+     * Channel values that are polled in the background and served from memory. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+     */
+    public java.util.List<com.s13g.winston.proto.Master.PollSchedule> getPollScheduleList() {
+      return pollSchedule_;
+    }
+    /**
+     * <pre>
+     * Channel values that are polled in the background and served from memory. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+     */
+    public java.util.List<? extends com.s13g.winston.proto.Master.PollScheduleOrBuilder> 
+        getPollScheduleOrBuilderList() {
+      return pollSchedule_;
+    }
+    /**
+     * <pre>
+     * Channel values that are polled in the background and served from memory. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+     */
+    public int getPollScheduleCount() {
+      return pollSchedule_.size();
+    }
+    /**
+     * <pre>
+     * Channel values that are polled in the background and served from memory. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+     */
+    public com.s13g.winston.proto.Master.PollSchedule getPollSchedule(int index) {
+      return pollSchedule_.get(index);
+    }
+    /**
+     * <pre>
+     * Channel values that are polled in the background and served from memory. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+     */
+    public com.s13g.winston.proto.Master.PollScheduleOrBuilder getPollScheduleOrBuilder(
+        int index) {
+      return pollSchedule_.get(index);
+    }
+
+    public static final int MAX_POLLS_PER_DEVICE_FIELD_NUMBER = 18;
+    private int maxPollsPerDevice_;
+    /**
+     * <pre>
+     * The maximum number of polls running at the same time per device address. Default 1. 
+     * </pre>
+     *
+     * <code>int32 max_polls_per_device = 18;</code>
+     */
+    public int getMaxPollsPerDevice() {
+      return maxPollsPerDevice_;
+    }
+
+    public static final int HISTORY_RETENTION_HOURS_FIELD_NUMBER = 19;
+    private int historyRetentionHours_;
+    /**
+     * <pre>
+     * How long the history of channel values is kept in memory, in hours. Default 14 days. 
+     * </pre>
+     *
+     * <code>int32 history_retention_hours = 19;</code>
+     */
+    public int getHistoryRetentionHours() {
+      return historyRetentionHours_;
+    }
+
+    public static final int HISTORY_DIRECTORY_FIELD_NUMBER = 20;
+    private volatile java.lang.Object historyDirectory_;
+    /**
+     * <pre>
+     * The directory in which the history is stored, so that it survives restarts. The history is
+     * kept in memory only if not set.
+     * </pre>
+     *
+     * <code>string history_directory = 20;</code>
+     */
+    public java.lang.String getHistoryDirectory() {
+      java.lang.Object ref = historyDirectory_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        historyDirectory_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The directory in which the history is stored, so that it survives restarts. The history is
+     * kept in memory only if not set.
+     * </pre>
+     *
+     * <code>string history_directory = 20;</code>
+     */
+    public com.google.protobuf.ByteString
+        getHistoryDirectoryBytes() {
+      java.lang.Object ref = historyDirectory_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        historyDirectory_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RULE_FIELD_NUMBER = 21;
+    private java.util.List<com.s13g.winston.proto.Master.Rule> rule_;
+    /**
+     * <pre>
+     * Rules that write channel values when conditions on other values are met. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+     */
+    public java.util.List<com.s13g.winston.proto.Master.Rule> getRuleList() {
+      return rule_;
+    }
+    /**
+     * <pre>
+     * Rules that write channel values when conditions on other values are met. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+     */
+    public java.util.List<? extends com.s13g.winston.proto.Master.RuleOrBuilder> 
+        getRuleOrBuilderList() {
+      return rule_;
+    }
+    /**
+     * <pre>
+     * Rules that write channel values when conditions on other values are met. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+     */
+    public int getRuleCount() {
+      return rule_.size();
+    }
+    /**
+     * <pre>
+     * Rules that write channel values when conditions on other values are met. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+     */
+    public com.s13g.winston.proto.Master.Rule getRule(int index) {
+      return rule_.get(index);
+    }
+    /**
+     * <pre>
+     * Rules that write channel values when conditions on other values are met. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+     */
+    public com.s13g.winston.proto.Master.RuleOrBuilder getRuleOrBuilder(
+        int index) {
+      return rule_.get(index);
+    }
+
+    public static final int WRITE_DEBOUNCE_FIELD_NUMBER = 22;
+    private java.util.List<com.s13g.winston.proto.Master.WriteDebounce> writeDebounce_;
+    /**
+     * <pre>
+     * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+     */
+    public java.util.List<com.s13g.winston.proto.Master.WriteDebounce> getWriteDebounceList() {
+      return writeDebounce_;
+    }
+    /**
+     * <pre>
+     * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+     */
+    public java.util.List<? extends com.s13g.winston.proto.Master.WriteDebounceOrBuilder> 
+        getWriteDebounceOrBuilderList() {
+      return writeDebounce_;
+    }
+    /**
+     * <pre>
+     * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+     */
+    public int getWriteDebounceCount() {
+      return writeDebounce_.size();
+    }
+    /**
+     * <pre>
+     * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+     */
+    public com.s13g.winston.proto.Master.WriteDebounce getWriteDebounce(int index) {
+      return writeDebounce_.get(index);
+    }
+    /**
+     * <pre>
+     * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+     */
+    public com.s13g.winston.proto.Master.WriteDebounceOrBuilder getWriteDebounceOrBuilder(
+        int index) {
+      return writeDebounce_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (daemonPort_ != 0) {
+        output.writeInt32(1, daemonPort_);
+      }
+      if (!getSslKeystorePathBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, sslKeystorePath_);
+      }
+      if (!getSslKeystorePasswordBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, sslKeystorePassword_);
+      }
+      for (int i = 0; i < module_.size(); i++) {
+        output.writeMessage(4, module_.get(i));
+      }
+      for (int i = 0; i < group_.size(); i++) {
         output.writeMessage(5, group_.get(i));
       }
       for (int i = 0; i < authClient_.size(); i++) {
@@ -735,6 +1512,48 @@ public final class Master {
       for (int i = 0; i < knownClient_.size(); i++) {
         output.writeMessage(7, knownClient_.get(i));
       }
+      if (httpThreads_ != 0) {
+        output.writeInt32(9, httpThreads_);
+      }
+      if (sslSessionCacheSize_ != 0) {
+        output.writeInt32(10, sslSessionCacheSize_);
+      }
+      if (sslSessionTimeoutSeconds_ != 0) {
+        output.writeInt32(11, sslSessionTimeoutSeconds_);
+      }
+      if (disableSslSessionTickets_ != false) {
+        output.writeBool(12, disableSslSessionTickets_);
+      }
+      if (maxConcurrentRequests_ != 0) {
+        output.writeInt32(13, maxConcurrentRequests_);
+      }
+      if (maxQueuedRequests_ != 0) {
+        output.writeInt32(14, maxQueuedRequests_);
+      }
+      if (accessLogSampleRate_ != 0D) {
+        output.writeDouble(15, accessLogSampleRate_);
+      }
+      for (int i = 0; i < valueCache_.size(); i++) {
+        output.writeMessage(16, valueCache_.get(i));
+      }
+      for (int i = 0; i < pollSchedule_.size(); i++) {
+        output.writeMessage(17, pollSchedule_.get(i));
+      }
+      if (maxPollsPerDevice_ != 0) {
+        output.writeInt32(18, maxPollsPerDevice_);
+      }
+      if (historyRetentionHours_ != 0) {
+        output.writeInt32(19, historyRetentionHours_);
+      }
+      if (!getHistoryDirectoryBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 20, historyDirectory_);
+      }
+      for (int i = 0; i < rule_.size(); i++) {
+        output.writeMessage(21, rule_.get(i));
+      }
+      for (int i = 0; i < writeDebounce_.size(); i++) {
+        output.writeMessage(22, writeDebounce_.get(i));
+      }
       unknownFields.writeTo(output);
     }
 
@@ -770,14 +1589,69 @@ public final class Master {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(7, knownClient_.get(i));
       }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
+      if (httpThreads_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(9, httpThreads_);
+      }
+      if (sslSessionCacheSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(10, sslSessionCacheSize_);
+      }
+      if (sslSessionTimeoutSeconds_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(11, sslSessionTimeoutSeconds_);
+      }
+      if (disableSslSessionTickets_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(12, disableSslSessionTickets_);
+      }
+      if (maxConcurrentRequests_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(13, maxConcurrentRequests_);
+      }
+      if (maxQueuedRequests_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(14, maxQueuedRequests_);
+      }
+      if (accessLogSampleRate_ != 0D) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(15, accessLogSampleRate_);
+      }
+      for (int i = 0; i < valueCache_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(16, valueCache_.get(i));
+      }
+      for (int i = 0; i < pollSchedule_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(17, pollSchedule_.get(i));
+      }
+      if (maxPollsPerDevice_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(18, maxPollsPerDevice_);
+      }
+      if (historyRetentionHours_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(19, historyRetentionHours_);
+      }
+      if (!getHistoryDirectoryBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(20, historyDirectory_);
+      }
+      for (int i = 0; i < rule_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(21, rule_.get(i));
+      }
+      for (int i = 0; i < writeDebounce_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(22, writeDebounce_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
        return true;
       }
       if (!(obj instanceof com.s13g.winston.proto.Master.MasterConfig)) {
@@ -800,6 +1674,36 @@ public final class Master {
           .equals(other.getAuthClientList());
       result = result && getKnownClientList()
           .equals(other.getKnownClientList());
+      result = result && (getHttpThreads()
+          == other.getHttpThreads());
+      result = result && (getSslSessionCacheSize()
+          == other.getSslSessionCacheSize());
+      result = result && (getSslSessionTimeoutSeconds()
+          == other.getSslSessionTimeoutSeconds());
+      result = result && (getDisableSslSessionTickets()
+          == other.getDisableSslSessionTickets());
+      result = result && (getMaxConcurrentRequests()
+          == other.getMaxConcurrentRequests());
+      result = result && (getMaxQueuedRequests()
+          == other.getMaxQueuedRequests());
+      result = result && (
+          java.lang.Double.doubleToLongBits(getAccessLogSampleRate())
+          == java.lang.Double.doubleToLongBits(
+              other.getAccessLogSampleRate()));
+      result = result && getValueCacheList()
+          .equals(other.getValueCacheList());
+      result = result && getPollScheduleList()
+          .equals(other.getPollScheduleList());
+      result = result && (getMaxPollsPerDevice()
+          == other.getMaxPollsPerDevice());
+      result = result && (getHistoryRetentionHours()
+          == other.getHistoryRetentionHours());
+      result = result && getHistoryDirectory()
+          .equals(other.getHistoryDirectory());
+      result = result && getRuleList()
+          .equals(other.getRuleList());
+      result = result && getWriteDebounceList()
+          .equals(other.getWriteDebounceList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -833,6 +1737,44 @@ public final class Master {
         hash = (37 * hash) + KNOWN_CLIENT_FIELD_NUMBER;
         hash = (53 * hash) + getKnownClientList().hashCode();
       }
+      hash = (37 * hash) + HTTP_THREADS_FIELD_NUMBER;
+      hash = (53 * hash) + getHttpThreads();
+      hash = (37 * hash) + SSL_SESSION_CACHE_SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getSslSessionCacheSize();
+      hash = (37 * hash) + SSL_SESSION_TIMEOUT_SECONDS_FIELD_NUMBER;
+      hash = (53 * hash) + getSslSessionTimeoutSeconds();
+      hash = (37 * hash) + DISABLE_SSL_SESSION_TICKETS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getDisableSslSessionTickets());
+      hash = (37 * hash) + MAX_CONCURRENT_REQUESTS_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxConcurrentRequests();
+      hash = (37 * hash) + MAX_QUEUED_REQUESTS_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxQueuedRequests();
+      hash = (37 * hash) + ACCESS_LOG_SAMPLE_RATE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getAccessLogSampleRate()));
+      if (getValueCacheCount() > 0) {
+        hash = (37 * hash) + VALUE_CACHE_FIELD_NUMBER;
+        hash = (53 * hash) + getValueCacheList().hashCode();
+      }
+      if (getPollScheduleCount() > 0) {
+        hash = (37 * hash) + POLL_SCHEDULE_FIELD_NUMBER;
+        hash = (53 * hash) + getPollScheduleList().hashCode();
+      }
+      hash = (37 * hash) + MAX_POLLS_PER_DEVICE_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxPollsPerDevice();
+      hash = (37 * hash) + HISTORY_RETENTION_HOURS_FIELD_NUMBER;
+      hash = (53 * hash) + getHistoryRetentionHours();
+      hash = (37 * hash) + HISTORY_DIRECTORY_FIELD_NUMBER;
+      hash = (53 * hash) + getHistoryDirectory().hashCode();
+      if (getRuleCount() > 0) {
+        hash = (37 * hash) + RULE_FIELD_NUMBER;
+        hash = (53 * hash) + getRuleList().hashCode();
+      }
+      if (getWriteDebounceCount() > 0) {
+        hash = (37 * hash) + WRITE_DEBOUNCE_FIELD_NUMBER;
+        hash = (53 * hash) + getWriteDebounceList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -965,6 +1907,10 @@ public final class Master {
           getGroupFieldBuilder();
           getAuthClientFieldBuilder();
           getKnownClientFieldBuilder();
+          getValueCacheFieldBuilder();
+          getPollScheduleFieldBuilder();
+          getRuleFieldBuilder();
+          getWriteDebounceFieldBuilder();
         }
       }
       @java.lang.Override
@@ -1000,6 +1946,50 @@ public final class Master {
         } else {
           knownClientBuilder_.clear();
         }
+        httpThreads_ = 0;
+
+        sslSessionCacheSize_ = 0;
+
+        sslSessionTimeoutSeconds_ = 0;
+
+        disableSslSessionTickets_ = false;
+
+        maxConcurrentRequests_ = 0;
+
+        maxQueuedRequests_ = 0;
+
+        accessLogSampleRate_ = 0D;
+
+        if (valueCacheBuilder_ == null) {
+          valueCache_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00004000);
+        } else {
+          valueCacheBuilder_.clear();
+        }
+        if (pollScheduleBuilder_ == null) {
+          pollSchedule_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00008000);
+        } else {
+          pollScheduleBuilder_.clear();
+        }
+        maxPollsPerDevice_ = 0;
+
+        historyRetentionHours_ = 0;
+
+        historyDirectory_ = "";
+
+        if (ruleBuilder_ == null) {
+          rule_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00080000);
+        } else {
+          ruleBuilder_.clear();
+        }
+        if (writeDebounceBuilder_ == null) {
+          writeDebounce_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00100000);
+        } else {
+          writeDebounceBuilder_.clear();
+        }
         return this;
       }
 
@@ -1067,6 +2057,52 @@ public final class Master {
         } else {
           result.knownClient_ = knownClientBuilder_.build();
         }
+        result.httpThreads_ = httpThreads_;
+        result.sslSessionCacheSize_ = sslSessionCacheSize_;
+        result.sslSessionTimeoutSeconds_ = sslSessionTimeoutSeconds_;
+        result.disableSslSessionTickets_ = disableSslSessionTickets_;
+        result.maxConcurrentRequests_ = maxConcurrentRequests_;
+        result.maxQueuedRequests_ = maxQueuedRequests_;
+        result.accessLogSampleRate_ = accessLogSampleRate_;
+        if (valueCacheBuilder_ == null) {
+          if (((bitField0_ & 0x00004000) == 0x00004000)) {
+            valueCache_ = java.util.Collections.unmodifiableList(valueCache_);
+            bitField0_ = (bitField0_ & ~0x00004000);
+          }
+          result.valueCache_ = valueCache_;
+        } else {
+          result.valueCache_ = valueCacheBuilder_.build();
+        }
+        if (pollScheduleBuilder_ == null) {
+          if (((bitField0_ & 0x00008000) == 0x00008000)) {
+            pollSchedule_ = java.util.Collections.unmodifiableList(pollSchedule_);
+            bitField0_ = (bitField0_ & ~0x00008000);
+          }
+          result.pollSchedule_ = pollSchedule_;
+        } else {
+          result.pollSchedule_ = pollScheduleBuilder_.build();
+        }
+        result.maxPollsPerDevice_ = maxPollsPerDevice_;
+        result.historyRetentionHours_ = historyRetentionHours_;
+        result.historyDirectory_ = historyDirectory_;
+        if (ruleBuilder_ == null) {
+          if (((bitField0_ & 0x00080000) == 0x00080000)) {
+            rule_ = java.util.Collections.unmodifiableList(rule_);
+            bitField0_ = (bitField0_ & ~0x00080000);
+          }
+          result.rule_ = rule_;
+        } else {
+          result.rule_ = ruleBuilder_.build();
+        }
+        if (writeDebounceBuilder_ == null) {
+          if (((bitField0_ & 0x00100000) == 0x00100000)) {
+            writeDebounce_ = java.util.Collections.unmodifiableList(writeDebounce_);
+            bitField0_ = (bitField0_ & ~0x00100000);
+          }
+          result.writeDebounce_ = writeDebounce_;
+        } else {
+          result.writeDebounce_ = writeDebounceBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -1231,6 +2267,141 @@ public final class Master {
             }
           }
         }
+        if (other.getHttpThreads() != 0) {
+          setHttpThreads(other.getHttpThreads());
+        }
+        if (other.getSslSessionCacheSize() != 0) {
+          setSslSessionCacheSize(other.getSslSessionCacheSize());
+        }
+        if (other.getSslSessionTimeoutSeconds() != 0) {
+          setSslSessionTimeoutSeconds(other.getSslSessionTimeoutSeconds());
+        }
+        if (other.getDisableSslSessionTickets() != false) {
+          setDisableSslSessionTickets(other.getDisableSslSessionTickets());
+        }
+        if (other.getMaxConcurrentRequests() != 0) {
+          setMaxConcurrentRequests(other.getMaxConcurrentRequests());
+        }
+        if (other.getMaxQueuedRequests() != 0) {
+          setMaxQueuedRequests(other.getMaxQueuedRequests());
+        }
+        if (other.getAccessLogSampleRate() != 0D) {
+          setAccessLogSampleRate(other.getAccessLogSampleRate());
+        }
+        if (valueCacheBuilder_ == null) {
+          if (!other.valueCache_.isEmpty()) {
+            if (valueCache_.isEmpty()) {
+              valueCache_ = other.valueCache_;
+              bitField0_ = (bitField0_ & ~0x00004000);
+            } else {
+              ensureValueCacheIsMutable();
+              valueCache_.addAll(other.valueCache_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.valueCache_.isEmpty()) {
+            if (valueCacheBuilder_.isEmpty()) {
+              valueCacheBuilder_.dispose();
+              valueCacheBuilder_ = null;
+              valueCache_ = other.valueCache_;
+              bitField0_ = (bitField0_ & ~0x00004000);
+              valueCacheBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getValueCacheFieldBuilder() : null;
+            } else {
+              valueCacheBuilder_.addAllMessages(other.valueCache_);
+            }
+          }
+        }
+        if (pollScheduleBuilder_ == null) {
+          if (!other.pollSchedule_.isEmpty()) {
+            if (pollSchedule_.isEmpty()) {
+              pollSchedule_ = other.pollSchedule_;
+              bitField0_ = (bitField0_ & ~0x00008000);
+            } else {
+              ensurePollScheduleIsMutable();
+              pollSchedule_.addAll(other.pollSchedule_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.pollSchedule_.isEmpty()) {
+            if (pollScheduleBuilder_.isEmpty()) {
+              pollScheduleBuilder_.dispose();
+              pollScheduleBuilder_ = null;
+              pollSchedule_ = other.pollSchedule_;
+              bitField0_ = (bitField0_ & ~0x00008000);
+              pollScheduleBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPollScheduleFieldBuilder() : null;
+            } else {
+              pollScheduleBuilder_.addAllMessages(other.pollSchedule_);
+            }
+          }
+        }
+        if (other.getMaxPollsPerDevice() != 0) {
+          setMaxPollsPerDevice(other.getMaxPollsPerDevice());
+        }
+        if (other.getHistoryRetentionHours() != 0) {
+          setHistoryRetentionHours(other.getHistoryRetentionHours());
+        }
+        if (!other.getHistoryDirectory().isEmpty()) {
+          historyDirectory_ = other.historyDirectory_;
+          onChanged();
+        }
+        if (ruleBuilder_ == null) {
+          if (!other.rule_.isEmpty()) {
+            if (rule_.isEmpty()) {
+              rule_ = other.rule_;
+              bitField0_ = (bitField0_ & ~0x00080000);
+            } else {
+              ensureRuleIsMutable();
+              rule_.addAll(other.rule_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.rule_.isEmpty()) {
+            if (ruleBuilder_.isEmpty()) {
+              ruleBuilder_.dispose();
+              ruleBuilder_ = null;
+              rule_ = other.rule_;
+              bitField0_ = (bitField0_ & ~0x00080000);
+              ruleBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRuleFieldBuilder() : null;
+            } else {
+              ruleBuilder_.addAllMessages(other.rule_);
+            }
+          }
+        }
+        if (writeDebounceBuilder_ == null) {
+          if (!other.writeDebounce_.isEmpty()) {
+            if (writeDebounce_.isEmpty()) {
+              writeDebounce_ = other.writeDebounce_;
+              bitField0_ = (bitField0_ & ~0x00100000);
+            } else {
+              ensureWriteDebounceIsMutable();
+              writeDebounce_.addAll(other.writeDebounce_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.writeDebounce_.isEmpty()) {
+            if (writeDebounceBuilder_.isEmpty()) {
+              writeDebounceBuilder_.dispose();
+              writeDebounceBuilder_ = null;
+              writeDebounce_ = other.writeDebounce_;
+              bitField0_ = (bitField0_ & ~0x00100000);
+              writeDebounceBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getWriteDebounceFieldBuilder() : null;
+            } else {
+              writeDebounceBuilder_.addAllMessages(other.writeDebounce_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -2724,1087 +3895,1702 @@ public final class Master {
         }
         return knownClientBuilder_;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFieldsProto3(unknownFields);
-      }
 
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      private int httpThreads_ ;
+      /**
+       * <pre>
+       * The number of threads handling HTTP requests. Uses the daemon's default if not set. 
+       * </pre>
+       *
+       * <code>int32 http_threads = 9;</code>
+       */
+      public int getHttpThreads() {
+        return httpThreads_;
       }
-
-
-      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.MasterConfig)
-    }
-
-    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.MasterConfig)
-    private static final com.s13g.winston.proto.Master.MasterConfig DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.MasterConfig();
-    }
-
-    public static com.s13g.winston.proto.Master.MasterConfig getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<MasterConfig>
-        PARSER = new com.google.protobuf.AbstractParser<MasterConfig>() {
-      @java.lang.Override
-      public MasterConfig parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new MasterConfig(input, extensionRegistry);
+      /**
+       * <pre>
+       * The number of threads handling HTTP requests. Uses the daemon's default if not set. 
+       * </pre>
+       *
+       * <code>int32 http_threads = 9;</code>
+       */
+      public Builder setHttpThreads(int value) {
+        
+        httpThreads_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The number of threads handling HTTP requests. Uses the daemon's default if not set. 
+       * </pre>
+       *
+       * <code>int32 http_threads = 9;</code>
+       */
+      public Builder clearHttpThreads() {
+        
+        httpThreads_ = 0;
+        onChanged();
+        return this;
       }
-    };
 
-    public static com.google.protobuf.Parser<MasterConfig> parser() {
-      return PARSER;
-    }
+      private int sslSessionCacheSize_ ;
+      /**
+       * <pre>
+       * The number of TLS sessions that clients can resume. Uses the JDK default if not set. 
+       * </pre>
+       *
+       * <code>int32 ssl_session_cache_size = 10;</code>
+       */
+      public int getSslSessionCacheSize() {
+        return sslSessionCacheSize_;
+      }
+      /**
+       * <pre>
+       * The number of TLS sessions that clients can resume. Uses the JDK default if not set. 
+       * </pre>
+       *
+       * <code>int32 ssl_session_cache_size = 10;</code>
+       */
+      public Builder setSslSessionCacheSize(int value) {
+        
+        sslSessionCacheSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The number of TLS sessions that clients can resume. Uses the JDK default if not set. 
+       * </pre>
+       *
+       * <code>int32 ssl_session_cache_size = 10;</code>
+       */
+      public Builder clearSslSessionCacheSize() {
+        
+        sslSessionCacheSize_ = 0;
+        onChanged();
+        return this;
+      }
 
-    @java.lang.Override
-    public com.google.protobuf.Parser<MasterConfig> getParserForType() {
-      return PARSER;
-    }
+      private int sslSessionTimeoutSeconds_ ;
+      /**
+       * <pre>
+       * How long a TLS session can be resumed, in seconds. Uses the JDK default if not set. 
+       * </pre>
+       *
+       * <code>int32 ssl_session_timeout_seconds = 11;</code>
+       */
+      public int getSslSessionTimeoutSeconds() {
+        return sslSessionTimeoutSeconds_;
+      }
+      /**
+       * <pre>
+       * How long a TLS session can be resumed, in seconds. Uses the JDK default if not set. 
+       * </pre>
+       *
+       * <code>int32 ssl_session_timeout_seconds = 11;</code>
+       */
+      public Builder setSslSessionTimeoutSeconds(int value) {
+        
+        sslSessionTimeoutSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * How long a TLS session can be resumed, in seconds. Uses the JDK default if not set. 
+       * </pre>
+       *
+       * <code>int32 ssl_session_timeout_seconds = 11;</code>
+       */
+      public Builder clearSslSessionTimeoutSeconds() {
+        
+        sslSessionTimeoutSeconds_ = 0;
+        onChanged();
+        return this;
+      }
 
-    @java.lang.Override
-    public com.s13g.winston.proto.Master.MasterConfig getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
+      private boolean disableSslSessionTickets_ ;
+      /**
+       * <pre>
+       * Disables TLS session tickets, which are enabled by default on Java 13 and later. If not set,
+       * or if the 'jdk.tls.server.enableSessionTicketExtension' system property is given, the JDK's
+       * setting is used.
+       * </pre>
+       *
+       * <code>bool disable_ssl_session_tickets = 12;</code>
+       */
+      public boolean getDisableSslSessionTickets() {
+        return disableSslSessionTickets_;
+      }
+      /**
+       * <pre>
+       * Disables TLS session tickets, which are enabled by default on Java 13 and later. If not set,
+       * or if the 'jdk.tls.server.enableSessionTicketExtension' system property is given, the JDK's
+       * setting is used.
+       * </pre>
+       *
+       * <code>bool disable_ssl_session_tickets = 12;</code>
+       */
+      public Builder setDisableSslSessionTickets(boolean value) {
+        
+        disableSslSessionTickets_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Disables TLS session tickets, which are enabled by default on Java 13 and later. If not set,
+       * or if the 'jdk.tls.server.enableSessionTicketExtension' system property is given, the JDK's
+       * setting is used.
+       * </pre>
+       *
+       * <code>bool disable_ssl_session_tickets = 12;</code>
+       */
+      public Builder clearDisableSslSessionTickets() {
+        
+        disableSslSessionTickets_ = false;
+        onChanged();
+        return this;
+      }
 
-  }
-
-  public interface ModuleOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.Module)
-      com.google.protobuf.MessageOrBuilder {
+      private int maxConcurrentRequests_ ;
+      /**
+       * <pre>
+       * The maximum number of client requests handled at the same time. Unlimited if not set. 
+       * </pre>
+       *
+       * <code>int32 max_concurrent_requests = 13;</code>
+       */
+      public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests_;
+      }
+      /**
+       * <pre>
+       * The maximum number of client requests handled at the same time. Unlimited if not set. 
+       * </pre>
+       *
+       * <code>int32 max_concurrent_requests = 13;</code>
+       */
+      public Builder setMaxConcurrentRequests(int value) {
+        
+        maxConcurrentRequests_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The maximum number of client requests handled at the same time. Unlimited if not set. 
+       * </pre>
+       *
+       * <code>int32 max_concurrent_requests = 13;</code>
+       */
+      public Builder clearMaxConcurrentRequests() {
+        
+        maxConcurrentRequests_ = 0;
+        onChanged();
+        return this;
+      }
 
-    /**
-     * <pre>
-     * The type of the module, such as "nest". 
-     * </pre>
-     *
-     * <code>string type = 1;</code>
-     */
-    java.lang.String getType();
-    /**
-     * <pre>
-     * The type of the module, such as "nest". 
-     * </pre>
-     *
-     * <code>string type = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getTypeBytes();
+      private int maxQueuedRequests_ ;
+      /**
+       * <pre>
+       * The maximum number of client requests waiting to be handled. Others are rejected with 503. 
+       * </pre>
+       *
+       * <code>int32 max_queued_requests = 14;</code>
+       */
+      public int getMaxQueuedRequests() {
+        return maxQueuedRequests_;
+      }
+      /**
+       * <pre>
+       * The maximum number of client requests waiting to be handled. Others are rejected with 503. 
+       * </pre>
+       *
+       * <code>int32 max_queued_requests = 14;</code>
+       */
+      public Builder setMaxQueuedRequests(int value) {
+        
+        maxQueuedRequests_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The maximum number of client requests waiting to be handled. Others are rejected with 503. 
+       * </pre>
+       *
+       * <code>int32 max_queued_requests = 14;</code>
+       */
+      public Builder clearMaxQueuedRequests() {
+        
+        maxQueuedRequests_ = 0;
+        onChanged();
+        return this;
+      }
 
-    /**
-     * <pre>
-     * A number of parameters required to configure the module. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
-     */
-    java.util.List<com.s13g.winston.proto.Master.Channel> 
-        getChannelList();
-    /**
-     * <pre>
-     * A number of parameters required to configure the module. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
-     */
-    com.s13g.winston.proto.Master.Channel getChannel(int index);
-    /**
-     * <pre>
-     * A number of parameters required to configure the module. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
-     */
-    int getChannelCount();
-    /**
-     * <pre>
-     * A number of parameters required to configure the module. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
-     */
-    java.util.List<? extends com.s13g.winston.proto.Master.ChannelOrBuilder> 
-        getChannelOrBuilderList();
-    /**
-     * <pre>
-     * A number of parameters required to configure the module. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
-     */
-    com.s13g.winston.proto.Master.ChannelOrBuilder getChannelOrBuilder(
-        int index);
-  }
-  /**
-   * <pre>
-   * A module that runs on the master. E.g. a Nest or TV controller. 
-   * </pre>
-   *
-   * Protobuf type {@code com.s13g.winston.proto.Module}
-   */
-  public  static final class Module extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.Module)
-      ModuleOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use Module.newBuilder() to construct.
-    private Module(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private Module() {
-      type_ = "";
-      channel_ = java.util.Collections.emptyList();
-    }
+      private double accessLogSampleRate_ ;
+      /**
+       * <pre>
+       * The fraction of successful requests written to the access log, between 0 and 1. Failed
+       * requests are always logged. Logs every request if not set.
+       * </pre>
+       *
+       * <code>double access_log_sample_rate = 15;</code>
+       */
+      public double getAccessLogSampleRate() {
+        return accessLogSampleRate_;
+      }
+      /**
+       * <pre>
+       * The fraction of successful requests written to the access log, between 0 and 1. Failed
+       * requests are always logged. Logs every request if not set.
+       * </pre>
+       *
+       * <code>double access_log_sample_rate = 15;</code>
+       */
+      public Builder setAccessLogSampleRate(double value) {
+        
+        accessLogSampleRate_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The fraction of successful requests written to the access log, between 0 and 1. Failed
+       * requests are always logged. Logs every request if not set.
+       * </pre>
+       *
+       * <code>double access_log_sample_rate = 15;</code>
+       */
+      public Builder clearAccessLogSampleRate() {
+        
+        accessLogSampleRate_ = 0D;
+        onChanged();
+        return this;
+      }
 
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private Module(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
+      private java.util.List<com.s13g.winston.proto.Master.ValueCache> valueCache_ =
+        java.util.Collections.emptyList();
+      private void ensureValueCacheIsMutable() {
+        if (!((bitField0_ & 0x00004000) == 0x00004000)) {
+          valueCache_ = new java.util.ArrayList<com.s13g.winston.proto.Master.ValueCache>(valueCache_);
+          bitField0_ |= 0x00004000;
+         }
       }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
 
-              type_ = s;
-              break;
-            }
-            case 18: {
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                channel_ = new java.util.ArrayList<com.s13g.winston.proto.Master.Channel>();
-                mutable_bitField0_ |= 0x00000002;
-              }
-              channel_.add(
-                  input.readMessage(com.s13g.winston.proto.Master.Channel.parser(), extensionRegistry));
-              break;
-            }
-            default: {
-              if (!parseUnknownFieldProto3(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.ValueCache, com.s13g.winston.proto.Master.ValueCache.Builder, com.s13g.winston.proto.Master.ValueCacheOrBuilder> valueCacheBuilder_;
+
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.ValueCache> getValueCacheList() {
+        if (valueCacheBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(valueCache_);
+        } else {
+          return valueCacheBuilder_.getMessageList();
         }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          channel_ = java.util.Collections.unmodifiableList(channel_);
+      }
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public int getValueCacheCount() {
+        if (valueCacheBuilder_ == null) {
+          return valueCache_.size();
+        } else {
+          return valueCacheBuilder_.getCount();
         }
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
       }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Module_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Module_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              com.s13g.winston.proto.Master.Module.class, com.s13g.winston.proto.Master.Module.Builder.class);
-    }
-
-    private int bitField0_;
-    public static final int TYPE_FIELD_NUMBER = 1;
-    private volatile java.lang.Object type_;
-    /**
-     * <pre>
-     * The type of the module, such as "nest". 
-     * </pre>
-     *
-     * <code>string type = 1;</code>
-     */
-    public java.lang.String getType() {
-      java.lang.Object ref = type_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        type_ = s;
-        return s;
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public com.s13g.winston.proto.Master.ValueCache getValueCache(int index) {
+        if (valueCacheBuilder_ == null) {
+          return valueCache_.get(index);
+        } else {
+          return valueCacheBuilder_.getMessage(index);
+        }
       }
-    }
-    /**
-     * <pre>
-     * The type of the module, such as "nest". 
-     * </pre>
-     *
-     * <code>string type = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getTypeBytes() {
-      java.lang.Object ref = type_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        type_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public Builder setValueCache(
+          int index, com.s13g.winston.proto.Master.ValueCache value) {
+        if (valueCacheBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureValueCacheIsMutable();
+          valueCache_.set(index, value);
+          onChanged();
+        } else {
+          valueCacheBuilder_.setMessage(index, value);
+        }
+        return this;
       }
-    }
-
-    public static final int CHANNEL_FIELD_NUMBER = 2;
-    private java.util.List<com.s13g.winston.proto.Master.Channel> channel_;
-    /**
-     * <pre>
-     * A number of parameters required to configure the module. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
-     */
-    public java.util.List<com.s13g.winston.proto.Master.Channel> getChannelList() {
-      return channel_;
-    }
-    /**
-     * <pre>
-     * A number of parameters required to configure the module. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
-     */
-    public java.util.List<? extends com.s13g.winston.proto.Master.ChannelOrBuilder> 
-        getChannelOrBuilderList() {
-      return channel_;
-    }
-    /**
-     * <pre>
-     * A number of parameters required to configure the module. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
-     */
-    public int getChannelCount() {
-      return channel_.size();
-    }
-    /**
-     * <pre>
-     * A number of parameters required to configure the module. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
-     */
-    public com.s13g.winston.proto.Master.Channel getChannel(int index) {
-      return channel_.get(index);
-    }
-    /**
-     * <pre>
-     * A number of parameters required to configure the module. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
-     */
-    public com.s13g.winston.proto.Master.ChannelOrBuilder getChannelOrBuilder(
-        int index) {
-      return channel_.get(index);
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (!getTypeBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, type_);
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public Builder setValueCache(
+          int index, com.s13g.winston.proto.Master.ValueCache.Builder builderForValue) {
+        if (valueCacheBuilder_ == null) {
+          ensureValueCacheIsMutable();
+          valueCache_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          valueCacheBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
-      for (int i = 0; i < channel_.size(); i++) {
-        output.writeMessage(2, channel_.get(i));
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public Builder addValueCache(com.s13g.winston.proto.Master.ValueCache value) {
+        if (valueCacheBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureValueCacheIsMutable();
+          valueCache_.add(value);
+          onChanged();
+        } else {
+          valueCacheBuilder_.addMessage(value);
+        }
+        return this;
       }
-      unknownFields.writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (!getTypeBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, type_);
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public Builder addValueCache(
+          int index, com.s13g.winston.proto.Master.ValueCache value) {
+        if (valueCacheBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureValueCacheIsMutable();
+          valueCache_.add(index, value);
+          onChanged();
+        } else {
+          valueCacheBuilder_.addMessage(index, value);
+        }
+        return this;
       }
-      for (int i = 0; i < channel_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, channel_.get(i));
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public Builder addValueCache(
+          com.s13g.winston.proto.Master.ValueCache.Builder builderForValue) {
+        if (valueCacheBuilder_ == null) {
+          ensureValueCacheIsMutable();
+          valueCache_.add(builderForValue.build());
+          onChanged();
+        } else {
+          valueCacheBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
       }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public Builder addValueCache(
+          int index, com.s13g.winston.proto.Master.ValueCache.Builder builderForValue) {
+        if (valueCacheBuilder_ == null) {
+          ensureValueCacheIsMutable();
+          valueCache_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          valueCacheBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
       }
-      if (!(obj instanceof com.s13g.winston.proto.Master.Module)) {
-        return super.equals(obj);
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public Builder addAllValueCache(
+          java.lang.Iterable<? extends com.s13g.winston.proto.Master.ValueCache> values) {
+        if (valueCacheBuilder_ == null) {
+          ensureValueCacheIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, valueCache_);
+          onChanged();
+        } else {
+          valueCacheBuilder_.addAllMessages(values);
+        }
+        return this;
       }
-      com.s13g.winston.proto.Master.Module other = (com.s13g.winston.proto.Master.Module) obj;
-
-      boolean result = true;
-      result = result && getType()
-          .equals(other.getType());
-      result = result && getChannelList()
-          .equals(other.getChannelList());
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public Builder clearValueCache() {
+        if (valueCacheBuilder_ == null) {
+          valueCache_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00004000);
+          onChanged();
+        } else {
+          valueCacheBuilder_.clear();
+        }
+        return this;
       }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + TYPE_FIELD_NUMBER;
-      hash = (53 * hash) + getType().hashCode();
-      if (getChannelCount() > 0) {
-        hash = (37 * hash) + CHANNEL_FIELD_NUMBER;
-        hash = (53 * hash) + getChannelList().hashCode();
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public Builder removeValueCache(int index) {
+        if (valueCacheBuilder_ == null) {
+          ensureValueCacheIsMutable();
+          valueCache_.remove(index);
+          onChanged();
+        } else {
+          valueCacheBuilder_.remove(index);
+        }
+        return this;
       }
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static com.s13g.winston.proto.Master.Module parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.s13g.winston.proto.Master.Module parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.s13g.winston.proto.Master.Module parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.s13g.winston.proto.Master.Module parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.s13g.winston.proto.Master.Module parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.s13g.winston.proto.Master.Module parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.s13g.winston.proto.Master.Module parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static com.s13g.winston.proto.Master.Module parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static com.s13g.winston.proto.Master.Module parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static com.s13g.winston.proto.Master.Module parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static com.s13g.winston.proto.Master.Module parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static com.s13g.winston.proto.Master.Module parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(com.s13g.winston.proto.Master.Module prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * <pre>
-     * A module that runs on the master. E.g. a Nest or TV controller. 
-     * </pre>
-     *
-     * Protobuf type {@code com.s13g.winston.proto.Module}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.Module)
-        com.s13g.winston.proto.Master.ModuleOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Module_descriptor;
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public com.s13g.winston.proto.Master.ValueCache.Builder getValueCacheBuilder(
+          int index) {
+        return getValueCacheFieldBuilder().getBuilder(index);
       }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Module_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                com.s13g.winston.proto.Master.Module.class, com.s13g.winston.proto.Master.Module.Builder.class);
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public com.s13g.winston.proto.Master.ValueCacheOrBuilder getValueCacheOrBuilder(
+          int index) {
+        if (valueCacheBuilder_ == null) {
+          return valueCache_.get(index);  } else {
+          return valueCacheBuilder_.getMessageOrBuilder(index);
+        }
       }
-
-      // Construct using com.s13g.winston.proto.Master.Module.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public java.util.List<? extends com.s13g.winston.proto.Master.ValueCacheOrBuilder> 
+           getValueCacheOrBuilderList() {
+        if (valueCacheBuilder_ != null) {
+          return valueCacheBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(valueCache_);
+        }
       }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public com.s13g.winston.proto.Master.ValueCache.Builder addValueCacheBuilder() {
+        return getValueCacheFieldBuilder().addBuilder(
+            com.s13g.winston.proto.Master.ValueCache.getDefaultInstance());
       }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-          getChannelFieldBuilder();
-        }
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public com.s13g.winston.proto.Master.ValueCache.Builder addValueCacheBuilder(
+          int index) {
+        return getValueCacheFieldBuilder().addBuilder(
+            index, com.s13g.winston.proto.Master.ValueCache.getDefaultInstance());
       }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        type_ = "";
-
-        if (channelBuilder_ == null) {
-          channel_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
-        } else {
-          channelBuilder_.clear();
+      /**
+       * <pre>
+       * Channel values whose reads are cached, instead of asking the device every time. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.ValueCache value_cache = 16;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.ValueCache.Builder> 
+           getValueCacheBuilderList() {
+        return getValueCacheFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.ValueCache, com.s13g.winston.proto.Master.ValueCache.Builder, com.s13g.winston.proto.Master.ValueCacheOrBuilder> 
+          getValueCacheFieldBuilder() {
+        if (valueCacheBuilder_ == null) {
+          valueCacheBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.s13g.winston.proto.Master.ValueCache, com.s13g.winston.proto.Master.ValueCache.Builder, com.s13g.winston.proto.Master.ValueCacheOrBuilder>(
+                  valueCache_,
+                  ((bitField0_ & 0x00004000) == 0x00004000),
+                  getParentForChildren(),
+                  isClean());
+          valueCache_ = null;
         }
-        return this;
+        return valueCacheBuilder_;
       }
 
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Module_descriptor;
+      private java.util.List<com.s13g.winston.proto.Master.PollSchedule> pollSchedule_ =
+        java.util.Collections.emptyList();
+      private void ensurePollScheduleIsMutable() {
+        if (!((bitField0_ & 0x00008000) == 0x00008000)) {
+          pollSchedule_ = new java.util.ArrayList<com.s13g.winston.proto.Master.PollSchedule>(pollSchedule_);
+          bitField0_ |= 0x00008000;
+         }
       }
 
-      @java.lang.Override
-      public com.s13g.winston.proto.Master.Module getDefaultInstanceForType() {
-        return com.s13g.winston.proto.Master.Module.getDefaultInstance();
-      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.PollSchedule, com.s13g.winston.proto.Master.PollSchedule.Builder, com.s13g.winston.proto.Master.PollScheduleOrBuilder> pollScheduleBuilder_;
 
-      @java.lang.Override
-      public com.s13g.winston.proto.Master.Module build() {
-        com.s13g.winston.proto.Master.Module result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+      /**
+       * <pre>
+       * Channel values that are polled in the background and served from memory. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.PollSchedule> getPollScheduleList() {
+        if (pollScheduleBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(pollSchedule_);
+        } else {
+          return pollScheduleBuilder_.getMessageList();
         }
-        return result;
       }
-
-      @java.lang.Override
-      public com.s13g.winston.proto.Master.Module buildPartial() {
-        com.s13g.winston.proto.Master.Module result = new com.s13g.winston.proto.Master.Module(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        result.type_ = type_;
-        if (channelBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) == 0x00000002)) {
-            channel_ = java.util.Collections.unmodifiableList(channel_);
-            bitField0_ = (bitField0_ & ~0x00000002);
-          }
-          result.channel_ = channel_;
+      /**
+       * <pre>
+       * Channel values that are polled in the background and served from memory. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+       */
+      public int getPollScheduleCount() {
+        if (pollScheduleBuilder_ == null) {
+          return pollSchedule_.size();
         } else {
-          result.channel_ = channelBuilder_.build();
+          return pollScheduleBuilder_.getCount();
         }
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
-      }
-
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
       }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
+      /**
+       * <pre>
+       * Channel values that are polled in the background and served from memory. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+       */
+      public com.s13g.winston.proto.Master.PollSchedule getPollSchedule(int index) {
+        if (pollScheduleBuilder_ == null) {
+          return pollSchedule_.get(index);
+        } else {
+          return pollScheduleBuilder_.getMessage(index);
+        }
       }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
+      /**
+       * <pre>
+       * Channel values that are polled in the background and served from memory. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+       */
+      public Builder setPollSchedule(
+          int index, com.s13g.winston.proto.Master.PollSchedule value) {
+        if (pollScheduleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePollScheduleIsMutable();
+          pollSchedule_.set(index, value);
+          onChanged();
+        } else {
+          pollScheduleBuilder_.setMessage(index, value);
+        }
+        return this;
       }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.s13g.winston.proto.Master.Module) {
-          return mergeFrom((com.s13g.winston.proto.Master.Module)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(com.s13g.winston.proto.Master.Module other) {
-        if (other == com.s13g.winston.proto.Master.Module.getDefaultInstance()) return this;
-        if (!other.getType().isEmpty()) {
-          type_ = other.type_;
+      /**
+       * <pre>
+       * Channel values that are polled in the background and served from memory. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+       */
+      public Builder setPollSchedule(
+          int index, com.s13g.winston.proto.Master.PollSchedule.Builder builderForValue) {
+        if (pollScheduleBuilder_ == null) {
+          ensurePollScheduleIsMutable();
+          pollSchedule_.set(index, builderForValue.build());
           onChanged();
-        }
-        if (channelBuilder_ == null) {
-          if (!other.channel_.isEmpty()) {
-            if (channel_.isEmpty()) {
-              channel_ = other.channel_;
-              bitField0_ = (bitField0_ & ~0x00000002);
-            } else {
-              ensureChannelIsMutable();
-              channel_.addAll(other.channel_);
-            }
-            onChanged();
-          }
         } else {
-          if (!other.channel_.isEmpty()) {
-            if (channelBuilder_.isEmpty()) {
-              channelBuilder_.dispose();
-              channelBuilder_ = null;
-              channel_ = other.channel_;
-              bitField0_ = (bitField0_ & ~0x00000002);
-              channelBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getChannelFieldBuilder() : null;
-            } else {
-              channelBuilder_.addAllMessages(other.channel_);
-            }
-          }
+          pollScheduleBuilder_.setMessage(index, builderForValue.build());
         }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
         return this;
       }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.s13g.winston.proto.Master.Module parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.s13g.winston.proto.Master.Module) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
+      /**
+       * <pre>
+       * Channel values that are polled in the background and served from memory. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
+       */
+      public Builder addPollSchedule(com.s13g.winston.proto.Master.PollSchedule value) {
+        if (pollScheduleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensurePollScheduleIsMutable();
+          pollSchedule_.add(value);
+          onChanged();
+        } else {
+          pollScheduleBuilder_.addMessage(value);
         }
         return this;
       }
-      private int bitField0_;
-
-      private java.lang.Object type_ = "";
       /**
        * <pre>
-       * The type of the module, such as "nest". 
+       * Channel values that are polled in the background and served from memory. 
        * </pre>
        *
-       * <code>string type = 1;</code>
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
        */
-      public java.lang.String getType() {
-        java.lang.Object ref = type_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          type_ = s;
-          return s;
+      public Builder addPollSchedule(
+          int index, com.s13g.winston.proto.Master.PollSchedule value) {
+        if (pollScheduleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePollScheduleIsMutable();
+          pollSchedule_.add(index, value);
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          pollScheduleBuilder_.addMessage(index, value);
         }
+        return this;
       }
       /**
        * <pre>
-       * The type of the module, such as "nest". 
+       * Channel values that are polled in the background and served from memory. 
        * </pre>
        *
-       * <code>string type = 1;</code>
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
        */
-      public com.google.protobuf.ByteString
-          getTypeBytes() {
-        java.lang.Object ref = type_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          type_ = b;
-          return b;
+      public Builder addPollSchedule(
+          com.s13g.winston.proto.Master.PollSchedule.Builder builderForValue) {
+        if (pollScheduleBuilder_ == null) {
+          ensurePollScheduleIsMutable();
+          pollSchedule_.add(builderForValue.build());
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          pollScheduleBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
        * <pre>
-       * The type of the module, such as "nest". 
+       * Channel values that are polled in the background and served from memory. 
        * </pre>
        *
-       * <code>string type = 1;</code>
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
        */
-      public Builder setType(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        type_ = value;
-        onChanged();
+      public Builder addPollSchedule(
+          int index, com.s13g.winston.proto.Master.PollSchedule.Builder builderForValue) {
+        if (pollScheduleBuilder_ == null) {
+          ensurePollScheduleIsMutable();
+          pollSchedule_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          pollScheduleBuilder_.addMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
        * <pre>
-       * The type of the module, such as "nest". 
+       * Channel values that are polled in the background and served from memory. 
        * </pre>
        *
-       * <code>string type = 1;</code>
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
        */
-      public Builder clearType() {
-        
-        type_ = getDefaultInstance().getType();
-        onChanged();
+      public Builder addAllPollSchedule(
+          java.lang.Iterable<? extends com.s13g.winston.proto.Master.PollSchedule> values) {
+        if (pollScheduleBuilder_ == null) {
+          ensurePollScheduleIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, pollSchedule_);
+          onChanged();
+        } else {
+          pollScheduleBuilder_.addAllMessages(values);
+        }
         return this;
       }
       /**
        * <pre>
-       * The type of the module, such as "nest". 
+       * Channel values that are polled in the background and served from memory. 
        * </pre>
        *
-       * <code>string type = 1;</code>
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
        */
-      public Builder setTypeBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        type_ = value;
-        onChanged();
+      public Builder clearPollSchedule() {
+        if (pollScheduleBuilder_ == null) {
+          pollSchedule_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00008000);
+          onChanged();
+        } else {
+          pollScheduleBuilder_.clear();
+        }
         return this;
       }
-
-      private java.util.List<com.s13g.winston.proto.Master.Channel> channel_ =
-        java.util.Collections.emptyList();
-      private void ensureChannelIsMutable() {
-        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          channel_ = new java.util.ArrayList<com.s13g.winston.proto.Master.Channel>(channel_);
-          bitField0_ |= 0x00000002;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.s13g.winston.proto.Master.Channel, com.s13g.winston.proto.Master.Channel.Builder, com.s13g.winston.proto.Master.ChannelOrBuilder> channelBuilder_;
-
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Channel values that are polled in the background and served from memory. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
        */
-      public java.util.List<com.s13g.winston.proto.Master.Channel> getChannelList() {
-        if (channelBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(channel_);
+      public Builder removePollSchedule(int index) {
+        if (pollScheduleBuilder_ == null) {
+          ensurePollScheduleIsMutable();
+          pollSchedule_.remove(index);
+          onChanged();
         } else {
-          return channelBuilder_.getMessageList();
+          pollScheduleBuilder_.remove(index);
         }
+        return this;
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Channel values that are polled in the background and served from memory. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
        */
-      public int getChannelCount() {
-        if (channelBuilder_ == null) {
-          return channel_.size();
-        } else {
-          return channelBuilder_.getCount();
-        }
+      public com.s13g.winston.proto.Master.PollSchedule.Builder getPollScheduleBuilder(
+          int index) {
+        return getPollScheduleFieldBuilder().getBuilder(index);
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Channel values that are polled in the background and served from memory. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
        */
-      public com.s13g.winston.proto.Master.Channel getChannel(int index) {
-        if (channelBuilder_ == null) {
-          return channel_.get(index);
-        } else {
-          return channelBuilder_.getMessage(index);
+      public com.s13g.winston.proto.Master.PollScheduleOrBuilder getPollScheduleOrBuilder(
+          int index) {
+        if (pollScheduleBuilder_ == null) {
+          return pollSchedule_.get(index);  } else {
+          return pollScheduleBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Channel values that are polled in the background and served from memory. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
        */
-      public Builder setChannel(
-          int index, com.s13g.winston.proto.Master.Channel value) {
-        if (channelBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureChannelIsMutable();
-          channel_.set(index, value);
-          onChanged();
+      public java.util.List<? extends com.s13g.winston.proto.Master.PollScheduleOrBuilder> 
+           getPollScheduleOrBuilderList() {
+        if (pollScheduleBuilder_ != null) {
+          return pollScheduleBuilder_.getMessageOrBuilderList();
         } else {
-          channelBuilder_.setMessage(index, value);
+          return java.util.Collections.unmodifiableList(pollSchedule_);
         }
-        return this;
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Channel values that are polled in the background and served from memory. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
        */
-      public Builder setChannel(
-          int index, com.s13g.winston.proto.Master.Channel.Builder builderForValue) {
-        if (channelBuilder_ == null) {
-          ensureChannelIsMutable();
-          channel_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          channelBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
+      public com.s13g.winston.proto.Master.PollSchedule.Builder addPollScheduleBuilder() {
+        return getPollScheduleFieldBuilder().addBuilder(
+            com.s13g.winston.proto.Master.PollSchedule.getDefaultInstance());
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Channel values that are polled in the background and served from memory. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
        */
-      public Builder addChannel(com.s13g.winston.proto.Master.Channel value) {
-        if (channelBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureChannelIsMutable();
-          channel_.add(value);
-          onChanged();
-        } else {
-          channelBuilder_.addMessage(value);
-        }
-        return this;
+      public com.s13g.winston.proto.Master.PollSchedule.Builder addPollScheduleBuilder(
+          int index) {
+        return getPollScheduleFieldBuilder().addBuilder(
+            index, com.s13g.winston.proto.Master.PollSchedule.getDefaultInstance());
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Channel values that are polled in the background and served from memory. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.PollSchedule poll_schedule = 17;</code>
        */
-      public Builder addChannel(
-          int index, com.s13g.winston.proto.Master.Channel value) {
-        if (channelBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureChannelIsMutable();
-          channel_.add(index, value);
-          onChanged();
-        } else {
-          channelBuilder_.addMessage(index, value);
+      public java.util.List<com.s13g.winston.proto.Master.PollSchedule.Builder> 
+           getPollScheduleBuilderList() {
+        return getPollScheduleFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.PollSchedule, com.s13g.winston.proto.Master.PollSchedule.Builder, com.s13g.winston.proto.Master.PollScheduleOrBuilder> 
+          getPollScheduleFieldBuilder() {
+        if (pollScheduleBuilder_ == null) {
+          pollScheduleBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.s13g.winston.proto.Master.PollSchedule, com.s13g.winston.proto.Master.PollSchedule.Builder, com.s13g.winston.proto.Master.PollScheduleOrBuilder>(
+                  pollSchedule_,
+                  ((bitField0_ & 0x00008000) == 0x00008000),
+                  getParentForChildren(),
+                  isClean());
+          pollSchedule_ = null;
         }
-        return this;
+        return pollScheduleBuilder_;
       }
+
+      private int maxPollsPerDevice_ ;
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * The maximum number of polls running at the same time per device address. Default 1. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>int32 max_polls_per_device = 18;</code>
        */
-      public Builder addChannel(
-          com.s13g.winston.proto.Master.Channel.Builder builderForValue) {
-        if (channelBuilder_ == null) {
-          ensureChannelIsMutable();
-          channel_.add(builderForValue.build());
+      public int getMaxPollsPerDevice() {
+        return maxPollsPerDevice_;
+      }
+      /**
+       * <pre>
+       * The maximum number of polls running at the same time per device address. Default 1. 
+       * </pre>
+       *
+       * <code>int32 max_polls_per_device = 18;</code>
+       */
+      public Builder setMaxPollsPerDevice(int value) {
+        
+        maxPollsPerDevice_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The maximum number of polls running at the same time per device address. Default 1. 
+       * </pre>
+       *
+       * <code>int32 max_polls_per_device = 18;</code>
+       */
+      public Builder clearMaxPollsPerDevice() {
+        
+        maxPollsPerDevice_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int historyRetentionHours_ ;
+      /**
+       * <pre>
+       * How long the history of channel values is kept in memory, in hours. Default 14 days. 
+       * </pre>
+       *
+       * <code>int32 history_retention_hours = 19;</code>
+       */
+      public int getHistoryRetentionHours() {
+        return historyRetentionHours_;
+      }
+      /**
+       * <pre>
+       * How long the history of channel values is kept in memory, in hours. Default 14 days. 
+       * </pre>
+       *
+       * <code>int32 history_retention_hours = 19;</code>
+       */
+      public Builder setHistoryRetentionHours(int value) {
+        
+        historyRetentionHours_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * How long the history of channel values is kept in memory, in hours. Default 14 days. 
+       * </pre>
+       *
+       * <code>int32 history_retention_hours = 19;</code>
+       */
+      public Builder clearHistoryRetentionHours() {
+        
+        historyRetentionHours_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object historyDirectory_ = "";
+      /**
+       * <pre>
+       * The directory in which the history is stored, so that it survives restarts. The history is
+       * kept in memory only if not set.
+       * </pre>
+       *
+       * <code>string history_directory = 20;</code>
+       */
+      public java.lang.String getHistoryDirectory() {
+        java.lang.Object ref = historyDirectory_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          historyDirectory_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The directory in which the history is stored, so that it survives restarts. The history is
+       * kept in memory only if not set.
+       * </pre>
+       *
+       * <code>string history_directory = 20;</code>
+       */
+      public com.google.protobuf.ByteString
+          getHistoryDirectoryBytes() {
+        java.lang.Object ref = historyDirectory_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          historyDirectory_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The directory in which the history is stored, so that it survives restarts. The history is
+       * kept in memory only if not set.
+       * </pre>
+       *
+       * <code>string history_directory = 20;</code>
+       */
+      public Builder setHistoryDirectory(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        historyDirectory_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The directory in which the history is stored, so that it survives restarts. The history is
+       * kept in memory only if not set.
+       * </pre>
+       *
+       * <code>string history_directory = 20;</code>
+       */
+      public Builder clearHistoryDirectory() {
+        
+        historyDirectory_ = getDefaultInstance().getHistoryDirectory();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The directory in which the history is stored, so that it survives restarts. The history is
+       * kept in memory only if not set.
+       * </pre>
+       *
+       * <code>string history_directory = 20;</code>
+       */
+      public Builder setHistoryDirectoryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        historyDirectory_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.s13g.winston.proto.Master.Rule> rule_ =
+        java.util.Collections.emptyList();
+      private void ensureRuleIsMutable() {
+        if (!((bitField0_ & 0x00080000) == 0x00080000)) {
+          rule_ = new java.util.ArrayList<com.s13g.winston.proto.Master.Rule>(rule_);
+          bitField0_ |= 0x00080000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.Rule, com.s13g.winston.proto.Master.Rule.Builder, com.s13g.winston.proto.Master.RuleOrBuilder> ruleBuilder_;
+
+      /**
+       * <pre>
+       * Rules that write channel values when conditions on other values are met. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.Rule> getRuleList() {
+        if (ruleBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(rule_);
+        } else {
+          return ruleBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Rules that write channel values when conditions on other values are met. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+       */
+      public int getRuleCount() {
+        if (ruleBuilder_ == null) {
+          return rule_.size();
+        } else {
+          return ruleBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Rules that write channel values when conditions on other values are met. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+       */
+      public com.s13g.winston.proto.Master.Rule getRule(int index) {
+        if (ruleBuilder_ == null) {
+          return rule_.get(index);
+        } else {
+          return ruleBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Rules that write channel values when conditions on other values are met. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+       */
+      public Builder setRule(
+          int index, com.s13g.winston.proto.Master.Rule value) {
+        if (ruleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRuleIsMutable();
+          rule_.set(index, value);
           onChanged();
         } else {
-          channelBuilder_.addMessage(builderForValue.build());
+          ruleBuilder_.setMessage(index, value);
         }
         return this;
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Rules that write channel values when conditions on other values are met. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
        */
-      public Builder addChannel(
-          int index, com.s13g.winston.proto.Master.Channel.Builder builderForValue) {
-        if (channelBuilder_ == null) {
-          ensureChannelIsMutable();
-          channel_.add(index, builderForValue.build());
+      public Builder setRule(
+          int index, com.s13g.winston.proto.Master.Rule.Builder builderForValue) {
+        if (ruleBuilder_ == null) {
+          ensureRuleIsMutable();
+          rule_.set(index, builderForValue.build());
           onChanged();
         } else {
-          channelBuilder_.addMessage(index, builderForValue.build());
+          ruleBuilder_.setMessage(index, builderForValue.build());
         }
         return this;
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Rules that write channel values when conditions on other values are met. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
        */
-      public Builder addAllChannel(
-          java.lang.Iterable<? extends com.s13g.winston.proto.Master.Channel> values) {
-        if (channelBuilder_ == null) {
-          ensureChannelIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, channel_);
+      public Builder addRule(com.s13g.winston.proto.Master.Rule value) {
+        if (ruleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRuleIsMutable();
+          rule_.add(value);
           onChanged();
         } else {
-          channelBuilder_.addAllMessages(values);
+          ruleBuilder_.addMessage(value);
         }
         return this;
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Rules that write channel values when conditions on other values are met. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
        */
-      public Builder clearChannel() {
-        if (channelBuilder_ == null) {
-          channel_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
+      public Builder addRule(
+          int index, com.s13g.winston.proto.Master.Rule value) {
+        if (ruleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRuleIsMutable();
+          rule_.add(index, value);
           onChanged();
         } else {
-          channelBuilder_.clear();
+          ruleBuilder_.addMessage(index, value);
         }
         return this;
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Rules that write channel values when conditions on other values are met. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
        */
-      public Builder removeChannel(int index) {
-        if (channelBuilder_ == null) {
-          ensureChannelIsMutable();
-          channel_.remove(index);
+      public Builder addRule(
+          com.s13g.winston.proto.Master.Rule.Builder builderForValue) {
+        if (ruleBuilder_ == null) {
+          ensureRuleIsMutable();
+          rule_.add(builderForValue.build());
           onChanged();
         } else {
-          channelBuilder_.remove(index);
+          ruleBuilder_.addMessage(builderForValue.build());
         }
         return this;
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Rules that write channel values when conditions on other values are met. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
        */
-      public com.s13g.winston.proto.Master.Channel.Builder getChannelBuilder(
-          int index) {
-        return getChannelFieldBuilder().getBuilder(index);
+      public Builder addRule(
+          int index, com.s13g.winston.proto.Master.Rule.Builder builderForValue) {
+        if (ruleBuilder_ == null) {
+          ensureRuleIsMutable();
+          rule_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          ruleBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Rules that write channel values when conditions on other values are met. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
        */
-      public com.s13g.winston.proto.Master.ChannelOrBuilder getChannelOrBuilder(
-          int index) {
-        if (channelBuilder_ == null) {
-          return channel_.get(index);  } else {
-          return channelBuilder_.getMessageOrBuilder(index);
+      public Builder addAllRule(
+          java.lang.Iterable<? extends com.s13g.winston.proto.Master.Rule> values) {
+        if (ruleBuilder_ == null) {
+          ensureRuleIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, rule_);
+          onChanged();
+        } else {
+          ruleBuilder_.addAllMessages(values);
         }
+        return this;
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Rules that write channel values when conditions on other values are met. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
        */
-      public java.util.List<? extends com.s13g.winston.proto.Master.ChannelOrBuilder> 
-           getChannelOrBuilderList() {
-        if (channelBuilder_ != null) {
-          return channelBuilder_.getMessageOrBuilderList();
+      public Builder clearRule() {
+        if (ruleBuilder_ == null) {
+          rule_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00080000);
+          onChanged();
         } else {
-          return java.util.Collections.unmodifiableList(channel_);
+          ruleBuilder_.clear();
         }
+        return this;
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Rules that write channel values when conditions on other values are met. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
        */
-      public com.s13g.winston.proto.Master.Channel.Builder addChannelBuilder() {
-        return getChannelFieldBuilder().addBuilder(
-            com.s13g.winston.proto.Master.Channel.getDefaultInstance());
+      public Builder removeRule(int index) {
+        if (ruleBuilder_ == null) {
+          ensureRuleIsMutable();
+          rule_.remove(index);
+          onChanged();
+        } else {
+          ruleBuilder_.remove(index);
+        }
+        return this;
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Rules that write channel values when conditions on other values are met. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
        */
-      public com.s13g.winston.proto.Master.Channel.Builder addChannelBuilder(
+      public com.s13g.winston.proto.Master.Rule.Builder getRuleBuilder(
           int index) {
-        return getChannelFieldBuilder().addBuilder(
-            index, com.s13g.winston.proto.Master.Channel.getDefaultInstance());
+        return getRuleFieldBuilder().getBuilder(index);
       }
       /**
        * <pre>
-       * A number of parameters required to configure the module. 
+       * Rules that write channel values when conditions on other values are met. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
        */
-      public java.util.List<com.s13g.winston.proto.Master.Channel.Builder> 
-           getChannelBuilderList() {
-        return getChannelFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.s13g.winston.proto.Master.Channel, com.s13g.winston.proto.Master.Channel.Builder, com.s13g.winston.proto.Master.ChannelOrBuilder> 
-          getChannelFieldBuilder() {
-        if (channelBuilder_ == null) {
-          channelBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              com.s13g.winston.proto.Master.Channel, com.s13g.winston.proto.Master.Channel.Builder, com.s13g.winston.proto.Master.ChannelOrBuilder>(
-                  channel_,
-                  ((bitField0_ & 0x00000002) == 0x00000002),
-                  getParentForChildren(),
-                  isClean());
-          channel_ = null;
+      public com.s13g.winston.proto.Master.RuleOrBuilder getRuleOrBuilder(
+          int index) {
+        if (ruleBuilder_ == null) {
+          return rule_.get(index);  } else {
+          return ruleBuilder_.getMessageOrBuilder(index);
         }
-        return channelBuilder_;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
+      /**
+       * <pre>
+       * Rules that write channel values when conditions on other values are met. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+       */
+      public java.util.List<? extends com.s13g.winston.proto.Master.RuleOrBuilder> 
+           getRuleOrBuilderList() {
+        if (ruleBuilder_ != null) {
+          return ruleBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(rule_);
+        }
+      }
+      /**
+       * <pre>
+       * Rules that write channel values when conditions on other values are met. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+       */
+      public com.s13g.winston.proto.Master.Rule.Builder addRuleBuilder() {
+        return getRuleFieldBuilder().addBuilder(
+            com.s13g.winston.proto.Master.Rule.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Rules that write channel values when conditions on other values are met. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+       */
+      public com.s13g.winston.proto.Master.Rule.Builder addRuleBuilder(
+          int index) {
+        return getRuleFieldBuilder().addBuilder(
+            index, com.s13g.winston.proto.Master.Rule.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Rules that write channel values when conditions on other values are met. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Rule rule = 21;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.Rule.Builder> 
+           getRuleBuilderList() {
+        return getRuleFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.Rule, com.s13g.winston.proto.Master.Rule.Builder, com.s13g.winston.proto.Master.RuleOrBuilder> 
+          getRuleFieldBuilder() {
+        if (ruleBuilder_ == null) {
+          ruleBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.s13g.winston.proto.Master.Rule, com.s13g.winston.proto.Master.Rule.Builder, com.s13g.winston.proto.Master.RuleOrBuilder>(
+                  rule_,
+                  ((bitField0_ & 0x00080000) == 0x00080000),
+                  getParentForChildren(),
+                  isClean());
+          rule_ = null;
+        }
+        return ruleBuilder_;
+      }
+
+      private java.util.List<com.s13g.winston.proto.Master.WriteDebounce> writeDebounce_ =
+        java.util.Collections.emptyList();
+      private void ensureWriteDebounceIsMutable() {
+        if (!((bitField0_ & 0x00100000) == 0x00100000)) {
+          writeDebounce_ = new java.util.ArrayList<com.s13g.winston.proto.Master.WriteDebounce>(writeDebounce_);
+          bitField0_ |= 0x00100000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.WriteDebounce, com.s13g.winston.proto.Master.WriteDebounce.Builder, com.s13g.winston.proto.Master.WriteDebounceOrBuilder> writeDebounceBuilder_;
+
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.WriteDebounce> getWriteDebounceList() {
+        if (writeDebounceBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(writeDebounce_);
+        } else {
+          return writeDebounceBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public int getWriteDebounceCount() {
+        if (writeDebounceBuilder_ == null) {
+          return writeDebounce_.size();
+        } else {
+          return writeDebounceBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public com.s13g.winston.proto.Master.WriteDebounce getWriteDebounce(int index) {
+        if (writeDebounceBuilder_ == null) {
+          return writeDebounce_.get(index);
+        } else {
+          return writeDebounceBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public Builder setWriteDebounce(
+          int index, com.s13g.winston.proto.Master.WriteDebounce value) {
+        if (writeDebounceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureWriteDebounceIsMutable();
+          writeDebounce_.set(index, value);
+          onChanged();
+        } else {
+          writeDebounceBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public Builder setWriteDebounce(
+          int index, com.s13g.winston.proto.Master.WriteDebounce.Builder builderForValue) {
+        if (writeDebounceBuilder_ == null) {
+          ensureWriteDebounceIsMutable();
+          writeDebounce_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          writeDebounceBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public Builder addWriteDebounce(com.s13g.winston.proto.Master.WriteDebounce value) {
+        if (writeDebounceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureWriteDebounceIsMutable();
+          writeDebounce_.add(value);
+          onChanged();
+        } else {
+          writeDebounceBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public Builder addWriteDebounce(
+          int index, com.s13g.winston.proto.Master.WriteDebounce value) {
+        if (writeDebounceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureWriteDebounceIsMutable();
+          writeDebounce_.add(index, value);
+          onChanged();
+        } else {
+          writeDebounceBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public Builder addWriteDebounce(
+          com.s13g.winston.proto.Master.WriteDebounce.Builder builderForValue) {
+        if (writeDebounceBuilder_ == null) {
+          ensureWriteDebounceIsMutable();
+          writeDebounce_.add(builderForValue.build());
+          onChanged();
+        } else {
+          writeDebounceBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public Builder addWriteDebounce(
+          int index, com.s13g.winston.proto.Master.WriteDebounce.Builder builderForValue) {
+        if (writeDebounceBuilder_ == null) {
+          ensureWriteDebounceIsMutable();
+          writeDebounce_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          writeDebounceBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public Builder addAllWriteDebounce(
+          java.lang.Iterable<? extends com.s13g.winston.proto.Master.WriteDebounce> values) {
+        if (writeDebounceBuilder_ == null) {
+          ensureWriteDebounceIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, writeDebounce_);
+          onChanged();
+        } else {
+          writeDebounceBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public Builder clearWriteDebounce() {
+        if (writeDebounceBuilder_ == null) {
+          writeDebounce_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00100000);
+          onChanged();
+        } else {
+          writeDebounceBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public Builder removeWriteDebounce(int index) {
+        if (writeDebounceBuilder_ == null) {
+          ensureWriteDebounceIsMutable();
+          writeDebounce_.remove(index);
+          onChanged();
+        } else {
+          writeDebounceBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public com.s13g.winston.proto.Master.WriteDebounce.Builder getWriteDebounceBuilder(
+          int index) {
+        return getWriteDebounceFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public com.s13g.winston.proto.Master.WriteDebounceOrBuilder getWriteDebounceOrBuilder(
+          int index) {
+        if (writeDebounceBuilder_ == null) {
+          return writeDebounce_.get(index);  } else {
+          return writeDebounceBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public java.util.List<? extends com.s13g.winston.proto.Master.WriteDebounceOrBuilder> 
+           getWriteDebounceOrBuilderList() {
+        if (writeDebounceBuilder_ != null) {
+          return writeDebounceBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(writeDebounce_);
+        }
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public com.s13g.winston.proto.Master.WriteDebounce.Builder addWriteDebounceBuilder() {
+        return getWriteDebounceFieldBuilder().addBuilder(
+            com.s13g.winston.proto.Master.WriteDebounce.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public com.s13g.winston.proto.Master.WriteDebounce.Builder addWriteDebounceBuilder(
+          int index) {
+        return getWriteDebounceFieldBuilder().addBuilder(
+            index, com.s13g.winston.proto.Master.WriteDebounce.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Channel values whose writes wait briefly, so that quick successive writes are combined. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.WriteDebounce write_debounce = 22;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.WriteDebounce.Builder> 
+           getWriteDebounceBuilderList() {
+        return getWriteDebounceFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.WriteDebounce, com.s13g.winston.proto.Master.WriteDebounce.Builder, com.s13g.winston.proto.Master.WriteDebounceOrBuilder> 
+          getWriteDebounceFieldBuilder() {
+        if (writeDebounceBuilder_ == null) {
+          writeDebounceBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.s13g.winston.proto.Master.WriteDebounce, com.s13g.winston.proto.Master.WriteDebounce.Builder, com.s13g.winston.proto.Master.WriteDebounceOrBuilder>(
+                  writeDebounce_,
+                  ((bitField0_ & 0x00100000) == 0x00100000),
+                  getParentForChildren(),
+                  isClean());
+          writeDebounce_ = null;
+        }
+        return writeDebounceBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
       }
 
@@ -3815,131 +5601,131 @@ public final class Master {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.Module)
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.MasterConfig)
     }
 
-    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.Module)
-    private static final com.s13g.winston.proto.Master.Module DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.MasterConfig)
+    private static final com.s13g.winston.proto.Master.MasterConfig DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.Module();
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.MasterConfig();
     }
 
-    public static com.s13g.winston.proto.Master.Module getDefaultInstance() {
+    public static com.s13g.winston.proto.Master.MasterConfig getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Module>
-        PARSER = new com.google.protobuf.AbstractParser<Module>() {
+    private static final com.google.protobuf.Parser<MasterConfig>
+        PARSER = new com.google.protobuf.AbstractParser<MasterConfig>() {
       @java.lang.Override
-      public Module parsePartialFrom(
+      public MasterConfig parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Module(input, extensionRegistry);
+        return new MasterConfig(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Module> parser() {
+    public static com.google.protobuf.Parser<MasterConfig> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Module> getParserForType() {
+    public com.google.protobuf.Parser<MasterConfig> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.s13g.winston.proto.Master.Module getDefaultInstanceForType() {
+    public com.s13g.winston.proto.Master.MasterConfig getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GroupOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.Group)
+  public interface ModuleOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.Module)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * The name of this group. 
+     * The type of the module, such as "nest". 
      * </pre>
      *
-     * <code>string name = 1;</code>
+     * <code>string type = 1;</code>
      */
-    java.lang.String getName();
+    java.lang.String getType();
     /**
      * <pre>
-     * The name of this group. 
+     * The type of the module, such as "nest". 
      * </pre>
      *
-     * <code>string name = 1;</code>
+     * <code>string type = 1;</code>
      */
     com.google.protobuf.ByteString
-        getNameBytes();
+        getTypeBytes();
 
     /**
      * <pre>
-     * All the trigger actions for this group. 
+     * A number of parameters required to configure the module. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
      */
-    java.util.List<com.s13g.winston.proto.Master.GroupTrigger> 
-        getTriggerList();
+    java.util.List<com.s13g.winston.proto.Master.Channel> 
+        getChannelList();
     /**
      * <pre>
-     * All the trigger actions for this group. 
+     * A number of parameters required to configure the module. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
      */
-    com.s13g.winston.proto.Master.GroupTrigger getTrigger(int index);
+    com.s13g.winston.proto.Master.Channel getChannel(int index);
     /**
      * <pre>
-     * All the trigger actions for this group. 
+     * A number of parameters required to configure the module. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
      */
-    int getTriggerCount();
+    int getChannelCount();
     /**
      * <pre>
-     * All the trigger actions for this group. 
+     * A number of parameters required to configure the module. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
      */
-    java.util.List<? extends com.s13g.winston.proto.Master.GroupTriggerOrBuilder> 
-        getTriggerOrBuilderList();
+    java.util.List<? extends com.s13g.winston.proto.Master.ChannelOrBuilder> 
+        getChannelOrBuilderList();
     /**
      * <pre>
-     * All the trigger actions for this group. 
+     * A number of parameters required to configure the module. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
      */
-    com.s13g.winston.proto.Master.GroupTriggerOrBuilder getTriggerOrBuilder(
+    com.s13g.winston.proto.Master.ChannelOrBuilder getChannelOrBuilder(
         int index);
   }
   /**
    * <pre>
-   * A group can execute multiple actions when executed. 
+   * A module that runs on the master. E.g. a Nest or TV controller. 
    * </pre>
    *
-   * Protobuf type {@code com.s13g.winston.proto.Group}
+   * Protobuf type {@code com.s13g.winston.proto.Module}
    */
-  public  static final class Group extends
+  public  static final class Module extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.Group)
-      GroupOrBuilder {
+      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.Module)
+      ModuleOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use Group.newBuilder() to construct.
-    private Group(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use Module.newBuilder() to construct.
+    private Module(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private Group() {
-      name_ = "";
-      trigger_ = java.util.Collections.emptyList();
+    private Module() {
+      type_ = "";
+      channel_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -3947,7 +5733,7 @@ public final class Master {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private Group(
+    private Module(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3969,16 +5755,16 @@ public final class Master {
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              name_ = s;
+              type_ = s;
               break;
             }
             case 18: {
               if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                trigger_ = new java.util.ArrayList<com.s13g.winston.proto.Master.GroupTrigger>();
+                channel_ = new java.util.ArrayList<com.s13g.winston.proto.Master.Channel>();
                 mutable_bitField0_ |= 0x00000002;
               }
-              trigger_.add(
-                  input.readMessage(com.s13g.winston.proto.Master.GroupTrigger.parser(), extensionRegistry));
+              channel_.add(
+                  input.readMessage(com.s13g.winston.proto.Master.Channel.parser(), extensionRegistry));
               break;
             }
             default: {
@@ -3997,7 +5783,7 @@ public final class Master {
             e).setUnfinishedMessage(this);
       } finally {
         if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          trigger_ = java.util.Collections.unmodifiableList(trigger_);
+          channel_ = java.util.Collections.unmodifiableList(channel_);
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -4005,113 +5791,113 @@ public final class Master {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Group_descriptor;
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Module_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Group_fieldAccessorTable
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Module_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.s13g.winston.proto.Master.Group.class, com.s13g.winston.proto.Master.Group.Builder.class);
+              com.s13g.winston.proto.Master.Module.class, com.s13g.winston.proto.Master.Module.Builder.class);
     }
 
     private int bitField0_;
-    public static final int NAME_FIELD_NUMBER = 1;
-    private volatile java.lang.Object name_;
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private volatile java.lang.Object type_;
     /**
      * <pre>
-     * The name of this group. 
+     * The type of the module, such as "nest". 
      * </pre>
      *
-     * <code>string name = 1;</code>
+     * <code>string type = 1;</code>
      */
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        name_ = s;
+        type_ = s;
         return s;
       }
     }
     /**
      * <pre>
-     * The name of this group. 
+     * The type of the module, such as "nest". 
      * </pre>
      *
-     * <code>string name = 1;</code>
+     * <code>string type = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
+        getTypeBytes() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        name_ = b;
+        type_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int TRIGGER_FIELD_NUMBER = 2;
-    private java.util.List<com.s13g.winston.proto.Master.GroupTrigger> trigger_;
+    public static final int CHANNEL_FIELD_NUMBER = 2;
+    private java.util.List<com.s13g.winston.proto.Master.Channel> channel_;
     /**
      * <pre>
-     * All the trigger actions for this group. 
+     * A number of parameters required to configure the module. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
      */
-    public java.util.List<com.s13g.winston.proto.Master.GroupTrigger> getTriggerList() {
-      return trigger_;
+    public java.util.List<com.s13g.winston.proto.Master.Channel> getChannelList() {
+      return channel_;
     }
     /**
      * <pre>
-     * All the trigger actions for this group. 
+     * A number of parameters required to configure the module. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
      */
-    public java.util.List<? extends com.s13g.winston.proto.Master.GroupTriggerOrBuilder> 
-        getTriggerOrBuilderList() {
-      return trigger_;
+    public java.util.List<? extends com.s13g.winston.proto.Master.ChannelOrBuilder> 
+        getChannelOrBuilderList() {
+      return channel_;
     }
     /**
      * <pre>
-     * All the trigger actions for this group. 
+     * A number of parameters required to configure the module. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
      */
-    public int getTriggerCount() {
-      return trigger_.size();
+    public int getChannelCount() {
+      return channel_.size();
     }
     /**
      * <pre>
-     * All the trigger actions for this group. 
+     * A number of parameters required to configure the module. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
      */
-    public com.s13g.winston.proto.Master.GroupTrigger getTrigger(int index) {
-      return trigger_.get(index);
+    public com.s13g.winston.proto.Master.Channel getChannel(int index) {
+      return channel_.get(index);
     }
     /**
      * <pre>
-     * All the trigger actions for this group. 
+     * A number of parameters required to configure the module. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
      */
-    public com.s13g.winston.proto.Master.GroupTriggerOrBuilder getTriggerOrBuilder(
+    public com.s13g.winston.proto.Master.ChannelOrBuilder getChannelOrBuilder(
         int index) {
-      return trigger_.get(index);
+      return channel_.get(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -4128,11 +5914,11 @@ public final class Master {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getNameBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      if (!getTypeBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, type_);
       }
-      for (int i = 0; i < trigger_.size(); i++) {
-        output.writeMessage(2, trigger_.get(i));
+      for (int i = 0; i < channel_.size(); i++) {
+        output.writeMessage(2, channel_.get(i));
       }
       unknownFields.writeTo(output);
     }
@@ -4143,12 +5929,12 @@ public final class Master {
       if (size != -1) return size;
 
       size = 0;
-      if (!getNameBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      if (!getTypeBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, type_);
       }
-      for (int i = 0; i < trigger_.size(); i++) {
+      for (int i = 0; i < channel_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, trigger_.get(i));
+          .computeMessageSize(2, channel_.get(i));
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -4160,16 +5946,16 @@ public final class Master {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.s13g.winston.proto.Master.Group)) {
+      if (!(obj instanceof com.s13g.winston.proto.Master.Module)) {
         return super.equals(obj);
       }
-      com.s13g.winston.proto.Master.Group other = (com.s13g.winston.proto.Master.Group) obj;
+      com.s13g.winston.proto.Master.Module other = (com.s13g.winston.proto.Master.Module) obj;
 
       boolean result = true;
-      result = result && getName()
-          .equals(other.getName());
-      result = result && getTriggerList()
-          .equals(other.getTriggerList());
+      result = result && getType()
+          .equals(other.getType());
+      result = result && getChannelList()
+          .equals(other.getChannelList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -4181,80 +5967,80 @@ public final class Master {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getName().hashCode();
-      if (getTriggerCount() > 0) {
-        hash = (37 * hash) + TRIGGER_FIELD_NUMBER;
-        hash = (53 * hash) + getTriggerList().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getType().hashCode();
+      if (getChannelCount() > 0) {
+        hash = (37 * hash) + CHANNEL_FIELD_NUMBER;
+        hash = (53 * hash) + getChannelList().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.s13g.winston.proto.Master.Group parseFrom(
+    public static com.s13g.winston.proto.Master.Module parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.s13g.winston.proto.Master.Group parseFrom(
+    public static com.s13g.winston.proto.Master.Module parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.Group parseFrom(
+    public static com.s13g.winston.proto.Master.Module parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.s13g.winston.proto.Master.Group parseFrom(
+    public static com.s13g.winston.proto.Master.Module parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.Group parseFrom(byte[] data)
+    public static com.s13g.winston.proto.Master.Module parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.s13g.winston.proto.Master.Group parseFrom(
+    public static com.s13g.winston.proto.Master.Module parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.Group parseFrom(java.io.InputStream input)
+    public static com.s13g.winston.proto.Master.Module parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.s13g.winston.proto.Master.Group parseFrom(
+    public static com.s13g.winston.proto.Master.Module parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.Group parseDelimitedFrom(java.io.InputStream input)
+    public static com.s13g.winston.proto.Master.Module parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.s13g.winston.proto.Master.Group parseDelimitedFrom(
+    public static com.s13g.winston.proto.Master.Module parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.Group parseFrom(
+    public static com.s13g.winston.proto.Master.Module parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.s13g.winston.proto.Master.Group parseFrom(
+    public static com.s13g.winston.proto.Master.Module parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4267,7 +6053,7 @@ public final class Master {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.s13g.winston.proto.Master.Group prototype) {
+    public static Builder newBuilder(com.s13g.winston.proto.Master.Module prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -4284,29 +6070,29 @@ public final class Master {
     }
     /**
      * <pre>
-     * A group can execute multiple actions when executed. 
+     * A module that runs on the master. E.g. a Nest or TV controller. 
      * </pre>
      *
-     * Protobuf type {@code com.s13g.winston.proto.Group}
+     * Protobuf type {@code com.s13g.winston.proto.Module}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.Group)
-        com.s13g.winston.proto.Master.GroupOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.Module)
+        com.s13g.winston.proto.Master.ModuleOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Group_descriptor;
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Module_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Group_fieldAccessorTable
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Module_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.s13g.winston.proto.Master.Group.class, com.s13g.winston.proto.Master.Group.Builder.class);
+                com.s13g.winston.proto.Master.Module.class, com.s13g.winston.proto.Master.Module.Builder.class);
       }
 
-      // Construct using com.s13g.winston.proto.Master.Group.newBuilder()
+      // Construct using com.s13g.winston.proto.Master.Module.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4319,19 +6105,19 @@ public final class Master {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getTriggerFieldBuilder();
+          getChannelFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        name_ = "";
+        type_ = "";
 
-        if (triggerBuilder_ == null) {
-          trigger_ = java.util.Collections.emptyList();
+        if (channelBuilder_ == null) {
+          channel_ = java.util.Collections.emptyList();
           bitField0_ = (bitField0_ & ~0x00000002);
         } else {
-          triggerBuilder_.clear();
+          channelBuilder_.clear();
         }
         return this;
       }
@@ -4339,17 +6125,17 @@ public final class Master {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Group_descriptor;
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Module_descriptor;
       }
 
       @java.lang.Override
-      public com.s13g.winston.proto.Master.Group getDefaultInstanceForType() {
-        return com.s13g.winston.proto.Master.Group.getDefaultInstance();
+      public com.s13g.winston.proto.Master.Module getDefaultInstanceForType() {
+        return com.s13g.winston.proto.Master.Module.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.s13g.winston.proto.Master.Group build() {
-        com.s13g.winston.proto.Master.Group result = buildPartial();
+      public com.s13g.winston.proto.Master.Module build() {
+        com.s13g.winston.proto.Master.Module result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -4357,19 +6143,19 @@ public final class Master {
       }
 
       @java.lang.Override
-      public com.s13g.winston.proto.Master.Group buildPartial() {
-        com.s13g.winston.proto.Master.Group result = new com.s13g.winston.proto.Master.Group(this);
+      public com.s13g.winston.proto.Master.Module buildPartial() {
+        com.s13g.winston.proto.Master.Module result = new com.s13g.winston.proto.Master.Module(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        result.name_ = name_;
-        if (triggerBuilder_ == null) {
+        result.type_ = type_;
+        if (channelBuilder_ == null) {
           if (((bitField0_ & 0x00000002) == 0x00000002)) {
-            trigger_ = java.util.Collections.unmodifiableList(trigger_);
+            channel_ = java.util.Collections.unmodifiableList(channel_);
             bitField0_ = (bitField0_ & ~0x00000002);
           }
-          result.trigger_ = trigger_;
+          result.channel_ = channel_;
         } else {
-          result.trigger_ = triggerBuilder_.build();
+          result.channel_ = channelBuilder_.build();
         }
         result.bitField0_ = to_bitField0_;
         onBuilt();
@@ -4410,43 +6196,43 @@ public final class Master {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.s13g.winston.proto.Master.Group) {
-          return mergeFrom((com.s13g.winston.proto.Master.Group)other);
-        } else {
+        if (other instanceof com.s13g.winston.proto.Master.Module) {
+          return mergeFrom((com.s13g.winston.proto.Master.Module)other);
+        } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.s13g.winston.proto.Master.Group other) {
-        if (other == com.s13g.winston.proto.Master.Group.getDefaultInstance()) return this;
-        if (!other.getName().isEmpty()) {
-          name_ = other.name_;
+      public Builder mergeFrom(com.s13g.winston.proto.Master.Module other) {
+        if (other == com.s13g.winston.proto.Master.Module.getDefaultInstance()) return this;
+        if (!other.getType().isEmpty()) {
+          type_ = other.type_;
           onChanged();
         }
-        if (triggerBuilder_ == null) {
-          if (!other.trigger_.isEmpty()) {
-            if (trigger_.isEmpty()) {
-              trigger_ = other.trigger_;
+        if (channelBuilder_ == null) {
+          if (!other.channel_.isEmpty()) {
+            if (channel_.isEmpty()) {
+              channel_ = other.channel_;
               bitField0_ = (bitField0_ & ~0x00000002);
             } else {
-              ensureTriggerIsMutable();
-              trigger_.addAll(other.trigger_);
+              ensureChannelIsMutable();
+              channel_.addAll(other.channel_);
             }
             onChanged();
           }
         } else {
-          if (!other.trigger_.isEmpty()) {
-            if (triggerBuilder_.isEmpty()) {
-              triggerBuilder_.dispose();
-              triggerBuilder_ = null;
-              trigger_ = other.trigger_;
+          if (!other.channel_.isEmpty()) {
+            if (channelBuilder_.isEmpty()) {
+              channelBuilder_.dispose();
+              channelBuilder_ = null;
+              channel_ = other.channel_;
               bitField0_ = (bitField0_ & ~0x00000002);
-              triggerBuilder_ = 
+              channelBuilder_ = 
                 com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getTriggerFieldBuilder() : null;
+                   getChannelFieldBuilder() : null;
             } else {
-              triggerBuilder_.addAllMessages(other.trigger_);
+              channelBuilder_.addAllMessages(other.channel_);
             }
           }
         }
@@ -4465,11 +6251,11 @@ public final class Master {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.s13g.winston.proto.Master.Group parsedMessage = null;
+        com.s13g.winston.proto.Master.Module parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.s13g.winston.proto.Master.Group) e.getUnfinishedMessage();
+          parsedMessage = (com.s13g.winston.proto.Master.Module) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4480,21 +6266,21 @@ public final class Master {
       }
       private int bitField0_;
 
-      private java.lang.Object name_ = "";
+      private java.lang.Object type_ = "";
       /**
        * <pre>
-       * The name of this group. 
+       * The type of the module, such as "nest". 
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string type = 1;</code>
        */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          name_ = s;
+          type_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
@@ -4502,19 +6288,19 @@ public final class Master {
       }
       /**
        * <pre>
-       * The name of this group. 
+       * The type of the module, such as "nest". 
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string type = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
+          getTypeBytes() {
+        java.lang.Object ref = type_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          name_ = b;
+          type_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
@@ -4522,363 +6308,363 @@ public final class Master {
       }
       /**
        * <pre>
-       * The name of this group. 
+       * The type of the module, such as "nest". 
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string type = 1;</code>
        */
-      public Builder setName(
+      public Builder setType(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        name_ = value;
+        type_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * The name of this group. 
+       * The type of the module, such as "nest". 
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string type = 1;</code>
        */
-      public Builder clearName() {
+      public Builder clearType() {
         
-        name_ = getDefaultInstance().getName();
+        type_ = getDefaultInstance().getType();
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * The name of this group. 
+       * The type of the module, such as "nest". 
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string type = 1;</code>
        */
-      public Builder setNameBytes(
+      public Builder setTypeBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        name_ = value;
+        type_ = value;
         onChanged();
         return this;
       }
 
-      private java.util.List<com.s13g.winston.proto.Master.GroupTrigger> trigger_ =
+      private java.util.List<com.s13g.winston.proto.Master.Channel> channel_ =
         java.util.Collections.emptyList();
-      private void ensureTriggerIsMutable() {
+      private void ensureChannelIsMutable() {
         if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          trigger_ = new java.util.ArrayList<com.s13g.winston.proto.Master.GroupTrigger>(trigger_);
+          channel_ = new java.util.ArrayList<com.s13g.winston.proto.Master.Channel>(channel_);
           bitField0_ |= 0x00000002;
          }
       }
 
       private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.s13g.winston.proto.Master.GroupTrigger, com.s13g.winston.proto.Master.GroupTrigger.Builder, com.s13g.winston.proto.Master.GroupTriggerOrBuilder> triggerBuilder_;
+          com.s13g.winston.proto.Master.Channel, com.s13g.winston.proto.Master.Channel.Builder, com.s13g.winston.proto.Master.ChannelOrBuilder> channelBuilder_;
 
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public java.util.List<com.s13g.winston.proto.Master.GroupTrigger> getTriggerList() {
-        if (triggerBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(trigger_);
+      public java.util.List<com.s13g.winston.proto.Master.Channel> getChannelList() {
+        if (channelBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(channel_);
         } else {
-          return triggerBuilder_.getMessageList();
+          return channelBuilder_.getMessageList();
         }
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public int getTriggerCount() {
-        if (triggerBuilder_ == null) {
-          return trigger_.size();
+      public int getChannelCount() {
+        if (channelBuilder_ == null) {
+          return channel_.size();
         } else {
-          return triggerBuilder_.getCount();
+          return channelBuilder_.getCount();
         }
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public com.s13g.winston.proto.Master.GroupTrigger getTrigger(int index) {
-        if (triggerBuilder_ == null) {
-          return trigger_.get(index);
+      public com.s13g.winston.proto.Master.Channel getChannel(int index) {
+        if (channelBuilder_ == null) {
+          return channel_.get(index);
         } else {
-          return triggerBuilder_.getMessage(index);
+          return channelBuilder_.getMessage(index);
         }
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public Builder setTrigger(
-          int index, com.s13g.winston.proto.Master.GroupTrigger value) {
-        if (triggerBuilder_ == null) {
+      public Builder setChannel(
+          int index, com.s13g.winston.proto.Master.Channel value) {
+        if (channelBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureTriggerIsMutable();
-          trigger_.set(index, value);
+          ensureChannelIsMutable();
+          channel_.set(index, value);
           onChanged();
         } else {
-          triggerBuilder_.setMessage(index, value);
+          channelBuilder_.setMessage(index, value);
         }
         return this;
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public Builder setTrigger(
-          int index, com.s13g.winston.proto.Master.GroupTrigger.Builder builderForValue) {
-        if (triggerBuilder_ == null) {
-          ensureTriggerIsMutable();
-          trigger_.set(index, builderForValue.build());
+      public Builder setChannel(
+          int index, com.s13g.winston.proto.Master.Channel.Builder builderForValue) {
+        if (channelBuilder_ == null) {
+          ensureChannelIsMutable();
+          channel_.set(index, builderForValue.build());
           onChanged();
         } else {
-          triggerBuilder_.setMessage(index, builderForValue.build());
+          channelBuilder_.setMessage(index, builderForValue.build());
         }
         return this;
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public Builder addTrigger(com.s13g.winston.proto.Master.GroupTrigger value) {
-        if (triggerBuilder_ == null) {
+      public Builder addChannel(com.s13g.winston.proto.Master.Channel value) {
+        if (channelBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureTriggerIsMutable();
-          trigger_.add(value);
+          ensureChannelIsMutable();
+          channel_.add(value);
           onChanged();
         } else {
-          triggerBuilder_.addMessage(value);
+          channelBuilder_.addMessage(value);
         }
         return this;
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public Builder addTrigger(
-          int index, com.s13g.winston.proto.Master.GroupTrigger value) {
-        if (triggerBuilder_ == null) {
+      public Builder addChannel(
+          int index, com.s13g.winston.proto.Master.Channel value) {
+        if (channelBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureTriggerIsMutable();
-          trigger_.add(index, value);
+          ensureChannelIsMutable();
+          channel_.add(index, value);
           onChanged();
         } else {
-          triggerBuilder_.addMessage(index, value);
+          channelBuilder_.addMessage(index, value);
         }
         return this;
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public Builder addTrigger(
-          com.s13g.winston.proto.Master.GroupTrigger.Builder builderForValue) {
-        if (triggerBuilder_ == null) {
-          ensureTriggerIsMutable();
-          trigger_.add(builderForValue.build());
+      public Builder addChannel(
+          com.s13g.winston.proto.Master.Channel.Builder builderForValue) {
+        if (channelBuilder_ == null) {
+          ensureChannelIsMutable();
+          channel_.add(builderForValue.build());
           onChanged();
         } else {
-          triggerBuilder_.addMessage(builderForValue.build());
+          channelBuilder_.addMessage(builderForValue.build());
         }
         return this;
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public Builder addTrigger(
-          int index, com.s13g.winston.proto.Master.GroupTrigger.Builder builderForValue) {
-        if (triggerBuilder_ == null) {
-          ensureTriggerIsMutable();
-          trigger_.add(index, builderForValue.build());
+      public Builder addChannel(
+          int index, com.s13g.winston.proto.Master.Channel.Builder builderForValue) {
+        if (channelBuilder_ == null) {
+          ensureChannelIsMutable();
+          channel_.add(index, builderForValue.build());
           onChanged();
         } else {
-          triggerBuilder_.addMessage(index, builderForValue.build());
+          channelBuilder_.addMessage(index, builderForValue.build());
         }
         return this;
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public Builder addAllTrigger(
-          java.lang.Iterable<? extends com.s13g.winston.proto.Master.GroupTrigger> values) {
-        if (triggerBuilder_ == null) {
-          ensureTriggerIsMutable();
+      public Builder addAllChannel(
+          java.lang.Iterable<? extends com.s13g.winston.proto.Master.Channel> values) {
+        if (channelBuilder_ == null) {
+          ensureChannelIsMutable();
           com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, trigger_);
+              values, channel_);
           onChanged();
         } else {
-          triggerBuilder_.addAllMessages(values);
+          channelBuilder_.addAllMessages(values);
         }
         return this;
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public Builder clearTrigger() {
-        if (triggerBuilder_ == null) {
-          trigger_ = java.util.Collections.emptyList();
+      public Builder clearChannel() {
+        if (channelBuilder_ == null) {
+          channel_ = java.util.Collections.emptyList();
           bitField0_ = (bitField0_ & ~0x00000002);
           onChanged();
         } else {
-          triggerBuilder_.clear();
+          channelBuilder_.clear();
         }
         return this;
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public Builder removeTrigger(int index) {
-        if (triggerBuilder_ == null) {
-          ensureTriggerIsMutable();
-          trigger_.remove(index);
+      public Builder removeChannel(int index) {
+        if (channelBuilder_ == null) {
+          ensureChannelIsMutable();
+          channel_.remove(index);
           onChanged();
         } else {
-          triggerBuilder_.remove(index);
+          channelBuilder_.remove(index);
         }
         return this;
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public com.s13g.winston.proto.Master.GroupTrigger.Builder getTriggerBuilder(
+      public com.s13g.winston.proto.Master.Channel.Builder getChannelBuilder(
           int index) {
-        return getTriggerFieldBuilder().getBuilder(index);
+        return getChannelFieldBuilder().getBuilder(index);
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public com.s13g.winston.proto.Master.GroupTriggerOrBuilder getTriggerOrBuilder(
+      public com.s13g.winston.proto.Master.ChannelOrBuilder getChannelOrBuilder(
           int index) {
-        if (triggerBuilder_ == null) {
-          return trigger_.get(index);  } else {
-          return triggerBuilder_.getMessageOrBuilder(index);
+        if (channelBuilder_ == null) {
+          return channel_.get(index);  } else {
+          return channelBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public java.util.List<? extends com.s13g.winston.proto.Master.GroupTriggerOrBuilder> 
-           getTriggerOrBuilderList() {
-        if (triggerBuilder_ != null) {
-          return triggerBuilder_.getMessageOrBuilderList();
+      public java.util.List<? extends com.s13g.winston.proto.Master.ChannelOrBuilder> 
+           getChannelOrBuilderList() {
+        if (channelBuilder_ != null) {
+          return channelBuilder_.getMessageOrBuilderList();
         } else {
-          return java.util.Collections.unmodifiableList(trigger_);
+          return java.util.Collections.unmodifiableList(channel_);
         }
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public com.s13g.winston.proto.Master.GroupTrigger.Builder addTriggerBuilder() {
-        return getTriggerFieldBuilder().addBuilder(
-            com.s13g.winston.proto.Master.GroupTrigger.getDefaultInstance());
+      public com.s13g.winston.proto.Master.Channel.Builder addChannelBuilder() {
+        return getChannelFieldBuilder().addBuilder(
+            com.s13g.winston.proto.Master.Channel.getDefaultInstance());
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public com.s13g.winston.proto.Master.GroupTrigger.Builder addTriggerBuilder(
+      public com.s13g.winston.proto.Master.Channel.Builder addChannelBuilder(
           int index) {
-        return getTriggerFieldBuilder().addBuilder(
-            index, com.s13g.winston.proto.Master.GroupTrigger.getDefaultInstance());
+        return getChannelFieldBuilder().addBuilder(
+            index, com.s13g.winston.proto.Master.Channel.getDefaultInstance());
       }
       /**
        * <pre>
-       * All the trigger actions for this group. 
+       * A number of parameters required to configure the module. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.Channel channel = 2;</code>
        */
-      public java.util.List<com.s13g.winston.proto.Master.GroupTrigger.Builder> 
-           getTriggerBuilderList() {
-        return getTriggerFieldBuilder().getBuilderList();
+      public java.util.List<com.s13g.winston.proto.Master.Channel.Builder> 
+           getChannelBuilderList() {
+        return getChannelFieldBuilder().getBuilderList();
       }
       private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.s13g.winston.proto.Master.GroupTrigger, com.s13g.winston.proto.Master.GroupTrigger.Builder, com.s13g.winston.proto.Master.GroupTriggerOrBuilder> 
-          getTriggerFieldBuilder() {
-        if (triggerBuilder_ == null) {
-          triggerBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              com.s13g.winston.proto.Master.GroupTrigger, com.s13g.winston.proto.Master.GroupTrigger.Builder, com.s13g.winston.proto.Master.GroupTriggerOrBuilder>(
-                  trigger_,
+          com.s13g.winston.proto.Master.Channel, com.s13g.winston.proto.Master.Channel.Builder, com.s13g.winston.proto.Master.ChannelOrBuilder> 
+          getChannelFieldBuilder() {
+        if (channelBuilder_ == null) {
+          channelBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.s13g.winston.proto.Master.Channel, com.s13g.winston.proto.Master.Channel.Builder, com.s13g.winston.proto.Master.ChannelOrBuilder>(
+                  channel_,
                   ((bitField0_ & 0x00000002) == 0x00000002),
                   getParentForChildren(),
                   isClean());
-          trigger_ = null;
+          channel_ = null;
         }
-        return triggerBuilder_;
+        return channelBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -4893,139 +6679,131 @@ public final class Master {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.Group)
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.Module)
     }
 
-    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.Group)
-    private static final com.s13g.winston.proto.Master.Group DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.Module)
+    private static final com.s13g.winston.proto.Master.Module DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.Group();
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.Module();
     }
 
-    public static com.s13g.winston.proto.Master.Group getDefaultInstance() {
+    public static com.s13g.winston.proto.Master.Module getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Group>
-        PARSER = new com.google.protobuf.AbstractParser<Group>() {
+    private static final com.google.protobuf.Parser<Module>
+        PARSER = new com.google.protobuf.AbstractParser<Module>() {
       @java.lang.Override
-      public Group parsePartialFrom(
+      public Module parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Group(input, extensionRegistry);
+        return new Module(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Group> parser() {
+    public static com.google.protobuf.Parser<Module> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Group> getParserForType() {
+    public com.google.protobuf.Parser<Module> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.s13g.winston.proto.Master.Group getDefaultInstanceForType() {
+    public com.s13g.winston.proto.Master.Module getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GroupTriggerOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.GroupTrigger)
+  public interface GroupOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.Group)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * The input values that trigger the actions. 
-     * </pre>
-     *
-     * <code>repeated string input = 1;</code>
-     */
-    java.util.List<java.lang.String>
-        getInputList();
-    /**
-     * <pre>
-     * The input values that trigger the actions. 
+     * The name of this group. 
      * </pre>
      *
-     * <code>repeated string input = 1;</code>
+     * <code>string name = 1;</code>
      */
-    int getInputCount();
+    java.lang.String getName();
     /**
      * <pre>
-     * The input values that trigger the actions. 
+     * The name of this group. 
      * </pre>
      *
-     * <code>repeated string input = 1;</code>
+     * <code>string name = 1;</code>
      */
-    java.lang.String getInput(int index);
+    com.google.protobuf.ByteString
+        getNameBytes();
+
     /**
      * <pre>
-     * The input values that trigger the actions. 
+     * All the trigger actions for this group. 
      * </pre>
      *
-     * <code>repeated string input = 1;</code>
+     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getInputBytes(int index);
-
+    java.util.List<com.s13g.winston.proto.Master.GroupTrigger> 
+        getTriggerList();
     /**
      * <pre>
-     * The actions to execute when the input matches. 
+     * All the trigger actions for this group. 
      * </pre>
      *
-     * <code>repeated string action = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
      */
-    java.util.List<java.lang.String>
-        getActionList();
+    com.s13g.winston.proto.Master.GroupTrigger getTrigger(int index);
     /**
      * <pre>
-     * The actions to execute when the input matches. 
+     * All the trigger actions for this group. 
      * </pre>
      *
-     * <code>repeated string action = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
      */
-    int getActionCount();
+    int getTriggerCount();
     /**
      * <pre>
-     * The actions to execute when the input matches. 
+     * All the trigger actions for this group. 
      * </pre>
      *
-     * <code>repeated string action = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
      */
-    java.lang.String getAction(int index);
+    java.util.List<? extends com.s13g.winston.proto.Master.GroupTriggerOrBuilder> 
+        getTriggerOrBuilderList();
     /**
      * <pre>
-     * The actions to execute when the input matches. 
+     * All the trigger actions for this group. 
      * </pre>
      *
-     * <code>repeated string action = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getActionBytes(int index);
+    com.s13g.winston.proto.Master.GroupTriggerOrBuilder getTriggerOrBuilder(
+        int index);
   }
   /**
    * <pre>
-   * A group trigger fires the given actions when the input is given. 
+   * A group can execute multiple actions when executed. 
    * </pre>
    *
-   * Protobuf type {@code com.s13g.winston.proto.GroupTrigger}
+   * Protobuf type {@code com.s13g.winston.proto.Group}
    */
-  public  static final class GroupTrigger extends
+  public  static final class Group extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.GroupTrigger)
-      GroupTriggerOrBuilder {
+      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.Group)
+      GroupOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GroupTrigger.newBuilder() to construct.
-    private GroupTrigger(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use Group.newBuilder() to construct.
+    private Group(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GroupTrigger() {
-      input_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      action_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private Group() {
+      name_ = "";
+      trigger_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -5033,7 +6811,7 @@ public final class Master {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GroupTrigger(
+    private Group(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5054,20 +6832,17 @@ public final class Master {
               break;
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                input_ = new com.google.protobuf.LazyStringArrayList();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              input_.add(s);
+
+              name_ = s;
               break;
             }
             case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
               if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                action_ = new com.google.protobuf.LazyStringArrayList();
+                trigger_ = new java.util.ArrayList<com.s13g.winston.proto.Master.GroupTrigger>();
                 mutable_bitField0_ |= 0x00000002;
               }
-              action_.add(s);
+              trigger_.add(
+                  input.readMessage(com.s13g.winston.proto.Master.GroupTrigger.parser(), extensionRegistry));
               break;
             }
             default: {
@@ -5085,11 +6860,8 @@ public final class Master {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          input_ = input_.getUnmodifiableView();
-        }
         if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          action_ = action_.getUnmodifiableView();
+          trigger_ = java.util.Collections.unmodifiableList(trigger_);
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -5097,105 +6869,113 @@ public final class Master {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_GroupTrigger_descriptor;
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Group_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_GroupTrigger_fieldAccessorTable
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Group_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.s13g.winston.proto.Master.GroupTrigger.class, com.s13g.winston.proto.Master.GroupTrigger.Builder.class);
+              com.s13g.winston.proto.Master.Group.class, com.s13g.winston.proto.Master.Group.Builder.class);
     }
 
-    public static final int INPUT_FIELD_NUMBER = 1;
-    private com.google.protobuf.LazyStringList input_;
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
     /**
      * <pre>
-     * The input values that trigger the actions. 
+     * The name of this group. 
      * </pre>
      *
-     * <code>repeated string input = 1;</code>
+     * <code>string name = 1;</code>
      */
-    public com.google.protobuf.ProtocolStringList
-        getInputList() {
-      return input_;
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
     }
     /**
      * <pre>
-     * The input values that trigger the actions. 
+     * The name of this group. 
      * </pre>
      *
-     * <code>repeated string input = 1;</code>
+     * <code>string name = 1;</code>
      */
-    public int getInputCount() {
-      return input_.size();
-    }
-    /**
-     * <pre>
-     * The input values that trigger the actions. 
-     * </pre>
-     *
-     * <code>repeated string input = 1;</code>
-     */
-    public java.lang.String getInput(int index) {
-      return input_.get(index);
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
+
+    public static final int TRIGGER_FIELD_NUMBER = 2;
+    private java.util.List<com.s13g.winston.proto.Master.GroupTrigger> trigger_;
     /**
      * <pre>
-     * The input values that trigger the actions. 
+     * All the trigger actions for this group. 
      * </pre>
      *
-     * <code>repeated string input = 1;</code>
+     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getInputBytes(int index) {
-      return input_.getByteString(index);
+    public java.util.List<com.s13g.winston.proto.Master.GroupTrigger> getTriggerList() {
+      return trigger_;
     }
-
-    public static final int ACTION_FIELD_NUMBER = 2;
-    private com.google.protobuf.LazyStringList action_;
     /**
      * <pre>
-     * The actions to execute when the input matches. 
+     * All the trigger actions for this group. 
      * </pre>
      *
-     * <code>repeated string action = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
      */
-    public com.google.protobuf.ProtocolStringList
-        getActionList() {
-      return action_;
+    public java.util.List<? extends com.s13g.winston.proto.Master.GroupTriggerOrBuilder> 
+        getTriggerOrBuilderList() {
+      return trigger_;
     }
     /**
      * <pre>
-     * The actions to execute when the input matches. 
+     * All the trigger actions for this group. 
      * </pre>
      *
-     * <code>repeated string action = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
      */
-    public int getActionCount() {
-      return action_.size();
+    public int getTriggerCount() {
+      return trigger_.size();
     }
     /**
      * <pre>
-     * The actions to execute when the input matches. 
+     * All the trigger actions for this group. 
      * </pre>
      *
-     * <code>repeated string action = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
      */
-    public java.lang.String getAction(int index) {
-      return action_.get(index);
+    public com.s13g.winston.proto.Master.GroupTrigger getTrigger(int index) {
+      return trigger_.get(index);
     }
     /**
      * <pre>
-     * The actions to execute when the input matches. 
+     * All the trigger actions for this group. 
      * </pre>
      *
-     * <code>repeated string action = 2;</code>
+     * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getActionBytes(int index) {
-      return action_.getByteString(index);
+    public com.s13g.winston.proto.Master.GroupTriggerOrBuilder getTriggerOrBuilder(
+        int index) {
+      return trigger_.get(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -5212,11 +6992,11 @@ public final class Master {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < input_.size(); i++) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, input_.getRaw(i));
+      if (!getNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
       }
-      for (int i = 0; i < action_.size(); i++) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, action_.getRaw(i));
+      for (int i = 0; i < trigger_.size(); i++) {
+        output.writeMessage(2, trigger_.get(i));
       }
       unknownFields.writeTo(output);
     }
@@ -5227,21 +7007,12 @@ public final class Master {
       if (size != -1) return size;
 
       size = 0;
-      {
-        int dataSize = 0;
-        for (int i = 0; i < input_.size(); i++) {
-          dataSize += computeStringSizeNoTag(input_.getRaw(i));
-        }
-        size += dataSize;
-        size += 1 * getInputList().size();
+      if (!getNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
       }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < action_.size(); i++) {
-          dataSize += computeStringSizeNoTag(action_.getRaw(i));
-        }
-        size += dataSize;
-        size += 1 * getActionList().size();
+      for (int i = 0; i < trigger_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, trigger_.get(i));
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -5253,16 +7024,16 @@ public final class Master {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.s13g.winston.proto.Master.GroupTrigger)) {
+      if (!(obj instanceof com.s13g.winston.proto.Master.Group)) {
         return super.equals(obj);
       }
-      com.s13g.winston.proto.Master.GroupTrigger other = (com.s13g.winston.proto.Master.GroupTrigger) obj;
+      com.s13g.winston.proto.Master.Group other = (com.s13g.winston.proto.Master.Group) obj;
 
       boolean result = true;
-      result = result && getInputList()
-          .equals(other.getInputList());
-      result = result && getActionList()
-          .equals(other.getActionList());
+      result = result && getName()
+          .equals(other.getName());
+      result = result && getTriggerList()
+          .equals(other.getTriggerList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -5274,82 +7045,80 @@ public final class Master {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (getInputCount() > 0) {
-        hash = (37 * hash) + INPUT_FIELD_NUMBER;
-        hash = (53 * hash) + getInputList().hashCode();
-      }
-      if (getActionCount() > 0) {
-        hash = (37 * hash) + ACTION_FIELD_NUMBER;
-        hash = (53 * hash) + getActionList().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      if (getTriggerCount() > 0) {
+        hash = (37 * hash) + TRIGGER_FIELD_NUMBER;
+        hash = (53 * hash) + getTriggerList().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+    public static com.s13g.winston.proto.Master.Group parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+    public static com.s13g.winston.proto.Master.Group parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+    public static com.s13g.winston.proto.Master.Group parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+    public static com.s13g.winston.proto.Master.Group parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(byte[] data)
+    public static com.s13g.winston.proto.Master.Group parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+    public static com.s13g.winston.proto.Master.Group parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(java.io.InputStream input)
+    public static com.s13g.winston.proto.Master.Group parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+    public static com.s13g.winston.proto.Master.Group parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.GroupTrigger parseDelimitedFrom(java.io.InputStream input)
+    public static com.s13g.winston.proto.Master.Group parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.s13g.winston.proto.Master.GroupTrigger parseDelimitedFrom(
+    public static com.s13g.winston.proto.Master.Group parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+    public static com.s13g.winston.proto.Master.Group parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+    public static com.s13g.winston.proto.Master.Group parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5362,7 +7131,7 @@ public final class Master {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.s13g.winston.proto.Master.GroupTrigger prototype) {
+    public static Builder newBuilder(com.s13g.winston.proto.Master.Group prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -5379,29 +7148,29 @@ public final class Master {
     }
     /**
      * <pre>
-     * A group trigger fires the given actions when the input is given. 
+     * A group can execute multiple actions when executed. 
      * </pre>
      *
-     * Protobuf type {@code com.s13g.winston.proto.GroupTrigger}
+     * Protobuf type {@code com.s13g.winston.proto.Group}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.GroupTrigger)
-        com.s13g.winston.proto.Master.GroupTriggerOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.Group)
+        com.s13g.winston.proto.Master.GroupOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_GroupTrigger_descriptor;
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Group_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_GroupTrigger_fieldAccessorTable
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Group_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.s13g.winston.proto.Master.GroupTrigger.class, com.s13g.winston.proto.Master.GroupTrigger.Builder.class);
+                com.s13g.winston.proto.Master.Group.class, com.s13g.winston.proto.Master.Group.Builder.class);
       }
 
-      // Construct using com.s13g.winston.proto.Master.GroupTrigger.newBuilder()
+      // Construct using com.s13g.winston.proto.Master.Group.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5414,32 +7183,37 @@ public final class Master {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getTriggerFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        input_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000001);
-        action_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000002);
+        name_ = "";
+
+        if (triggerBuilder_ == null) {
+          trigger_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          triggerBuilder_.clear();
+        }
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_GroupTrigger_descriptor;
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Group_descriptor;
       }
 
       @java.lang.Override
-      public com.s13g.winston.proto.Master.GroupTrigger getDefaultInstanceForType() {
-        return com.s13g.winston.proto.Master.GroupTrigger.getDefaultInstance();
+      public com.s13g.winston.proto.Master.Group getDefaultInstanceForType() {
+        return com.s13g.winston.proto.Master.Group.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.s13g.winston.proto.Master.GroupTrigger build() {
-        com.s13g.winston.proto.Master.GroupTrigger result = buildPartial();
+      public com.s13g.winston.proto.Master.Group build() {
+        com.s13g.winston.proto.Master.Group result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -5447,19 +7221,21 @@ public final class Master {
       }
 
       @java.lang.Override
-      public com.s13g.winston.proto.Master.GroupTrigger buildPartial() {
-        com.s13g.winston.proto.Master.GroupTrigger result = new com.s13g.winston.proto.Master.GroupTrigger(this);
+      public com.s13g.winston.proto.Master.Group buildPartial() {
+        com.s13g.winston.proto.Master.Group result = new com.s13g.winston.proto.Master.Group(this);
         int from_bitField0_ = bitField0_;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          input_ = input_.getUnmodifiableView();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        }
-        result.input_ = input_;
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          action_ = action_.getUnmodifiableView();
-          bitField0_ = (bitField0_ & ~0x00000002);
+        int to_bitField0_ = 0;
+        result.name_ = name_;
+        if (triggerBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            trigger_ = java.util.Collections.unmodifiableList(trigger_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.trigger_ = trigger_;
+        } else {
+          result.trigger_ = triggerBuilder_.build();
         }
-        result.action_ = action_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -5498,42 +7274,52 @@ public final class Master {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.s13g.winston.proto.Master.GroupTrigger) {
-          return mergeFrom((com.s13g.winston.proto.Master.GroupTrigger)other);
+        if (other instanceof com.s13g.winston.proto.Master.Group) {
+          return mergeFrom((com.s13g.winston.proto.Master.Group)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.s13g.winston.proto.Master.GroupTrigger other) {
-        if (other == com.s13g.winston.proto.Master.GroupTrigger.getDefaultInstance()) return this;
-        if (!other.input_.isEmpty()) {
-          if (input_.isEmpty()) {
-            input_ = other.input_;
-            bitField0_ = (bitField0_ & ~0x00000001);
-          } else {
-            ensureInputIsMutable();
-            input_.addAll(other.input_);
-          }
+      public Builder mergeFrom(com.s13g.winston.proto.Master.Group other) {
+        if (other == com.s13g.winston.proto.Master.Group.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
           onChanged();
         }
-        if (!other.action_.isEmpty()) {
-          if (action_.isEmpty()) {
-            action_ = other.action_;
-            bitField0_ = (bitField0_ & ~0x00000002);
-          } else {
-            ensureActionIsMutable();
-            action_.addAll(other.action_);
+        if (triggerBuilder_ == null) {
+          if (!other.trigger_.isEmpty()) {
+            if (trigger_.isEmpty()) {
+              trigger_ = other.trigger_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureTriggerIsMutable();
+              trigger_.addAll(other.trigger_);
+            }
+            onChanged();
           }
-          onChanged();
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
+        } else {
+          if (!other.trigger_.isEmpty()) {
+            if (triggerBuilder_.isEmpty()) {
+              triggerBuilder_.dispose();
+              triggerBuilder_ = null;
+              trigger_ = other.trigger_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              triggerBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTriggerFieldBuilder() : null;
+            } else {
+              triggerBuilder_.addAllMessages(other.trigger_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
       public final boolean isInitialized() {
         return true;
       }
@@ -5543,11 +7329,11 @@ public final class Master {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.s13g.winston.proto.Master.GroupTrigger parsedMessage = null;
+        com.s13g.winston.proto.Master.Group parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.s13g.winston.proto.Master.GroupTrigger) e.getUnfinishedMessage();
+          parsedMessage = (com.s13g.winston.proto.Master.Group) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -5558,265 +7344,406 @@ public final class Master {
       }
       private int bitField0_;
 
-      private com.google.protobuf.LazyStringList input_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      private void ensureInputIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          input_ = new com.google.protobuf.LazyStringArrayList(input_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-      /**
-       * <pre>
-       * The input values that trigger the actions. 
-       * </pre>
-       *
-       * <code>repeated string input = 1;</code>
-       */
-      public com.google.protobuf.ProtocolStringList
-          getInputList() {
-        return input_.getUnmodifiableView();
-      }
-      /**
-       * <pre>
-       * The input values that trigger the actions. 
-       * </pre>
-       *
-       * <code>repeated string input = 1;</code>
-       */
-      public int getInputCount() {
-        return input_.size();
-      }
+      private java.lang.Object name_ = "";
       /**
        * <pre>
-       * The input values that trigger the actions. 
+       * The name of this group. 
        * </pre>
        *
-       * <code>repeated string input = 1;</code>
+       * <code>string name = 1;</code>
        */
-      public java.lang.String getInput(int index) {
-        return input_.get(index);
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
        * <pre>
-       * The input values that trigger the actions. 
+       * The name of this group. 
        * </pre>
        *
-       * <code>repeated string input = 1;</code>
+       * <code>string name = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getInputBytes(int index) {
-        return input_.getByteString(index);
-      }
-      /**
-       * <pre>
-       * The input values that trigger the actions. 
-       * </pre>
-       *
-       * <code>repeated string input = 1;</code>
-       */
-      public Builder setInput(
-          int index, java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureInputIsMutable();
-        input_.set(index, value);
-        onChanged();
-        return this;
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
       }
       /**
        * <pre>
-       * The input values that trigger the actions. 
+       * The name of this group. 
        * </pre>
        *
-       * <code>repeated string input = 1;</code>
+       * <code>string name = 1;</code>
        */
-      public Builder addInput(
+      public Builder setName(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  ensureInputIsMutable();
-        input_.add(value);
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * The input values that trigger the actions. 
-       * </pre>
-       *
-       * <code>repeated string input = 1;</code>
-       */
-      public Builder addAllInput(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureInputIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, input_);
+  
+        name_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * The input values that trigger the actions. 
+       * The name of this group. 
        * </pre>
        *
-       * <code>repeated string input = 1;</code>
+       * <code>string name = 1;</code>
        */
-      public Builder clearInput() {
-        input_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000001);
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * The input values that trigger the actions. 
+       * The name of this group. 
        * </pre>
        *
-       * <code>repeated string input = 1;</code>
+       * <code>string name = 1;</code>
        */
-      public Builder addInputBytes(
+      public Builder setNameBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
-        ensureInputIsMutable();
-        input_.add(value);
+        
+        name_ = value;
         onChanged();
         return this;
       }
 
-      private com.google.protobuf.LazyStringList action_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      private void ensureActionIsMutable() {
+      private java.util.List<com.s13g.winston.proto.Master.GroupTrigger> trigger_ =
+        java.util.Collections.emptyList();
+      private void ensureTriggerIsMutable() {
         if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          action_ = new com.google.protobuf.LazyStringArrayList(action_);
+          trigger_ = new java.util.ArrayList<com.s13g.winston.proto.Master.GroupTrigger>(trigger_);
           bitField0_ |= 0x00000002;
          }
       }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.GroupTrigger, com.s13g.winston.proto.Master.GroupTrigger.Builder, com.s13g.winston.proto.Master.GroupTriggerOrBuilder> triggerBuilder_;
+
       /**
        * <pre>
-       * The actions to execute when the input matches. 
-       * </pre>
-       *
-       * <code>repeated string action = 2;</code>
-       */
-      public com.google.protobuf.ProtocolStringList
-          getActionList() {
-        return action_.getUnmodifiableView();
-      }
-      /**
-       * <pre>
-       * The actions to execute when the input matches. 
+       * All the trigger actions for this group. 
        * </pre>
        *
-       * <code>repeated string action = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
        */
-      public int getActionCount() {
-        return action_.size();
+      public java.util.List<com.s13g.winston.proto.Master.GroupTrigger> getTriggerList() {
+        if (triggerBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(trigger_);
+        } else {
+          return triggerBuilder_.getMessageList();
+        }
       }
       /**
        * <pre>
-       * The actions to execute when the input matches. 
+       * All the trigger actions for this group. 
        * </pre>
        *
-       * <code>repeated string action = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
        */
-      public java.lang.String getAction(int index) {
-        return action_.get(index);
+      public int getTriggerCount() {
+        if (triggerBuilder_ == null) {
+          return trigger_.size();
+        } else {
+          return triggerBuilder_.getCount();
+        }
       }
       /**
        * <pre>
-       * The actions to execute when the input matches. 
+       * All the trigger actions for this group. 
        * </pre>
        *
-       * <code>repeated string action = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
        */
-      public com.google.protobuf.ByteString
-          getActionBytes(int index) {
-        return action_.getByteString(index);
+      public com.s13g.winston.proto.Master.GroupTrigger getTrigger(int index) {
+        if (triggerBuilder_ == null) {
+          return trigger_.get(index);
+        } else {
+          return triggerBuilder_.getMessage(index);
+        }
       }
       /**
        * <pre>
-       * The actions to execute when the input matches. 
+       * All the trigger actions for this group. 
        * </pre>
        *
-       * <code>repeated string action = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
        */
-      public Builder setAction(
-          int index, java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureActionIsMutable();
-        action_.set(index, value);
-        onChanged();
+      public Builder setTrigger(
+          int index, com.s13g.winston.proto.Master.GroupTrigger value) {
+        if (triggerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTriggerIsMutable();
+          trigger_.set(index, value);
+          onChanged();
+        } else {
+          triggerBuilder_.setMessage(index, value);
+        }
         return this;
       }
       /**
        * <pre>
-       * The actions to execute when the input matches. 
+       * All the trigger actions for this group. 
        * </pre>
        *
-       * <code>repeated string action = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
        */
-      public Builder addAction(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureActionIsMutable();
-        action_.add(value);
-        onChanged();
+      public Builder setTrigger(
+          int index, com.s13g.winston.proto.Master.GroupTrigger.Builder builderForValue) {
+        if (triggerBuilder_ == null) {
+          ensureTriggerIsMutable();
+          trigger_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          triggerBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
        * <pre>
-       * The actions to execute when the input matches. 
+       * All the trigger actions for this group. 
        * </pre>
        *
-       * <code>repeated string action = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
        */
-      public Builder addAllAction(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureActionIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, action_);
-        onChanged();
+      public Builder addTrigger(com.s13g.winston.proto.Master.GroupTrigger value) {
+        if (triggerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTriggerIsMutable();
+          trigger_.add(value);
+          onChanged();
+        } else {
+          triggerBuilder_.addMessage(value);
+        }
         return this;
       }
       /**
        * <pre>
-       * The actions to execute when the input matches. 
+       * All the trigger actions for this group. 
        * </pre>
        *
-       * <code>repeated string action = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
        */
-      public Builder clearAction() {
-        action_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000002);
-        onChanged();
+      public Builder addTrigger(
+          int index, com.s13g.winston.proto.Master.GroupTrigger value) {
+        if (triggerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTriggerIsMutable();
+          trigger_.add(index, value);
+          onChanged();
+        } else {
+          triggerBuilder_.addMessage(index, value);
+        }
         return this;
       }
       /**
        * <pre>
-       * The actions to execute when the input matches. 
+       * All the trigger actions for this group. 
        * </pre>
        *
-       * <code>repeated string action = 2;</code>
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
        */
-      public Builder addActionBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        ensureActionIsMutable();
-        action_.add(value);
-        onChanged();
+      public Builder addTrigger(
+          com.s13g.winston.proto.Master.GroupTrigger.Builder builderForValue) {
+        if (triggerBuilder_ == null) {
+          ensureTriggerIsMutable();
+          trigger_.add(builderForValue.build());
+          onChanged();
+        } else {
+          triggerBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * All the trigger actions for this group. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       */
+      public Builder addTrigger(
+          int index, com.s13g.winston.proto.Master.GroupTrigger.Builder builderForValue) {
+        if (triggerBuilder_ == null) {
+          ensureTriggerIsMutable();
+          trigger_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          triggerBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * All the trigger actions for this group. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       */
+      public Builder addAllTrigger(
+          java.lang.Iterable<? extends com.s13g.winston.proto.Master.GroupTrigger> values) {
+        if (triggerBuilder_ == null) {
+          ensureTriggerIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, trigger_);
+          onChanged();
+        } else {
+          triggerBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * All the trigger actions for this group. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       */
+      public Builder clearTrigger() {
+        if (triggerBuilder_ == null) {
+          trigger_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          triggerBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * All the trigger actions for this group. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       */
+      public Builder removeTrigger(int index) {
+        if (triggerBuilder_ == null) {
+          ensureTriggerIsMutable();
+          trigger_.remove(index);
+          onChanged();
+        } else {
+          triggerBuilder_.remove(index);
+        }
         return this;
       }
+      /**
+       * <pre>
+       * All the trigger actions for this group. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       */
+      public com.s13g.winston.proto.Master.GroupTrigger.Builder getTriggerBuilder(
+          int index) {
+        return getTriggerFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * All the trigger actions for this group. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       */
+      public com.s13g.winston.proto.Master.GroupTriggerOrBuilder getTriggerOrBuilder(
+          int index) {
+        if (triggerBuilder_ == null) {
+          return trigger_.get(index);  } else {
+          return triggerBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * All the trigger actions for this group. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       */
+      public java.util.List<? extends com.s13g.winston.proto.Master.GroupTriggerOrBuilder> 
+           getTriggerOrBuilderList() {
+        if (triggerBuilder_ != null) {
+          return triggerBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(trigger_);
+        }
+      }
+      /**
+       * <pre>
+       * All the trigger actions for this group. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       */
+      public com.s13g.winston.proto.Master.GroupTrigger.Builder addTriggerBuilder() {
+        return getTriggerFieldBuilder().addBuilder(
+            com.s13g.winston.proto.Master.GroupTrigger.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * All the trigger actions for this group. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       */
+      public com.s13g.winston.proto.Master.GroupTrigger.Builder addTriggerBuilder(
+          int index) {
+        return getTriggerFieldBuilder().addBuilder(
+            index, com.s13g.winston.proto.Master.GroupTrigger.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * All the trigger actions for this group. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.GroupTrigger trigger = 2;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.GroupTrigger.Builder> 
+           getTriggerBuilderList() {
+        return getTriggerFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.GroupTrigger, com.s13g.winston.proto.Master.GroupTrigger.Builder, com.s13g.winston.proto.Master.GroupTriggerOrBuilder> 
+          getTriggerFieldBuilder() {
+        if (triggerBuilder_ == null) {
+          triggerBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.s13g.winston.proto.Master.GroupTrigger, com.s13g.winston.proto.Master.GroupTrigger.Builder, com.s13g.winston.proto.Master.GroupTriggerOrBuilder>(
+                  trigger_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          trigger_ = null;
+        }
+        return triggerBuilder_;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -5830,150 +7757,139 @@ public final class Master {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.GroupTrigger)
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.Group)
     }
 
-    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.GroupTrigger)
-    private static final com.s13g.winston.proto.Master.GroupTrigger DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.Group)
+    private static final com.s13g.winston.proto.Master.Group DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.GroupTrigger();
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.Group();
     }
 
-    public static com.s13g.winston.proto.Master.GroupTrigger getDefaultInstance() {
+    public static com.s13g.winston.proto.Master.Group getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GroupTrigger>
-        PARSER = new com.google.protobuf.AbstractParser<GroupTrigger>() {
+    private static final com.google.protobuf.Parser<Group>
+        PARSER = new com.google.protobuf.AbstractParser<Group>() {
       @java.lang.Override
-      public GroupTrigger parsePartialFrom(
+      public Group parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GroupTrigger(input, extensionRegistry);
+        return new Group(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GroupTrigger> parser() {
+    public static com.google.protobuf.Parser<Group> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GroupTrigger> getParserForType() {
+    public com.google.protobuf.Parser<Group> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.s13g.winston.proto.Master.GroupTrigger getDefaultInstanceForType() {
+    public com.s13g.winston.proto.Master.Group getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface ChannelOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.Channel)
+  public interface GroupTriggerOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.GroupTrigger)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * The type of the channel. 
+     * The input values that trigger the actions. 
      * </pre>
      *
-     * <code>string type = 1;</code>
+     * <code>repeated string input = 1;</code>
      */
-    java.lang.String getType();
+    java.util.List<java.lang.String>
+        getInputList();
     /**
      * <pre>
-     * The type of the channel. 
+     * The input values that trigger the actions. 
      * </pre>
      *
-     * <code>string type = 1;</code>
+     * <code>repeated string input = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getTypeBytes();
-
+    int getInputCount();
     /**
      * <pre>
-     * An optional address to localize the channel. 
+     * The input values that trigger the actions. 
      * </pre>
      *
-     * <code>string address = 2;</code>
+     * <code>repeated string input = 1;</code>
      */
-    java.lang.String getAddress();
+    java.lang.String getInput(int index);
     /**
      * <pre>
-     * An optional address to localize the channel. 
+     * The input values that trigger the actions. 
      * </pre>
      *
-     * <code>string address = 2;</code>
+     * <code>repeated string input = 1;</code>
      */
     com.google.protobuf.ByteString
-        getAddressBytes();
+        getInputBytes(int index);
 
     /**
      * <pre>
-     * All parameters required to run the channel. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
-     */
-    java.util.List<com.s13g.winston.proto.Master.Parameter> 
-        getParameterList();
-    /**
-     * <pre>
-     * All parameters required to run the channel. 
+     * The actions to execute when the input matches. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     * <code>repeated string action = 2;</code>
      */
-    com.s13g.winston.proto.Master.Parameter getParameter(int index);
+    java.util.List<java.lang.String>
+        getActionList();
     /**
      * <pre>
-     * All parameters required to run the channel. 
+     * The actions to execute when the input matches. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     * <code>repeated string action = 2;</code>
      */
-    int getParameterCount();
+    int getActionCount();
     /**
      * <pre>
-     * All parameters required to run the channel. 
+     * The actions to execute when the input matches. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     * <code>repeated string action = 2;</code>
      */
-    java.util.List<? extends com.s13g.winston.proto.Master.ParameterOrBuilder> 
-        getParameterOrBuilderList();
+    java.lang.String getAction(int index);
     /**
      * <pre>
-     * All parameters required to run the channel. 
+     * The actions to execute when the input matches. 
      * </pre>
      *
-     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     * <code>repeated string action = 2;</code>
      */
-    com.s13g.winston.proto.Master.ParameterOrBuilder getParameterOrBuilder(
-        int index);
+    com.google.protobuf.ByteString
+        getActionBytes(int index);
   }
   /**
    * <pre>
-   * Each module can have support for multiple channels. 
+   * A group trigger fires the given actions when the input is given. 
    * </pre>
    *
-   * Protobuf type {@code com.s13g.winston.proto.Channel}
+   * Protobuf type {@code com.s13g.winston.proto.GroupTrigger}
    */
-  public  static final class Channel extends
+  public  static final class GroupTrigger extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.Channel)
-      ChannelOrBuilder {
+      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.GroupTrigger)
+      GroupTriggerOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use Channel.newBuilder() to construct.
-    private Channel(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GroupTrigger.newBuilder() to construct.
+    private GroupTrigger(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private Channel() {
-      type_ = "";
-      address_ = "";
-      parameter_ = java.util.Collections.emptyList();
+    private GroupTrigger() {
+      input_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      action_ = com.google.protobuf.LazyStringArrayList.EMPTY;
     }
 
     @java.lang.Override
@@ -5981,7 +7897,7 @@ public final class Master {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private Channel(
+    private GroupTrigger(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6002,23 +7918,20 @@ public final class Master {
               break;
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
-
-              type_ = s;
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                input_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              input_.add(s);
               break;
             }
             case 18: {
               java.lang.String s = input.readStringRequireUtf8();
-
-              address_ = s;
-              break;
-            }
-            case 26: {
-              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-                parameter_ = new java.util.ArrayList<com.s13g.winston.proto.Master.Parameter>();
-                mutable_bitField0_ |= 0x00000004;
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                action_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
               }
-              parameter_.add(
-                  input.readMessage(com.s13g.winston.proto.Master.Parameter.parser(), extensionRegistry));
+              action_.add(s);
               break;
             }
             default: {
@@ -6036,8 +7949,11 @@ public final class Master {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-          parameter_ = java.util.Collections.unmodifiableList(parameter_);
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          input_ = input_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          action_ = action_.getUnmodifiableView();
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -6045,1028 +7961,7876 @@ public final class Master {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Channel_descriptor;
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_GroupTrigger_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Channel_fieldAccessorTable
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_GroupTrigger_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.s13g.winston.proto.Master.Channel.class, com.s13g.winston.proto.Master.Channel.Builder.class);
+              com.s13g.winston.proto.Master.GroupTrigger.class, com.s13g.winston.proto.Master.GroupTrigger.Builder.class);
     }
 
-    private int bitField0_;
-    public static final int TYPE_FIELD_NUMBER = 1;
-    private volatile java.lang.Object type_;
+    public static final int INPUT_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList input_;
     /**
      * <pre>
-     * The type of the channel. 
+     * The input values that trigger the actions. 
      * </pre>
      *
-     * <code>string type = 1;</code>
+     * <code>repeated string input = 1;</code>
      */
-    public java.lang.String getType() {
-      java.lang.Object ref = type_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        type_ = s;
-        return s;
-      }
+    public com.google.protobuf.ProtocolStringList
+        getInputList() {
+      return input_;
     }
     /**
      * <pre>
-     * The type of the channel. 
+     * The input values that trigger the actions. 
      * </pre>
      *
-     * <code>string type = 1;</code>
+     * <code>repeated string input = 1;</code>
+     */
+    public int getInputCount() {
+      return input_.size();
+    }
+    /**
+     * <pre>
+     * The input values that trigger the actions. 
+     * </pre>
+     *
+     * <code>repeated string input = 1;</code>
+     */
+    public java.lang.String getInput(int index) {
+      return input_.get(index);
+    }
+    /**
+     * <pre>
+     * The input values that trigger the actions. 
+     * </pre>
+     *
+     * <code>repeated string input = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getTypeBytes() {
-      java.lang.Object ref = type_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        type_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+        getInputBytes(int index) {
+      return input_.getByteString(index);
     }
 
-    public static final int ADDRESS_FIELD_NUMBER = 2;
-    private volatile java.lang.Object address_;
+    public static final int ACTION_FIELD_NUMBER = 2;
+    private com.google.protobuf.LazyStringList action_;
     /**
      * <pre>
-     * An optional address to localize the channel. 
+     * The actions to execute when the input matches. 
      * </pre>
      *
-     * <code>string address = 2;</code>
+     * <code>repeated string action = 2;</code>
      */
-    public java.lang.String getAddress() {
-      java.lang.Object ref = address_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        address_ = s;
-        return s;
-      }
+    public com.google.protobuf.ProtocolStringList
+        getActionList() {
+      return action_;
     }
     /**
      * <pre>
-     * An optional address to localize the channel. 
+     * The actions to execute when the input matches. 
      * </pre>
      *
-     * <code>string address = 2;</code>
+     * <code>repeated string action = 2;</code>
+     */
+    public int getActionCount() {
+      return action_.size();
+    }
+    /**
+     * <pre>
+     * The actions to execute when the input matches. 
+     * </pre>
+     *
+     * <code>repeated string action = 2;</code>
+     */
+    public java.lang.String getAction(int index) {
+      return action_.get(index);
+    }
+    /**
+     * <pre>
+     * The actions to execute when the input matches. 
+     * </pre>
+     *
+     * <code>repeated string action = 2;</code>
      */
     public com.google.protobuf.ByteString
-        getAddressBytes() {
-      java.lang.Object ref = address_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        address_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
+        getActionBytes(int index) {
+      return action_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < input_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, input_.getRaw(i));
+      }
+      for (int i = 0; i < action_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, action_.getRaw(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < input_.size(); i++) {
+          dataSize += computeStringSizeNoTag(input_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getInputList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < action_.size(); i++) {
+          dataSize += computeStringSizeNoTag(action_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getActionList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.s13g.winston.proto.Master.GroupTrigger)) {
+        return super.equals(obj);
+      }
+      com.s13g.winston.proto.Master.GroupTrigger other = (com.s13g.winston.proto.Master.GroupTrigger) obj;
+
+      boolean result = true;
+      result = result && getInputList()
+          .equals(other.getInputList());
+      result = result && getActionList()
+          .equals(other.getActionList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getInputCount() > 0) {
+        hash = (37 * hash) + INPUT_FIELD_NUMBER;
+        hash = (53 * hash) + getInputList().hashCode();
+      }
+      if (getActionCount() > 0) {
+        hash = (37 * hash) + ACTION_FIELD_NUMBER;
+        hash = (53 * hash) + getActionList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.GroupTrigger parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.GroupTrigger parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.GroupTrigger parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.s13g.winston.proto.Master.GroupTrigger prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * A group trigger fires the given actions when the input is given. 
+     * </pre>
+     *
+     * Protobuf type {@code com.s13g.winston.proto.GroupTrigger}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.GroupTrigger)
+        com.s13g.winston.proto.Master.GroupTriggerOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_GroupTrigger_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_GroupTrigger_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.s13g.winston.proto.Master.GroupTrigger.class, com.s13g.winston.proto.Master.GroupTrigger.Builder.class);
+      }
+
+      // Construct using com.s13g.winston.proto.Master.GroupTrigger.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        input_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        action_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_GroupTrigger_descriptor;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.GroupTrigger getDefaultInstanceForType() {
+        return com.s13g.winston.proto.Master.GroupTrigger.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.GroupTrigger build() {
+        com.s13g.winston.proto.Master.GroupTrigger result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.GroupTrigger buildPartial() {
+        com.s13g.winston.proto.Master.GroupTrigger result = new com.s13g.winston.proto.Master.GroupTrigger(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          input_ = input_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.input_ = input_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          action_ = action_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.action_ = action_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.s13g.winston.proto.Master.GroupTrigger) {
+          return mergeFrom((com.s13g.winston.proto.Master.GroupTrigger)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.s13g.winston.proto.Master.GroupTrigger other) {
+        if (other == com.s13g.winston.proto.Master.GroupTrigger.getDefaultInstance()) return this;
+        if (!other.input_.isEmpty()) {
+          if (input_.isEmpty()) {
+            input_ = other.input_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureInputIsMutable();
+            input_.addAll(other.input_);
+          }
+          onChanged();
+        }
+        if (!other.action_.isEmpty()) {
+          if (action_.isEmpty()) {
+            action_ = other.action_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureActionIsMutable();
+            action_.addAll(other.action_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.s13g.winston.proto.Master.GroupTrigger parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.s13g.winston.proto.Master.GroupTrigger) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringList input_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureInputIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          input_ = new com.google.protobuf.LazyStringArrayList(input_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <pre>
+       * The input values that trigger the actions. 
+       * </pre>
+       *
+       * <code>repeated string input = 1;</code>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getInputList() {
+        return input_.getUnmodifiableView();
+      }
+      /**
+       * <pre>
+       * The input values that trigger the actions. 
+       * </pre>
+       *
+       * <code>repeated string input = 1;</code>
+       */
+      public int getInputCount() {
+        return input_.size();
+      }
+      /**
+       * <pre>
+       * The input values that trigger the actions. 
+       * </pre>
+       *
+       * <code>repeated string input = 1;</code>
+       */
+      public java.lang.String getInput(int index) {
+        return input_.get(index);
+      }
+      /**
+       * <pre>
+       * The input values that trigger the actions. 
+       * </pre>
+       *
+       * <code>repeated string input = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getInputBytes(int index) {
+        return input_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * The input values that trigger the actions. 
+       * </pre>
+       *
+       * <code>repeated string input = 1;</code>
+       */
+      public Builder setInput(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureInputIsMutable();
+        input_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The input values that trigger the actions. 
+       * </pre>
+       *
+       * <code>repeated string input = 1;</code>
+       */
+      public Builder addInput(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureInputIsMutable();
+        input_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The input values that trigger the actions. 
+       * </pre>
+       *
+       * <code>repeated string input = 1;</code>
+       */
+      public Builder addAllInput(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureInputIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, input_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The input values that trigger the actions. 
+       * </pre>
+       *
+       * <code>repeated string input = 1;</code>
+       */
+      public Builder clearInput() {
+        input_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The input values that trigger the actions. 
+       * </pre>
+       *
+       * <code>repeated string input = 1;</code>
+       */
+      public Builder addInputBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureInputIsMutable();
+        input_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList action_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureActionIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          action_ = new com.google.protobuf.LazyStringArrayList(action_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <pre>
+       * The actions to execute when the input matches. 
+       * </pre>
+       *
+       * <code>repeated string action = 2;</code>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getActionList() {
+        return action_.getUnmodifiableView();
+      }
+      /**
+       * <pre>
+       * The actions to execute when the input matches. 
+       * </pre>
+       *
+       * <code>repeated string action = 2;</code>
+       */
+      public int getActionCount() {
+        return action_.size();
+      }
+      /**
+       * <pre>
+       * The actions to execute when the input matches. 
+       * </pre>
+       *
+       * <code>repeated string action = 2;</code>
+       */
+      public java.lang.String getAction(int index) {
+        return action_.get(index);
+      }
+      /**
+       * <pre>
+       * The actions to execute when the input matches. 
+       * </pre>
+       *
+       * <code>repeated string action = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getActionBytes(int index) {
+        return action_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * The actions to execute when the input matches. 
+       * </pre>
+       *
+       * <code>repeated string action = 2;</code>
+       */
+      public Builder setAction(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureActionIsMutable();
+        action_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The actions to execute when the input matches. 
+       * </pre>
+       *
+       * <code>repeated string action = 2;</code>
+       */
+      public Builder addAction(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureActionIsMutable();
+        action_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The actions to execute when the input matches. 
+       * </pre>
+       *
+       * <code>repeated string action = 2;</code>
+       */
+      public Builder addAllAction(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureActionIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, action_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The actions to execute when the input matches. 
+       * </pre>
+       *
+       * <code>repeated string action = 2;</code>
+       */
+      public Builder clearAction() {
+        action_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The actions to execute when the input matches. 
+       * </pre>
+       *
+       * <code>repeated string action = 2;</code>
+       */
+      public Builder addActionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureActionIsMutable();
+        action_.add(value);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.GroupTrigger)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.GroupTrigger)
+    private static final com.s13g.winston.proto.Master.GroupTrigger DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.GroupTrigger();
+    }
+
+    public static com.s13g.winston.proto.Master.GroupTrigger getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GroupTrigger>
+        PARSER = new com.google.protobuf.AbstractParser<GroupTrigger>() {
+      @java.lang.Override
+      public GroupTrigger parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GroupTrigger(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GroupTrigger> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GroupTrigger> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.s13g.winston.proto.Master.GroupTrigger getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RuleOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.Rule)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * The name of the rule, for logging. 
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * The name of the rule, for logging. 
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <pre>
+     * The conditions that must all be true. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+     */
+    java.util.List<com.s13g.winston.proto.Master.Condition> 
+        getConditionList();
+    /**
+     * <pre>
+     * The conditions that must all be true. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+     */
+    com.s13g.winston.proto.Master.Condition getCondition(int index);
+    /**
+     * <pre>
+     * The conditions that must all be true. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+     */
+    int getConditionCount();
+    /**
+     * <pre>
+     * The conditions that must all be true. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+     */
+    java.util.List<? extends com.s13g.winston.proto.Master.ConditionOrBuilder> 
+        getConditionOrBuilderList();
+    /**
+     * <pre>
+     * The conditions that must all be true. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+     */
+    com.s13g.winston.proto.Master.ConditionOrBuilder getConditionOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * The channel values written when the rule executes. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+     */
+    java.util.List<com.s13g.winston.proto.Master.RuleAction> 
+        getActionList();
+    /**
+     * <pre>
+     * The channel values written when the rule executes. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+     */
+    com.s13g.winston.proto.Master.RuleAction getAction(int index);
+    /**
+     * <pre>
+     * The channel values written when the rule executes. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+     */
+    int getActionCount();
+    /**
+     * <pre>
+     * The channel values written when the rule executes. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+     */
+    java.util.List<? extends com.s13g.winston.proto.Master.RuleActionOrBuilder> 
+        getActionOrBuilderList();
+    /**
+     * <pre>
+     * The channel values written when the rule executes. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+     */
+    com.s13g.winston.proto.Master.RuleActionOrBuilder getActionOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * A rule executes its actions when all of its conditions become true. It executes again only
+   * after a condition was false in between, unless a condition is CHANGED.
+   * </pre>
+   *
+   * Protobuf type {@code com.s13g.winston.proto.Rule}
+   */
+  public  static final class Rule extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.Rule)
+      RuleOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Rule.newBuilder() to construct.
+    private Rule(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Rule() {
+      name_ = "";
+      condition_ = java.util.Collections.emptyList();
+      action_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Rule(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              name_ = s;
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                condition_ = new java.util.ArrayList<com.s13g.winston.proto.Master.Condition>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              condition_.add(
+                  input.readMessage(com.s13g.winston.proto.Master.Condition.parser(), extensionRegistry));
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                action_ = new java.util.ArrayList<com.s13g.winston.proto.Master.RuleAction>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              action_.add(
+                  input.readMessage(com.s13g.winston.proto.Master.RuleAction.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          condition_ = java.util.Collections.unmodifiableList(condition_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          action_ = java.util.Collections.unmodifiableList(action_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Rule_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Rule_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.s13g.winston.proto.Master.Rule.class, com.s13g.winston.proto.Master.Rule.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <pre>
+     * The name of the rule, for logging. 
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The name of the rule, for logging. 
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CONDITION_FIELD_NUMBER = 2;
+    private java.util.List<com.s13g.winston.proto.Master.Condition> condition_;
+    /**
+     * <pre>
+     * The conditions that must all be true. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+     */
+    public java.util.List<com.s13g.winston.proto.Master.Condition> getConditionList() {
+      return condition_;
+    }
+    /**
+     * <pre>
+     * The conditions that must all be true. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+     */
+    public java.util.List<? extends com.s13g.winston.proto.Master.ConditionOrBuilder> 
+        getConditionOrBuilderList() {
+      return condition_;
+    }
+    /**
+     * <pre>
+     * The conditions that must all be true. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+     */
+    public int getConditionCount() {
+      return condition_.size();
+    }
+    /**
+     * <pre>
+     * The conditions that must all be true. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+     */
+    public com.s13g.winston.proto.Master.Condition getCondition(int index) {
+      return condition_.get(index);
+    }
+    /**
+     * <pre>
+     * The conditions that must all be true. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+     */
+    public com.s13g.winston.proto.Master.ConditionOrBuilder getConditionOrBuilder(
+        int index) {
+      return condition_.get(index);
+    }
+
+    public static final int ACTION_FIELD_NUMBER = 3;
+    private java.util.List<com.s13g.winston.proto.Master.RuleAction> action_;
+    /**
+     * <pre>
+     * The channel values written when the rule executes. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+     */
+    public java.util.List<com.s13g.winston.proto.Master.RuleAction> getActionList() {
+      return action_;
+    }
+    /**
+     * <pre>
+     * The channel values written when the rule executes. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+     */
+    public java.util.List<? extends com.s13g.winston.proto.Master.RuleActionOrBuilder> 
+        getActionOrBuilderList() {
+      return action_;
+    }
+    /**
+     * <pre>
+     * The channel values written when the rule executes. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+     */
+    public int getActionCount() {
+      return action_.size();
+    }
+    /**
+     * <pre>
+     * The channel values written when the rule executes. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+     */
+    public com.s13g.winston.proto.Master.RuleAction getAction(int index) {
+      return action_.get(index);
+    }
+    /**
+     * <pre>
+     * The channel values written when the rule executes. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+     */
+    public com.s13g.winston.proto.Master.RuleActionOrBuilder getActionOrBuilder(
+        int index) {
+      return action_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      for (int i = 0; i < condition_.size(); i++) {
+        output.writeMessage(2, condition_.get(i));
+      }
+      for (int i = 0; i < action_.size(); i++) {
+        output.writeMessage(3, action_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      for (int i = 0; i < condition_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, condition_.get(i));
+      }
+      for (int i = 0; i < action_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, action_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.s13g.winston.proto.Master.Rule)) {
+        return super.equals(obj);
+      }
+      com.s13g.winston.proto.Master.Rule other = (com.s13g.winston.proto.Master.Rule) obj;
+
+      boolean result = true;
+      result = result && getName()
+          .equals(other.getName());
+      result = result && getConditionList()
+          .equals(other.getConditionList());
+      result = result && getActionList()
+          .equals(other.getActionList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      if (getConditionCount() > 0) {
+        hash = (37 * hash) + CONDITION_FIELD_NUMBER;
+        hash = (53 * hash) + getConditionList().hashCode();
+      }
+      if (getActionCount() > 0) {
+        hash = (37 * hash) + ACTION_FIELD_NUMBER;
+        hash = (53 * hash) + getActionList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.s13g.winston.proto.Master.Rule parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.Rule parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Rule parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.Rule parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Rule parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.Rule parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Rule parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.Rule parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Rule parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.Rule parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Rule parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.Rule parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.s13g.winston.proto.Master.Rule prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * A rule executes its actions when all of its conditions become true. It executes again only
+     * after a condition was false in between, unless a condition is CHANGED.
+     * </pre>
+     *
+     * Protobuf type {@code com.s13g.winston.proto.Rule}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.Rule)
+        com.s13g.winston.proto.Master.RuleOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Rule_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Rule_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.s13g.winston.proto.Master.Rule.class, com.s13g.winston.proto.Master.Rule.Builder.class);
+      }
+
+      // Construct using com.s13g.winston.proto.Master.Rule.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getConditionFieldBuilder();
+          getActionFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+
+        if (conditionBuilder_ == null) {
+          condition_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          conditionBuilder_.clear();
+        }
+        if (actionBuilder_ == null) {
+          action_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          actionBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Rule_descriptor;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.Rule getDefaultInstanceForType() {
+        return com.s13g.winston.proto.Master.Rule.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.Rule build() {
+        com.s13g.winston.proto.Master.Rule result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.Rule buildPartial() {
+        com.s13g.winston.proto.Master.Rule result = new com.s13g.winston.proto.Master.Rule(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.name_ = name_;
+        if (conditionBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            condition_ = java.util.Collections.unmodifiableList(condition_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.condition_ = condition_;
+        } else {
+          result.condition_ = conditionBuilder_.build();
+        }
+        if (actionBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            action_ = java.util.Collections.unmodifiableList(action_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.action_ = action_;
+        } else {
+          result.action_ = actionBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.s13g.winston.proto.Master.Rule) {
+          return mergeFrom((com.s13g.winston.proto.Master.Rule)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.s13g.winston.proto.Master.Rule other) {
+        if (other == com.s13g.winston.proto.Master.Rule.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        if (conditionBuilder_ == null) {
+          if (!other.condition_.isEmpty()) {
+            if (condition_.isEmpty()) {
+              condition_ = other.condition_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureConditionIsMutable();
+              condition_.addAll(other.condition_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.condition_.isEmpty()) {
+            if (conditionBuilder_.isEmpty()) {
+              conditionBuilder_.dispose();
+              conditionBuilder_ = null;
+              condition_ = other.condition_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              conditionBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getConditionFieldBuilder() : null;
+            } else {
+              conditionBuilder_.addAllMessages(other.condition_);
+            }
+          }
+        }
+        if (actionBuilder_ == null) {
+          if (!other.action_.isEmpty()) {
+            if (action_.isEmpty()) {
+              action_ = other.action_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureActionIsMutable();
+              action_.addAll(other.action_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.action_.isEmpty()) {
+            if (actionBuilder_.isEmpty()) {
+              actionBuilder_.dispose();
+              actionBuilder_ = null;
+              action_ = other.action_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              actionBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getActionFieldBuilder() : null;
+            } else {
+              actionBuilder_.addAllMessages(other.action_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.s13g.winston.proto.Master.Rule parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.s13g.winston.proto.Master.Rule) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * The name of the rule, for logging. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The name of the rule, for logging. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The name of the rule, for logging. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The name of the rule, for logging. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The name of the rule, for logging. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.s13g.winston.proto.Master.Condition> condition_ =
+        java.util.Collections.emptyList();
+      private void ensureConditionIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          condition_ = new java.util.ArrayList<com.s13g.winston.proto.Master.Condition>(condition_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.Condition, com.s13g.winston.proto.Master.Condition.Builder, com.s13g.winston.proto.Master.ConditionOrBuilder> conditionBuilder_;
+
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.Condition> getConditionList() {
+        if (conditionBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(condition_);
+        } else {
+          return conditionBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public int getConditionCount() {
+        if (conditionBuilder_ == null) {
+          return condition_.size();
+        } else {
+          return conditionBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public com.s13g.winston.proto.Master.Condition getCondition(int index) {
+        if (conditionBuilder_ == null) {
+          return condition_.get(index);
+        } else {
+          return conditionBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public Builder setCondition(
+          int index, com.s13g.winston.proto.Master.Condition value) {
+        if (conditionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConditionIsMutable();
+          condition_.set(index, value);
+          onChanged();
+        } else {
+          conditionBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public Builder setCondition(
+          int index, com.s13g.winston.proto.Master.Condition.Builder builderForValue) {
+        if (conditionBuilder_ == null) {
+          ensureConditionIsMutable();
+          condition_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          conditionBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public Builder addCondition(com.s13g.winston.proto.Master.Condition value) {
+        if (conditionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConditionIsMutable();
+          condition_.add(value);
+          onChanged();
+        } else {
+          conditionBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public Builder addCondition(
+          int index, com.s13g.winston.proto.Master.Condition value) {
+        if (conditionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConditionIsMutable();
+          condition_.add(index, value);
+          onChanged();
+        } else {
+          conditionBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public Builder addCondition(
+          com.s13g.winston.proto.Master.Condition.Builder builderForValue) {
+        if (conditionBuilder_ == null) {
+          ensureConditionIsMutable();
+          condition_.add(builderForValue.build());
+          onChanged();
+        } else {
+          conditionBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public Builder addCondition(
+          int index, com.s13g.winston.proto.Master.Condition.Builder builderForValue) {
+        if (conditionBuilder_ == null) {
+          ensureConditionIsMutable();
+          condition_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          conditionBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public Builder addAllCondition(
+          java.lang.Iterable<? extends com.s13g.winston.proto.Master.Condition> values) {
+        if (conditionBuilder_ == null) {
+          ensureConditionIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, condition_);
+          onChanged();
+        } else {
+          conditionBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public Builder clearCondition() {
+        if (conditionBuilder_ == null) {
+          condition_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          conditionBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public Builder removeCondition(int index) {
+        if (conditionBuilder_ == null) {
+          ensureConditionIsMutable();
+          condition_.remove(index);
+          onChanged();
+        } else {
+          conditionBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public com.s13g.winston.proto.Master.Condition.Builder getConditionBuilder(
+          int index) {
+        return getConditionFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public com.s13g.winston.proto.Master.ConditionOrBuilder getConditionOrBuilder(
+          int index) {
+        if (conditionBuilder_ == null) {
+          return condition_.get(index);  } else {
+          return conditionBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public java.util.List<? extends com.s13g.winston.proto.Master.ConditionOrBuilder> 
+           getConditionOrBuilderList() {
+        if (conditionBuilder_ != null) {
+          return conditionBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(condition_);
+        }
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public com.s13g.winston.proto.Master.Condition.Builder addConditionBuilder() {
+        return getConditionFieldBuilder().addBuilder(
+            com.s13g.winston.proto.Master.Condition.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public com.s13g.winston.proto.Master.Condition.Builder addConditionBuilder(
+          int index) {
+        return getConditionFieldBuilder().addBuilder(
+            index, com.s13g.winston.proto.Master.Condition.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The conditions that must all be true. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Condition condition = 2;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.Condition.Builder> 
+           getConditionBuilderList() {
+        return getConditionFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.Condition, com.s13g.winston.proto.Master.Condition.Builder, com.s13g.winston.proto.Master.ConditionOrBuilder> 
+          getConditionFieldBuilder() {
+        if (conditionBuilder_ == null) {
+          conditionBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.s13g.winston.proto.Master.Condition, com.s13g.winston.proto.Master.Condition.Builder, com.s13g.winston.proto.Master.ConditionOrBuilder>(
+                  condition_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          condition_ = null;
+        }
+        return conditionBuilder_;
+      }
+
+      private java.util.List<com.s13g.winston.proto.Master.RuleAction> action_ =
+        java.util.Collections.emptyList();
+      private void ensureActionIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          action_ = new java.util.ArrayList<com.s13g.winston.proto.Master.RuleAction>(action_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.RuleAction, com.s13g.winston.proto.Master.RuleAction.Builder, com.s13g.winston.proto.Master.RuleActionOrBuilder> actionBuilder_;
+
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.RuleAction> getActionList() {
+        if (actionBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(action_);
+        } else {
+          return actionBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public int getActionCount() {
+        if (actionBuilder_ == null) {
+          return action_.size();
+        } else {
+          return actionBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public com.s13g.winston.proto.Master.RuleAction getAction(int index) {
+        if (actionBuilder_ == null) {
+          return action_.get(index);
+        } else {
+          return actionBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public Builder setAction(
+          int index, com.s13g.winston.proto.Master.RuleAction value) {
+        if (actionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureActionIsMutable();
+          action_.set(index, value);
+          onChanged();
+        } else {
+          actionBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public Builder setAction(
+          int index, com.s13g.winston.proto.Master.RuleAction.Builder builderForValue) {
+        if (actionBuilder_ == null) {
+          ensureActionIsMutable();
+          action_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          actionBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public Builder addAction(com.s13g.winston.proto.Master.RuleAction value) {
+        if (actionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureActionIsMutable();
+          action_.add(value);
+          onChanged();
+        } else {
+          actionBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public Builder addAction(
+          int index, com.s13g.winston.proto.Master.RuleAction value) {
+        if (actionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureActionIsMutable();
+          action_.add(index, value);
+          onChanged();
+        } else {
+          actionBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public Builder addAction(
+          com.s13g.winston.proto.Master.RuleAction.Builder builderForValue) {
+        if (actionBuilder_ == null) {
+          ensureActionIsMutable();
+          action_.add(builderForValue.build());
+          onChanged();
+        } else {
+          actionBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public Builder addAction(
+          int index, com.s13g.winston.proto.Master.RuleAction.Builder builderForValue) {
+        if (actionBuilder_ == null) {
+          ensureActionIsMutable();
+          action_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          actionBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public Builder addAllAction(
+          java.lang.Iterable<? extends com.s13g.winston.proto.Master.RuleAction> values) {
+        if (actionBuilder_ == null) {
+          ensureActionIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, action_);
+          onChanged();
+        } else {
+          actionBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public Builder clearAction() {
+        if (actionBuilder_ == null) {
+          action_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          actionBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public Builder removeAction(int index) {
+        if (actionBuilder_ == null) {
+          ensureActionIsMutable();
+          action_.remove(index);
+          onChanged();
+        } else {
+          actionBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public com.s13g.winston.proto.Master.RuleAction.Builder getActionBuilder(
+          int index) {
+        return getActionFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public com.s13g.winston.proto.Master.RuleActionOrBuilder getActionOrBuilder(
+          int index) {
+        if (actionBuilder_ == null) {
+          return action_.get(index);  } else {
+          return actionBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public java.util.List<? extends com.s13g.winston.proto.Master.RuleActionOrBuilder> 
+           getActionOrBuilderList() {
+        if (actionBuilder_ != null) {
+          return actionBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(action_);
+        }
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public com.s13g.winston.proto.Master.RuleAction.Builder addActionBuilder() {
+        return getActionFieldBuilder().addBuilder(
+            com.s13g.winston.proto.Master.RuleAction.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public com.s13g.winston.proto.Master.RuleAction.Builder addActionBuilder(
+          int index) {
+        return getActionFieldBuilder().addBuilder(
+            index, com.s13g.winston.proto.Master.RuleAction.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The channel values written when the rule executes. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.RuleAction action = 3;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.RuleAction.Builder> 
+           getActionBuilderList() {
+        return getActionFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.RuleAction, com.s13g.winston.proto.Master.RuleAction.Builder, com.s13g.winston.proto.Master.RuleActionOrBuilder> 
+          getActionFieldBuilder() {
+        if (actionBuilder_ == null) {
+          actionBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.s13g.winston.proto.Master.RuleAction, com.s13g.winston.proto.Master.RuleAction.Builder, com.s13g.winston.proto.Master.RuleActionOrBuilder>(
+                  action_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          action_ = null;
+        }
+        return actionBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.Rule)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.Rule)
+    private static final com.s13g.winston.proto.Master.Rule DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.Rule();
+    }
+
+    public static com.s13g.winston.proto.Master.Rule getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Rule>
+        PARSER = new com.google.protobuf.AbstractParser<Rule>() {
+      @java.lang.Override
+      public Rule parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Rule(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Rule> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Rule> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.s13g.winston.proto.Master.Rule getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ConditionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.Condition)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * The path of the value, i.e. '{module}/{channel}/{value}'. 
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     */
+    java.lang.String getPath();
+    /**
+     * <pre>
+     * The path of the value, i.e. '{module}/{channel}/{value}'. 
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getPathBytes();
+
+    /**
+     * <code>.com.s13g.winston.proto.Condition.Operator operator = 2;</code>
+     */
+    int getOperatorValue();
+    /**
+     * <code>.com.s13g.winston.proto.Condition.Operator operator = 2;</code>
+     */
+    com.s13g.winston.proto.Master.Condition.Operator getOperator();
+
+    /**
+     * <pre>
+     * The value to compare with. Compared as a number if both are numbers, else as a string. 
+     * </pre>
+     *
+     * <code>string value = 3;</code>
+     */
+    java.lang.String getValue();
+    /**
+     * <pre>
+     * The value to compare with. Compared as a number if both are numbers, else as a string. 
+     * </pre>
+     *
+     * <code>string value = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getValueBytes();
+
+    /**
+     * <pre>
+     * How long the comparison must be true before the condition is true. 
+     * </pre>
+     *
+     * <code>int32 for_millis = 4;</code>
+     */
+    int getForMillis();
+  }
+  /**
+   * <pre>
+   * A condition on a channel value. Only values that are read are known, so values used in
+   * conditions should be polled, see PollSchedule.
+   * </pre>
+   *
+   * Protobuf type {@code com.s13g.winston.proto.Condition}
+   */
+  public  static final class Condition extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.Condition)
+      ConditionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Condition.newBuilder() to construct.
+    private Condition(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Condition() {
+      path_ = "";
+      operator_ = 0;
+      value_ = "";
+      forMillis_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Condition(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              path_ = s;
+              break;
+            }
+            case 16: {
+              int rawValue = input.readEnum();
+
+              operator_ = rawValue;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              value_ = s;
+              break;
+            }
+            case 32: {
+
+              forMillis_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Condition_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Condition_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.s13g.winston.proto.Master.Condition.class, com.s13g.winston.proto.Master.Condition.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code com.s13g.winston.proto.Condition.Operator}
+     */
+    public enum Operator
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>EQUALS = 0;</code>
+       */
+      EQUALS(0),
+      /**
+       * <code>NOT_EQUALS = 1;</code>
+       */
+      NOT_EQUALS(1),
+      /**
+       * <code>GREATER = 2;</code>
+       */
+      GREATER(2),
+      /**
+       * <code>GREATER_OR_EQUAL = 3;</code>
+       */
+      GREATER_OR_EQUAL(3),
+      /**
+       * <code>LESS = 4;</code>
+       */
+      LESS(4),
+      /**
+       * <code>LESS_OR_EQUAL = 5;</code>
+       */
+      LESS_OR_EQUAL(5),
+      /**
+       * <pre>
+       * True for the moment the value changes, 'value' is not used. 
+       * </pre>
+       *
+       * <code>CHANGED = 6;</code>
+       */
+      CHANGED(6),
+      UNRECOGNIZED(-1),
+      ;
+
+      /**
+       * <code>EQUALS = 0;</code>
+       */
+      public static final int EQUALS_VALUE = 0;
+      /**
+       * <code>NOT_EQUALS = 1;</code>
+       */
+      public static final int NOT_EQUALS_VALUE = 1;
+      /**
+       * <code>GREATER = 2;</code>
+       */
+      public static final int GREATER_VALUE = 2;
+      /**
+       * <code>GREATER_OR_EQUAL = 3;</code>
+       */
+      public static final int GREATER_OR_EQUAL_VALUE = 3;
+      /**
+       * <code>LESS = 4;</code>
+       */
+      public static final int LESS_VALUE = 4;
+      /**
+       * <code>LESS_OR_EQUAL = 5;</code>
+       */
+      public static final int LESS_OR_EQUAL_VALUE = 5;
+      /**
+       * <pre>
+       * True for the moment the value changes, 'value' is not used. 
+       * </pre>
+       *
+       * <code>CHANGED = 6;</code>
+       */
+      public static final int CHANGED_VALUE = 6;
+
+
+      public final int getNumber() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalArgumentException(
+              "Can't get the number of an unknown enum value.");
+        }
+        return value;
+      }
+
+      /**
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static Operator valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static Operator forNumber(int value) {
+        switch (value) {
+          case 0: return EQUALS;
+          case 1: return NOT_EQUALS;
+          case 2: return GREATER;
+          case 3: return GREATER_OR_EQUAL;
+          case 4: return LESS;
+          case 5: return LESS_OR_EQUAL;
+          case 6: return CHANGED;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Operator>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          Operator> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Operator>() {
+              public Operator findValueByNumber(int number) {
+                return Operator.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return com.s13g.winston.proto.Master.Condition.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Operator[] VALUES = values();
+
+      public static Operator valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        if (desc.getIndex() == -1) {
+          return UNRECOGNIZED;
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private Operator(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:com.s13g.winston.proto.Condition.Operator)
+    }
+
+    public static final int PATH_FIELD_NUMBER = 1;
+    private volatile java.lang.Object path_;
+    /**
+     * <pre>
+     * The path of the value, i.e. '{module}/{channel}/{value}'. 
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     */
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        path_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The path of the value, i.e. '{module}/{channel}/{value}'. 
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OPERATOR_FIELD_NUMBER = 2;
+    private int operator_;
+    /**
+     * <code>.com.s13g.winston.proto.Condition.Operator operator = 2;</code>
+     */
+    public int getOperatorValue() {
+      return operator_;
+    }
+    /**
+     * <code>.com.s13g.winston.proto.Condition.Operator operator = 2;</code>
+     */
+    public com.s13g.winston.proto.Master.Condition.Operator getOperator() {
+      @SuppressWarnings("deprecation")
+      com.s13g.winston.proto.Master.Condition.Operator result = com.s13g.winston.proto.Master.Condition.Operator.valueOf(operator_);
+      return result == null ? com.s13g.winston.proto.Master.Condition.Operator.UNRECOGNIZED : result;
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 3;
+    private volatile java.lang.Object value_;
+    /**
+     * <pre>
+     * The value to compare with. Compared as a number if both are numbers, else as a string. 
+     * </pre>
+     *
+     * <code>string value = 3;</code>
+     */
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        value_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The value to compare with. Compared as a number if both are numbers, else as a string. 
+     * </pre>
+     *
+     * <code>string value = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FOR_MILLIS_FIELD_NUMBER = 4;
+    private int forMillis_;
+    /**
+     * <pre>
+     * How long the comparison must be true before the condition is true. 
+     * </pre>
+     *
+     * <code>int32 for_millis = 4;</code>
+     */
+    public int getForMillis() {
+      return forMillis_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getPathBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, path_);
+      }
+      if (operator_ != com.s13g.winston.proto.Master.Condition.Operator.EQUALS.getNumber()) {
+        output.writeEnum(2, operator_);
+      }
+      if (!getValueBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, value_);
+      }
+      if (forMillis_ != 0) {
+        output.writeInt32(4, forMillis_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getPathBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, path_);
+      }
+      if (operator_ != com.s13g.winston.proto.Master.Condition.Operator.EQUALS.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, operator_);
+      }
+      if (!getValueBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, value_);
+      }
+      if (forMillis_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, forMillis_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.s13g.winston.proto.Master.Condition)) {
+        return super.equals(obj);
+      }
+      com.s13g.winston.proto.Master.Condition other = (com.s13g.winston.proto.Master.Condition) obj;
+
+      boolean result = true;
+      result = result && getPath()
+          .equals(other.getPath());
+      result = result && operator_ == other.operator_;
+      result = result && getValue()
+          .equals(other.getValue());
+      result = result && (getForMillis()
+          == other.getForMillis());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PATH_FIELD_NUMBER;
+      hash = (53 * hash) + getPath().hashCode();
+      hash = (37 * hash) + OPERATOR_FIELD_NUMBER;
+      hash = (53 * hash) + operator_;
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValue().hashCode();
+      hash = (37 * hash) + FOR_MILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + getForMillis();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.s13g.winston.proto.Master.Condition parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.Condition parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Condition parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.Condition parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Condition parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.Condition parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Condition parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.Condition parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Condition parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.Condition parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Condition parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.Condition parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.s13g.winston.proto.Master.Condition prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * A condition on a channel value. Only values that are read are known, so values used in
+     * conditions should be polled, see PollSchedule.
+     * </pre>
+     *
+     * Protobuf type {@code com.s13g.winston.proto.Condition}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.Condition)
+        com.s13g.winston.proto.Master.ConditionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Condition_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Condition_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.s13g.winston.proto.Master.Condition.class, com.s13g.winston.proto.Master.Condition.Builder.class);
+      }
+
+      // Construct using com.s13g.winston.proto.Master.Condition.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        path_ = "";
+
+        operator_ = 0;
+
+        value_ = "";
+
+        forMillis_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Condition_descriptor;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.Condition getDefaultInstanceForType() {
+        return com.s13g.winston.proto.Master.Condition.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.Condition build() {
+        com.s13g.winston.proto.Master.Condition result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.Condition buildPartial() {
+        com.s13g.winston.proto.Master.Condition result = new com.s13g.winston.proto.Master.Condition(this);
+        result.path_ = path_;
+        result.operator_ = operator_;
+        result.value_ = value_;
+        result.forMillis_ = forMillis_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.s13g.winston.proto.Master.Condition) {
+          return mergeFrom((com.s13g.winston.proto.Master.Condition)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.s13g.winston.proto.Master.Condition other) {
+        if (other == com.s13g.winston.proto.Master.Condition.getDefaultInstance()) return this;
+        if (!other.getPath().isEmpty()) {
+          path_ = other.path_;
+          onChanged();
+        }
+        if (other.operator_ != 0) {
+          setOperatorValue(other.getOperatorValue());
+        }
+        if (!other.getValue().isEmpty()) {
+          value_ = other.value_;
+          onChanged();
+        }
+        if (other.getForMillis() != 0) {
+          setForMillis(other.getForMillis());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.s13g.winston.proto.Master.Condition parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.s13g.winston.proto.Master.Condition) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object path_ = "";
+      /**
+       * <pre>
+       * The path of the value, i.e. '{module}/{channel}/{value}'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          path_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The path of the value, i.e. '{module}/{channel}/{value}'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The path of the value, i.e. '{module}/{channel}/{value}'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        path_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The path of the value, i.e. '{module}/{channel}/{value}'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      public Builder clearPath() {
+        
+        path_ = getDefaultInstance().getPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The path of the value, i.e. '{module}/{channel}/{value}'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        path_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int operator_ = 0;
+      /**
+       * <code>.com.s13g.winston.proto.Condition.Operator operator = 2;</code>
+       */
+      public int getOperatorValue() {
+        return operator_;
+      }
+      /**
+       * <code>.com.s13g.winston.proto.Condition.Operator operator = 2;</code>
+       */
+      public Builder setOperatorValue(int value) {
+        operator_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.s13g.winston.proto.Condition.Operator operator = 2;</code>
+       */
+      public com.s13g.winston.proto.Master.Condition.Operator getOperator() {
+        @SuppressWarnings("deprecation")
+        com.s13g.winston.proto.Master.Condition.Operator result = com.s13g.winston.proto.Master.Condition.Operator.valueOf(operator_);
+        return result == null ? com.s13g.winston.proto.Master.Condition.Operator.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.com.s13g.winston.proto.Condition.Operator operator = 2;</code>
+       */
+      public Builder setOperator(com.s13g.winston.proto.Master.Condition.Operator value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        operator_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.s13g.winston.proto.Condition.Operator operator = 2;</code>
+       */
+      public Builder clearOperator() {
+        
+        operator_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object value_ = "";
+      /**
+       * <pre>
+       * The value to compare with. Compared as a number if both are numbers, else as a string. 
+       * </pre>
+       *
+       * <code>string value = 3;</code>
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          value_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The value to compare with. Compared as a number if both are numbers, else as a string. 
+       * </pre>
+       *
+       * <code>string value = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The value to compare with. Compared as a number if both are numbers, else as a string. 
+       * </pre>
+       *
+       * <code>string value = 3;</code>
+       */
+      public Builder setValue(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The value to compare with. Compared as a number if both are numbers, else as a string. 
+       * </pre>
+       *
+       * <code>string value = 3;</code>
+       */
+      public Builder clearValue() {
+        
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The value to compare with. Compared as a number if both are numbers, else as a string. 
+       * </pre>
+       *
+       * <code>string value = 3;</code>
+       */
+      public Builder setValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        value_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int forMillis_ ;
+      /**
+       * <pre>
+       * How long the comparison must be true before the condition is true. 
+       * </pre>
+       *
+       * <code>int32 for_millis = 4;</code>
+       */
+      public int getForMillis() {
+        return forMillis_;
+      }
+      /**
+       * <pre>
+       * How long the comparison must be true before the condition is true. 
+       * </pre>
+       *
+       * <code>int32 for_millis = 4;</code>
+       */
+      public Builder setForMillis(int value) {
+        
+        forMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * How long the comparison must be true before the condition is true. 
+       * </pre>
+       *
+       * <code>int32 for_millis = 4;</code>
+       */
+      public Builder clearForMillis() {
+        
+        forMillis_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.Condition)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.Condition)
+    private static final com.s13g.winston.proto.Master.Condition DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.Condition();
+    }
+
+    public static com.s13g.winston.proto.Master.Condition getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Condition>
+        PARSER = new com.google.protobuf.AbstractParser<Condition>() {
+      @java.lang.Override
+      public Condition parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Condition(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Condition> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Condition> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.s13g.winston.proto.Master.Condition getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RuleActionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.RuleAction)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * The path of the value, i.e. '{module}/{channel}/{value}'. 
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     */
+    java.lang.String getPath();
+    /**
+     * <pre>
+     * The path of the value, i.e. '{module}/{channel}/{value}'. 
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getPathBytes();
+
+    /**
+     * <pre>
+     * The raw value to write, as for a write through the REST interface. 
+     * </pre>
+     *
+     * <code>string value = 2;</code>
+     */
+    java.lang.String getValue();
+    /**
+     * <pre>
+     * The raw value to write, as for a write through the REST interface. 
+     * </pre>
+     *
+     * <code>string value = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getValueBytes();
+  }
+  /**
+   * <pre>
+   * Writes a value to a channel value. 
+   * </pre>
+   *
+   * Protobuf type {@code com.s13g.winston.proto.RuleAction}
+   */
+  public  static final class RuleAction extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.RuleAction)
+      RuleActionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RuleAction.newBuilder() to construct.
+    private RuleAction(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RuleAction() {
+      path_ = "";
+      value_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RuleAction(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              path_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              value_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_RuleAction_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_RuleAction_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.s13g.winston.proto.Master.RuleAction.class, com.s13g.winston.proto.Master.RuleAction.Builder.class);
+    }
+
+    public static final int PATH_FIELD_NUMBER = 1;
+    private volatile java.lang.Object path_;
+    /**
+     * <pre>
+     * The path of the value, i.e. '{module}/{channel}/{value}'. 
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     */
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        path_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The path of the value, i.e. '{module}/{channel}/{value}'. 
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private volatile java.lang.Object value_;
+    /**
+     * <pre>
+     * The raw value to write, as for a write through the REST interface. 
+     * </pre>
+     *
+     * <code>string value = 2;</code>
+     */
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        value_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The raw value to write, as for a write through the REST interface. 
+     * </pre>
+     *
+     * <code>string value = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getPathBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, path_);
+      }
+      if (!getValueBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, value_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getPathBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, path_);
+      }
+      if (!getValueBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, value_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.s13g.winston.proto.Master.RuleAction)) {
+        return super.equals(obj);
+      }
+      com.s13g.winston.proto.Master.RuleAction other = (com.s13g.winston.proto.Master.RuleAction) obj;
+
+      boolean result = true;
+      result = result && getPath()
+          .equals(other.getPath());
+      result = result && getValue()
+          .equals(other.getValue());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PATH_FIELD_NUMBER;
+      hash = (53 * hash) + getPath().hashCode();
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValue().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.s13g.winston.proto.Master.RuleAction parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.RuleAction parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.RuleAction parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.RuleAction parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.RuleAction parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.RuleAction parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.RuleAction parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.RuleAction parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.RuleAction parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.RuleAction parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.RuleAction parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.RuleAction parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.s13g.winston.proto.Master.RuleAction prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Writes a value to a channel value. 
+     * </pre>
+     *
+     * Protobuf type {@code com.s13g.winston.proto.RuleAction}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.RuleAction)
+        com.s13g.winston.proto.Master.RuleActionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_RuleAction_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_RuleAction_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.s13g.winston.proto.Master.RuleAction.class, com.s13g.winston.proto.Master.RuleAction.Builder.class);
+      }
+
+      // Construct using com.s13g.winston.proto.Master.RuleAction.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        path_ = "";
+
+        value_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_RuleAction_descriptor;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.RuleAction getDefaultInstanceForType() {
+        return com.s13g.winston.proto.Master.RuleAction.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.RuleAction build() {
+        com.s13g.winston.proto.Master.RuleAction result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.RuleAction buildPartial() {
+        com.s13g.winston.proto.Master.RuleAction result = new com.s13g.winston.proto.Master.RuleAction(this);
+        result.path_ = path_;
+        result.value_ = value_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.s13g.winston.proto.Master.RuleAction) {
+          return mergeFrom((com.s13g.winston.proto.Master.RuleAction)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.s13g.winston.proto.Master.RuleAction other) {
+        if (other == com.s13g.winston.proto.Master.RuleAction.getDefaultInstance()) return this;
+        if (!other.getPath().isEmpty()) {
+          path_ = other.path_;
+          onChanged();
+        }
+        if (!other.getValue().isEmpty()) {
+          value_ = other.value_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.s13g.winston.proto.Master.RuleAction parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.s13g.winston.proto.Master.RuleAction) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object path_ = "";
+      /**
+       * <pre>
+       * The path of the value, i.e. '{module}/{channel}/{value}'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          path_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The path of the value, i.e. '{module}/{channel}/{value}'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The path of the value, i.e. '{module}/{channel}/{value}'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        path_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The path of the value, i.e. '{module}/{channel}/{value}'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      public Builder clearPath() {
+        
+        path_ = getDefaultInstance().getPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The path of the value, i.e. '{module}/{channel}/{value}'. 
+       * </pre>
+       *
+       * <code>string path = 1;</code>
+       */
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        path_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object value_ = "";
+      /**
+       * <pre>
+       * The raw value to write, as for a write through the REST interface. 
+       * </pre>
+       *
+       * <code>string value = 2;</code>
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          value_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The raw value to write, as for a write through the REST interface. 
+       * </pre>
+       *
+       * <code>string value = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The raw value to write, as for a write through the REST interface. 
+       * </pre>
+       *
+       * <code>string value = 2;</code>
+       */
+      public Builder setValue(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The raw value to write, as for a write through the REST interface. 
+       * </pre>
+       *
+       * <code>string value = 2;</code>
+       */
+      public Builder clearValue() {
+        
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The raw value to write, as for a write through the REST interface. 
+       * </pre>
+       *
+       * <code>string value = 2;</code>
+       */
+      public Builder setValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.RuleAction)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.RuleAction)
+    private static final com.s13g.winston.proto.Master.RuleAction DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.RuleAction();
+    }
+
+    public static com.s13g.winston.proto.Master.RuleAction getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RuleAction>
+        PARSER = new com.google.protobuf.AbstractParser<RuleAction>() {
+      @java.lang.Override
+      public RuleAction parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RuleAction(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<RuleAction> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RuleAction> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.s13g.winston.proto.Master.RuleAction getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ChannelOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.Channel)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * The type of the channel. 
+     * </pre>
+     *
+     * <code>string type = 1;</code>
+     */
+    java.lang.String getType();
+    /**
+     * <pre>
+     * The type of the channel. 
+     * </pre>
+     *
+     * <code>string type = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <pre>
+     * An optional address to localize the channel. 
+     * </pre>
+     *
+     * <code>string address = 2;</code>
+     */
+    java.lang.String getAddress();
+    /**
+     * <pre>
+     * An optional address to localize the channel. 
+     * </pre>
+     *
+     * <code>string address = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getAddressBytes();
+
+    /**
+     * <pre>
+     * All parameters required to run the channel. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     */
+    java.util.List<com.s13g.winston.proto.Master.Parameter> 
+        getParameterList();
+    /**
+     * <pre>
+     * All parameters required to run the channel. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     */
+    com.s13g.winston.proto.Master.Parameter getParameter(int index);
+    /**
+     * <pre>
+     * All parameters required to run the channel. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     */
+    int getParameterCount();
+    /**
+     * <pre>
+     * All parameters required to run the channel. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     */
+    java.util.List<? extends com.s13g.winston.proto.Master.ParameterOrBuilder> 
+        getParameterOrBuilderList();
+    /**
+     * <pre>
+     * All parameters required to run the channel. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     */
+    com.s13g.winston.proto.Master.ParameterOrBuilder getParameterOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Each module can have support for multiple channels. 
+   * </pre>
+   *
+   * Protobuf type {@code com.s13g.winston.proto.Channel}
+   */
+  public  static final class Channel extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.Channel)
+      ChannelOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Channel.newBuilder() to construct.
+    private Channel(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Channel() {
+      type_ = "";
+      address_ = "";
+      parameter_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Channel(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              type_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              address_ = s;
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                parameter_ = new java.util.ArrayList<com.s13g.winston.proto.Master.Parameter>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              parameter_.add(
+                  input.readMessage(com.s13g.winston.proto.Master.Parameter.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          parameter_ = java.util.Collections.unmodifiableList(parameter_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Channel_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Channel_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.s13g.winston.proto.Master.Channel.class, com.s13g.winston.proto.Master.Channel.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private volatile java.lang.Object type_;
+    /**
+     * <pre>
+     * The type of the channel. 
+     * </pre>
+     *
+     * <code>string type = 1;</code>
+     */
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        type_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The type of the channel. 
+     * </pre>
+     *
+     * <code>string type = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ADDRESS_FIELD_NUMBER = 2;
+    private volatile java.lang.Object address_;
+    /**
+     * <pre>
+     * An optional address to localize the channel. 
+     * </pre>
+     *
+     * <code>string address = 2;</code>
+     */
+    public java.lang.String getAddress() {
+      java.lang.Object ref = address_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        address_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * An optional address to localize the channel. 
+     * </pre>
+     *
+     * <code>string address = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAddressBytes() {
+      java.lang.Object ref = address_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        address_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PARAMETER_FIELD_NUMBER = 3;
+    private java.util.List<com.s13g.winston.proto.Master.Parameter> parameter_;
+    /**
+     * <pre>
+     * All parameters required to run the channel. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     */
+    public java.util.List<com.s13g.winston.proto.Master.Parameter> getParameterList() {
+      return parameter_;
+    }
+    /**
+     * <pre>
+     * All parameters required to run the channel. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     */
+    public java.util.List<? extends com.s13g.winston.proto.Master.ParameterOrBuilder> 
+        getParameterOrBuilderList() {
+      return parameter_;
+    }
+    /**
+     * <pre>
+     * All parameters required to run the channel. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     */
+    public int getParameterCount() {
+      return parameter_.size();
+    }
+    /**
+     * <pre>
+     * All parameters required to run the channel. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     */
+    public com.s13g.winston.proto.Master.Parameter getParameter(int index) {
+      return parameter_.get(index);
+    }
+    /**
+     * <pre>
+     * All parameters required to run the channel. 
+     * </pre>
+     *
+     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+     */
+    public com.s13g.winston.proto.Master.ParameterOrBuilder getParameterOrBuilder(
+        int index) {
+      return parameter_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getTypeBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, type_);
+      }
+      if (!getAddressBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, address_);
+      }
+      for (int i = 0; i < parameter_.size(); i++) {
+        output.writeMessage(3, parameter_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getTypeBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, type_);
+      }
+      if (!getAddressBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, address_);
+      }
+      for (int i = 0; i < parameter_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, parameter_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.s13g.winston.proto.Master.Channel)) {
+        return super.equals(obj);
+      }
+      com.s13g.winston.proto.Master.Channel other = (com.s13g.winston.proto.Master.Channel) obj;
+
+      boolean result = true;
+      result = result && getType()
+          .equals(other.getType());
+      result = result && getAddress()
+          .equals(other.getAddress());
+      result = result && getParameterList()
+          .equals(other.getParameterList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getType().hashCode();
+      hash = (37 * hash) + ADDRESS_FIELD_NUMBER;
+      hash = (53 * hash) + getAddress().hashCode();
+      if (getParameterCount() > 0) {
+        hash = (37 * hash) + PARAMETER_FIELD_NUMBER;
+        hash = (53 * hash) + getParameterList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.s13g.winston.proto.Master.Channel parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.Channel parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Channel parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.Channel parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Channel parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.Channel parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Channel parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.Channel parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Channel parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.Channel parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Channel parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.Channel parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.s13g.winston.proto.Master.Channel prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Each module can have support for multiple channels. 
+     * </pre>
+     *
+     * Protobuf type {@code com.s13g.winston.proto.Channel}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.Channel)
+        com.s13g.winston.proto.Master.ChannelOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Channel_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Channel_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.s13g.winston.proto.Master.Channel.class, com.s13g.winston.proto.Master.Channel.Builder.class);
+      }
+
+      // Construct using com.s13g.winston.proto.Master.Channel.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getParameterFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        type_ = "";
+
+        address_ = "";
+
+        if (parameterBuilder_ == null) {
+          parameter_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          parameterBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Channel_descriptor;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.Channel getDefaultInstanceForType() {
+        return com.s13g.winston.proto.Master.Channel.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.Channel build() {
+        com.s13g.winston.proto.Master.Channel result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.Channel buildPartial() {
+        com.s13g.winston.proto.Master.Channel result = new com.s13g.winston.proto.Master.Channel(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.type_ = type_;
+        result.address_ = address_;
+        if (parameterBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            parameter_ = java.util.Collections.unmodifiableList(parameter_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.parameter_ = parameter_;
+        } else {
+          result.parameter_ = parameterBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.s13g.winston.proto.Master.Channel) {
+          return mergeFrom((com.s13g.winston.proto.Master.Channel)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.s13g.winston.proto.Master.Channel other) {
+        if (other == com.s13g.winston.proto.Master.Channel.getDefaultInstance()) return this;
+        if (!other.getType().isEmpty()) {
+          type_ = other.type_;
+          onChanged();
+        }
+        if (!other.getAddress().isEmpty()) {
+          address_ = other.address_;
+          onChanged();
+        }
+        if (parameterBuilder_ == null) {
+          if (!other.parameter_.isEmpty()) {
+            if (parameter_.isEmpty()) {
+              parameter_ = other.parameter_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureParameterIsMutable();
+              parameter_.addAll(other.parameter_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.parameter_.isEmpty()) {
+            if (parameterBuilder_.isEmpty()) {
+              parameterBuilder_.dispose();
+              parameterBuilder_ = null;
+              parameter_ = other.parameter_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              parameterBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getParameterFieldBuilder() : null;
+            } else {
+              parameterBuilder_.addAllMessages(other.parameter_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.s13g.winston.proto.Master.Channel parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.s13g.winston.proto.Master.Channel) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object type_ = "";
+      /**
+       * <pre>
+       * The type of the channel. 
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The type of the channel. 
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The type of the channel. 
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The type of the channel. 
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       */
+      public Builder clearType() {
+        
+        type_ = getDefaultInstance().getType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The type of the channel. 
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        type_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object address_ = "";
+      /**
+       * <pre>
+       * An optional address to localize the channel. 
+       * </pre>
+       *
+       * <code>string address = 2;</code>
+       */
+      public java.lang.String getAddress() {
+        java.lang.Object ref = address_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          address_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * An optional address to localize the channel. 
+       * </pre>
+       *
+       * <code>string address = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAddressBytes() {
+        java.lang.Object ref = address_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          address_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * An optional address to localize the channel. 
+       * </pre>
+       *
+       * <code>string address = 2;</code>
+       */
+      public Builder setAddress(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        address_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * An optional address to localize the channel. 
+       * </pre>
+       *
+       * <code>string address = 2;</code>
+       */
+      public Builder clearAddress() {
+        
+        address_ = getDefaultInstance().getAddress();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * An optional address to localize the channel. 
+       * </pre>
+       *
+       * <code>string address = 2;</code>
+       */
+      public Builder setAddressBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        address_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.s13g.winston.proto.Master.Parameter> parameter_ =
+        java.util.Collections.emptyList();
+      private void ensureParameterIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          parameter_ = new java.util.ArrayList<com.s13g.winston.proto.Master.Parameter>(parameter_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.Parameter, com.s13g.winston.proto.Master.Parameter.Builder, com.s13g.winston.proto.Master.ParameterOrBuilder> parameterBuilder_;
+
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.Parameter> getParameterList() {
+        if (parameterBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(parameter_);
+        } else {
+          return parameterBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public int getParameterCount() {
+        if (parameterBuilder_ == null) {
+          return parameter_.size();
+        } else {
+          return parameterBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public com.s13g.winston.proto.Master.Parameter getParameter(int index) {
+        if (parameterBuilder_ == null) {
+          return parameter_.get(index);
+        } else {
+          return parameterBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public Builder setParameter(
+          int index, com.s13g.winston.proto.Master.Parameter value) {
+        if (parameterBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParameterIsMutable();
+          parameter_.set(index, value);
+          onChanged();
+        } else {
+          parameterBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public Builder setParameter(
+          int index, com.s13g.winston.proto.Master.Parameter.Builder builderForValue) {
+        if (parameterBuilder_ == null) {
+          ensureParameterIsMutable();
+          parameter_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          parameterBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public Builder addParameter(com.s13g.winston.proto.Master.Parameter value) {
+        if (parameterBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParameterIsMutable();
+          parameter_.add(value);
+          onChanged();
+        } else {
+          parameterBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public Builder addParameter(
+          int index, com.s13g.winston.proto.Master.Parameter value) {
+        if (parameterBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParameterIsMutable();
+          parameter_.add(index, value);
+          onChanged();
+        } else {
+          parameterBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public Builder addParameter(
+          com.s13g.winston.proto.Master.Parameter.Builder builderForValue) {
+        if (parameterBuilder_ == null) {
+          ensureParameterIsMutable();
+          parameter_.add(builderForValue.build());
+          onChanged();
+        } else {
+          parameterBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public Builder addParameter(
+          int index, com.s13g.winston.proto.Master.Parameter.Builder builderForValue) {
+        if (parameterBuilder_ == null) {
+          ensureParameterIsMutable();
+          parameter_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          parameterBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public Builder addAllParameter(
+          java.lang.Iterable<? extends com.s13g.winston.proto.Master.Parameter> values) {
+        if (parameterBuilder_ == null) {
+          ensureParameterIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, parameter_);
+          onChanged();
+        } else {
+          parameterBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public Builder clearParameter() {
+        if (parameterBuilder_ == null) {
+          parameter_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          parameterBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public Builder removeParameter(int index) {
+        if (parameterBuilder_ == null) {
+          ensureParameterIsMutable();
+          parameter_.remove(index);
+          onChanged();
+        } else {
+          parameterBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public com.s13g.winston.proto.Master.Parameter.Builder getParameterBuilder(
+          int index) {
+        return getParameterFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public com.s13g.winston.proto.Master.ParameterOrBuilder getParameterOrBuilder(
+          int index) {
+        if (parameterBuilder_ == null) {
+          return parameter_.get(index);  } else {
+          return parameterBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public java.util.List<? extends com.s13g.winston.proto.Master.ParameterOrBuilder> 
+           getParameterOrBuilderList() {
+        if (parameterBuilder_ != null) {
+          return parameterBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(parameter_);
+        }
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public com.s13g.winston.proto.Master.Parameter.Builder addParameterBuilder() {
+        return getParameterFieldBuilder().addBuilder(
+            com.s13g.winston.proto.Master.Parameter.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public com.s13g.winston.proto.Master.Parameter.Builder addParameterBuilder(
+          int index) {
+        return getParameterFieldBuilder().addBuilder(
+            index, com.s13g.winston.proto.Master.Parameter.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * All parameters required to run the channel. 
+       * </pre>
+       *
+       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       */
+      public java.util.List<com.s13g.winston.proto.Master.Parameter.Builder> 
+           getParameterBuilderList() {
+        return getParameterFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.s13g.winston.proto.Master.Parameter, com.s13g.winston.proto.Master.Parameter.Builder, com.s13g.winston.proto.Master.ParameterOrBuilder> 
+          getParameterFieldBuilder() {
+        if (parameterBuilder_ == null) {
+          parameterBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.s13g.winston.proto.Master.Parameter, com.s13g.winston.proto.Master.Parameter.Builder, com.s13g.winston.proto.Master.ParameterOrBuilder>(
+                  parameter_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          parameter_ = null;
+        }
+        return parameterBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.Channel)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.Channel)
+    private static final com.s13g.winston.proto.Master.Channel DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.Channel();
+    }
+
+    public static com.s13g.winston.proto.Master.Channel getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Channel>
+        PARSER = new com.google.protobuf.AbstractParser<Channel>() {
+      @java.lang.Override
+      public Channel parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Channel(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Channel> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Channel> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.s13g.winston.proto.Master.Channel getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ParameterOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.Parameter)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Name of the parameter. 
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * Name of the parameter. 
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <pre>
+     * Value of the parameter. 
+     * </pre>
+     *
+     * <code>string value = 2;</code>
+     */
+    java.lang.String getValue();
+    /**
+     * <pre>
+     * Value of the parameter. 
+     * </pre>
+     *
+     * <code>string value = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getValueBytes();
+  }
+  /**
+   * <pre>
+   * Parameters that can be passed to modules. 
+   * </pre>
+   *
+   * Protobuf type {@code com.s13g.winston.proto.Parameter}
+   */
+  public  static final class Parameter extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.Parameter)
+      ParameterOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Parameter.newBuilder() to construct.
+    private Parameter(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Parameter() {
+      name_ = "";
+      value_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Parameter(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              name_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              value_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Parameter_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Parameter_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.s13g.winston.proto.Master.Parameter.class, com.s13g.winston.proto.Master.Parameter.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <pre>
+     * Name of the parameter. 
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Name of the parameter. 
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private volatile java.lang.Object value_;
+    /**
+     * <pre>
+     * Value of the parameter. 
+     * </pre>
+     *
+     * <code>string value = 2;</code>
+     */
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        value_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Value of the parameter. 
+     * </pre>
+     *
+     * <code>string value = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!getValueBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, value_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!getValueBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, value_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.s13g.winston.proto.Master.Parameter)) {
+        return super.equals(obj);
+      }
+      com.s13g.winston.proto.Master.Parameter other = (com.s13g.winston.proto.Master.Parameter) obj;
+
+      boolean result = true;
+      result = result && getName()
+          .equals(other.getName());
+      result = result && getValue()
+          .equals(other.getValue());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValue().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Parameter parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Parameter parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Parameter parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.Parameter parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.s13g.winston.proto.Master.Parameter prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Parameters that can be passed to modules. 
+     * </pre>
+     *
+     * Protobuf type {@code com.s13g.winston.proto.Parameter}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.Parameter)
+        com.s13g.winston.proto.Master.ParameterOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Parameter_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Parameter_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.s13g.winston.proto.Master.Parameter.class, com.s13g.winston.proto.Master.Parameter.Builder.class);
+      }
+
+      // Construct using com.s13g.winston.proto.Master.Parameter.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+
+        value_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Parameter_descriptor;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.Parameter getDefaultInstanceForType() {
+        return com.s13g.winston.proto.Master.Parameter.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.Parameter build() {
+        com.s13g.winston.proto.Master.Parameter result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.Parameter buildPartial() {
+        com.s13g.winston.proto.Master.Parameter result = new com.s13g.winston.proto.Master.Parameter(this);
+        result.name_ = name_;
+        result.value_ = value_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.s13g.winston.proto.Master.Parameter) {
+          return mergeFrom((com.s13g.winston.proto.Master.Parameter)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.s13g.winston.proto.Master.Parameter other) {
+        if (other == com.s13g.winston.proto.Master.Parameter.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        if (!other.getValue().isEmpty()) {
+          value_ = other.value_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.s13g.winston.proto.Master.Parameter parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.s13g.winston.proto.Master.Parameter) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * Name of the parameter. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the parameter. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the parameter. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the parameter. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the parameter. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object value_ = "";
+      /**
+       * <pre>
+       * Value of the parameter. 
+       * </pre>
+       *
+       * <code>string value = 2;</code>
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          value_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Value of the parameter. 
+       * </pre>
+       *
+       * <code>string value = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Value of the parameter. 
+       * </pre>
+       *
+       * <code>string value = 2;</code>
+       */
+      public Builder setValue(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Value of the parameter. 
+       * </pre>
+       *
+       * <code>string value = 2;</code>
+       */
+      public Builder clearValue() {
+        
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Value of the parameter. 
+       * </pre>
+       *
+       * <code>string value = 2;</code>
+       */
+      public Builder setValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.Parameter)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.Parameter)
+    private static final com.s13g.winston.proto.Master.Parameter DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.Parameter();
+    }
+
+    public static com.s13g.winston.proto.Master.Parameter getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Parameter>
+        PARSER = new com.google.protobuf.AbstractParser<Parameter>() {
+      @java.lang.Override
+      public Parameter parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Parameter(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Parameter> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Parameter> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.s13g.winston.proto.Master.Parameter getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AuthenticatedClientOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.AuthenticatedClient)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Human readable name of this client. 
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * Human readable name of this client. 
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <pre>
+     * A random auth_token used to authenticate the client. 
+     * </pre>
+     *
+     * <code>string auth_token = 2;</code>
+     */
+    java.lang.String getAuthToken();
+    /**
+     * <pre>
+     * A random auth_token used to authenticate the client. 
+     * </pre>
+     *
+     * <code>string auth_token = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getAuthTokenBytes();
+
+    /**
+     * <pre>
+     * The sustained number of requests per second this client may make. Unlimited if not set. 
+     * </pre>
+     *
+     * <code>double requests_per_second = 3;</code>
+     */
+    double getRequestsPerSecond();
+
+    /**
+     * <pre>
+     * The number of requests this client may make in a burst. Defaults to requests_per_second. 
+     * </pre>
+     *
+     * <code>int32 burst = 4;</code>
+     */
+    int getBurst();
+  }
+  /**
+   * <pre>
+   * To prevent unauthorized access, only clients with a token can access secure functionality.
+   * </pre>
+   *
+   * Protobuf type {@code com.s13g.winston.proto.AuthenticatedClient}
+   */
+  public  static final class AuthenticatedClient extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.AuthenticatedClient)
+      AuthenticatedClientOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use AuthenticatedClient.newBuilder() to construct.
+    private AuthenticatedClient(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AuthenticatedClient() {
+      name_ = "";
+      authToken_ = "";
+      requestsPerSecond_ = 0D;
+      burst_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AuthenticatedClient(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              name_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              authToken_ = s;
+              break;
+            }
+            case 25: {
+
+              requestsPerSecond_ = input.readDouble();
+              break;
+            }
+            case 32: {
+
+              burst_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_AuthenticatedClient_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_AuthenticatedClient_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.s13g.winston.proto.Master.AuthenticatedClient.class, com.s13g.winston.proto.Master.AuthenticatedClient.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <pre>
+     * Human readable name of this client. 
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Human readable name of this client. 
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int AUTH_TOKEN_FIELD_NUMBER = 2;
+    private volatile java.lang.Object authToken_;
+    /**
+     * <pre>
+     * A random auth_token used to authenticate the client. 
+     * </pre>
+     *
+     * <code>string auth_token = 2;</code>
+     */
+    public java.lang.String getAuthToken() {
+      java.lang.Object ref = authToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        authToken_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * A random auth_token used to authenticate the client. 
+     * </pre>
+     *
+     * <code>string auth_token = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAuthTokenBytes() {
+      java.lang.Object ref = authToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        authToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REQUESTS_PER_SECOND_FIELD_NUMBER = 3;
+    private double requestsPerSecond_;
+    /**
+     * <pre>
+     * The sustained number of requests per second this client may make. Unlimited if not set. 
+     * </pre>
+     *
+     * <code>double requests_per_second = 3;</code>
+     */
+    public double getRequestsPerSecond() {
+      return requestsPerSecond_;
+    }
+
+    public static final int BURST_FIELD_NUMBER = 4;
+    private int burst_;
+    /**
+     * <pre>
+     * The number of requests this client may make in a burst. Defaults to requests_per_second. 
+     * </pre>
+     *
+     * <code>int32 burst = 4;</code>
+     */
+    public int getBurst() {
+      return burst_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!getAuthTokenBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, authToken_);
+      }
+      if (requestsPerSecond_ != 0D) {
+        output.writeDouble(3, requestsPerSecond_);
+      }
+      if (burst_ != 0) {
+        output.writeInt32(4, burst_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!getAuthTokenBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, authToken_);
+      }
+      if (requestsPerSecond_ != 0D) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(3, requestsPerSecond_);
+      }
+      if (burst_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, burst_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.s13g.winston.proto.Master.AuthenticatedClient)) {
+        return super.equals(obj);
+      }
+      com.s13g.winston.proto.Master.AuthenticatedClient other = (com.s13g.winston.proto.Master.AuthenticatedClient) obj;
+
+      boolean result = true;
+      result = result && getName()
+          .equals(other.getName());
+      result = result && getAuthToken()
+          .equals(other.getAuthToken());
+      result = result && (
+          java.lang.Double.doubleToLongBits(getRequestsPerSecond())
+          == java.lang.Double.doubleToLongBits(
+              other.getRequestsPerSecond()));
+      result = result && (getBurst()
+          == other.getBurst());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + AUTH_TOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getAuthToken().hashCode();
+      hash = (37 * hash) + REQUESTS_PER_SECOND_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getRequestsPerSecond()));
+      hash = (37 * hash) + BURST_FIELD_NUMBER;
+      hash = (53 * hash) + getBurst();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.AuthenticatedClient parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.AuthenticatedClient parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.s13g.winston.proto.Master.AuthenticatedClient prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * To prevent unauthorized access, only clients with a token can access secure functionality.
+     * </pre>
+     *
+     * Protobuf type {@code com.s13g.winston.proto.AuthenticatedClient}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.AuthenticatedClient)
+        com.s13g.winston.proto.Master.AuthenticatedClientOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_AuthenticatedClient_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_AuthenticatedClient_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.s13g.winston.proto.Master.AuthenticatedClient.class, com.s13g.winston.proto.Master.AuthenticatedClient.Builder.class);
+      }
+
+      // Construct using com.s13g.winston.proto.Master.AuthenticatedClient.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+
+        authToken_ = "";
+
+        requestsPerSecond_ = 0D;
+
+        burst_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_AuthenticatedClient_descriptor;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.AuthenticatedClient getDefaultInstanceForType() {
+        return com.s13g.winston.proto.Master.AuthenticatedClient.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.AuthenticatedClient build() {
+        com.s13g.winston.proto.Master.AuthenticatedClient result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.AuthenticatedClient buildPartial() {
+        com.s13g.winston.proto.Master.AuthenticatedClient result = new com.s13g.winston.proto.Master.AuthenticatedClient(this);
+        result.name_ = name_;
+        result.authToken_ = authToken_;
+        result.requestsPerSecond_ = requestsPerSecond_;
+        result.burst_ = burst_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.s13g.winston.proto.Master.AuthenticatedClient) {
+          return mergeFrom((com.s13g.winston.proto.Master.AuthenticatedClient)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.s13g.winston.proto.Master.AuthenticatedClient other) {
+        if (other == com.s13g.winston.proto.Master.AuthenticatedClient.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        if (!other.getAuthToken().isEmpty()) {
+          authToken_ = other.authToken_;
+          onChanged();
+        }
+        if (other.getRequestsPerSecond() != 0D) {
+          setRequestsPerSecond(other.getRequestsPerSecond());
+        }
+        if (other.getBurst() != 0) {
+          setBurst(other.getBurst());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.s13g.winston.proto.Master.AuthenticatedClient parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.s13g.winston.proto.Master.AuthenticatedClient) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * Human readable name of this client. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Human readable name of this client. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Human readable name of this client. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Human readable name of this client. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Human readable name of this client. 
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object authToken_ = "";
+      /**
+       * <pre>
+       * A random auth_token used to authenticate the client. 
+       * </pre>
+       *
+       * <code>string auth_token = 2;</code>
+       */
+      public java.lang.String getAuthToken() {
+        java.lang.Object ref = authToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          authToken_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * A random auth_token used to authenticate the client. 
+       * </pre>
+       *
+       * <code>string auth_token = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAuthTokenBytes() {
+        java.lang.Object ref = authToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          authToken_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * A random auth_token used to authenticate the client. 
+       * </pre>
+       *
+       * <code>string auth_token = 2;</code>
+       */
+      public Builder setAuthToken(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        authToken_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * A random auth_token used to authenticate the client. 
+       * </pre>
+       *
+       * <code>string auth_token = 2;</code>
+       */
+      public Builder clearAuthToken() {
+        
+        authToken_ = getDefaultInstance().getAuthToken();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * A random auth_token used to authenticate the client. 
+       * </pre>
+       *
+       * <code>string auth_token = 2;</code>
+       */
+      public Builder setAuthTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        authToken_ = value;
+        onChanged();
+        return this;
       }
-    }
-
-    public static final int PARAMETER_FIELD_NUMBER = 3;
-    private java.util.List<com.s13g.winston.proto.Master.Parameter> parameter_;
-    /**
-     * <pre>
-     * All parameters required to run the channel. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
-     */
-    public java.util.List<com.s13g.winston.proto.Master.Parameter> getParameterList() {
-      return parameter_;
-    }
-    /**
-     * <pre>
-     * All parameters required to run the channel. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
-     */
-    public java.util.List<? extends com.s13g.winston.proto.Master.ParameterOrBuilder> 
-        getParameterOrBuilderList() {
-      return parameter_;
-    }
-    /**
-     * <pre>
-     * All parameters required to run the channel. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
-     */
-    public int getParameterCount() {
-      return parameter_.size();
-    }
-    /**
-     * <pre>
-     * All parameters required to run the channel. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
-     */
-    public com.s13g.winston.proto.Master.Parameter getParameter(int index) {
-      return parameter_.get(index);
-    }
-    /**
-     * <pre>
-     * All parameters required to run the channel. 
-     * </pre>
-     *
-     * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
-     */
-    public com.s13g.winston.proto.Master.ParameterOrBuilder getParameterOrBuilder(
-        int index) {
-      return parameter_.get(index);
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
 
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (!getTypeBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, type_);
+      private double requestsPerSecond_ ;
+      /**
+       * <pre>
+       * The sustained number of requests per second this client may make. Unlimited if not set. 
+       * </pre>
+       *
+       * <code>double requests_per_second = 3;</code>
+       */
+      public double getRequestsPerSecond() {
+        return requestsPerSecond_;
       }
-      if (!getAddressBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, address_);
+      /**
+       * <pre>
+       * The sustained number of requests per second this client may make. Unlimited if not set. 
+       * </pre>
+       *
+       * <code>double requests_per_second = 3;</code>
+       */
+      public Builder setRequestsPerSecond(double value) {
+        
+        requestsPerSecond_ = value;
+        onChanged();
+        return this;
       }
-      for (int i = 0; i < parameter_.size(); i++) {
-        output.writeMessage(3, parameter_.get(i));
+      /**
+       * <pre>
+       * The sustained number of requests per second this client may make. Unlimited if not set. 
+       * </pre>
+       *
+       * <code>double requests_per_second = 3;</code>
+       */
+      public Builder clearRequestsPerSecond() {
+        
+        requestsPerSecond_ = 0D;
+        onChanged();
+        return this;
       }
-      unknownFields.writeTo(output);
-    }
 
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (!getTypeBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, type_);
+      private int burst_ ;
+      /**
+       * <pre>
+       * The number of requests this client may make in a burst. Defaults to requests_per_second. 
+       * </pre>
+       *
+       * <code>int32 burst = 4;</code>
+       */
+      public int getBurst() {
+        return burst_;
       }
-      if (!getAddressBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, address_);
+      /**
+       * <pre>
+       * The number of requests this client may make in a burst. Defaults to requests_per_second. 
+       * </pre>
+       *
+       * <code>int32 burst = 4;</code>
+       */
+      public Builder setBurst(int value) {
+        
+        burst_ = value;
+        onChanged();
+        return this;
       }
-      for (int i = 0; i < parameter_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, parameter_.get(i));
+      /**
+       * <pre>
+       * The number of requests this client may make in a burst. Defaults to requests_per_second. 
+       * </pre>
+       *
+       * <code>int32 burst = 4;</code>
+       */
+      public Builder clearBurst() {
+        
+        burst_ = 0;
+        onChanged();
+        return this;
       }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
       }
-      if (!(obj instanceof com.s13g.winston.proto.Master.Channel)) {
-        return super.equals(obj);
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
       }
-      com.s13g.winston.proto.Master.Channel other = (com.s13g.winston.proto.Master.Channel) obj;
 
-      boolean result = true;
-      result = result && getType()
-          .equals(other.getType());
-      result = result && getAddress()
-          .equals(other.getAddress());
-      result = result && getParameterList()
-          .equals(other.getParameterList());
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
-    }
 
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + TYPE_FIELD_NUMBER;
-      hash = (53 * hash) + getType().hashCode();
-      hash = (37 * hash) + ADDRESS_FIELD_NUMBER;
-      hash = (53 * hash) + getAddress().hashCode();
-      if (getParameterCount() > 0) {
-        hash = (37 * hash) + PARAMETER_FIELD_NUMBER;
-        hash = (53 * hash) + getParameterList().hashCode();
-      }
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.AuthenticatedClient)
     }
 
-    public static com.s13g.winston.proto.Master.Channel parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.s13g.winston.proto.Master.Channel parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.s13g.winston.proto.Master.Channel parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.s13g.winston.proto.Master.Channel parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.s13g.winston.proto.Master.Channel parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.s13g.winston.proto.Master.Channel parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.s13g.winston.proto.Master.Channel parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static com.s13g.winston.proto.Master.Channel parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static com.s13g.winston.proto.Master.Channel parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static com.s13g.winston.proto.Master.Channel parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static com.s13g.winston.proto.Master.Channel parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static com.s13g.winston.proto.Master.Channel parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.AuthenticatedClient)
+    private static final com.s13g.winston.proto.Master.AuthenticatedClient DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.AuthenticatedClient();
     }
 
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
+    public static com.s13g.winston.proto.Master.AuthenticatedClient getDefaultInstance() {
+      return DEFAULT_INSTANCE;
     }
-    public static Builder newBuilder(com.s13g.winston.proto.Master.Channel prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+
+    private static final com.google.protobuf.Parser<AuthenticatedClient>
+        PARSER = new com.google.protobuf.AbstractParser<AuthenticatedClient>() {
+      @java.lang.Override
+      public AuthenticatedClient parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AuthenticatedClient(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<AuthenticatedClient> parser() {
+      return PARSER;
     }
+
     @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
+    public com.google.protobuf.Parser<AuthenticatedClient> getParserForType() {
+      return PARSER;
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
+    public com.s13g.winston.proto.Master.AuthenticatedClient getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
     }
+
+  }
+
+  public interface ValueCacheOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.ValueCache)
+      com.google.protobuf.MessageOrBuilder {
+
     /**
      * <pre>
-     * Each module can have support for multiple channels. 
+     * The values to cache: a module type, a channel path '{module}/{channel}' or a value path
+     * '{module}/{channel}/{value}'. If several caches match a value, the most specific one is used.
      * </pre>
      *
-     * Protobuf type {@code com.s13g.winston.proto.Channel}
+     * <code>string path = 1;</code>
      */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.Channel)
-        com.s13g.winston.proto.Master.ChannelOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Channel_descriptor;
-      }
+    java.lang.String getPath();
+    /**
+     * <pre>
+     * The values to cache: a module type, a channel path '{module}/{channel}' or a value path
+     * '{module}/{channel}/{value}'. If several caches match a value, the most specific one is used.
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getPathBytes();
 
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Channel_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                com.s13g.winston.proto.Master.Channel.class, com.s13g.winston.proto.Master.Channel.Builder.class);
-      }
+    /**
+     * <pre>
+     * How long a read value is served from the cache. 
+     * </pre>
+     *
+     * <code>int32 max_age_millis = 2;</code>
+     */
+    int getMaxAgeMillis();
 
-      // Construct using com.s13g.winston.proto.Master.Channel.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
+    /**
+     * <pre>
+     * How long after max_age_millis the old value is still served, while it is refreshed in the
+     * background. If the refresh fails for longer than this, reads fail as well.
+     * </pre>
+     *
+     * <code>int32 max_stale_millis = 3;</code>
+     */
+    int getMaxStaleMillis();
+  }
+  /**
+   * <pre>
+   * Caches reads of channel values, e.g. of slow devices or devices with rate limits. 
+   * </pre>
+   *
+   * Protobuf type {@code com.s13g.winston.proto.ValueCache}
+   */
+  public  static final class ValueCache extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.ValueCache)
+      ValueCacheOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ValueCache.newBuilder() to construct.
+    private ValueCache(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ValueCache() {
+      path_ = "";
+      maxAgeMillis_ = 0;
+      maxStaleMillis_ = 0;
+    }
 
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-          getParameterFieldBuilder();
-        }
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ValueCache(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
       }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        type_ = "";
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
 
-        address_ = "";
+              path_ = s;
+              break;
+            }
+            case 16: {
 
-        if (parameterBuilder_ == null) {
-          parameter_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000004);
-        } else {
-          parameterBuilder_.clear();
+              maxAgeMillis_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              maxStaleMillis_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
         }
-        return this;
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
       }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_ValueCache_descriptor;
+    }
 
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Channel_descriptor;
-      }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_ValueCache_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.s13g.winston.proto.Master.ValueCache.class, com.s13g.winston.proto.Master.ValueCache.Builder.class);
+    }
 
-      @java.lang.Override
-      public com.s13g.winston.proto.Master.Channel getDefaultInstanceForType() {
-        return com.s13g.winston.proto.Master.Channel.getDefaultInstance();
+    public static final int PATH_FIELD_NUMBER = 1;
+    private volatile java.lang.Object path_;
+    /**
+     * <pre>
+     * The values to cache: a module type, a channel path '{module}/{channel}' or a value path
+     * '{module}/{channel}/{value}'. If several caches match a value, the most specific one is used.
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     */
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        path_ = s;
+        return s;
       }
-
-      @java.lang.Override
-      public com.s13g.winston.proto.Master.Channel build() {
-        com.s13g.winston.proto.Master.Channel result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
+    }
+    /**
+     * <pre>
+     * The values to cache: a module type, a channel path '{module}/{channel}' or a value path
+     * '{module}/{channel}/{value}'. If several caches match a value, the most specific one is used.
+     * </pre>
+     *
+     * <code>string path = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      @java.lang.Override
-      public com.s13g.winston.proto.Master.Channel buildPartial() {
-        com.s13g.winston.proto.Master.Channel result = new com.s13g.winston.proto.Master.Channel(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        result.type_ = type_;
-        result.address_ = address_;
-        if (parameterBuilder_ == null) {
-          if (((bitField0_ & 0x00000004) == 0x00000004)) {
-            parameter_ = java.util.Collections.unmodifiableList(parameter_);
-            bitField0_ = (bitField0_ & ~0x00000004);
-          }
-          result.parameter_ = parameter_;
-        } else {
-          result.parameter_ = parameterBuilder_.build();
-        }
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
-      }
+    public static final int MAX_AGE_MILLIS_FIELD_NUMBER = 2;
+    private int maxAgeMillis_;
+    /**
+     * <pre>
+     * How long a read value is served from the cache. 
+     * </pre>
+     *
+     * <code>int32 max_age_millis = 2;</code>
+     */
+    public int getMaxAgeMillis() {
+      return maxAgeMillis_;
+    }
+
+    public static final int MAX_STALE_MILLIS_FIELD_NUMBER = 3;
+    private int maxStaleMillis_;
+    /**
+     * <pre>
+     * How long after max_age_millis the old value is still served, while it is refreshed in the
+     * background. If the refresh fails for longer than this, reads fail as well.
+     * </pre>
+     *
+     * <code>int32 max_stale_millis = 3;</code>
+     */
+    public int getMaxStaleMillis() {
+      return maxStaleMillis_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getPathBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, path_);
       }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
+      if (maxAgeMillis_ != 0) {
+        output.writeInt32(2, maxAgeMillis_);
       }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
+      if (maxStaleMillis_ != 0) {
+        output.writeInt32(3, maxStaleMillis_);
       }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getPathBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, path_);
       }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
+      if (maxAgeMillis_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, maxAgeMillis_);
       }
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.s13g.winston.proto.Master.Channel) {
-          return mergeFrom((com.s13g.winston.proto.Master.Channel)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
+      if (maxStaleMillis_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, maxStaleMillis_);
       }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
 
-      public Builder mergeFrom(com.s13g.winston.proto.Master.Channel other) {
-        if (other == com.s13g.winston.proto.Master.Channel.getDefaultInstance()) return this;
-        if (!other.getType().isEmpty()) {
-          type_ = other.type_;
-          onChanged();
-        }
-        if (!other.getAddress().isEmpty()) {
-          address_ = other.address_;
-          onChanged();
-        }
-        if (parameterBuilder_ == null) {
-          if (!other.parameter_.isEmpty()) {
-            if (parameter_.isEmpty()) {
-              parameter_ = other.parameter_;
-              bitField0_ = (bitField0_ & ~0x00000004);
-            } else {
-              ensureParameterIsMutable();
-              parameter_.addAll(other.parameter_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.parameter_.isEmpty()) {
-            if (parameterBuilder_.isEmpty()) {
-              parameterBuilder_.dispose();
-              parameterBuilder_ = null;
-              parameter_ = other.parameter_;
-              bitField0_ = (bitField0_ & ~0x00000004);
-              parameterBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getParameterFieldBuilder() : null;
-            } else {
-              parameterBuilder_.addAllMessages(other.parameter_);
-            }
-          }
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
       }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
+      if (!(obj instanceof com.s13g.winston.proto.Master.ValueCache)) {
+        return super.equals(obj);
       }
+      com.s13g.winston.proto.Master.ValueCache other = (com.s13g.winston.proto.Master.ValueCache) obj;
 
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.s13g.winston.proto.Master.Channel parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.s13g.winston.proto.Master.Channel) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      private int bitField0_;
+      boolean result = true;
+      result = result && getPath()
+          .equals(other.getPath());
+      result = result && (getMaxAgeMillis()
+          == other.getMaxAgeMillis());
+      result = result && (getMaxStaleMillis()
+          == other.getMaxStaleMillis());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
 
-      private java.lang.Object type_ = "";
-      /**
-       * <pre>
-       * The type of the channel. 
-       * </pre>
-       *
-       * <code>string type = 1;</code>
-       */
-      public java.lang.String getType() {
-        java.lang.Object ref = type_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          type_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <pre>
-       * The type of the channel. 
-       * </pre>
-       *
-       * <code>string type = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getTypeBytes() {
-        java.lang.Object ref = type_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          type_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
       }
-      /**
-       * <pre>
-       * The type of the channel. 
-       * </pre>
-       *
-       * <code>string type = 1;</code>
-       */
-      public Builder setType(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        type_ = value;
-        onChanged();
-        return this;
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PATH_FIELD_NUMBER;
+      hash = (53 * hash) + getPath().hashCode();
+      hash = (37 * hash) + MAX_AGE_MILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxAgeMillis();
+      hash = (37 * hash) + MAX_STALE_MILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxStaleMillis();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.s13g.winston.proto.Master.ValueCache parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.ValueCache parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.ValueCache parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.ValueCache parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.ValueCache parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.s13g.winston.proto.Master.ValueCache parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.ValueCache parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.ValueCache parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.ValueCache parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.ValueCache parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.s13g.winston.proto.Master.ValueCache parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.s13g.winston.proto.Master.ValueCache parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.s13g.winston.proto.Master.ValueCache prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Caches reads of channel values, e.g. of slow devices or devices with rate limits. 
+     * </pre>
+     *
+     * Protobuf type {@code com.s13g.winston.proto.ValueCache}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.ValueCache)
+        com.s13g.winston.proto.Master.ValueCacheOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_ValueCache_descriptor;
       }
-      /**
-       * <pre>
-       * The type of the channel. 
-       * </pre>
-       *
-       * <code>string type = 1;</code>
-       */
-      public Builder clearType() {
-        
-        type_ = getDefaultInstance().getType();
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_ValueCache_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.s13g.winston.proto.Master.ValueCache.class, com.s13g.winston.proto.Master.ValueCache.Builder.class);
       }
-      /**
-       * <pre>
-       * The type of the channel. 
-       * </pre>
-       *
-       * <code>string type = 1;</code>
-       */
-      public Builder setTypeBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        type_ = value;
-        onChanged();
-        return this;
+
+      // Construct using com.s13g.winston.proto.Master.ValueCache.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private java.lang.Object address_ = "";
-      /**
-       * <pre>
-       * An optional address to localize the channel. 
-       * </pre>
-       *
-       * <code>string address = 2;</code>
-       */
-      public java.lang.String getAddress() {
-        java.lang.Object ref = address_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          address_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <pre>
-       * An optional address to localize the channel. 
-       * </pre>
-       *
-       * <code>string address = 2;</code>
-       */
-      public com.google.protobuf.ByteString
-          getAddressBytes() {
-        java.lang.Object ref = address_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          address_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
         }
       }
-      /**
-       * <pre>
-       * An optional address to localize the channel. 
-       * </pre>
-       *
-       * <code>string address = 2;</code>
-       */
-      public Builder setAddress(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        address_ = value;
-        onChanged();
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        path_ = "";
+
+        maxAgeMillis_ = 0;
+
+        maxStaleMillis_ = 0;
+
         return this;
       }
-      /**
-       * <pre>
-       * An optional address to localize the channel. 
-       * </pre>
-       *
-       * <code>string address = 2;</code>
-       */
-      public Builder clearAddress() {
-        
-        address_ = getDefaultInstance().getAddress();
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_ValueCache_descriptor;
       }
-      /**
-       * <pre>
-       * An optional address to localize the channel. 
-       * </pre>
-       *
-       * <code>string address = 2;</code>
-       */
-      public Builder setAddressBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        address_ = value;
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.ValueCache getDefaultInstanceForType() {
+        return com.s13g.winston.proto.Master.ValueCache.getDefaultInstance();
       }
 
-      private java.util.List<com.s13g.winston.proto.Master.Parameter> parameter_ =
-        java.util.Collections.emptyList();
-      private void ensureParameterIsMutable() {
-        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
-          parameter_ = new java.util.ArrayList<com.s13g.winston.proto.Master.Parameter>(parameter_);
-          bitField0_ |= 0x00000004;
-         }
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.ValueCache build() {
+        com.s13g.winston.proto.Master.ValueCache result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
       }
 
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.s13g.winston.proto.Master.Parameter, com.s13g.winston.proto.Master.Parameter.Builder, com.s13g.winston.proto.Master.ParameterOrBuilder> parameterBuilder_;
+      @java.lang.Override
+      public com.s13g.winston.proto.Master.ValueCache buildPartial() {
+        com.s13g.winston.proto.Master.ValueCache result = new com.s13g.winston.proto.Master.ValueCache(this);
+        result.path_ = path_;
+        result.maxAgeMillis_ = maxAgeMillis_;
+        result.maxStaleMillis_ = maxStaleMillis_;
+        onBuilt();
+        return result;
+      }
 
-      /**
-       * <pre>
-       * All parameters required to run the channel. 
-       * </pre>
-       *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
-       */
-      public java.util.List<com.s13g.winston.proto.Master.Parameter> getParameterList() {
-        if (parameterBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(parameter_);
-        } else {
-          return parameterBuilder_.getMessageList();
-        }
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
       }
-      /**
-       * <pre>
-       * All parameters required to run the channel. 
-       * </pre>
-       *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
-       */
-      public int getParameterCount() {
-        if (parameterBuilder_ == null) {
-          return parameter_.size();
-        } else {
-          return parameterBuilder_.getCount();
-        }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
       }
-      /**
-       * <pre>
-       * All parameters required to run the channel. 
-       * </pre>
-       *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
-       */
-      public com.s13g.winston.proto.Master.Parameter getParameter(int index) {
-        if (parameterBuilder_ == null) {
-          return parameter_.get(index);
-        } else {
-          return parameterBuilder_.getMessage(index);
-        }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
       }
-      /**
-       * <pre>
-       * All parameters required to run the channel. 
-       * </pre>
-       *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
-       */
-      public Builder setParameter(
-          int index, com.s13g.winston.proto.Master.Parameter value) {
-        if (parameterBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureParameterIsMutable();
-          parameter_.set(index, value);
-          onChanged();
-        } else {
-          parameterBuilder_.setMessage(index, value);
-        }
-        return this;
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
       }
-      /**
-       * <pre>
-       * All parameters required to run the channel. 
-       * </pre>
-       *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
-       */
-      public Builder setParameter(
-          int index, com.s13g.winston.proto.Master.Parameter.Builder builderForValue) {
-        if (parameterBuilder_ == null) {
-          ensureParameterIsMutable();
-          parameter_.set(index, builderForValue.build());
-          onChanged();
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.s13g.winston.proto.Master.ValueCache) {
+          return mergeFrom((com.s13g.winston.proto.Master.ValueCache)other);
         } else {
-          parameterBuilder_.setMessage(index, builderForValue.build());
+          super.mergeFrom(other);
+          return this;
         }
-        return this;
       }
-      /**
-       * <pre>
-       * All parameters required to run the channel. 
-       * </pre>
-       *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
-       */
-      public Builder addParameter(com.s13g.winston.proto.Master.Parameter value) {
-        if (parameterBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureParameterIsMutable();
-          parameter_.add(value);
+
+      public Builder mergeFrom(com.s13g.winston.proto.Master.ValueCache other) {
+        if (other == com.s13g.winston.proto.Master.ValueCache.getDefaultInstance()) return this;
+        if (!other.getPath().isEmpty()) {
+          path_ = other.path_;
           onChanged();
-        } else {
-          parameterBuilder_.addMessage(value);
         }
+        if (other.getMaxAgeMillis() != 0) {
+          setMaxAgeMillis(other.getMaxAgeMillis());
+        }
+        if (other.getMaxStaleMillis() != 0) {
+          setMaxStaleMillis(other.getMaxStaleMillis());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
         return this;
       }
-      /**
-       * <pre>
-       * All parameters required to run the channel. 
-       * </pre>
-       *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
-       */
-      public Builder addParameter(
-          int index, com.s13g.winston.proto.Master.Parameter value) {
-        if (parameterBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.s13g.winston.proto.Master.ValueCache parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.s13g.winston.proto.Master.ValueCache) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
           }
-          ensureParameterIsMutable();
-          parameter_.add(index, value);
-          onChanged();
-        } else {
-          parameterBuilder_.addMessage(index, value);
         }
         return this;
       }
+
+      private java.lang.Object path_ = "";
       /**
        * <pre>
-       * All parameters required to run the channel. 
+       * The values to cache: a module type, a channel path '{module}/{channel}' or a value path
+       * '{module}/{channel}/{value}'. If several caches match a value, the most specific one is used.
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       * <code>string path = 1;</code>
        */
-      public Builder addParameter(
-          com.s13g.winston.proto.Master.Parameter.Builder builderForValue) {
-        if (parameterBuilder_ == null) {
-          ensureParameterIsMutable();
-          parameter_.add(builderForValue.build());
-          onChanged();
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          path_ = s;
+          return s;
         } else {
-          parameterBuilder_.addMessage(builderForValue.build());
+          return (java.lang.String) ref;
         }
-        return this;
       }
       /**
        * <pre>
-       * All parameters required to run the channel. 
+       * The values to cache: a module type, a channel path '{module}/{channel}' or a value path
+       * '{module}/{channel}/{value}'. If several caches match a value, the most specific one is used.
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       * <code>string path = 1;</code>
        */
-      public Builder addParameter(
-          int index, com.s13g.winston.proto.Master.Parameter.Builder builderForValue) {
-        if (parameterBuilder_ == null) {
-          ensureParameterIsMutable();
-          parameter_.add(index, builderForValue.build());
-          onChanged();
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
         } else {
-          parameterBuilder_.addMessage(index, builderForValue.build());
+          return (com.google.protobuf.ByteString) ref;
         }
-        return this;
       }
       /**
        * <pre>
-       * All parameters required to run the channel. 
+       * The values to cache: a module type, a channel path '{module}/{channel}' or a value path
+       * '{module}/{channel}/{value}'. If several caches match a value, the most specific one is used.
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       * <code>string path = 1;</code>
        */
-      public Builder addAllParameter(
-          java.lang.Iterable<? extends com.s13g.winston.proto.Master.Parameter> values) {
-        if (parameterBuilder_ == null) {
-          ensureParameterIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, parameter_);
-          onChanged();
-        } else {
-          parameterBuilder_.addAllMessages(values);
-        }
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        path_ = value;
+        onChanged();
         return this;
       }
       /**
        * <pre>
-       * All parameters required to run the channel. 
+       * The values to cache: a module type, a channel path '{module}/{channel}' or a value path
+       * '{module}/{channel}/{value}'. If several caches match a value, the most specific one is used.
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       * <code>string path = 1;</code>
        */
-      public Builder clearParameter() {
-        if (parameterBuilder_ == null) {
-          parameter_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000004);
-          onChanged();
-        } else {
-          parameterBuilder_.clear();
-        }
+      public Builder clearPath() {
+        
+        path_ = getDefaultInstance().getPath();
+        onChanged();
         return this;
       }
       /**
        * <pre>
-       * All parameters required to run the channel. 
+       * The values to cache: a module type, a channel path '{module}/{channel}' or a value path
+       * '{module}/{channel}/{value}'. If several caches match a value, the most specific one is used.
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       * <code>string path = 1;</code>
        */
-      public Builder removeParameter(int index) {
-        if (parameterBuilder_ == null) {
-          ensureParameterIsMutable();
-          parameter_.remove(index);
-          onChanged();
-        } else {
-          parameterBuilder_.remove(index);
-        }
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        path_ = value;
+        onChanged();
         return this;
       }
+
+      private int maxAgeMillis_ ;
       /**
        * <pre>
-       * All parameters required to run the channel. 
+       * How long a read value is served from the cache. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       * <code>int32 max_age_millis = 2;</code>
        */
-      public com.s13g.winston.proto.Master.Parameter.Builder getParameterBuilder(
-          int index) {
-        return getParameterFieldBuilder().getBuilder(index);
+      public int getMaxAgeMillis() {
+        return maxAgeMillis_;
       }
       /**
        * <pre>
-       * All parameters required to run the channel. 
+       * How long a read value is served from the cache. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       * <code>int32 max_age_millis = 2;</code>
        */
-      public com.s13g.winston.proto.Master.ParameterOrBuilder getParameterOrBuilder(
-          int index) {
-        if (parameterBuilder_ == null) {
-          return parameter_.get(index);  } else {
-          return parameterBuilder_.getMessageOrBuilder(index);
-        }
+      public Builder setMaxAgeMillis(int value) {
+        
+        maxAgeMillis_ = value;
+        onChanged();
+        return this;
       }
       /**
        * <pre>
-       * All parameters required to run the channel. 
+       * How long a read value is served from the cache. 
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       * <code>int32 max_age_millis = 2;</code>
        */
-      public java.util.List<? extends com.s13g.winston.proto.Master.ParameterOrBuilder> 
-           getParameterOrBuilderList() {
-        if (parameterBuilder_ != null) {
-          return parameterBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(parameter_);
-        }
+      public Builder clearMaxAgeMillis() {
+        
+        maxAgeMillis_ = 0;
+        onChanged();
+        return this;
       }
+
+      private int maxStaleMillis_ ;
       /**
        * <pre>
-       * All parameters required to run the channel. 
+       * How long after max_age_millis the old value is still served, while it is refreshed in the
+       * background. If the refresh fails for longer than this, reads fail as well.
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       * <code>int32 max_stale_millis = 3;</code>
        */
-      public com.s13g.winston.proto.Master.Parameter.Builder addParameterBuilder() {
-        return getParameterFieldBuilder().addBuilder(
-            com.s13g.winston.proto.Master.Parameter.getDefaultInstance());
+      public int getMaxStaleMillis() {
+        return maxStaleMillis_;
       }
       /**
        * <pre>
-       * All parameters required to run the channel. 
+       * How long after max_age_millis the old value is still served, while it is refreshed in the
+       * background. If the refresh fails for longer than this, reads fail as well.
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       * <code>int32 max_stale_millis = 3;</code>
        */
-      public com.s13g.winston.proto.Master.Parameter.Builder addParameterBuilder(
-          int index) {
-        return getParameterFieldBuilder().addBuilder(
-            index, com.s13g.winston.proto.Master.Parameter.getDefaultInstance());
+      public Builder setMaxStaleMillis(int value) {
+        
+        maxStaleMillis_ = value;
+        onChanged();
+        return this;
       }
       /**
        * <pre>
-       * All parameters required to run the channel. 
+       * How long after max_age_millis the old value is still served, while it is refreshed in the
+       * background. If the refresh fails for longer than this, reads fail as well.
        * </pre>
        *
-       * <code>repeated .com.s13g.winston.proto.Parameter parameter = 3;</code>
+       * <code>int32 max_stale_millis = 3;</code>
        */
-      public java.util.List<com.s13g.winston.proto.Master.Parameter.Builder> 
-           getParameterBuilderList() {
-        return getParameterFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.s13g.winston.proto.Master.Parameter, com.s13g.winston.proto.Master.Parameter.Builder, com.s13g.winston.proto.Master.ParameterOrBuilder> 
-          getParameterFieldBuilder() {
-        if (parameterBuilder_ == null) {
-          parameterBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              com.s13g.winston.proto.Master.Parameter, com.s13g.winston.proto.Master.Parameter.Builder, com.s13g.winston.proto.Master.ParameterOrBuilder>(
-                  parameter_,
-                  ((bitField0_ & 0x00000004) == 0x00000004),
-                  getParentForChildren(),
-                  isClean());
-          parameter_ = null;
-        }
-        return parameterBuilder_;
+      public Builder clearMaxStaleMillis() {
+        
+        maxStaleMillis_ = 0;
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -7081,105 +15845,100 @@ public final class Master {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.Channel)
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.ValueCache)
     }
 
-    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.Channel)
-    private static final com.s13g.winston.proto.Master.Channel DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.ValueCache)
+    private static final com.s13g.winston.proto.Master.ValueCache DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.Channel();
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.ValueCache();
     }
 
-    public static com.s13g.winston.proto.Master.Channel getDefaultInstance() {
+    public static com.s13g.winston.proto.Master.ValueCache getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Channel>
-        PARSER = new com.google.protobuf.AbstractParser<Channel>() {
+    private static final com.google.protobuf.Parser<ValueCache>
+        PARSER = new com.google.protobuf.AbstractParser<ValueCache>() {
       @java.lang.Override
-      public Channel parsePartialFrom(
+      public ValueCache parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Channel(input, extensionRegistry);
+        return new ValueCache(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Channel> parser() {
+    public static com.google.protobuf.Parser<ValueCache> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Channel> getParserForType() {
+    public com.google.protobuf.Parser<ValueCache> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.s13g.winston.proto.Master.Channel getDefaultInstanceForType() {
+    public com.s13g.winston.proto.Master.ValueCache getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface ParameterOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.Parameter)
+  public interface PollScheduleOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.PollSchedule)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * Name of the parameter. 
-     * </pre>
-     *
-     * <code>string name = 1;</code>
-     */
-    java.lang.String getName();
-    /**
-     * <pre>
-     * Name of the parameter. 
+     * The values to poll: a module type, a channel path '{module}/{channel}' or a value path
+     * '{module}/{channel}/{value}'. If several schedules match a value, the most specific one is
+     * used.
      * </pre>
      *
-     * <code>string name = 1;</code>
+     * <code>string path = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getNameBytes();
-
+    java.lang.String getPath();
     /**
      * <pre>
-     * Value of the parameter. 
+     * The values to poll: a module type, a channel path '{module}/{channel}' or a value path
+     * '{module}/{channel}/{value}'. If several schedules match a value, the most specific one is
+     * used.
      * </pre>
      *
-     * <code>string value = 2;</code>
+     * <code>string path = 1;</code>
      */
-    java.lang.String getValue();
+    com.google.protobuf.ByteString
+        getPathBytes();
+
     /**
      * <pre>
-     * Value of the parameter. 
+     * The time between two polls of a value. Every poll is shifted by a random jitter. 
      * </pre>
      *
-     * <code>string value = 2;</code>
+     * <code>int32 interval_millis = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getValueBytes();
+    int getIntervalMillis();
   }
   /**
    * <pre>
-   * Parameters that can be passed to modules. 
+   * Polls channel values regularly, so that reads are served from the last polled value. 
    * </pre>
    *
-   * Protobuf type {@code com.s13g.winston.proto.Parameter}
+   * Protobuf type {@code com.s13g.winston.proto.PollSchedule}
    */
-  public  static final class Parameter extends
+  public  static final class PollSchedule extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.Parameter)
-      ParameterOrBuilder {
+      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.PollSchedule)
+      PollScheduleOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use Parameter.newBuilder() to construct.
-    private Parameter(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use PollSchedule.newBuilder() to construct.
+    private PollSchedule(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private Parameter() {
-      name_ = "";
-      value_ = "";
+    private PollSchedule() {
+      path_ = "";
+      intervalMillis_ = 0;
     }
 
     @java.lang.Override
@@ -7187,7 +15946,7 @@ public final class Master {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private Parameter(
+    private PollSchedule(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7209,13 +15968,12 @@ public final class Master {
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              name_ = s;
+              path_ = s;
               break;
             }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
+            case 16: {
 
-              value_ = s;
+              intervalMillis_ = input.readInt32();
               break;
             }
             default: {
@@ -7239,99 +15997,74 @@ public final class Master {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Parameter_descriptor;
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_PollSchedule_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Parameter_fieldAccessorTable
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_PollSchedule_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.s13g.winston.proto.Master.Parameter.class, com.s13g.winston.proto.Master.Parameter.Builder.class);
+              com.s13g.winston.proto.Master.PollSchedule.class, com.s13g.winston.proto.Master.PollSchedule.Builder.class);
     }
 
-    public static final int NAME_FIELD_NUMBER = 1;
-    private volatile java.lang.Object name_;
+    public static final int PATH_FIELD_NUMBER = 1;
+    private volatile java.lang.Object path_;
     /**
      * <pre>
-     * Name of the parameter. 
+     * The values to poll: a module type, a channel path '{module}/{channel}' or a value path
+     * '{module}/{channel}/{value}'. If several schedules match a value, the most specific one is
+     * used.
      * </pre>
      *
-     * <code>string name = 1;</code>
+     * <code>string path = 1;</code>
      */
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        name_ = s;
+        path_ = s;
         return s;
       }
     }
     /**
      * <pre>
-     * Name of the parameter. 
+     * The values to poll: a module type, a channel path '{module}/{channel}' or a value path
+     * '{module}/{channel}/{value}'. If several schedules match a value, the most specific one is
+     * used.
      * </pre>
      *
-     * <code>string name = 1;</code>
+     * <code>string path = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
+        getPathBytes() {
+      java.lang.Object ref = path_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        name_ = b;
+        path_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int VALUE_FIELD_NUMBER = 2;
-    private volatile java.lang.Object value_;
-    /**
-     * <pre>
-     * Value of the parameter. 
-     * </pre>
-     *
-     * <code>string value = 2;</code>
-     */
-    public java.lang.String getValue() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        value_ = s;
-        return s;
-      }
-    }
+    public static final int INTERVAL_MILLIS_FIELD_NUMBER = 2;
+    private int intervalMillis_;
     /**
      * <pre>
-     * Value of the parameter. 
+     * The time between two polls of a value. Every poll is shifted by a random jitter. 
      * </pre>
      *
-     * <code>string value = 2;</code>
+     * <code>int32 interval_millis = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getValueBytes() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        value_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public int getIntervalMillis() {
+      return intervalMillis_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -7348,11 +16081,11 @@ public final class Master {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getNameBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      if (!getPathBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, path_);
       }
-      if (!getValueBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, value_);
+      if (intervalMillis_ != 0) {
+        output.writeInt32(2, intervalMillis_);
       }
       unknownFields.writeTo(output);
     }
@@ -7363,11 +16096,12 @@ public final class Master {
       if (size != -1) return size;
 
       size = 0;
-      if (!getNameBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      if (!getPathBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, path_);
       }
-      if (!getValueBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, value_);
+      if (intervalMillis_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, intervalMillis_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -7379,16 +16113,16 @@ public final class Master {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.s13g.winston.proto.Master.Parameter)) {
+      if (!(obj instanceof com.s13g.winston.proto.Master.PollSchedule)) {
         return super.equals(obj);
       }
-      com.s13g.winston.proto.Master.Parameter other = (com.s13g.winston.proto.Master.Parameter) obj;
+      com.s13g.winston.proto.Master.PollSchedule other = (com.s13g.winston.proto.Master.PollSchedule) obj;
 
       boolean result = true;
-      result = result && getName()
-          .equals(other.getName());
-      result = result && getValue()
-          .equals(other.getValue());
+      result = result && getPath()
+          .equals(other.getPath());
+      result = result && (getIntervalMillis()
+          == other.getIntervalMillis());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -7400,78 +16134,78 @@ public final class Master {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getName().hashCode();
-      hash = (37 * hash) + VALUE_FIELD_NUMBER;
-      hash = (53 * hash) + getValue().hashCode();
+      hash = (37 * hash) + PATH_FIELD_NUMBER;
+      hash = (53 * hash) + getPath().hashCode();
+      hash = (37 * hash) + INTERVAL_MILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + getIntervalMillis();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+    public static com.s13g.winston.proto.Master.PollSchedule parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+    public static com.s13g.winston.proto.Master.PollSchedule parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+    public static com.s13g.winston.proto.Master.PollSchedule parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+    public static com.s13g.winston.proto.Master.PollSchedule parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.Parameter parseFrom(byte[] data)
+    public static com.s13g.winston.proto.Master.PollSchedule parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+    public static com.s13g.winston.proto.Master.PollSchedule parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.Parameter parseFrom(java.io.InputStream input)
+    public static com.s13g.winston.proto.Master.PollSchedule parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+    public static com.s13g.winston.proto.Master.PollSchedule parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.Parameter parseDelimitedFrom(java.io.InputStream input)
+    public static com.s13g.winston.proto.Master.PollSchedule parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.s13g.winston.proto.Master.Parameter parseDelimitedFrom(
+    public static com.s13g.winston.proto.Master.PollSchedule parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+    public static com.s13g.winston.proto.Master.PollSchedule parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.s13g.winston.proto.Master.Parameter parseFrom(
+    public static com.s13g.winston.proto.Master.PollSchedule parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7484,7 +16218,7 @@ public final class Master {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.s13g.winston.proto.Master.Parameter prototype) {
+    public static Builder newBuilder(com.s13g.winston.proto.Master.PollSchedule prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -7501,29 +16235,29 @@ public final class Master {
     }
     /**
      * <pre>
-     * Parameters that can be passed to modules. 
+     * Polls channel values regularly, so that reads are served from the last polled value. 
      * </pre>
      *
-     * Protobuf type {@code com.s13g.winston.proto.Parameter}
+     * Protobuf type {@code com.s13g.winston.proto.PollSchedule}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.Parameter)
-        com.s13g.winston.proto.Master.ParameterOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.PollSchedule)
+        com.s13g.winston.proto.Master.PollScheduleOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Parameter_descriptor;
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_PollSchedule_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Parameter_fieldAccessorTable
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_PollSchedule_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.s13g.winston.proto.Master.Parameter.class, com.s13g.winston.proto.Master.Parameter.Builder.class);
+                com.s13g.winston.proto.Master.PollSchedule.class, com.s13g.winston.proto.Master.PollSchedule.Builder.class);
       }
 
-      // Construct using com.s13g.winston.proto.Master.Parameter.newBuilder()
+      // Construct using com.s13g.winston.proto.Master.PollSchedule.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -7541,9 +16275,9 @@ public final class Master {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        name_ = "";
+        path_ = "";
 
-        value_ = "";
+        intervalMillis_ = 0;
 
         return this;
       }
@@ -7551,17 +16285,17 @@ public final class Master {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_Parameter_descriptor;
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_PollSchedule_descriptor;
       }
 
       @java.lang.Override
-      public com.s13g.winston.proto.Master.Parameter getDefaultInstanceForType() {
-        return com.s13g.winston.proto.Master.Parameter.getDefaultInstance();
+      public com.s13g.winston.proto.Master.PollSchedule getDefaultInstanceForType() {
+        return com.s13g.winston.proto.Master.PollSchedule.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.s13g.winston.proto.Master.Parameter build() {
-        com.s13g.winston.proto.Master.Parameter result = buildPartial();
+      public com.s13g.winston.proto.Master.PollSchedule build() {
+        com.s13g.winston.proto.Master.PollSchedule result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -7569,10 +16303,10 @@ public final class Master {
       }
 
       @java.lang.Override
-      public com.s13g.winston.proto.Master.Parameter buildPartial() {
-        com.s13g.winston.proto.Master.Parameter result = new com.s13g.winston.proto.Master.Parameter(this);
-        result.name_ = name_;
-        result.value_ = value_;
+      public com.s13g.winston.proto.Master.PollSchedule buildPartial() {
+        com.s13g.winston.proto.Master.PollSchedule result = new com.s13g.winston.proto.Master.PollSchedule(this);
+        result.path_ = path_;
+        result.intervalMillis_ = intervalMillis_;
         onBuilt();
         return result;
       }
@@ -7611,23 +16345,22 @@ public final class Master {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.s13g.winston.proto.Master.Parameter) {
-          return mergeFrom((com.s13g.winston.proto.Master.Parameter)other);
+        if (other instanceof com.s13g.winston.proto.Master.PollSchedule) {
+          return mergeFrom((com.s13g.winston.proto.Master.PollSchedule)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.s13g.winston.proto.Master.Parameter other) {
-        if (other == com.s13g.winston.proto.Master.Parameter.getDefaultInstance()) return this;
-        if (!other.getName().isEmpty()) {
-          name_ = other.name_;
+      public Builder mergeFrom(com.s13g.winston.proto.Master.PollSchedule other) {
+        if (other == com.s13g.winston.proto.Master.PollSchedule.getDefaultInstance()) return this;
+        if (!other.getPath().isEmpty()) {
+          path_ = other.path_;
           onChanged();
         }
-        if (!other.getValue().isEmpty()) {
-          value_ = other.value_;
-          onChanged();
+        if (other.getIntervalMillis() != 0) {
+          setIntervalMillis(other.getIntervalMillis());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -7644,11 +16377,11 @@ public final class Master {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.s13g.winston.proto.Master.Parameter parsedMessage = null;
+        com.s13g.winston.proto.Master.PollSchedule parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.s13g.winston.proto.Master.Parameter) e.getUnfinishedMessage();
+          parsedMessage = (com.s13g.winston.proto.Master.PollSchedule) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -7658,21 +16391,23 @@ public final class Master {
         return this;
       }
 
-      private java.lang.Object name_ = "";
+      private java.lang.Object path_ = "";
       /**
        * <pre>
-       * Name of the parameter. 
+       * The values to poll: a module type, a channel path '{module}/{channel}' or a value path
+       * '{module}/{channel}/{value}'. If several schedules match a value, the most specific one is
+       * used.
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string path = 1;</code>
        */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          name_ = s;
+          path_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
@@ -7680,19 +16415,21 @@ public final class Master {
       }
       /**
        * <pre>
-       * Name of the parameter. 
+       * The values to poll: a module type, a channel path '{module}/{channel}' or a value path
+       * '{module}/{channel}/{value}'. If several schedules match a value, the most specific one is
+       * used.
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string path = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
+          getPathBytes() {
+        java.lang.Object ref = path_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          name_ = b;
+          path_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
@@ -7700,138 +16437,93 @@ public final class Master {
       }
       /**
        * <pre>
-       * Name of the parameter. 
+       * The values to poll: a module type, a channel path '{module}/{channel}' or a value path
+       * '{module}/{channel}/{value}'. If several schedules match a value, the most specific one is
+       * used.
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string path = 1;</code>
        */
-      public Builder setName(
+      public Builder setPath(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        name_ = value;
+        path_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * Name of the parameter. 
+       * The values to poll: a module type, a channel path '{module}/{channel}' or a value path
+       * '{module}/{channel}/{value}'. If several schedules match a value, the most specific one is
+       * used.
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string path = 1;</code>
        */
-      public Builder clearName() {
+      public Builder clearPath() {
         
-        name_ = getDefaultInstance().getName();
+        path_ = getDefaultInstance().getPath();
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * Name of the parameter. 
+       * The values to poll: a module type, a channel path '{module}/{channel}' or a value path
+       * '{module}/{channel}/{value}'. If several schedules match a value, the most specific one is
+       * used.
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string path = 1;</code>
        */
-      public Builder setNameBytes(
+      public Builder setPathBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        name_ = value;
+        path_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object value_ = "";
-      /**
-       * <pre>
-       * Value of the parameter. 
-       * </pre>
-       *
-       * <code>string value = 2;</code>
-       */
-      public java.lang.String getValue() {
-        java.lang.Object ref = value_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          value_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <pre>
-       * Value of the parameter. 
-       * </pre>
-       *
-       * <code>string value = 2;</code>
-       */
-      public com.google.protobuf.ByteString
-          getValueBytes() {
-        java.lang.Object ref = value_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          value_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
+      private int intervalMillis_ ;
       /**
        * <pre>
-       * Value of the parameter. 
+       * The time between two polls of a value. Every poll is shifted by a random jitter. 
        * </pre>
        *
-       * <code>string value = 2;</code>
+       * <code>int32 interval_millis = 2;</code>
        */
-      public Builder setValue(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        value_ = value;
-        onChanged();
-        return this;
+      public int getIntervalMillis() {
+        return intervalMillis_;
       }
       /**
        * <pre>
-       * Value of the parameter. 
+       * The time between two polls of a value. Every poll is shifted by a random jitter. 
        * </pre>
        *
-       * <code>string value = 2;</code>
+       * <code>int32 interval_millis = 2;</code>
        */
-      public Builder clearValue() {
+      public Builder setIntervalMillis(int value) {
         
-        value_ = getDefaultInstance().getValue();
+        intervalMillis_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * Value of the parameter. 
+       * The time between two polls of a value. Every poll is shifted by a random jitter. 
        * </pre>
        *
-       * <code>string value = 2;</code>
+       * <code>int32 interval_millis = 2;</code>
        */
-      public Builder setValueBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+      public Builder clearIntervalMillis() {
         
-        value_ = value;
+        intervalMillis_ = 0;
         onChanged();
         return this;
       }
@@ -7848,105 +16540,106 @@ public final class Master {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.Parameter)
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.PollSchedule)
     }
 
-    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.Parameter)
-    private static final com.s13g.winston.proto.Master.Parameter DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.PollSchedule)
+    private static final com.s13g.winston.proto.Master.PollSchedule DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.Parameter();
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.PollSchedule();
     }
 
-    public static com.s13g.winston.proto.Master.Parameter getDefaultInstance() {
+    public static com.s13g.winston.proto.Master.PollSchedule getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Parameter>
-        PARSER = new com.google.protobuf.AbstractParser<Parameter>() {
+    private static final com.google.protobuf.Parser<PollSchedule>
+        PARSER = new com.google.protobuf.AbstractParser<PollSchedule>() {
       @java.lang.Override
-      public Parameter parsePartialFrom(
+      public PollSchedule parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Parameter(input, extensionRegistry);
+        return new PollSchedule(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Parameter> parser() {
+    public static com.google.protobuf.Parser<PollSchedule> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Parameter> getParserForType() {
+    public com.google.protobuf.Parser<PollSchedule> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.s13g.winston.proto.Master.Parameter getDefaultInstanceForType() {
+    public com.s13g.winston.proto.Master.PollSchedule getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface AuthenticatedClientOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.AuthenticatedClient)
+  public interface WriteDebounceOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.s13g.winston.proto.WriteDebounce)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * Human readable name of this client. 
+     * The values to combine writes of: a module type, a channel path '{module}/{channel}' or a value
+     * path '{module}/{channel}/{value}'. If several entries match a value, the most specific one is
+     * used.
      * </pre>
      *
-     * <code>string name = 1;</code>
+     * <code>string path = 1;</code>
      */
-    java.lang.String getName();
+    java.lang.String getPath();
     /**
      * <pre>
-     * Human readable name of this client. 
+     * The values to combine writes of: a module type, a channel path '{module}/{channel}' or a value
+     * path '{module}/{channel}/{value}'. If several entries match a value, the most specific one is
+     * used.
      * </pre>
      *
-     * <code>string name = 1;</code>
+     * <code>string path = 1;</code>
      */
     com.google.protobuf.ByteString
-        getNameBytes();
+        getPathBytes();
 
     /**
      * <pre>
-     * A random auth_token used to authenticate the client. 
-     * </pre>
-     *
-     * <code>string auth_token = 2;</code>
-     */
-    java.lang.String getAuthToken();
-    /**
-     * <pre>
-     * A random auth_token used to authenticate the client. 
+     * How long a write waits for later writes that replace it. With zero, only writes that queue up
+     * behind a slow write are combined.
      * </pre>
      *
-     * <code>string auth_token = 2;</code>
+     * <code>int32 window_millis = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getAuthTokenBytes();
+    int getWindowMillis();
   }
   /**
    * <pre>
-   * To prevent unauthorized access, only clients with a token can access secure functionality.
+   * Combines writes of channel values, e.g. from dragging a slider, so that only the last value of
+   * quick successive writes is written to the device. Writes that are replaced by a later one are
+   * never sent, and report the outcome of the later one.
+   * Only the configured values are affected. Never configure values where every write triggers an
+   * action, such as the 'clicker-*' values of a Winston garage node or a relay that is switched on
+   * and off again, since replaced writes would be lost.
    * </pre>
    *
-   * Protobuf type {@code com.s13g.winston.proto.AuthenticatedClient}
+   * Protobuf type {@code com.s13g.winston.proto.WriteDebounce}
    */
-  public  static final class AuthenticatedClient extends
+  public  static final class WriteDebounce extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.AuthenticatedClient)
-      AuthenticatedClientOrBuilder {
+      // @@protoc_insertion_point(message_implements:com.s13g.winston.proto.WriteDebounce)
+      WriteDebounceOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use AuthenticatedClient.newBuilder() to construct.
-    private AuthenticatedClient(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use WriteDebounce.newBuilder() to construct.
+    private WriteDebounce(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private AuthenticatedClient() {
-      name_ = "";
-      authToken_ = "";
+    private WriteDebounce() {
+      path_ = "";
+      windowMillis_ = 0;
     }
 
     @java.lang.Override
@@ -7954,7 +16647,7 @@ public final class Master {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private AuthenticatedClient(
+    private WriteDebounce(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7976,13 +16669,12 @@ public final class Master {
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              name_ = s;
+              path_ = s;
               break;
             }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
+            case 16: {
 
-              authToken_ = s;
+              windowMillis_ = input.readInt32();
               break;
             }
             default: {
@@ -8006,99 +16698,75 @@ public final class Master {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_AuthenticatedClient_descriptor;
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_WriteDebounce_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_AuthenticatedClient_fieldAccessorTable
+      return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_WriteDebounce_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.s13g.winston.proto.Master.AuthenticatedClient.class, com.s13g.winston.proto.Master.AuthenticatedClient.Builder.class);
+              com.s13g.winston.proto.Master.WriteDebounce.class, com.s13g.winston.proto.Master.WriteDebounce.Builder.class);
     }
 
-    public static final int NAME_FIELD_NUMBER = 1;
-    private volatile java.lang.Object name_;
+    public static final int PATH_FIELD_NUMBER = 1;
+    private volatile java.lang.Object path_;
     /**
      * <pre>
-     * Human readable name of this client. 
+     * The values to combine writes of: a module type, a channel path '{module}/{channel}' or a value
+     * path '{module}/{channel}/{value}'. If several entries match a value, the most specific one is
+     * used.
      * </pre>
      *
-     * <code>string name = 1;</code>
+     * <code>string path = 1;</code>
      */
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        name_ = s;
+        path_ = s;
         return s;
       }
     }
     /**
      * <pre>
-     * Human readable name of this client. 
+     * The values to combine writes of: a module type, a channel path '{module}/{channel}' or a value
+     * path '{module}/{channel}/{value}'. If several entries match a value, the most specific one is
+     * used.
      * </pre>
      *
-     * <code>string name = 1;</code>
+     * <code>string path = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
+        getPathBytes() {
+      java.lang.Object ref = path_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        name_ = b;
+        path_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int AUTH_TOKEN_FIELD_NUMBER = 2;
-    private volatile java.lang.Object authToken_;
-    /**
-     * <pre>
-     * A random auth_token used to authenticate the client. 
-     * </pre>
-     *
-     * <code>string auth_token = 2;</code>
-     */
-    public java.lang.String getAuthToken() {
-      java.lang.Object ref = authToken_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        authToken_ = s;
-        return s;
-      }
-    }
+    public static final int WINDOW_MILLIS_FIELD_NUMBER = 2;
+    private int windowMillis_;
     /**
      * <pre>
-     * A random auth_token used to authenticate the client. 
+     * How long a write waits for later writes that replace it. With zero, only writes that queue up
+     * behind a slow write are combined.
      * </pre>
      *
-     * <code>string auth_token = 2;</code>
+     * <code>int32 window_millis = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getAuthTokenBytes() {
-      java.lang.Object ref = authToken_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        authToken_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public int getWindowMillis() {
+      return windowMillis_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -8115,11 +16783,11 @@ public final class Master {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getNameBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      if (!getPathBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, path_);
       }
-      if (!getAuthTokenBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, authToken_);
+      if (windowMillis_ != 0) {
+        output.writeInt32(2, windowMillis_);
       }
       unknownFields.writeTo(output);
     }
@@ -8130,11 +16798,12 @@ public final class Master {
       if (size != -1) return size;
 
       size = 0;
-      if (!getNameBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      if (!getPathBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, path_);
       }
-      if (!getAuthTokenBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, authToken_);
+      if (windowMillis_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, windowMillis_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -8146,16 +16815,16 @@ public final class Master {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.s13g.winston.proto.Master.AuthenticatedClient)) {
+      if (!(obj instanceof com.s13g.winston.proto.Master.WriteDebounce)) {
         return super.equals(obj);
       }
-      com.s13g.winston.proto.Master.AuthenticatedClient other = (com.s13g.winston.proto.Master.AuthenticatedClient) obj;
+      com.s13g.winston.proto.Master.WriteDebounce other = (com.s13g.winston.proto.Master.WriteDebounce) obj;
 
       boolean result = true;
-      result = result && getName()
-          .equals(other.getName());
-      result = result && getAuthToken()
-          .equals(other.getAuthToken());
+      result = result && getPath()
+          .equals(other.getPath());
+      result = result && (getWindowMillis()
+          == other.getWindowMillis());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -8167,78 +16836,78 @@ public final class Master {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getName().hashCode();
-      hash = (37 * hash) + AUTH_TOKEN_FIELD_NUMBER;
-      hash = (53 * hash) + getAuthToken().hashCode();
+      hash = (37 * hash) + PATH_FIELD_NUMBER;
+      hash = (53 * hash) + getPath().hashCode();
+      hash = (37 * hash) + WINDOW_MILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + getWindowMillis();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+    public static com.s13g.winston.proto.Master.WriteDebounce parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+    public static com.s13g.winston.proto.Master.WriteDebounce parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+    public static com.s13g.winston.proto.Master.WriteDebounce parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+    public static com.s13g.winston.proto.Master.WriteDebounce parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(byte[] data)
+    public static com.s13g.winston.proto.Master.WriteDebounce parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+    public static com.s13g.winston.proto.Master.WriteDebounce parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(java.io.InputStream input)
+    public static com.s13g.winston.proto.Master.WriteDebounce parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+    public static com.s13g.winston.proto.Master.WriteDebounce parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.AuthenticatedClient parseDelimitedFrom(java.io.InputStream input)
+    public static com.s13g.winston.proto.Master.WriteDebounce parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.s13g.winston.proto.Master.AuthenticatedClient parseDelimitedFrom(
+    public static com.s13g.winston.proto.Master.WriteDebounce parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+    public static com.s13g.winston.proto.Master.WriteDebounce parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.s13g.winston.proto.Master.AuthenticatedClient parseFrom(
+    public static com.s13g.winston.proto.Master.WriteDebounce parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8251,7 +16920,7 @@ public final class Master {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.s13g.winston.proto.Master.AuthenticatedClient prototype) {
+    public static Builder newBuilder(com.s13g.winston.proto.Master.WriteDebounce prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -8268,29 +16937,34 @@ public final class Master {
     }
     /**
      * <pre>
-     * To prevent unauthorized access, only clients with a token can access secure functionality.
+     * Combines writes of channel values, e.g. from dragging a slider, so that only the last value of
+     * quick successive writes is written to the device. Writes that are replaced by a later one are
+     * never sent, and report the outcome of the later one.
+     * Only the configured values are affected. Never configure values where every write triggers an
+     * action, such as the 'clicker-*' values of a Winston garage node or a relay that is switched on
+     * and off again, since replaced writes would be lost.
      * </pre>
      *
-     * Protobuf type {@code com.s13g.winston.proto.AuthenticatedClient}
+     * Protobuf type {@code com.s13g.winston.proto.WriteDebounce}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.AuthenticatedClient)
-        com.s13g.winston.proto.Master.AuthenticatedClientOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.s13g.winston.proto.WriteDebounce)
+        com.s13g.winston.proto.Master.WriteDebounceOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_AuthenticatedClient_descriptor;
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_WriteDebounce_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_AuthenticatedClient_fieldAccessorTable
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_WriteDebounce_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.s13g.winston.proto.Master.AuthenticatedClient.class, com.s13g.winston.proto.Master.AuthenticatedClient.Builder.class);
+                com.s13g.winston.proto.Master.WriteDebounce.class, com.s13g.winston.proto.Master.WriteDebounce.Builder.class);
       }
 
-      // Construct using com.s13g.winston.proto.Master.AuthenticatedClient.newBuilder()
+      // Construct using com.s13g.winston.proto.Master.WriteDebounce.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -8308,9 +16982,9 @@ public final class Master {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        name_ = "";
+        path_ = "";
 
-        authToken_ = "";
+        windowMillis_ = 0;
 
         return this;
       }
@@ -8318,17 +16992,17 @@ public final class Master {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_AuthenticatedClient_descriptor;
+        return com.s13g.winston.proto.Master.internal_static_com_s13g_winston_proto_WriteDebounce_descriptor;
       }
 
       @java.lang.Override
-      public com.s13g.winston.proto.Master.AuthenticatedClient getDefaultInstanceForType() {
-        return com.s13g.winston.proto.Master.AuthenticatedClient.getDefaultInstance();
+      public com.s13g.winston.proto.Master.WriteDebounce getDefaultInstanceForType() {
+        return com.s13g.winston.proto.Master.WriteDebounce.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.s13g.winston.proto.Master.AuthenticatedClient build() {
-        com.s13g.winston.proto.Master.AuthenticatedClient result = buildPartial();
+      public com.s13g.winston.proto.Master.WriteDebounce build() {
+        com.s13g.winston.proto.Master.WriteDebounce result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -8336,10 +17010,10 @@ public final class Master {
       }
 
       @java.lang.Override
-      public com.s13g.winston.proto.Master.AuthenticatedClient buildPartial() {
-        com.s13g.winston.proto.Master.AuthenticatedClient result = new com.s13g.winston.proto.Master.AuthenticatedClient(this);
-        result.name_ = name_;
-        result.authToken_ = authToken_;
+      public com.s13g.winston.proto.Master.WriteDebounce buildPartial() {
+        com.s13g.winston.proto.Master.WriteDebounce result = new com.s13g.winston.proto.Master.WriteDebounce(this);
+        result.path_ = path_;
+        result.windowMillis_ = windowMillis_;
         onBuilt();
         return result;
       }
@@ -8378,23 +17052,22 @@ public final class Master {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.s13g.winston.proto.Master.AuthenticatedClient) {
-          return mergeFrom((com.s13g.winston.proto.Master.AuthenticatedClient)other);
+        if (other instanceof com.s13g.winston.proto.Master.WriteDebounce) {
+          return mergeFrom((com.s13g.winston.proto.Master.WriteDebounce)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.s13g.winston.proto.Master.AuthenticatedClient other) {
-        if (other == com.s13g.winston.proto.Master.AuthenticatedClient.getDefaultInstance()) return this;
-        if (!other.getName().isEmpty()) {
-          name_ = other.name_;
+      public Builder mergeFrom(com.s13g.winston.proto.Master.WriteDebounce other) {
+        if (other == com.s13g.winston.proto.Master.WriteDebounce.getDefaultInstance()) return this;
+        if (!other.getPath().isEmpty()) {
+          path_ = other.path_;
           onChanged();
         }
-        if (!other.getAuthToken().isEmpty()) {
-          authToken_ = other.authToken_;
-          onChanged();
+        if (other.getWindowMillis() != 0) {
+          setWindowMillis(other.getWindowMillis());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -8411,11 +17084,11 @@ public final class Master {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.s13g.winston.proto.Master.AuthenticatedClient parsedMessage = null;
+        com.s13g.winston.proto.Master.WriteDebounce parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.s13g.winston.proto.Master.AuthenticatedClient) e.getUnfinishedMessage();
+          parsedMessage = (com.s13g.winston.proto.Master.WriteDebounce) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -8425,21 +17098,23 @@ public final class Master {
         return this;
       }
 
-      private java.lang.Object name_ = "";
+      private java.lang.Object path_ = "";
       /**
        * <pre>
-       * Human readable name of this client. 
+       * The values to combine writes of: a module type, a channel path '{module}/{channel}' or a value
+       * path '{module}/{channel}/{value}'. If several entries match a value, the most specific one is
+       * used.
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string path = 1;</code>
        */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          name_ = s;
+          path_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
@@ -8447,19 +17122,21 @@ public final class Master {
       }
       /**
        * <pre>
-       * Human readable name of this client. 
+       * The values to combine writes of: a module type, a channel path '{module}/{channel}' or a value
+       * path '{module}/{channel}/{value}'. If several entries match a value, the most specific one is
+       * used.
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string path = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
+          getPathBytes() {
+        java.lang.Object ref = path_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          name_ = b;
+          path_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
@@ -8467,138 +17144,96 @@ public final class Master {
       }
       /**
        * <pre>
-       * Human readable name of this client. 
+       * The values to combine writes of: a module type, a channel path '{module}/{channel}' or a value
+       * path '{module}/{channel}/{value}'. If several entries match a value, the most specific one is
+       * used.
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string path = 1;</code>
        */
-      public Builder setName(
+      public Builder setPath(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        name_ = value;
+        path_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * Human readable name of this client. 
+       * The values to combine writes of: a module type, a channel path '{module}/{channel}' or a value
+       * path '{module}/{channel}/{value}'. If several entries match a value, the most specific one is
+       * used.
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string path = 1;</code>
        */
-      public Builder clearName() {
+      public Builder clearPath() {
         
-        name_ = getDefaultInstance().getName();
+        path_ = getDefaultInstance().getPath();
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * Human readable name of this client. 
+       * The values to combine writes of: a module type, a channel path '{module}/{channel}' or a value
+       * path '{module}/{channel}/{value}'. If several entries match a value, the most specific one is
+       * used.
        * </pre>
        *
-       * <code>string name = 1;</code>
+       * <code>string path = 1;</code>
        */
-      public Builder setNameBytes(
+      public Builder setPathBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        name_ = value;
+        path_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object authToken_ = "";
-      /**
-       * <pre>
-       * A random auth_token used to authenticate the client. 
-       * </pre>
-       *
-       * <code>string auth_token = 2;</code>
-       */
-      public java.lang.String getAuthToken() {
-        java.lang.Object ref = authToken_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          authToken_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <pre>
-       * A random auth_token used to authenticate the client. 
-       * </pre>
-       *
-       * <code>string auth_token = 2;</code>
-       */
-      public com.google.protobuf.ByteString
-          getAuthTokenBytes() {
-        java.lang.Object ref = authToken_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          authToken_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
+      private int windowMillis_ ;
       /**
        * <pre>
-       * A random auth_token used to authenticate the client. 
+       * How long a write waits for later writes that replace it. With zero, only writes that queue up
+       * behind a slow write are combined.
        * </pre>
        *
-       * <code>string auth_token = 2;</code>
+       * <code>int32 window_millis = 2;</code>
        */
-      public Builder setAuthToken(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        authToken_ = value;
-        onChanged();
-        return this;
+      public int getWindowMillis() {
+        return windowMillis_;
       }
       /**
        * <pre>
-       * A random auth_token used to authenticate the client. 
+       * How long a write waits for later writes that replace it. With zero, only writes that queue up
+       * behind a slow write are combined.
        * </pre>
        *
-       * <code>string auth_token = 2;</code>
+       * <code>int32 window_millis = 2;</code>
        */
-      public Builder clearAuthToken() {
+      public Builder setWindowMillis(int value) {
         
-        authToken_ = getDefaultInstance().getAuthToken();
+        windowMillis_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * A random auth_token used to authenticate the client. 
+       * How long a write waits for later writes that replace it. With zero, only writes that queue up
+       * behind a slow write are combined.
        * </pre>
        *
-       * <code>string auth_token = 2;</code>
+       * <code>int32 window_millis = 2;</code>
        */
-      public Builder setAuthTokenBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+      public Builder clearWindowMillis() {
         
-        authToken_ = value;
+        windowMillis_ = 0;
         onChanged();
         return this;
       }
@@ -8615,41 +17250,41 @@ public final class Master {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.AuthenticatedClient)
+      // @@protoc_insertion_point(builder_scope:com.s13g.winston.proto.WriteDebounce)
     }
 
-    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.AuthenticatedClient)
-    private static final com.s13g.winston.proto.Master.AuthenticatedClient DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.s13g.winston.proto.WriteDebounce)
+    private static final com.s13g.winston.proto.Master.WriteDebounce DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.AuthenticatedClient();
+      DEFAULT_INSTANCE = new com.s13g.winston.proto.Master.WriteDebounce();
     }
 
-    public static com.s13g.winston.proto.Master.AuthenticatedClient getDefaultInstance() {
+    public static com.s13g.winston.proto.Master.WriteDebounce getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<AuthenticatedClient>
-        PARSER = new com.google.protobuf.AbstractParser<AuthenticatedClient>() {
+    private static final com.google.protobuf.Parser<WriteDebounce>
+        PARSER = new com.google.protobuf.AbstractParser<WriteDebounce>() {
       @java.lang.Override
-      public AuthenticatedClient parsePartialFrom(
+      public WriteDebounce parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new AuthenticatedClient(input, extensionRegistry);
+        return new WriteDebounce(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<AuthenticatedClient> parser() {
+    public static com.google.protobuf.Parser<WriteDebounce> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<AuthenticatedClient> getParserForType() {
+    public com.google.protobuf.Parser<WriteDebounce> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.s13g.winston.proto.Master.AuthenticatedClient getDefaultInstanceForType() {
+    public com.s13g.winston.proto.Master.WriteDebounce getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -8661,7 +17296,7 @@ public final class Master {
 
     /**
      * <pre>
-     * MAC address uniquly addresses a client. 
+     * MAC address uniquely addresses a client. 
      * </pre>
      *
      * <code>string mac_address = 1;</code>
@@ -8669,7 +17304,7 @@ public final class Master {
     java.lang.String getMacAddress();
     /**
      * <pre>
-     * MAC address uniquly addresses a client. 
+     * MAC address uniquely addresses a client. 
      * </pre>
      *
      * <code>string mac_address = 1;</code>
@@ -8843,7 +17478,7 @@ public final class Master {
     private volatile java.lang.Object macAddress_;
     /**
      * <pre>
-     * MAC address uniquly addresses a client. 
+     * MAC address uniquely addresses a client. 
      * </pre>
      *
      * <code>string mac_address = 1;</code>
@@ -8862,7 +17497,7 @@ public final class Master {
     }
     /**
      * <pre>
-     * MAC address uniquly addresses a client. 
+     * MAC address uniquely addresses a client. 
      * </pre>
      *
      * <code>string mac_address = 1;</code>
@@ -9370,7 +18005,7 @@ public final class Master {
       private java.lang.Object macAddress_ = "";
       /**
        * <pre>
-       * MAC address uniquly addresses a client. 
+       * MAC address uniquely addresses a client. 
        * </pre>
        *
        * <code>string mac_address = 1;</code>
@@ -9389,7 +18024,7 @@ public final class Master {
       }
       /**
        * <pre>
-       * MAC address uniquly addresses a client. 
+       * MAC address uniquely addresses a client. 
        * </pre>
        *
        * <code>string mac_address = 1;</code>
@@ -9409,7 +18044,7 @@ public final class Master {
       }
       /**
        * <pre>
-       * MAC address uniquly addresses a client. 
+       * MAC address uniquely addresses a client. 
        * </pre>
        *
        * <code>string mac_address = 1;</code>
@@ -9426,7 +18061,7 @@ public final class Master {
       }
       /**
        * <pre>
-       * MAC address uniquly addresses a client. 
+       * MAC address uniquely addresses a client. 
        * </pre>
        *
        * <code>string mac_address = 1;</code>
@@ -9439,7 +18074,7 @@ public final class Master {
       }
       /**
        * <pre>
-       * MAC address uniquly addresses a client. 
+       * MAC address uniquely addresses a client. 
        * </pre>
        *
        * <code>string mac_address = 1;</code>
@@ -9782,6 +18417,21 @@ public final class Master {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_com_s13g_winston_proto_GroupTrigger_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_s13g_winston_proto_Rule_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_s13g_winston_proto_Rule_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_s13g_winston_proto_Condition_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_s13g_winston_proto_Condition_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_s13g_winston_proto_RuleAction_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_s13g_winston_proto_RuleAction_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_s13g_winston_proto_Channel_descriptor;
   private static final 
@@ -9797,6 +18447,21 @@ public final class Master {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_com_s13g_winston_proto_AuthenticatedClient_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_s13g_winston_proto_ValueCache_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_s13g_winston_proto_ValueCache_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_s13g_winston_proto_PollSchedule_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_s13g_winston_proto_PollSchedule_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_s13g_winston_proto_WriteDebounce_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_s13g_winston_proto_WriteDebounce_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_s13g_winston_proto_KnownNode_descriptor;
   private static final 
@@ -9812,7 +18477,7 @@ public final class Master {
   static {
     java.lang.String[] descriptorData = {
       "\n\036etc/protos/master_config.proto\022\026com.s1" +
-      "3g.winston.proto\"\266\002\n\014MasterConfig\022\023\n\013dae" +
+      "3g.winston.proto\"\317\006\n\014MasterConfig\022\023\n\013dae" +
       "mon_port\030\001 \001(\005\022\031\n\021ssl_keystore_path\030\002 \001(" +
       "\t\022\035\n\025ssl_keystore_password\030\003 \001(\t\022.\n\006modu" +
       "le\030\004 \003(\0132\036.com.s13g.winston.proto.Module" +
@@ -9820,20 +18485,50 @@ public final class Master {
       ".Group\022@\n\013auth_client\030\006 \003(\0132+.com.s13g.w" +
       "inston.proto.AuthenticatedClient\0227\n\014know" +
       "n_client\030\007 \003(\0132!.com.s13g.winston.proto." +
-      "KnownNode\"H\n\006Module\022\014\n\004type\030\001 \001(\t\0220\n\007cha" +
-      "nnel\030\002 \003(\0132\037.com.s13g.winston.proto.Chan" +
-      "nel\"L\n\005Group\022\014\n\004name\030\001 \001(\t\0225\n\007trigger\030\002 " +
-      "\003(\0132$.com.s13g.winston.proto.GroupTrigge" +
-      "r\"-\n\014GroupTrigger\022\r\n\005input\030\001 \003(\t\022\016\n\006acti" +
-      "on\030\002 \003(\t\"^\n\007Channel\022\014\n\004type\030\001 \001(\t\022\017\n\007add" +
-      "ress\030\002 \001(\t\0224\n\tparameter\030\003 \003(\0132!.com.s13g" +
-      ".winston.proto.Parameter\"(\n\tParameter\022\014\n" +
-      "\004name\030\001 \001(\t\022\r\n\005value\030\002 \001(\t\"7\n\023Authentica" +
-      "tedClient\022\014\n\004name\030\001 \001(\t\022\022\n\nauth_token\030\002 " +
-      "\001(\t\"b\n\tKnownNode\022\023\n\013mac_address\030\001 \001(\t\022\014\n" +
-      "\004name\030\002 \001(\t\022\014\n\004port\030\003 \001(\005\022\017\n\007use_ssl\030\004 \001" +
-      "(\010\022\023\n\013config_file\030\005 \001(\tB \n\026com.s13g.wins" +
-      "ton.protoB\006Masterb\006proto3"
+      "KnownNode\022\024\n\014http_threads\030\t \001(\005\022\036\n\026ssl_s" +
+      "ession_cache_size\030\n \001(\005\022#\n\033ssl_session_t" +
+      "imeout_seconds\030\013 \001(\005\022#\n\033disable_ssl_sess" +
+      "ion_tickets\030\014 \001(\010\022\037\n\027max_concurrent_requ" +
+      "ests\030\r \001(\005\022\033\n\023max_queued_requests\030\016 \001(\005\022" +
+      "\036\n\026access_log_sample_rate\030\017 \001(\001\0227\n\013value" +
+      "_cache\030\020 \003(\0132\".com.s13g.winston.proto.Va" +
+      "lueCache\022;\n\rpoll_schedule\030\021 \003(\0132$.com.s1" +
+      "3g.winston.proto.PollSchedule\022\034\n\024max_pol" +
+      "ls_per_device\030\022 \001(\005\022\037\n\027history_retention" +
+      "_hours\030\023 \001(\005\022\031\n\021history_directory\030\024 \001(\t\022" +
+      "*\n\004rule\030\025 \003(\0132\034.com.s13g.winston.proto.R" +
+      "ule\022=\n\016write_debounce\030\026 \003(\0132%.com.s13g.w" +
+      "inston.proto.WriteDebounce\"H\n\006Module\022\014\n\004" +
+      "type\030\001 \001(\t\0220\n\007channel\030\002 \003(\0132\037.com.s13g.w" +
+      "inston.proto.Channel\"L\n\005Group\022\014\n\004name\030\001 " +
+      "\001(\t\0225\n\007trigger\030\002 \003(\0132$.com.s13g.winston." +
+      "proto.GroupTrigger\"-\n\014GroupTrigger\022\r\n\005in" +
+      "put\030\001 \003(\t\022\016\n\006action\030\002 \003(\t\"~\n\004Rule\022\014\n\004nam" +
+      "e\030\001 \001(\t\0224\n\tcondition\030\002 \003(\0132!.com.s13g.wi" +
+      "nston.proto.Condition\0222\n\006action\030\003 \003(\0132\"." +
+      "com.s13g.winston.proto.RuleAction\"\357\001\n\tCo" +
+      "ndition\022\014\n\004path\030\001 \001(\t\022<\n\010operator\030\002 \001(\0162" +
+      "*.com.s13g.winston.proto.Condition.Opera" +
+      "tor\022\r\n\005value\030\003 \001(\t\022\022\n\nfor_millis\030\004 \001(\005\"s" +
+      "\n\010Operator\022\n\n\006EQUALS\020\000\022\016\n\nNOT_EQUALS\020\001\022\013" +
+      "\n\007GREATER\020\002\022\024\n\020GREATER_OR_EQUAL\020\003\022\010\n\004LES" +
+      "S\020\004\022\021\n\rLESS_OR_EQUAL\020\005\022\013\n\007CHANGED\020\006\")\n\nR" +
+      "uleAction\022\014\n\004path\030\001 \001(\t\022\r\n\005value\030\002 \001(\t\"^" +
+      "\n\007Channel\022\014\n\004type\030\001 \001(\t\022\017\n\007address\030\002 \001(\t" +
+      "\0224\n\tparameter\030\003 \003(\0132!.com.s13g.winston.p" +
+      "roto.Parameter\"(\n\tParameter\022\014\n\004name\030\001 \001(" +
+      "\t\022\r\n\005value\030\002 \001(\t\"c\n\023AuthenticatedClient\022" +
+      "\014\n\004name\030\001 \001(\t\022\022\n\nauth_token\030\002 \001(\t\022\033\n\023req" +
+      "uests_per_second\030\003 \001(\001\022\r\n\005burst\030\004 \001(\005\"L\n" +
+      "\nValueCache\022\014\n\004path\030\001 \001(\t\022\026\n\016max_age_mil" +
+      "lis\030\002 \001(\005\022\030\n\020max_stale_millis\030\003 \001(\005\"5\n\014P" +
+      "ollSchedule\022\014\n\004path\030\001 \001(\t\022\027\n\017interval_mi" +
+      "llis\030\002 \001(\005\"4\n\rWriteDebounce\022\014\n\004path\030\001 \001(" +
+      "\t\022\025\n\rwindow_millis\030\002 \001(\005\"b\n\tKnownNode\022\023\n" +
+      "\013mac_address\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\022\014\n\004port" +
+      "\030\003 \001(\005\022\017\n\007use_ssl\030\004 \001(\010\022\023\n\013config_file\030\005" +
+      " \001(\tB \n\026com.s13g.winston.protoB\006Masterb\006" +
+      "proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -9852,7 +18547,7 @@ public final class Master {
     internal_static_com_s13g_winston_proto_MasterConfig_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_s13g_winston_proto_MasterConfig_descriptor,
-        new java.lang.String[] { "DaemonPort", "SslKeystorePath", "SslKeystorePassword", "Module", "Group", "AuthClient", "KnownClient", });
+        new java.lang.String[] { "DaemonPort", "SslKeystorePath", "SslKeystorePassword", "Module", "Group", "AuthClient", "KnownClient", "HttpThreads", "SslSessionCacheSize", "SslSessionTimeoutSeconds", "DisableSslSessionTickets", "MaxConcurrentRequests", "MaxQueuedRequests", "AccessLogSampleRate", "ValueCache", "PollSchedule", "MaxPollsPerDevice", "HistoryRetentionHours", "HistoryDirectory", "Rule", "WriteDebounce", });
     internal_static_com_s13g_winston_proto_Module_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_com_s13g_winston_proto_Module_fieldAccessorTable = new
@@ -9871,26 +18566,62 @@ public final class Master {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_s13g_winston_proto_GroupTrigger_descriptor,
         new java.lang.String[] { "Input", "Action", });
-    internal_static_com_s13g_winston_proto_Channel_descriptor =
+    internal_static_com_s13g_winston_proto_Rule_descriptor =
       getDescriptor().getMessageTypes().get(4);
+    internal_static_com_s13g_winston_proto_Rule_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_s13g_winston_proto_Rule_descriptor,
+        new java.lang.String[] { "Name", "Condition", "Action", });
+    internal_static_com_s13g_winston_proto_Condition_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_com_s13g_winston_proto_Condition_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_s13g_winston_proto_Condition_descriptor,
+        new java.lang.String[] { "Path", "Operator", "Value", "ForMillis", });
+    internal_static_com_s13g_winston_proto_RuleAction_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_com_s13g_winston_proto_RuleAction_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_s13g_winston_proto_RuleAction_descriptor,
+        new java.lang.String[] { "Path", "Value", });
+    internal_static_com_s13g_winston_proto_Channel_descriptor =
+      getDescriptor().getMessageTypes().get(7);
     internal_static_com_s13g_winston_proto_Channel_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_s13g_winston_proto_Channel_descriptor,
         new java.lang.String[] { "Type", "Address", "Parameter", });
     internal_static_com_s13g_winston_proto_Parameter_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_com_s13g_winston_proto_Parameter_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_s13g_winston_proto_Parameter_descriptor,
         new java.lang.String[] { "Name", "Value", });
     internal_static_com_s13g_winston_proto_AuthenticatedClient_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_com_s13g_winston_proto_AuthenticatedClient_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_s13g_winston_proto_AuthenticatedClient_descriptor,
-        new java.lang.String[] { "Name", "AuthToken", });
+        new java.lang.String[] { "Name", "AuthToken", "RequestsPerSecond", "Burst", });
+    internal_static_com_s13g_winston_proto_ValueCache_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_com_s13g_winston_proto_ValueCache_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_s13g_winston_proto_ValueCache_descriptor,
+        new java.lang.String[] { "Path", "MaxAgeMillis", "MaxStaleMillis", });
+    internal_static_com_s13g_winston_proto_PollSchedule_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_com_s13g_winston_proto_PollSchedule_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_s13g_winston_proto_PollSchedule_descriptor,
+        new java.lang.String[] { "Path", "IntervalMillis", });
+    internal_static_com_s13g_winston_proto_WriteDebounce_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_com_s13g_winston_proto_WriteDebounce_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_s13g_winston_proto_WriteDebounce_descriptor,
+        new java.lang.String[] { "Path", "WindowMillis", });
     internal_static_com_s13g_winston_proto_KnownNode_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_com_s13g_winston_proto_KnownNode_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_s13g_winston_proto_KnownNode_descriptor,
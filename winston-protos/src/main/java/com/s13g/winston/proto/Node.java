@@ -173,6 +173,25 @@ public final class Node {
      */
     com.s13g.winston.proto.Node.NodeConfig.I2cPluginOrBuilder getI2CPluginOrBuilder(
         int index);
+
+    /**
+     * <pre>
+     * The number of threads handling HTTP requests. Uses the daemon's default if not set. 
+     * </pre>
+     *
+     * <code>int32 http_threads = 6;</code>
+     */
+    int getHttpThreads();
+
+    /**
+     * <pre>
+     * The fraction of successful requests written to the access log, between 0 and 1. Failed
+     * requests are always logged. Logs every request if not set.
+     * </pre>
+     *
+     * <code>double access_log_sample_rate = 7;</code>
+     */
+    double getAccessLogSampleRate();
   }
   /**
    * <pre>
@@ -196,6 +215,8 @@ public final class Node {
       gpioPlugin_ = java.util.Collections.emptyList();
       onewirePlugin_ = java.util.Collections.emptyList();
       i2CPlugin_ = java.util.Collections.emptyList();
+      httpThreads_ = 0;
+      accessLogSampleRate_ = 0D;
     }
 
     @java.lang.Override
@@ -254,6 +275,16 @@ public final class Node {
                   input.readMessage(com.s13g.winston.proto.Node.NodeConfig.I2cPlugin.parser(), extensionRegistry));
               break;
             }
+            case 48: {
+
+              httpThreads_ = input.readInt32();
+              break;
+            }
+            case 57: {
+
+              accessLogSampleRate_ = input.readDouble();
+              break;
+            }
             default: {
               if (!parseUnknownFieldProto3(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -2839,6 +2870,33 @@ public final class Node {
       return i2CPlugin_.get(index);
     }
 
+    public static final int HTTP_THREADS_FIELD_NUMBER = 6;
+    private int httpThreads_;
+    /**
+     * <pre>
+     * The number of threads handling HTTP requests. Uses the daemon's default if not set. 
+     * </pre>
+     *
+     * <code>int32 http_threads = 6;</code>
+     */
+    public int getHttpThreads() {
+      return httpThreads_;
+    }
+
+    public static final int ACCESS_LOG_SAMPLE_RATE_FIELD_NUMBER = 7;
+    private double accessLogSampleRate_;
+    /**
+     * <pre>
+     * The fraction of successful requests written to the access log, between 0 and 1. Failed
+     * requests are always logged. Logs every request if not set.
+     * </pre>
+     *
+     * <code>double access_log_sample_rate = 7;</code>
+     */
+    public double getAccessLogSampleRate() {
+      return accessLogSampleRate_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -2865,6 +2923,12 @@ public final class Node {
       for (int i = 0; i < i2CPlugin_.size(); i++) {
         output.writeMessage(4, i2CPlugin_.get(i));
       }
+      if (httpThreads_ != 0) {
+        output.writeInt32(6, httpThreads_);
+      }
+      if (accessLogSampleRate_ != 0D) {
+        output.writeDouble(7, accessLogSampleRate_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -2890,6 +2954,14 @@ public final class Node {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(4, i2CPlugin_.get(i));
       }
+      if (httpThreads_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, httpThreads_);
+      }
+      if (accessLogSampleRate_ != 0D) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(7, accessLogSampleRate_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2914,6 +2986,12 @@ public final class Node {
           .equals(other.getOnewirePluginList());
       result = result && getI2CPluginList()
           .equals(other.getI2CPluginList());
+      result = result && (getHttpThreads()
+          == other.getHttpThreads());
+      result = result && (
+          java.lang.Double.doubleToLongBits(getAccessLogSampleRate())
+          == java.lang.Double.doubleToLongBits(
+              other.getAccessLogSampleRate()));
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -2939,6 +3017,11 @@ public final class Node {
         hash = (37 * hash) + I2C_PLUGIN_FIELD_NUMBER;
         hash = (53 * hash) + getI2CPluginList().hashCode();
       }
+      hash = (37 * hash) + HTTP_THREADS_FIELD_NUMBER;
+      hash = (53 * hash) + getHttpThreads();
+      hash = (37 * hash) + ACCESS_LOG_SAMPLE_RATE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getAccessLogSampleRate()));
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -3100,6 +3183,10 @@ public final class Node {
         } else {
           i2CPluginBuilder_.clear();
         }
+        httpThreads_ = 0;
+
+        accessLogSampleRate_ = 0D;
+
         return this;
       }
 
@@ -3156,6 +3243,8 @@ public final class Node {
         } else {
           result.i2CPlugin_ = i2CPluginBuilder_.build();
         }
+        result.httpThreads_ = httpThreads_;
+        result.accessLogSampleRate_ = accessLogSampleRate_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -3286,6 +3375,12 @@ public final class Node {
             }
           }
         }
+        if (other.getHttpThreads() != 0) {
+          setHttpThreads(other.getHttpThreads());
+        }
+        if (other.getAccessLogSampleRate() != 0D) {
+          setAccessLogSampleRate(other.getAccessLogSampleRate());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -4343,6 +4438,85 @@ public final class Node {
         }
         return i2CPluginBuilder_;
       }
+
+      private int httpThreads_ ;
+      /**
+       * <pre>
+       * The number of threads handling HTTP requests. Uses the daemon's default if not set. 
+       * </pre>
+       *
+       * <code>int32 http_threads = 6;</code>
+       */
+      public int getHttpThreads() {
+        return httpThreads_;
+      }
+      /**
+       * <pre>
+       * The number of threads handling HTTP requests. Uses the daemon's default if not set. 
+       * </pre>
+       *
+       * <code>int32 http_threads = 6;</code>
+       */
+      public Builder setHttpThreads(int value) {
+        
+        httpThreads_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The number of threads handling HTTP requests. Uses the daemon's default if not set. 
+       * </pre>
+       *
+       * <code>int32 http_threads = 6;</code>
+       */
+      public Builder clearHttpThreads() {
+        
+        httpThreads_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private double accessLogSampleRate_ ;
+      /**
+       * <pre>
+       * The fraction of successful requests written to the access log, between 0 and 1. Failed
+       * requests are always logged. Logs every request if not set.
+       * </pre>
+       *
+       * <code>double access_log_sample_rate = 7;</code>
+       */
+      public double getAccessLogSampleRate() {
+        return accessLogSampleRate_;
+      }
+      /**
+       * <pre>
+       * The fraction of successful requests written to the access log, between 0 and 1. Failed
+       * requests are always logged. Logs every request if not set.
+       * </pre>
+       *
+       * <code>double access_log_sample_rate = 7;</code>
+       */
+      public Builder setAccessLogSampleRate(double value) {
+        
+        accessLogSampleRate_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The fraction of successful requests written to the access log, between 0 and 1. Failed
+       * requests are always logged. Logs every request if not set.
+       * </pre>
+       *
+       * <code>double access_log_sample_rate = 7;</code>
+       */
+      public Builder clearAccessLogSampleRate() {
+        
+        accessLogSampleRate_ = 0D;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -4426,18 +4600,19 @@ public final class Node {
   static {
     java.lang.String[] descriptorData = {
       "\n\034etc/protos/node_config.proto\022\026com.s13g" +
-      ".winston.proto\"\204\003\n\nNodeConfig\022\023\n\013daemon_" +
+      ".winston.proto\"\272\003\n\nNodeConfig\022\023\n\013daemon_" +
       "port\030\001 \001(\005\022B\n\013gpio_plugin\030\002 \003(\0132-.com.s1" +
       "3g.winston.proto.NodeConfig.GpioPlugin\022H" +
       "\n\016onewire_plugin\030\003 \003(\01320.com.s13g.winsto" +
       "n.proto.NodeConfig.OneWirePlugin\022@\n\ni2c_" +
       "plugin\030\004 \003(\0132,.com.s13g.winston.proto.No" +
-      "deConfig.I2cPlugin\032+\n\rOneWirePlugin\022\014\n\004t" +
-      "ype\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\032+\n\nGpioPlugin\022\014\n" +
-      "\004type\030\001 \001(\t\022\017\n\007mapping\030\002 \003(\005\0327\n\tI2cPlugi" +
-      "n\022\014\n\004type\030\001 \001(\t\022\013\n\003bus\030\002 \001(\005\022\017\n\007address\030" +
-      "\003 \001(\005B\036\n\026com.s13g.winston.protoB\004Nodeb\006p" +
-      "roto3"
+      "deConfig.I2cPlugin\022\024\n\014http_threads\030\006 \001(\005" +
+      "\022\036\n\026access_log_sample_rate\030\007 \001(\001\032+\n\rOneW" +
+      "irePlugin\022\014\n\004type\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\032+\n" +
+      "\nGpioPlugin\022\014\n\004type\030\001 \001(\t\022\017\n\007mapping\030\002 \003" +
+      "(\005\0327\n\tI2cPlugin\022\014\n\004type\030\001 \001(\t\022\013\n\003bus\030\002 \001" +
+      "(\005\022\017\n\007address\030\003 \001(\005B\036\n\026com.s13g.winston." +
+      "protoB\004Nodeb\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -4456,7 +4631,7 @@ public final class Node {
     internal_static_com_s13g_winston_proto_NodeConfig_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_s13g_winston_proto_NodeConfig_descriptor,
-        new java.lang.String[] { "DaemonPort", "GpioPlugin", "OnewirePlugin", "I2CPlugin", });
+        new java.lang.String[] { "DaemonPort", "GpioPlugin", "OnewirePlugin", "I2CPlugin", "HttpThreads", "AccessLogSampleRate", });
     internal_static_com_s13g_winston_proto_NodeConfig_OneWirePlugin_descriptor =
       internal_static_com_s13g_winston_proto_NodeConfig_descriptor.getNestedTypes().get(0);
     internal_static_com_s13g_winston_proto_NodeConfig_OneWirePlugin_fieldAccessorTable = new
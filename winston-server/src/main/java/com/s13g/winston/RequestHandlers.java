@@ -17,86 +17,164 @@
 package com.s13g.winston;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.flogger.FluentLogger;
+import com.s13g.winston.common.AdmissionController;
+import com.s13g.winston.common.HandlerRequest;
+import com.s13g.winston.common.HandlerResponse;
 import com.s13g.winston.common.RequestHandler;
 import com.s13g.winston.common.RequestHandlingException;
+import com.s13g.winston.common.TokenBucket;
+import com.s13g.winston.lib.core.metrics.MetricsRegistry;
 import com.s13g.winston.proto.Master.AuthenticatedClient;
 
-import org.simpleframework.http.Address;
 import org.simpleframework.http.Status;
 
 import java.io.OutputStream;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Contains all handlers that can handle incoming HTTP requests.
+ * <p>
+ * Requests are routed by their first path segment. The routing table is copy-on-write: handlers
+ * can be added at any time, while dispatching only reads the current immutable table and can
+ * therefore run concurrently on all HTTP threads without taking a lock.
+ * <p>
+ * Requests from clients are rate limited per auth token, if the client has a limit configured,
+ * and pass an {@link AdmissionController} that limits how many are handled at the same time.
  */
 public class RequestHandlers {
   private static final FluentLogger log = FluentLogger.forEnclosingClass();
   private static final String AUTH_TOKEN_PARAM = "authtoken";
+  private static final String METRIC_DURATION = "winston_request_duration_seconds";
+  private static final String METRIC_ERRORS = "winston_request_errors_total";
 
   private final Map<String, AuthenticatedClient> mAuthClients;
-  private final List<RequestHandler> mRequestHandlers;
+  /** Auth token -> rate limit. Only contains clients that have one. */
+  private final Map<String, TokenBucket> mRateLimits;
+  private final AdmissionController mAdmissionController;
+  /** Maps the first segment of a request path to its handler. Replaced, never modified. */
+  private volatile ImmutableMap<String, RequestHandler> mRequestHandlers;
+  /** Serializes writers of the routing table. Not needed for reading it. */
   private final Object mLock;
 
   public RequestHandlers(List<AuthenticatedClient> authClientList) {
+    this(authClientList, AdmissionController.unlimited());
+  }
+
+  public RequestHandlers(List<AuthenticatedClient> authClientList,
+                         AdmissionController admissionController) {
     mAuthClients = createAuthClientMap(authClientList);
-    mRequestHandlers = new LinkedList<>();
+    mRateLimits = createRateLimitMap(authClientList);
+    mAdmissionController = admissionController;
+    mRequestHandlers = ImmutableMap.of();
     mLock = new Object();
   }
 
+  /**
+   * Registers the given handler for all of its request prefixes.
+   *
+   * @throws IllegalStateException if one of the prefixes is already handled by another handler.
+   */
   public void addRequestHandler(RequestHandler requestHandler) {
     synchronized (mLock) {
-      mRequestHandlers.add(requestHandler);
+      Map<String, RequestHandler> handlers = new HashMap<>(mRequestHandlers);
+      for (String prefix : requestHandler.getRequestPrefixes()) {
+        if (handlers.put(prefix, requestHandler) != null) {
+          throw new IllegalStateException("Request prefix already registered: " + prefix);
+        }
+      }
+      mRequestHandlers = ImmutableMap.copyOf(handlers);
     }
   }
 
   /**
    * Handles the given request and performs an authentication check.
    *
-   * @param address the request address.
+   * @param request the request.
    * @param response where the response is written to.
    * @throws RequestHandlingException      if there was an error while trying to handle this
    *                                       request.
    * @throws RequestNotAuthorizedException if the client was not authorized to perform this
    *                                       request.
+   * @throws TooManyRequestsException      if the client exceeded its rate limit.
    */
-  public void handleRequest(Address address, OutputStream response)
-      throws RequestHandlingException, RequestNotAuthorizedException {
-    String path = address.getPath().getPath();
-    if (path.startsWith("/")) {
-      path = path.substring(1);
+  public void handleRequest(HandlerRequest request, HandlerResponse response)
+      throws RequestHandlingException, RequestNotAuthorizedException, TooManyRequestsException {
+    authorize(request);
+    if (!mAdmissionController.tryEnter()) {
+      throw new RequestHandlingException("Too many requests in flight, rejecting " + request,
+          Status.SERVICE_UNAVAILABLE);
     }
+    try {
+      handleRequestTrusted(request, response);
+    } finally {
+      mAdmissionController.exit();
+    }
+  }
 
-    String authToken = address.getQuery().get(AUTH_TOKEN_PARAM);
+  /**
+   * Checks the auth token of the given request and the rate limit of its client.
+   *
+   * @param request the request.
+   * @return The client the auth token belongs to.
+   * @throws RequestNotAuthorizedException if the client was not authorized to perform requests.
+   * @throws TooManyRequestsException      if the client exceeded its rate limit.
+   */
+  public AuthenticatedClient authorize(HandlerRequest request)
+      throws RequestNotAuthorizedException, TooManyRequestsException {
+    String authToken = request.getParameter(AUTH_TOKEN_PARAM).orElse(null);
     if (Strings.isNullOrEmpty(authToken)) {
       throw new RequestNotAuthorizedException("No authtoken given");
     }
     if (!mAuthClients.containsKey(authToken)) {
       throw new RequestNotAuthorizedException("Invalid authtoken");
     }
-    log.atInfo().log("Authorized client: " + mAuthClients.get(authToken).getName());
-    handleRequestTrusted(path, response);
+    AuthenticatedClient client = mAuthClients.get(authToken);
+    log.atFine().log("Authorized client: %s", client.getName());
+    TokenBucket rateLimit = mRateLimits.get(authToken);
+    if (rateLimit != null && !rateLimit.tryAcquire()) {
+      throw new TooManyRequestsException("Rate limit exceeded: " + client.getName(),
+          rateLimit.getSecondsUntilAvailable());
+    }
+    return client;
   }
 
   /** Call this for requests that are already trusted and don't need an auth token check. */
   public void handleRequestTrusted(String requestUrl, OutputStream response) throws
       RequestHandlingException {
-    synchronized (mLock) {
-      // TODO: This should be done on a background thread, with a proper queue, de-duping per
-      // command/node etc.
-      for (RequestHandler handler : mRequestHandlers) {
-        if (handler.canHandle(requestUrl)) {
-          handler.doHandle(requestUrl, response);
-          return;
-        }
-      }
-      throw new RequestHandlingException("No request handler found. " + requestUrl,
+    handleRequestTrusted(HandlerRequest.fromPath(requestUrl), HandlerResponse.from(response));
+  }
+
+  /** Call this for requests that are already trusted and don't need an auth token check. */
+  public void handleRequestTrusted(HandlerRequest request, HandlerResponse response) throws
+      RequestHandlingException {
+    String prefix = getFirstSegment(request.getPath());
+    RequestHandler handler = mRequestHandlers.get(prefix);
+    if (handler == null) {
+      throw new RequestHandlingException("No request handler found. " + request,
           Status.NOT_FOUND);
     }
+    MetricsRegistry metrics = MetricsRegistry.global();
+    long start = System.nanoTime();
+    try {
+      handler.doHandle(request, response);
+    } catch (RequestHandlingException | RuntimeException e) {
+      metrics.counter(METRIC_ERRORS, "Failed requests per handler.", "handler", prefix)
+          .increment();
+      throw e;
+    } finally {
+      metrics.histogram(METRIC_DURATION, "Duration of requests per handler.", "handler", prefix)
+          .observeSince(start);
+    }
+  }
+
+  /** Returns the part of the given request path up to, but excluding, the first slash. */
+  private static String getFirstSegment(String requestUrl) {
+    int slashIndex = requestUrl.indexOf('/');
+    return slashIndex < 0 ? requestUrl : requestUrl.substring(0, slashIndex);
   }
 
   private Map<String, AuthenticatedClient> createAuthClientMap(List<AuthenticatedClient> clients) {
@@ -107,9 +185,32 @@ public class RequestHandlers {
     return result;
   }
 
+  private static Map<String, TokenBucket> createRateLimitMap(List<AuthenticatedClient> clients) {
+    Map<String, TokenBucket> result = new HashMap<>();
+    for (AuthenticatedClient client : clients) {
+      if (client.getRequestsPerSecond() > 0) {
+        int burst = client.getBurst() > 0 ? client.getBurst()
+            : (int) Math.max(1, Math.ceil(client.getRequestsPerSecond()));
+        result.put(client.getAuthToken(), new TokenBucket(client.getRequestsPerSecond(), burst));
+      }
+    }
+    return result;
+  }
+
   public static class RequestNotAuthorizedException extends Exception {
     RequestNotAuthorizedException(String message) {
       super(message);
     }
   }
+
+  /** Thrown when a client made more requests than its rate limit allows. */
+  public static class TooManyRequestsException extends Exception {
+    /** The time after which the client may retry. */
+    public final long retryAfterSeconds;
+
+    TooManyRequestsException(String message, long retryAfterSeconds) {
+      super(message);
+      this.retryAfterSeconds = retryAfterSeconds;
+    }
+  }
 }
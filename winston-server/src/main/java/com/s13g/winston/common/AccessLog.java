@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.flogger.FluentLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs one line per handled request without slowing down the request threads.
+ * <p>
+ * Request threads only create a small record and offer it to a bounded queue. A background
+ * thread takes the records from the queue and writes them to the log. If the writer does not
+ * keep up, e.g. because the log is on a slow SD card, records are dropped and counted instead of
+ * blocking the request. Successful requests can be sampled, failed requests are always logged.
+ */
+public class AccessLog {
+  private static final FluentLogger log = FluentLogger.forEnclosingClass();
+  private static final int DEFAULT_CAPACITY = 1024;
+  /** The maximum number of records written at once. */
+  private static final int MAX_BATCH = 64;
+
+  private final double mSampleRate;
+  private final BlockingQueue<Record> mQueue;
+  private final AtomicLong mDropped;
+
+  /**
+   * @param sampleRate the fraction of successful requests to log, between 0 and 1.
+   */
+  public AccessLog(double sampleRate) {
+    this(sampleRate, DEFAULT_CAPACITY);
+  }
+
+  @VisibleForTesting
+  AccessLog(double sampleRate, int capacity) {
+    if (sampleRate < 0 || sampleRate > 1) {
+      throw new IllegalArgumentException("Sample rate must be between 0 and 1: " + sampleRate);
+    }
+    mSampleRate = sampleRate;
+    mQueue = new ArrayBlockingQueue<>(capacity);
+    mDropped = new AtomicLong();
+  }
+
+  /** Starts writing records on the given executor, which should be dedicated to this log. */
+  public void start(ExecutorService executor) {
+    executor.execute(() -> {
+      try {
+        while (!Thread.currentThread().isInterrupted()) {
+          writeRecords(mQueue.take());
+        }
+      } catch (InterruptedException e) {
+        log.atInfo().log("Access log stopped");
+      }
+    });
+  }
+
+  /**
+   * Records a handled request. Never blocks.
+   *
+   * @param client the address of the client.
+   * @param method the HTTP method, e.g. 'GET'.
+   * @param path the requested path, without parameters.
+   * @param status the HTTP status code of the response.
+   * @param startNanos when handling the request started, as returned by {@link System#nanoTime}.
+   */
+  public void record(Object client, String method, String path, int status, long startNanos) {
+    if (status < 400 && (mSampleRate == 0 ||
+        (mSampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= mSampleRate))) {
+      return;
+    }
+    long durationMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    if (!mQueue.offer(new Record(client, method, path, status, durationMicros))) {
+      mDropped.incrementAndGet();
+    }
+  }
+
+  /** @return The number of records that were dropped because the queue was full. */
+  public long getDropped() {
+    return mDropped.get();
+  }
+
+  /** @return The number of records waiting to be written. */
+  @VisibleForTesting
+  int getPending() {
+    return mQueue.size();
+  }
+
+  /** Writes the given record and all others that are pending, up to a maximum batch size. */
+  private void writeRecords(Record first) {
+    List<Record> records = new ArrayList<>(MAX_BATCH);
+    records.add(first);
+    mQueue.drainTo(records, MAX_BATCH - 1);
+    for (Record record : records) {
+      log.atInfo().log("%s \"%s %s\" %d %dus", record.mClient, record.mMethod, record.mPath,
+          record.mStatus, record.mDurationMicros);
+    }
+  }
+
+  private static class Record {
+    private final Object mClient;
+    private final String mMethod;
+    private final String mPath;
+    private final int mStatus;
+    private final long mDurationMicros;
+
+    private Record(Object client, String method, String path, int status, long durationMicros) {
+      mClient = client;
+      mMethod = method;
+      mPath = path;
+      mStatus = status;
+      mDurationMicros = durationMicros;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.common;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the number of requests that are handled at the same time.
+ * <p>
+ * Requests beyond the limit wait in a bounded queue for a limited time. When the queue is full, or
+ * the wait times out, the request is rejected right away, so that overload is shed cheaply instead
+ * of piling up blocked threads.
+ */
+public class AdmissionController {
+  private final Semaphore mPermits;
+  private final int mMaxQueued;
+  private final long mMaxWaitMillis;
+  private final AtomicInteger mQueued;
+
+  /**
+   * @param maxConcurrent the maximum number of requests handled at the same time.
+   * @param maxQueued the maximum number of requests waiting to be handled.
+   * @param maxWaitMillis how long a request waits in the queue before it is rejected.
+   */
+  public AdmissionController(int maxConcurrent, int maxQueued, long maxWaitMillis) {
+    mPermits = new Semaphore(maxConcurrent);
+    mMaxQueued = maxQueued;
+    mMaxWaitMillis = maxWaitMillis;
+    mQueued = new AtomicInteger();
+  }
+
+  /** @return An admission controller that admits all requests. */
+  public static AdmissionController unlimited() {
+    return new AdmissionController(Integer.MAX_VALUE, 0, 0);
+  }
+
+  /**
+   * Tries to admit a request. If admitted, {@link #exit()} must be called once it is handled.
+   *
+   * @return Whether the request was admitted.
+   */
+  public boolean tryEnter() {
+    if (mPermits.tryAcquire()) {
+      return true;
+    }
+    if (mQueued.incrementAndGet() > mMaxQueued) {
+      mQueued.decrementAndGet();
+      return false;
+    }
+    try {
+      return mPermits.tryAcquire(mMaxWaitMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      mQueued.decrementAndGet();
+    }
+  }
+
+  /** Marks an admitted request as handled. */
+  public void exit() {
+    mPermits.release();
+  }
+
+  /** @return The number of requests currently waiting to be admitted. */
+  public int getQueued() {
+    return mQueued.get();
+  }
+}
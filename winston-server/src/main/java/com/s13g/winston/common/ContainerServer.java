@@ -27,14 +27,25 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 
+import javax.annotation.Nullable;
+import javax.net.ssl.SSLContext;
+
 /**
  * Starts a server to start serving the given container.
+ * <p>
+ * Requests are handled on a fixed number of simpleframework worker threads. A request that waits
+ * for a slow device occupies one of them until it is done, so daemons that talk to slow devices
+ * should use more threads.
  */
 public class ContainerServer {
   private static final FluentLogger log = FluentLogger.forEnclosingClass();
 
   private final int mPort;
   private final int mNumThreads;
+  @Nullable
+  private ContainerSocketProcessor mProcessor;
+  @Nullable
+  private Connection mConnection;
 
   /**
    * Creates instances of ContainerServer.
@@ -55,16 +66,37 @@ public class ContainerServer {
     mNumThreads = numThreads;
   }
 
-  public void startServing(Container container) {
-    try {
-      ContainerSocketProcessor processor =
-          new ContainerSocketProcessor(container, mNumThreads);
-      Connection connection = new SocketConnection(processor);
-      SocketAddress address = new InetSocketAddress(mPort);
-      connection.connect(address);
-      log.atInfo().log("Listening at %s ", address.toString());
-    } catch (IOException e) {
-      log.atSevere().withCause(e).log("Cannot start webserver");
+  /**
+   * Starts serving plain HTTP traffic from the given container.
+   *
+   * @throws IOException thrown if HTTP serving could not be started.
+   */
+  public void startServing(Container container) throws IOException {
+    startServing(container, null);
+  }
+
+  /**
+   * Starts serving traffic from the given container.
+   *
+   * @param container the container handling the requests.
+   * @param context if not null, HTTPS traffic is served using this context.
+   * @throws IOException thrown if HTTP serving could not be started.
+   */
+  public void startServing(Container container, @Nullable SSLContext context) throws IOException {
+    mProcessor = new ContainerSocketProcessor(container, mNumThreads);
+    mConnection = new SocketConnection(mProcessor);
+    SocketAddress address = new InetSocketAddress(mPort);
+    mConnection.connect(address, context);
+    log.atInfo().log("Listening at %s with %d threads", address, mNumThreads);
+  }
+
+  /** Stops serving. Requests that are currently handled are not interrupted. */
+  public void stop() throws IOException {
+    if (mConnection != null) {
+      mConnection.close();
+    }
+    if (mProcessor != null) {
+      mProcessor.stop();
     }
   }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.common;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
+
+import org.simpleframework.http.Address;
+import org.simpleframework.http.Query;
+import org.simpleframework.http.Request;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The parts of an HTTP request that are relevant for {@link RequestHandler}s.
+ */
+public class HandlerRequest {
+  private final String mPath;
+  private final ListMultimap<String, String> mParameters;
+  /** The query parameters in the order of the request. */
+  private final ImmutableList<Map.Entry<String, String>> mParameterEntries;
+  /** Lower-case header name -> value. */
+  private final Map<String, String> mHeaders;
+
+  private HandlerRequest(String path, ImmutableList<Map.Entry<String, String>> parameterEntries,
+                         Map<String, String> headers) {
+    mPath = path;
+    ImmutableListMultimap.Builder<String, String> parameters = ImmutableListMultimap.builder();
+    for (Map.Entry<String, String> entry : parameterEntries) {
+      parameters.put(entry);
+    }
+    mParameters = parameters.build();
+    mParameterEntries = parameterEntries;
+    mHeaders = headers;
+  }
+
+  /**
+   * Creates a request from the given incoming HTTP request, including its headers.
+   *
+   * @param request an incoming HTTP request.
+   */
+  public static HandlerRequest from(Request request) {
+    Map<String, String> headers = new HashMap<>();
+    for (String name : request.getNames()) {
+      headers.put(name.toLowerCase(Locale.US), request.getValue(name));
+    }
+    return from(request.getAddress(), ImmutableMap.copyOf(headers));
+  }
+
+  /**
+   * Creates a request from the given address.
+   *
+   * @param address the address of an incoming HTTP request.
+   */
+  public static HandlerRequest from(Address address) {
+    return from(address, ImmutableMap.of());
+  }
+
+  private static HandlerRequest from(Address address, Map<String, String> headers) {
+    String path = address.getPath().getPath();
+    if (path.startsWith("/")) {
+      path = path.substring(1);
+    }
+    ImmutableList.Builder<Map.Entry<String, String>> parameters = ImmutableList.builder();
+    // The parsed query loses the order of different parameters, so the raw one is used if present.
+    String target = address.toString();
+    int queryStart = target.indexOf('?');
+    if (queryStart >= 0) {
+      int fragmentStart = target.indexOf('#', queryStart);
+      String rawQuery =
+          target.substring(queryStart + 1, fragmentStart < 0 ? target.length() : fragmentStart);
+      for (String parameter : rawQuery.split("&")) {
+        if (parameter.isEmpty()) {
+          continue;
+        }
+        int equals = parameter.indexOf('=');
+        parameters.add(Maps.immutableEntry(
+            decode(equals < 0 ? parameter : parameter.substring(0, equals)),
+            equals < 0 ? "" : decode(parameter.substring(equals + 1))));
+      }
+    } else {
+      Query query = address.getQuery();
+      for (String name : query.keySet()) {
+        for (String value : query.getAll(name)) {
+          parameters.add(Maps.immutableEntry(name, value));
+        }
+      }
+    }
+    return new HandlerRequest(path, parameters.build(), headers);
+  }
+
+  private static String decode(String value) {
+    try {
+      return URLDecoder.decode(value, "UTF-8");
+    } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+      return value;
+    }
+  }
+
+  /**
+   * Creates a request without any parameters.
+   *
+   * @param path the request path without the leading slash, e.g. 'io/nest'.
+   */
+  public static HandlerRequest fromPath(String path) {
+    return new HandlerRequest(path, ImmutableList.of(), ImmutableMap.of());
+  }
+
+  /** @return The request path without the leading slash, e.g. 'io/nest'. */
+  public String getPath() {
+    return mPath;
+  }
+
+  /** @return The first value of the given query parameter, if present. */
+  public Optional<String> getParameter(String name) {
+    List<String> values = mParameters.get(name);
+    return values.isEmpty() ? Optional.empty() : Optional.of(values.get(0));
+  }
+
+  /** @return All values of the given query parameter, in the order given. */
+  public List<String> getParameters(String name) {
+    return mParameters.get(name);
+  }
+
+  /**
+   * @return All query parameters as name and value, in the order of the request. E.g. for
+   * '?a=1&b=2&a=3' this is 'a=1', 'b=2', 'a=3'.
+   */
+  public List<Map.Entry<String, String>> getParameterEntries() {
+    return mParameterEntries;
+  }
+
+  /** @return The value of the given header, if present. Header names are case-insensitive. */
+  public Optional<String> getHeader(String name) {
+    return Optional.ofNullable(mHeaders.get(name.toLowerCase(Locale.US)));
+  }
+
+  /**
+   * @param encoding a content encoding, e.g. 'gzip'.
+   * @return Whether the client accepts responses in the given encoding.
+   */
+  public boolean acceptsEncoding(String encoding) {
+    for (String accepted : getHeader("Accept-Encoding").orElse("").split(",")) {
+      String[] parts = accepted.trim().split(";");
+      if (parts[0].trim().equalsIgnoreCase(encoding)) {
+        // Only an explicit quality of zero disallows the encoding.
+        return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return mPath;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.common;
+
+import org.simpleframework.http.Response;
+import org.simpleframework.http.Status;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Where {@link RequestHandler}s write their response to.
+ * <p>
+ * The status and headers must be set before the first byte is written to the output stream. For
+ * internal requests that don't go through HTTP, they are only recorded.
+ */
+public class HandlerResponse {
+  private final OutputStream mOutputStream;
+  @Nullable
+  private final Response mResponse;
+  private Status mStatus;
+  /** Lower-case header name -> value. */
+  private final Map<String, String> mHeaders;
+
+  private HandlerResponse(OutputStream outputStream, @Nullable Response response) {
+    mOutputStream = outputStream;
+    mResponse = response;
+    mStatus = Status.OK;
+    mHeaders = new HashMap<>();
+  }
+
+  /** Creates a response that writes to the given HTTP response. */
+  public static HandlerResponse from(Response response) throws IOException {
+    return new HandlerResponse(response.getOutputStream(), response);
+  }
+
+  /** Creates a response that writes its body to the given stream, e.g. for internal requests. */
+  public static HandlerResponse from(OutputStream outputStream) {
+    return new HandlerResponse(outputStream, null);
+  }
+
+  /** Sets the status of the response. {@link Status#OK} if not set. */
+  public void setStatus(Status status) {
+    mStatus = status;
+    if (mResponse != null) {
+      mResponse.setStatus(status);
+    }
+  }
+
+  /** Sets the given header, replacing a previous value. */
+  public void setHeader(String name, String value) {
+    mHeaders.put(name.toLowerCase(Locale.US), value);
+    if (mResponse != null) {
+      mResponse.setValue(name, value);
+    }
+  }
+
+  /** @return The status of the response. */
+  public Status getStatus() {
+    return mStatus;
+  }
+
+  /** @return The value of the given header, if it was set. */
+  public Optional<String> getHeader(String name) {
+    return Optional.ofNullable(mHeaders.get(name.toLowerCase(Locale.US)));
+  }
+
+  /** @return The stream the body of the response is written to. */
+  public OutputStream getOutputStream() {
+    return mOutputStream;
+  }
+}
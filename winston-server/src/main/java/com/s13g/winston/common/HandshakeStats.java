@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.common;
+
+import com.google.common.flogger.FluentLogger;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts completed TLS handshakes, separated into full handshakes and resumed sessions.
+ */
+public class HandshakeStats {
+  private static final FluentLogger log = FluentLogger.forEnclosingClass();
+  /** The totals are logged every time this many handshakes completed. */
+  private static final int LOG_INTERVAL = 100;
+
+  private final AtomicLong mFullHandshakes;
+  private final AtomicLong mResumedHandshakes;
+
+  public HandshakeStats() {
+    mFullHandshakes = new AtomicLong();
+    mResumedHandshakes = new AtomicLong();
+  }
+
+  /**
+   * Records a completed handshake.
+   *
+   * @param resumed whether a previous session was resumed, instead of negotiating a new one.
+   */
+  public void recordHandshake(boolean resumed) {
+    (resumed ? mResumedHandshakes : mFullHandshakes).incrementAndGet();
+    if ((getFullHandshakes() + getResumedHandshakes()) % LOG_INTERVAL == 0) {
+      log.atInfo().log("TLS handshakes: %s", this);
+    }
+  }
+
+  /** @return The number of handshakes that negotiated a new session. */
+  public long getFullHandshakes() {
+    return mFullHandshakes.get();
+  }
+
+  /** @return The number of handshakes that resumed a previous session. */
+  public long getResumedHandshakes() {
+    return mResumedHandshakes.get();
+  }
+
+  @Override
+  public String toString() {
+    return getFullHandshakes() + " full, " + getResumedHandshakes() + " resumed";
+  }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.nio.ByteBuffer;
+import java.security.KeyManagementException;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLContextSpi;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+
+/**
+ * An SSLContext that records every handshake of the engines it creates in {@link HandshakeStats}.
+ * <p>
+ * The HTTP server creates its SSLEngines from the context it is given and drives the handshakes
+ * itself, so observing the engines' results is the only way to tell full and resumed handshakes
+ * apart. TLS 1.2 resumes a session under its old ID, so a handshake that finishes with an ID an
+ * earlier handshake finished with resumed a session. TLS 1.3 gives a resumed session a new ID but
+ * keeps its creation time, so a handshake also resumed a session if that session was created
+ * before the engine.
+ */
+class ObservedSslContext extends SSLContext {
+  /** How many session IDs are remembered if the session cache of the delegate is unbounded. */
+  private static final int DEFAULT_MAX_SESSION_IDS = 20480;
+
+  private ObservedSslContext(SSLContext delegate, HandshakeStats stats) {
+    super(new ObservedSpi(delegate, stats), delegate.getProvider(), delegate.getProtocol());
+  }
+
+  /**
+   * @param delegate an initialized context that does the actual work.
+   * @param stats where the handshakes are recorded.
+   */
+  static SSLContext create(SSLContext delegate, HandshakeStats stats) {
+    return new ObservedSslContext(delegate, stats);
+  }
+
+  private static class ObservedSpi extends SSLContextSpi {
+    private final SSLContext mDelegate;
+    private final HandshakeStats mStats;
+    private final SessionIds mSessionIds;
+
+    private ObservedSpi(SSLContext delegate, HandshakeStats stats) {
+      mDelegate = delegate;
+      mStats = stats;
+      // Sessions that dropped out of the cache cannot be resumed, so neither are their IDs needed.
+      int cacheSize = delegate.getServerSessionContext().getSessionCacheSize();
+      mSessionIds = new SessionIds(cacheSize > 0 ? cacheSize : DEFAULT_MAX_SESSION_IDS);
+    }
+
+    @Override
+    protected void engineInit(KeyManager[] km, TrustManager[] tm, SecureRandom sr)
+        throws KeyManagementException {
+      mDelegate.init(km, tm, sr);
+    }
+
+    @Override
+    protected SSLSocketFactory engineGetSocketFactory() {
+      return mDelegate.getSocketFactory();
+    }
+
+    @Override
+    protected SSLServerSocketFactory engineGetServerSocketFactory() {
+      return mDelegate.getServerSocketFactory();
+    }
+
+    @Override
+    protected SSLEngine engineCreateSSLEngine() {
+      return new ObservedSslEngine(mDelegate.createSSLEngine(), mStats, mSessionIds);
+    }
+
+    @Override
+    protected SSLEngine engineCreateSSLEngine(String host, int port) {
+      return new ObservedSslEngine(mDelegate.createSSLEngine(host, port), mStats,
+          mSessionIds);
+    }
+
+    @Override
+    protected SSLSessionContext engineGetServerSessionContext() {
+      return mDelegate.getServerSessionContext();
+    }
+
+    @Override
+    protected SSLSessionContext engineGetClientSessionContext() {
+      return mDelegate.getClientSessionContext();
+    }
+
+    @Override
+    protected SSLParameters engineGetDefaultSSLParameters() {
+      return mDelegate.getDefaultSSLParameters();
+    }
+
+    @Override
+    protected SSLParameters engineGetSupportedSSLParameters() {
+      return mDelegate.getSupportedSSLParameters();
+    }
+  }
+
+  /** Remembers the IDs of the most recently finished sessions. */
+  @VisibleForTesting
+  static class SessionIds {
+    private final Cache<ByteBuffer, Boolean> mSeen;
+
+    SessionIds(int maxSize) {
+      mSeen = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    }
+
+    /**
+     * Remembers the given session ID.
+     *
+     * @return Whether the ID was remembered already. Empty IDs, of sessions that cannot be
+     *     resumed, never are.
+     */
+    boolean add(byte[] id) {
+      return id.length > 0 && mSeen.asMap().putIfAbsent(ByteBuffer.wrap(id.clone()), true) != null;
+    }
+  }
+
+  /** Forwards everything to the delegate and records when a handshake finishes. */
+  @VisibleForTesting
+  static class ObservedSslEngine extends SSLEngine {
+    private final SSLEngine mDelegate;
+    private final HandshakeStats mStats;
+    private final SessionIds mSessionIds;
+    private final long mCreationTimeMillis;
+
+    @VisibleForTesting
+    ObservedSslEngine(SSLEngine delegate, HandshakeStats stats, SessionIds sessionIds) {
+      super(delegate.getPeerHost(), delegate.getPeerPort());
+      mDelegate = delegate;
+      mStats = stats;
+      mSessionIds = sessionIds;
+      mCreationTimeMillis = System.currentTimeMillis();
+    }
+
+    private SSLEngineResult observe(SSLEngineResult result) {
+      if (result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.FINISHED) {
+        SSLSession session = mDelegate.getSession();
+        boolean knownId = mSessionIds.add(session.getId());
+        mStats.recordHandshake(knownId || session.getCreationTime() < mCreationTimeMillis);
+      }
+      return result;
+    }
+
+    @Override
+    public SSLEngineResult wrap(ByteBuffer[] srcs, int offset, int length, ByteBuffer dst)
+        throws SSLException {
+      return observe(mDelegate.wrap(srcs, offset, length, dst));
+    }
+
+    @Override
+    public SSLEngineResult unwrap(ByteBuffer src, ByteBuffer[] dsts, int offset, int length)
+        throws SSLException {
+      return observe(mDelegate.unwrap(src, dsts, offset, length));
+    }
+
+    @Override
+    public Runnable getDelegatedTask() {
+      return mDelegate.getDelegatedTask();
+    }
+
+    @Override
+    public void closeInbound() throws SSLException {
+      mDelegate.closeInbound();
+    }
+
+    @Override
+    public boolean isInboundDone() {
+      return mDelegate.isInboundDone();
+    }
+
+    @Override
+    public void closeOutbound() {
+      mDelegate.closeOutbound();
+    }
+
+    @Override
+    public boolean isOutboundDone() {
+      return mDelegate.isOutboundDone();
+    }
+
+    @Override
+    public String[] getSupportedCipherSuites() {
+      return mDelegate.getSupportedCipherSuites();
+    }
+
+    @Override
+    public String[] getEnabledCipherSuites() {
+      return mDelegate.getEnabledCipherSuites();
+    }
+
+    @Override
+    public void setEnabledCipherSuites(String[] suites) {
+      mDelegate.setEnabledCipherSuites(suites);
+    }
+
+    @Override
+    public String[] getSupportedProtocols() {
+      return mDelegate.getSupportedProtocols();
+    }
+
+    @Override
+    public String[] getEnabledProtocols() {
+      return mDelegate.getEnabledProtocols();
+    }
+
+    @Override
+    public void setEnabledProtocols(String[] protocols) {
+      mDelegate.setEnabledProtocols(protocols);
+    }
+
+    @Override
+    public SSLSession getSession() {
+      return mDelegate.getSession();
+    }
+
+    @Override
+    public SSLSession getHandshakeSession() {
+      return mDelegate.getHandshakeSession();
+    }
+
+    @Override
+    public void beginHandshake() throws SSLException {
+      mDelegate.beginHandshake();
+    }
+
+    @Override
+    public SSLEngineResult.HandshakeStatus getHandshakeStatus() {
+      return mDelegate.getHandshakeStatus();
+    }
+
+    @Override
+    public void setUseClientMode(boolean mode) {
+      mDelegate.setUseClientMode(mode);
+    }
+
+    @Override
+    public boolean getUseClientMode() {
+      return mDelegate.getUseClientMode();
+    }
+
+    @Override
+    public void setNeedClientAuth(boolean need) {
+      mDelegate.setNeedClientAuth(need);
+    }
+
+    @Override
+    public boolean getNeedClientAuth() {
+      return mDelegate.getNeedClientAuth();
+    }
+
+    @Override
+    public void setWantClientAuth(boolean want) {
+      mDelegate.setWantClientAuth(want);
+    }
+
+    @Override
+    public boolean getWantClientAuth() {
+      return mDelegate.getWantClientAuth();
+    }
+
+    @Override
+    public void setEnableSessionCreation(boolean flag) {
+      mDelegate.setEnableSessionCreation(flag);
+    }
+
+    @Override
+    public boolean getEnableSessionCreation() {
+      return mDelegate.getEnableSessionCreation();
+    }
+
+    @Override
+    public SSLParameters getSSLParameters() {
+      return mDelegate.getSSLParameters();
+    }
+
+    @Override
+    public void setSSLParameters(SSLParameters params) {
+      mDelegate.setSSLParameters(params);
+    }
+
+    @Override
+    public String getApplicationProtocol() {
+      return mDelegate.getApplicationProtocol();
+    }
+
+    @Override
+    public String getHandshakeApplicationProtocol() {
+      return mDelegate.getHandshakeApplicationProtocol();
+    }
+
+    @Override
+    public void setHandshakeApplicationProtocolSelector(
+        BiFunction<SSLEngine, List<String>, String> selector) {
+      mDelegate.setHandshakeApplicationProtocolSelector(selector);
+    }
+
+    @Override
+    public BiFunction<SSLEngine, List<String>, String> getHandshakeApplicationProtocolSelector() {
+      return mDelegate.getHandshakeApplicationProtocolSelector();
+    }
+  }
+}
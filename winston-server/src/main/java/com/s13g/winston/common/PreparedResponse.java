@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.common;
+
+import com.google.common.hash.Hashing;
+
+import org.simpleframework.http.Status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A serialized response body, together with its gzipped form and a strong ETag for each.
+ * <p>
+ * Serializing, compressing and hashing happens once when this is created. Writing it answers
+ * conditional requests with '304 Not Modified' and uses gzip if the client accepts it.
+ */
+public class PreparedResponse {
+  private static final String ENCODING_GZIP = "gzip";
+  /** Smaller bodies are not worth compressing. */
+  private static final int MIN_GZIP_SIZE = 256;
+
+  private final byte[] mBody;
+  @Nullable
+  private final byte[] mGzippedBody;
+  private final String mContentType;
+  private final String mETag;
+  private final String mGzipETag;
+
+  private PreparedResponse(byte[] body, @Nullable byte[] gzippedBody, String contentType,
+                           String eTag) {
+    mBody = body;
+    mGzippedBody = gzippedBody;
+    mContentType = contentType;
+    mETag = "\"" + eTag + "\"";
+    // The gzipped form is a different representation and therefore needs its own strong ETag.
+    mGzipETag = "\"" + eTag + "-" + ENCODING_GZIP + "\"";
+  }
+
+  /**
+   * @param body the serialized response body.
+   * @param contentType the MIME type of the body.
+   */
+  public static PreparedResponse create(byte[] body, String contentType) {
+    String eTag = Hashing.sha256().hashBytes(body).toString().substring(0, 32);
+    return new PreparedResponse(body, body.length >= MIN_GZIP_SIZE ? gzip(body) : null,
+        contentType, eTag);
+  }
+
+  /** @return The ETag of the uncompressed body, including the quotes. */
+  public String getETag() {
+    return mETag;
+  }
+
+  /**
+   * Writes this response, unless the client already has it.
+   *
+   * @param request the request, its 'If-None-Match' and 'Accept-Encoding' headers are honored.
+   * @param response where the body is written to. Closed when done.
+   */
+  public void writeTo(HandlerRequest request, HandlerResponse response) throws IOException {
+    boolean gzip = mGzippedBody != null && request.acceptsEncoding(ENCODING_GZIP);
+    String eTag = gzip ? mGzipETag : mETag;
+    response.setHeader("ETag", eTag);
+    response.setHeader("Vary", "Accept-Encoding");
+    OutputStream out = response.getOutputStream();
+    if (matchesAny(request.getHeader("If-None-Match"), eTag)) {
+      response.setStatus(Status.NOT_MODIFIED);
+      out.close();
+      return;
+    }
+    byte[] body = gzip ? mGzippedBody : mBody;
+    response.setHeader("Content-Type", mContentType);
+    response.setHeader("Content-Length", String.valueOf(body.length));
+    if (gzip) {
+      response.setHeader("Content-Encoding", ENCODING_GZIP);
+    }
+    out.write(body);
+    out.close();
+  }
+
+  /** @return Whether the given 'If-None-Match' header matches the ETag. */
+  private static boolean matchesAny(Optional<String> ifNoneMatch, String eTag) {
+    if (!ifNoneMatch.isPresent()) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.get().split(",")) {
+      candidate = candidate.trim();
+      // If-None-Match uses the weak comparison, so a weak validator matches as well.
+      if (candidate.startsWith("W/")) {
+        candidate = candidate.substring(2);
+      }
+      if (candidate.equals("*") || candidate.equals(eTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static byte[] gzip(byte[] body) {
+    ByteArrayOutputStream result = new ByteArrayOutputStream(body.length / 2);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(result)) {
+      gzip.write(body);
+    } catch (IOException e) {
+      // Cannot happen when writing to memory.
+      throw new IllegalStateException("Cannot compress response", e);
+    }
+    return result.toByteArray();
+  }
+}
@@ -16,21 +16,37 @@
 
 package com.s13g.winston.common;
 
+import com.google.common.flogger.FluentLogger;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
+
 
 /**
  * A collection that contains data that needs to be refreshed once in a while.
+ * <p>
+ * By default, the reader that finds the data expired refreshes it, and all other readers wait
+ * for it. Data created with {@link #refreshingInBackground} is instead refreshed on an executor,
+ * while readers keep getting the last good snapshot without ever blocking.
  */
 public class RefreshableData<T> {
+  private static final FluentLogger log = FluentLogger.forEnclosingClass();
+
   private final Supplier<List<T>> mSupplier;
   private final long mTtlMillis;
+  /** Runs refreshes in the background. Null if readers refresh the data themselves. */
+  @Nullable
+  private final Executor mRefreshExecutor;
+  private final AtomicBoolean mRefreshing;
 
-  private List<T> mData;
-  private long mNextRefreshTimeMillis;
+  private volatile Snapshot<T> mSnapshot;
   private final Object mLock;
 
   /**
@@ -40,14 +56,38 @@ public class RefreshableData<T> {
    * @param ttlSeconds the time to live for the data
    */
   public RefreshableData(Supplier<List<T>> supplier, long ttlSeconds) {
+    this(supplier, ttlSeconds, null);
+  }
+
+  private RefreshableData(Supplier<List<T>> supplier, long ttlSeconds,
+                          @Nullable Executor refreshExecutor) {
     mSupplier = supplier;
     mTtlMillis = ttlSeconds * 1000;
+    mRefreshExecutor = refreshExecutor;
+    mRefreshing = new AtomicBoolean();
 
-    mData = Collections.unmodifiableList(new ArrayList<T>());
-    mNextRefreshTimeMillis = 0;
+    mSnapshot = new Snapshot<>(Collections.unmodifiableList(new ArrayList<T>()), 0);
     mLock = new Object();
   }
 
+  /**
+   * Creates data whose readers never block. Once the data expired, the next reader starts a
+   * single refresh on the given executor and, like all readers until it completes, gets the last
+   * good snapshot. If a refresh fails, the last good snapshot is kept and the next reader retries.
+   * The first refresh is started right away; until it completes, the data is empty.
+   *
+   * @param supplier supplier that provides the updated data when needed.
+   * @param ttlSeconds the time to live for the data
+   * @param refreshExecutor runs the refreshes.
+   */
+  public static <T> RefreshableData<T> refreshingInBackground(Supplier<List<T>> supplier,
+                                                              long ttlSeconds,
+                                                              Executor refreshExecutor) {
+    RefreshableData<T> data = new RefreshableData<>(supplier, ttlSeconds, refreshExecutor);
+    data.refreshInBackground();
+    return data;
+  }
+
   /**
    * Gets an element.
    *
@@ -55,36 +95,68 @@ public class RefreshableData<T> {
    * @return The element.
    */
   public T get(int index) {
-    return ensureFreshThenReturn(() -> mData.get(index));
+    return getSnapshot().getData().get(index);
   }
 
   /**
    * @return The size of the collection.
    */
   public int size() {
-    return ensureFreshThenReturn(() -> mData.size());
+    return getSnapshot().getData().size();
   }
 
   /**
    * @return Whether the collection is empty.
    */
   public boolean isEmpty() {
-    return ensureFreshThenReturn(() -> mData.isEmpty());
+    return getSnapshot().getData().isEmpty();
   }
 
   /**
-   * Ensures that the data is fresh before executing the given supplier.
+   * Returns the current data, refreshing it first if needed. Callers making several calls on the
+   * data should use this, since the data can be refreshed between calls to e.g. {@link #size()}
+   * and {@link #get(int)}.
    *
-   * @param s the supplier to execute on fresh data.
-   * @param <K> the return type
-   * @return The result of the supplier on fresh data.
+   * @return The current snapshot of the data.
    */
-  private <K> K ensureFreshThenReturn(Supplier<K> s) {
+  public Snapshot<T> getSnapshot() {
+    Snapshot<T> snapshot = mSnapshot;
+    if (!isExpired(snapshot)) {
+      return snapshot;
+    }
+    if (mRefreshExecutor != null) {
+      refreshInBackground();
+      return snapshot;
+    }
     synchronized (mLock) {
-      if (System.currentTimeMillis() >= mNextRefreshTimeMillis) {
+      if (isExpired(mSnapshot)) {
         refresh();
       }
-      return s.get();
+      return mSnapshot;
+    }
+  }
+
+  private boolean isExpired(Snapshot<T> snapshot) {
+    return System.currentTimeMillis() >= snapshot.mRefreshTimeMillis + mTtlMillis;
+  }
+
+  /** Starts a refresh on the executor, unless one is already running. */
+  private void refreshInBackground() {
+    if (!mRefreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      mRefreshExecutor.execute(() -> {
+        try {
+          refresh();
+        } catch (RuntimeException e) {
+          log.atWarning().withCause(e).log("Cannot refresh data, keeping last snapshot.");
+        } finally {
+          mRefreshing.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      mRefreshing.set(false);
     }
   }
 
@@ -92,7 +164,29 @@ public class RefreshableData<T> {
    * Refreshes the data unconditionally.
    */
   private void refresh() {
-    mData = Collections.unmodifiableList(mSupplier.get());
-    mNextRefreshTimeMillis = System.currentTimeMillis() + mTtlMillis;
+    long now = System.currentTimeMillis();
+    List<T> data = Collections.unmodifiableList(new ArrayList<>(mSupplier.get()));
+    mSnapshot = new Snapshot<>(data, now);
+  }
+
+  /** The data as it was returned by one refresh. */
+  public static class Snapshot<T> {
+    private final List<T> mData;
+    private final long mRefreshTimeMillis;
+
+    private Snapshot(List<T> data, long refreshTimeMillis) {
+      mData = data;
+      mRefreshTimeMillis = refreshTimeMillis;
+    }
+
+    /** @return The data, which must not be modified. */
+    public List<T> getData() {
+      return mData;
+    }
+
+    /** @return How long ago the data was refreshed, or -1 if it never was. */
+    public long getAgeMillis() {
+      return mRefreshTimeMillis == 0 ? -1 : System.currentTimeMillis() - mRefreshTimeMillis;
+    }
   }
 }
@@ -16,7 +16,7 @@
 
 package com.s13g.winston.common;
 
-import java.io.OutputStream;
+import java.util.List;
 
 /**
  * Classes implementing this interface can respond to HTTP requests.
@@ -29,11 +29,12 @@ public interface RequestHandler {
    * @param response where the response is written to.
    * @throws RequestHandlingException Thrown is there was an error handling the request.
    */
-  void doHandle(String request, OutputStream response) throws RequestHandlingException;
+  void doHandle(HandlerRequest request, HandlerResponse response)
+      throws RequestHandlingException;
 
   /**
-   * @param request the request
-   * @return Whether this handler is able to handle this request.
+   * @return The first path segments (e.g. 'io' for 'io/nest/...') of all requests that this
+   * handler is able to handle. Requests are routed to handlers based on these.
    */
-  boolean canHandle(String request);
+  List<String> getRequestPrefixes();
 }
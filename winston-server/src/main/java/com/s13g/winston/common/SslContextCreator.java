@@ -27,18 +27,34 @@ import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 
+import javax.annotation.Nullable;
+
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 
 /**
  * Creates an SSLContext from the given keystore and password.
+ * <p>
+ * Optionally, the server-side session cache can be tuned and handshakes can be counted. Resuming a
+ * cached session saves the expensive public key operations of a full handshake, which matters on
+ * a Raspberry Pi.
  */
 public class SslContextCreator {
   private static final String ALGORITHM = "TLS";
+  /** Enables stateless TLS session tickets in the JDK's TLS implementation, Java 13 and later. */
+  private static final String PROPERTY_SESSION_TICKETS =
+      "jdk.tls.server.enableSessionTicketExtension";
 
   private final InputStream mKeystoreSource;
   private final String mPassword;
+  private int mSessionCacheSize;
+  private int mSessionTimeoutSeconds;
+  /** Null to leave the JDK's setting alone. */
+  @Nullable
+  private Boolean mSessionTicketsEnabled;
+  @Nullable
+  private HandshakeStats mHandshakeStats;
 
   /**
    * Constructs the creator.
@@ -50,6 +66,41 @@ public class SslContextCreator {
   public SslContextCreator(InputStream keystoreSource, String password) {
     mKeystoreSource = keystoreSource;
     mPassword = password;
+    mSessionCacheSize = 0;
+    mSessionTimeoutSeconds = 0;
+    mSessionTicketsEnabled = null;
+    mHandshakeStats = null;
+  }
+
+  /**
+   * Configures the server-side cache of sessions that clients can resume.
+   *
+   * @param cacheSize the maximum number of cached sessions. Zero to keep the JDK default.
+   * @param timeoutSeconds how long a cached session can be resumed. Zero to keep the JDK default.
+   */
+  public SslContextCreator setSessionCache(int cacheSize, int timeoutSeconds) {
+    mSessionCacheSize = cacheSize;
+    mSessionTimeoutSeconds = timeoutSeconds;
+    return this;
+  }
+
+  /**
+   * Enables or disables TLS session tickets, which let clients resume sessions without the server
+   * keeping them in its cache. Only supported by Java 13 and later, ignored otherwise. Since the
+   * JDK reads this setting only once, this must be called before any TLS connection is made.
+   * <p>
+   * If not called, or if the setting was already given as a system property, e.g. on the command
+   * line, the JDK's setting is left alone.
+   */
+  public SslContextCreator setSessionTicketsEnabled(boolean enabled) {
+    mSessionTicketsEnabled = enabled;
+    return this;
+  }
+
+  /** Records all handshakes of the created context in the given stats. */
+  public SslContextCreator setHandshakeStats(HandshakeStats stats) {
+    mHandshakeStats = stats;
+    return this;
   }
 
   /**
@@ -73,7 +124,18 @@ public class SslContextCreator {
   public SSLContext create() throws SslContextCreationException {
     KeyStore keyStore = getKeyStore(mKeystoreSource, mPassword);
     KeyManagerFactory keyManagerFactory = getKeyManagerFactory(keyStore, mPassword);
-    return getSslContext(keyManagerFactory);
+    if (mSessionTicketsEnabled != null && System.getProperty(PROPERTY_SESSION_TICKETS) == null) {
+      System.setProperty(PROPERTY_SESSION_TICKETS, String.valueOf(mSessionTicketsEnabled));
+    }
+    SSLContext sslContext = getSslContext(keyManagerFactory);
+    if (mSessionCacheSize > 0) {
+      sslContext.getServerSessionContext().setSessionCacheSize(mSessionCacheSize);
+    }
+    if (mSessionTimeoutSeconds > 0) {
+      sslContext.getServerSessionContext().setSessionTimeout(mSessionTimeoutSeconds);
+    }
+    return mHandshakeStats == null ? sslContext
+        : ObservedSslContext.create(sslContext, mHandshakeStats);
   }
 
   private static SSLContext getSslContext(KeyManagerFactory kmf) throws
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket rate limiter.
+ * <p>
+ * The bucket holds up to 'burst' tokens and is refilled continuously at the given rate. Every
+ * acquired permit takes one token, so a client can make short bursts of requests while its
+ * sustained rate stays limited.
+ */
+public class TokenBucket {
+  private final double mTokensPerNano;
+  private final double mCapacity;
+  private final Ticker mTicker;
+  /** Guarded by this. */
+  private double mTokens;
+  /** Guarded by this. */
+  private long mLastRefillNanos;
+
+  /**
+   * @param tokensPerSecond the rate at which the bucket is refilled.
+   * @param burst the maximum number of tokens in the bucket. The bucket starts out full.
+   */
+  public TokenBucket(double tokensPerSecond, int burst) {
+    this(tokensPerSecond, burst, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  TokenBucket(double tokensPerSecond, int burst, Ticker ticker) {
+    if (tokensPerSecond <= 0 || burst < 1) {
+      throw new IllegalArgumentException("Rate and burst must be positive.");
+    }
+    mTokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+    mCapacity = burst;
+    mTicker = ticker;
+    mTokens = burst;
+    mLastRefillNanos = ticker.read();
+  }
+
+  /** @return Whether a token was available and taken. Never blocks. */
+  public synchronized boolean tryAcquire() {
+    long now = mTicker.read();
+    mTokens = Math.min(mCapacity, mTokens + (now - mLastRefillNanos) * mTokensPerNano);
+    mLastRefillNanos = now;
+    if (mTokens < 1) {
+      return false;
+    }
+    mTokens -= 1;
+    return true;
+  }
+
+  /** @return The time until the next token is available, rounded up to full seconds. */
+  public synchronized long getSecondsUntilAvailable() {
+    double missing = Math.max(0, 1 - mTokens);
+    return (long) Math.ceil(missing / mTokensPerNano / TimeUnit.SECONDS.toNanos(1));
+  }
+}
@@ -18,22 +18,18 @@ package com.s13g.winston.master;
 
 import com.google.common.flogger.FluentLogger;
 import com.s13g.winston.RequestHandlers;
+import com.s13g.winston.common.AccessLog;
+import com.s13g.winston.common.HandlerRequest;
+import com.s13g.winston.common.HandlerResponse;
 import com.s13g.winston.common.RequestHandlingException;
+import com.s13g.winston.master.events.ChannelEventStream;
 
 import org.simpleframework.http.Request;
 import org.simpleframework.http.Response;
 import org.simpleframework.http.Status;
 import org.simpleframework.http.core.Container;
-import org.simpleframework.http.core.ContainerSocketProcessor;
-import org.simpleframework.transport.connect.Connection;
-import org.simpleframework.transport.connect.SocketConnection;
 
 import java.io.IOException;
-import java.io.OutputStream;
-import java.net.InetSocketAddress;
-import java.net.SocketAddress;
-
-import javax.net.ssl.SSLContext;
 
 /**
  * HTTP Container for serving the master daemon HTTP requests.
@@ -41,36 +37,31 @@ import javax.net.ssl.SSLContext;
 public class MasterContainer implements Container {
 
   private static final FluentLogger log = FluentLogger.forEnclosingClass();
-  private final int mPort;
+  /** Not part of simpleframework's Status. */
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
   private final RequestHandlers mRequestHandlers;
+  private final ChannelEventStream mEventStream;
+  private final AccessLog mAccessLog;
 
-  MasterContainer(int port, RequestHandlers requestHandlers) {
-    mPort = port;
+  MasterContainer(RequestHandlers requestHandlers, ChannelEventStream eventStream,
+                  AccessLog accessLog) {
     mRequestHandlers = requestHandlers;
-  }
-
-  /**
-   * Starts serving HTTPS encrypted traffic from this container.
-   *
-   * @param numThreads the number of threads to handle the HTTP requests.
-   * @param context a valid SSLContext for serving secure connections.
-   * @throws IOException thrown if HTTP serving could not be started.
-   */
-  void startServing(int numThreads, SSLContext context) throws IOException {
-    final ContainerSocketProcessor processor = new ContainerSocketProcessor(this, numThreads);
-
-    // Since this server will run forever, no need to close connection.
-    final Connection connection = new SocketConnection(processor);
-    final SocketAddress address = new InetSocketAddress(mPort);
-    connection.connect(address, context);
-    log.atInfo().log("Listening to: " + address.toString());
+    mEventStream = eventStream;
+    mAccessLog = accessLog;
   }
 
   @Override
   public void handle(Request request, Response response) {
+    long startNanos = System.nanoTime();
+    // Event streams stay open after this returns, they are closed by the event stream.
+    boolean keepOpen = false;
     try {
-      doHandle(request, response.getOutputStream());
-      response.setStatus(Status.OK);
+      if (request.getPath().getPath().equals("/" + ChannelEventStream.REQ_PATH)) {
+        openEventStream(request, response);
+        keepOpen = true;
+      } else {
+        doHandle(request, HandlerResponse.from(response));
+      }
     } catch (RequestHandlingException e) {
       log.atWarning().log("Cannot handle request: %s", e.getMessage());
       if (e.errorCode.isPresent()) {
@@ -78,6 +69,11 @@ public class MasterContainer implements Container {
       } else {
         response.setStatus(Status.BAD_REQUEST);
       }
+    } catch (RequestHandlers.TooManyRequestsException e) {
+      log.atWarning().log("Cannot handle request: %s", e.getMessage());
+      response.setCode(HTTP_TOO_MANY_REQUESTS);
+      response.setDescription("Too Many Requests");
+      response.setValue("Retry-After", String.valueOf(Math.max(1, e.retryAfterSeconds)));
     } catch (RequestHandlers.RequestNotAuthorizedException e) {
       log.atWarning().log("Unauthorized access: %s", request.getAddress().toString());
       response.setStatus(Status.FORBIDDEN);
@@ -89,14 +85,32 @@ public class MasterContainer implements Container {
     } catch (Exception e) {
       log.atSevere().withCause(e).log("Error handling request");
     } finally {
-      try {
-        response.close();
-      } catch (IOException e) {
-        log.atWarning().withCause(e).log("Cannot close response");
+      mAccessLog.record(request.getClientAddress(), request.getMethod(),
+          request.getPath().getPath(), response.getCode(), startNanos);
+      if (!keepOpen) {
+        try {
+          response.close();
+        } catch (IOException e) {
+          log.atWarning().withCause(e).log("Cannot close response");
+        }
       }
     }
   }
 
+  /**
+   * Commits the headers of a server-sent event stream and subscribes the client to the events.
+   */
+  private void openEventStream(Request req, Response response) throws IOException,
+      RequestHandlingException, RequestHandlers.RequestNotAuthorizedException,
+      RequestHandlers.TooManyRequestsException {
+    HandlerRequest handlerRequest = HandlerRequest.from(req);
+    mRequestHandlers.authorize(handlerRequest);
+    response.setStatus(Status.OK);
+    response.setContentType(ChannelEventStream.CONTENT_TYPE);
+    response.setValue("Cache-Control", "no-cache");
+    mEventStream.subscribe(handlerRequest, response.getOutputStream(), req.getChannel()::close);
+  }
+
   /**
    * Handle the HTTP request
    *
@@ -104,20 +118,19 @@ public class MasterContainer implements Container {
    * @param response where the HTTP response is written to.
    * @throws RequestHandlingException thrown if the request could not be handled.
    */
-  private void doHandle(Request req, OutputStream response)
-      throws RequestHandlingException, RequestHandlers.RequestNotAuthorizedException {
+  private void doHandle(Request req, HandlerResponse response)
+      throws RequestHandlingException, RequestHandlers.RequestNotAuthorizedException,
+      RequestHandlers.TooManyRequestsException {
     String requestPath = req.getAddress().getPath().getPath();
     // Ignore this, don't even log it.
     if (requestPath.equals("/favicon.ico")) {
       return;
     }
-    log.atInfo().log("Request Path: " + requestPath);
-
     if (!requestPath.startsWith("/")) {
       throw new RequestHandlingException("Cannot handle request: " + requestPath);
     }
 
     // Remove slash prefix.
-    mRequestHandlers.handleRequest(req.getAddress(), response);
+    mRequestHandlers.handleRequest(HandlerRequest.from(req), response);
   }
 }
@@ -18,18 +18,38 @@ package com.s13g.winston.master;
 
 import com.google.common.flogger.FluentLogger;
 import com.s13g.winston.RequestHandlers;
+import com.s13g.winston.common.AccessLog;
+import com.s13g.winston.common.AdmissionController;
+import com.s13g.winston.common.ContainerServer;
+import com.s13g.winston.common.HandshakeStats;
 import com.s13g.winston.common.SslContextCreator;
 import com.s13g.winston.common.SslContextCreator.SslContextCreationException;
+import com.s13g.winston.lib.core.metrics.MetricsRegistry;
+import com.s13g.winston.master.channel.ChannelBatchExecutor;
+import com.s13g.winston.master.channel.ChannelMetrics;
+import com.s13g.winston.master.channel.ChannelValueCache;
+import com.s13g.winston.master.channel.ChannelValueIndex;
+import com.s13g.winston.master.channel.CoalescingWrites;
+import com.s13g.winston.master.channel.DeviceLanes;
+import com.s13g.winston.master.channel.SingleFlightReads;
 import com.s13g.winston.master.config.ConfigWrapper;
+import com.s13g.winston.master.events.ChannelEventStream;
 import com.s13g.winston.master.handlers.ChannelDataHandler;
+import com.s13g.winston.master.handlers.HistoryHandler;
 import com.s13g.winston.master.handlers.MasterModuleHandler;
-import com.s13g.winston.master.modules.Module;
+import com.s13g.winston.master.handlers.MetricsHandler;
+import com.s13g.winston.master.history.ChannelHistory;
+import com.s13g.winston.master.history.SegmentStore;
 import com.s13g.winston.master.modules.ModuleRegistry;
+import com.s13g.winston.master.rules.RuleEngine;
+import com.s13g.winston.master.state.ChannelPoller;
+import com.s13g.winston.master.state.ChannelStateStore;
 import com.s13g.winston.proto.Master;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLContext;
 
@@ -41,6 +61,13 @@ import static com.google.common.base.Strings.isNullOrEmpty;
 public class MasterDaemon {
   private static final FluentLogger log = FluentLogger.forEnclosingClass();
   private static final int NUM_HTTP_THREADS = 8;
+  private static final int NUM_BATCH_THREADS = 8;
+  private static final int NUM_CACHE_REFRESH_THREADS = 2;
+  private static final int NUM_POLL_THREADS = 4;
+  private static final int DEFAULT_HISTORY_RETENTION_HOURS = 14 * 24;
+  private static final long BATCH_TIMEOUT_MILLIS = 30 * 1000;
+  /** How long a request waits for admission before it is rejected. */
+  private static final long ADMISSION_TIMEOUT_MILLIS = 5 * 1000;
 
   public static void main(final String... args) throws IOException, SslContextCreationException {
     File configFile = new File("master.config");
@@ -55,25 +82,135 @@ public class MasterDaemon {
     configWrapper.assertSane();
     Master.MasterConfig config = configWrapper.getConfig();
 
-    // Load all the modules and hook up request handlers.
-    ModuleContext moduleContext = new ModuleContext();
-    RequestHandlers requestHandlers = new RequestHandlers(config.getAuthClientList());
-    ModuleRegistry moduleRegistry = new ModuleRegistry(moduleContext, config, requestHandlers);
-    Collection<Module> modules = moduleRegistry.getActiveModules();
-    requestHandlers.addRequestHandler(new MasterModuleHandler(modules));
-    requestHandlers.addRequestHandler(new ChannelDataHandler(modules));
-
-    // Set up HTTPS and start serving.
+    // Set up HTTPS. This needs to happen before modules make their first TLS connections, since
+    // the JDK reads some of the TLS settings only once.
     SSLContext sslContext = null;
+    HandshakeStats handshakeStats = new HandshakeStats();
     String keystorePath = config.getSslKeystorePath();
     String keystorePassword = config.getSslKeystorePassword();
     if (!isNullOrEmpty(keystorePath) && !isNullOrEmpty(keystorePassword)) {
-      sslContext = SslContextCreator.from(keystorePath, keystorePassword).create();
+      SslContextCreator sslContextCreator = SslContextCreator.from(keystorePath, keystorePassword)
+          .setSessionCache(config.getSslSessionCacheSize(), config.getSslSessionTimeoutSeconds())
+          .setHandshakeStats(handshakeStats);
+      if (config.getDisableSslSessionTickets()) {
+        sslContextCreator.setSessionTicketsEnabled(false);
+      }
+      sslContext = sslContextCreator.create();
+    }
+
+    // Load all the modules and hook up request handlers.
+    ModuleContext moduleContext = new ModuleContext();
+    AdmissionController admissionController = config.getMaxConcurrentRequests() > 0
+        ? new AdmissionController(config.getMaxConcurrentRequests(),
+        config.getMaxQueuedRequests(), ADMISSION_TIMEOUT_MILLIS)
+        : AdmissionController.unlimited();
+    RequestHandlers requestHandlers =
+        new RequestHandlers(config.getAuthClientList(), admissionController);
+    ModuleRegistry moduleRegistry = new ModuleRegistry(moduleContext, config);
+    ChannelStateStore stateStore = new ChannelStateStore();
+    // The state store observes below the cache, so that it only records values actually read from
+    // a device, including the cache's background refreshes.
+    ChannelValueIndex channelValueIndex =
+        moduleRegistry.getChannelValueIndex()
+            .decorate(new DeviceLanes(Executors.newCachedThreadPool(), MetricsRegistry.global()))
+            .decorate(new SingleFlightReads())
+            .decorate(new CoalescingWrites(config.getWriteDebounceList()))
+            .decorate(stateStore.createObserver())
+            .decorate(new ChannelValueCache(config.getValueCacheList(),
+                Executors.newFixedThreadPool(NUM_CACHE_REFRESH_THREADS)))
+            .decorate(new ChannelMetrics(MetricsRegistry.global()));
+    moduleRegistry.resolveGroupActions(channelValueIndex);
+    ChannelBatchExecutor batchExecutor = new ChannelBatchExecutor(
+        Executors.newFixedThreadPool(NUM_BATCH_THREADS), BATCH_TIMEOUT_MILLIS);
+    ChannelPoller poller = new ChannelPoller(channelValueIndex, config.getPollScheduleList(),
+        config.getMaxPollsPerDevice(), stateStore, Executors.newScheduledThreadPool(1),
+        Executors.newFixedThreadPool(NUM_POLL_THREADS));
+    requestHandlers.addRequestHandler(
+        new MasterModuleHandler(channelValueIndex, batchExecutor, poller));
+    requestHandlers.addRequestHandler(
+        new ChannelDataHandler(channelValueIndex, batchExecutor, stateStore, poller));
+    int historyRetentionHours = config.getHistoryRetentionHours() > 0
+        ? config.getHistoryRetentionHours() : DEFAULT_HISTORY_RETENTION_HOURS;
+    ChannelHistory history = new ChannelHistory(TimeUnit.HOURS.toMillis(historyRetentionHours));
+    stateStore.addListener(history);
+    SegmentStore segmentStore = openSegmentStore(config.getHistoryDirectory(),
+        TimeUnit.HOURS.toMillis(historyRetentionHours));
+    if (segmentStore != null) {
+      segmentStore.loadInto(history);
+      stateStore.addListener(segmentStore);
+      segmentStore.start(Executors.newSingleThreadScheduledExecutor());
+    }
+    requestHandlers.addRequestHandler(new HistoryHandler(channelValueIndex, history));
+    if (config.getRuleCount() > 0) {
+      stateStore.addListener(new RuleEngine(config.getRuleList(), channelValueIndex,
+          Executors.newSingleThreadScheduledExecutor(), Executors.newSingleThreadExecutor()));
     }
-    int port = config.getDaemonPort();
+    poller.start();
+    ChannelEventStream eventStream =
+        new ChannelEventStream(stateStore, Executors.newSingleThreadScheduledExecutor());
+    eventStream.start();
+    double accessLogSampleRate =
+        config.getAccessLogSampleRate() > 0 ? config.getAccessLogSampleRate() : 1;
+    AccessLog accessLog = new AccessLog(accessLogSampleRate);
+    accessLog.start(Executors.newSingleThreadExecutor());
+    registerMetrics(MetricsRegistry.global(), admissionController, eventStream, handshakeStats,
+        accessLog, history, segmentStore);
+    requestHandlers.addRequestHandler(new MetricsHandler(MetricsRegistry.global()));
 
-    MasterContainer httpContainer =
-        new MasterContainer(port, requestHandlers);
-    httpContainer.startServing(NUM_HTTP_THREADS, sslContext);
+    // Start serving.
+    int numHttpThreads = config.getHttpThreads() > 0 ? config.getHttpThreads() : NUM_HTTP_THREADS;
+    ContainerServer server =
+        ContainerServer.getDefaultCreator().create(config.getDaemonPort(), numHttpThreads);
+    server.startServing(new MasterContainer(requestHandlers, eventStream, accessLog), sslContext);
+  }
+
+  /** Exposes statistics that are kept elsewhere as metrics. */
+  private static void registerMetrics(MetricsRegistry registry,
+                                      AdmissionController admissionController,
+                                      ChannelEventStream eventStream,
+                                      HandshakeStats handshakeStats,
+                                      AccessLog accessLog,
+                                      ChannelHistory history,
+                                      SegmentStore segmentStore) {
+    registry.gauge("winston_queued_requests", "Requests waiting for admission.",
+        admissionController::getQueued);
+    registry.gauge("winston_event_subscribers", "Connected event stream clients.",
+        eventStream::getSubscriberCount);
+    registry.counter("winston_tls_handshakes_total", "Completed TLS handshakes.",
+        handshakeStats::getFullHandshakes, "type", "full");
+    registry.counter("winston_tls_handshakes_total", "Completed TLS handshakes.",
+        handshakeStats::getResumedHandshakes, "type", "resumed");
+    registry.counter("winston_access_log_dropped_total",
+        "Access log records dropped because the writer did not keep up.", accessLog::getDropped);
+    registry.gauge("winston_history_bytes", "Memory used by the history of channel values.",
+        history::getSizeBytes);
+    if (segmentStore != null) {
+      registry.counter("winston_history_dropped_total",
+          "History samples dropped because they could not be stored.", segmentStore::getDropped);
+    }
+  }
+
+  /**
+   * Opens the store for the history in the given directory, and makes sure it is flushed on
+   * shutdown. The history is kept in memory only if no directory is given or it cannot be opened.
+   */
+  private static SegmentStore openSegmentStore(String directory, long retentionMillis) {
+    if (isNullOrEmpty(directory)) {
+      return null;
+    }
+    try {
+      SegmentStore store = SegmentStore.open(new File(directory), retentionMillis);
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+        try {
+          store.close();
+        } catch (IOException e) {
+          log.atWarning().withCause(e).log("Cannot store history on shutdown");
+        }
+      }));
+      return store;
+    } catch (IOException e) {
+      log.atSevere().withCause(e).log("Cannot open history in %s", directory);
+      return null;
+    }
   }
 }
@@ -28,6 +28,15 @@ public interface Channel {
   /** The type of this channel, which tells clients how to display/handle this channel. */
   com.s13g.winston.shared.ChannelType getType();
 
+  /**
+   * The address of the device behind this channel, e.g. the IP of a node. Channels with the same
+   * address talk to the same device. Defaults to the channel ID, for channels identified by their
+   * address.
+   */
+  default String getAddress() {
+    return getChannelId();
+  }
+
   /**
    * Creates and returns all the channel values that belong to this channel.
    */
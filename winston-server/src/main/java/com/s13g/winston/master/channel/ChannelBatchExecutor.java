@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.flogger.FluentLogger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a batch of channel value reads and writes concurrently.
+ * <p>
+ * Operations are grouped by the channel they belong to, since a channel represents a single
+ * device. Operations on the same channel are executed one after the other in the order given, while
+ * different channels are handled in parallel. This way the whole batch takes about as long as the
+ * slowest device instead of the sum of all of them.
+ */
+public class ChannelBatchExecutor {
+  private static final FluentLogger log = FluentLogger.forEnclosingClass();
+
+  private final ExecutorService mExecutor;
+  private final long mTimeoutMillis;
+
+  /**
+   * @param executor the executor on which the operations of each channel are executed.
+   * @param timeoutMillis the maximum time to wait for a batch to complete. Operations that did not
+   * complete in time are reported as failed.
+   */
+  public ChannelBatchExecutor(ExecutorService executor, long timeoutMillis) {
+    mExecutor = executor;
+    mTimeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Executes all the given operations and waits for them to complete.
+   *
+   * @return The results, in the same order as the given operations.
+   */
+  public List<Result> execute(List<Operation> operations) {
+    Result[] results = new Result[operations.size()];
+
+    // Channel path -> indices of all operations on that channel, in order.
+    Map<String, List<Integer>> operationsByChannel = new LinkedHashMap<>();
+    for (int i = 0; i < operations.size(); ++i) {
+      operationsByChannel.computeIfAbsent(
+          operations.get(i).mValue.getChannelPath(), k -> new ArrayList<>()).add(i);
+    }
+
+    List<Future<?>> futures = new ArrayList<>();
+    for (List<Integer> indices : operationsByChannel.values()) {
+      futures.add(mExecutor.submit(() -> {
+        for (int index : indices) {
+          Result result = operations.get(index).execute();
+          synchronized (results) {
+            results[index] = result;
+          }
+        }
+      }));
+    }
+
+    long deadline = System.currentTimeMillis() + mTimeoutMillis;
+    for (Future<?> future : futures) {
+      try {
+        future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+      } catch (Exception e) {
+        future.cancel(true);
+      }
+    }
+
+    ImmutableList.Builder<Result> resultList = ImmutableList.builder();
+    synchronized (results) {
+      for (int i = 0; i < results.length; ++i) {
+        if (results[i] == null) {
+          log.atWarning().log("Batch operation timed out: %s", operations.get(i).mValue);
+          results[i] = Result.failure("Timed out.");
+        }
+        resultList.add(results[i]);
+      }
+    }
+    return resultList.build();
+  }
+
+  /** A single read or write of a channel value. */
+  public static class Operation {
+    private final IndexedChannelValue mValue;
+    private final Optional<String> mWriteValue;
+
+    private Operation(IndexedChannelValue value, Optional<String> writeValue) {
+      mValue = value;
+      mWriteValue = writeValue;
+    }
+
+    /** Creates an operation that reads the given value. */
+    public static Operation read(IndexedChannelValue value) {
+      return new Operation(value, Optional.empty());
+    }
+
+    /** Creates an operation that writes the given raw value. */
+    public static Operation write(IndexedChannelValue value, String writeValue) {
+      return new Operation(value, Optional.of(writeValue));
+    }
+
+    private Result execute() {
+      ChannelValue channelValue = mValue.getValue();
+      try {
+        if (mWriteValue.isPresent()) {
+          if (channelValue.getMode() == ChannelValue.Mode.READ_ONLY) {
+            return Result.failure("Cannot write to read-only channel.");
+          }
+          channelValue.writeRaw(mWriteValue.get());
+          return Result.success("");
+        }
+        if (channelValue.getMode() == ChannelValue.Mode.WRITE_ONLY) {
+          return Result.failure("Cannot read from write-only channel.");
+        }
+        return Result.success(String.valueOf(channelValue.read()));
+      } catch (ChannelException e) {
+        return Result.failure(e.getMessage());
+      } catch (RuntimeException e) {
+        log.atWarning().withCause(e).log("Error in batch operation for '%s'.", mValue);
+        return Result.failure("Internal error.");
+      }
+    }
+  }
+
+  /** The outcome of a single operation. */
+  public static class Result {
+    public final boolean success;
+    public final String value;
+    public final String error;
+
+    private Result(boolean success, String value, String error) {
+      this.success = success;
+      this.value = value;
+      this.error = error;
+    }
+
+    static Result success(String value) {
+      return new Result(true, value, "");
+    }
+
+    static Result failure(String error) {
+      return new Result(false, "", error);
+    }
+  }
+}
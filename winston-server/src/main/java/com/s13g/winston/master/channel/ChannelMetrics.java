@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+import com.s13g.winston.lib.core.metrics.Counter;
+import com.s13g.winston.lib.core.metrics.Histogram;
+import com.s13g.winston.lib.core.metrics.MetricsRegistry;
+
+/**
+ * Decorates channel values so that the latency and errors of every read and write are recorded
+ * per value path.
+ */
+public class ChannelMetrics implements ChannelValueDecorator {
+  private static final String METRIC_DURATION = "winston_channel_value_duration_seconds";
+  private static final String METRIC_ERRORS = "winston_channel_value_errors_total";
+
+  private final MetricsRegistry mRegistry;
+
+  public ChannelMetrics(MetricsRegistry registry) {
+    mRegistry = registry;
+  }
+
+  @Override
+  public ChannelValue<?> decorate(IndexedChannelValue value) {
+    return new TimedChannelValue<>(value.getValue(), value.getPath());
+  }
+
+  private Histogram duration(String path, String op) {
+    return mRegistry.histogram(METRIC_DURATION, "Duration of channel value reads and writes.",
+        "path", path, "op", op);
+  }
+
+  private Counter errors(String path, String op) {
+    return mRegistry.counter(METRIC_ERRORS, "Failed channel value reads and writes.",
+        "path", path, "op", op);
+  }
+
+  private class TimedChannelValue<T> extends ForwardingChannelValue<T> {
+    private final Histogram mReadDuration;
+    private final Histogram mWriteDuration;
+    private final Counter mReadErrors;
+    private final Counter mWriteErrors;
+
+    private TimedChannelValue(ChannelValue<T> delegate, String path) {
+      super(delegate);
+      mReadDuration = duration(path, "read");
+      mWriteDuration = duration(path, "write");
+      mReadErrors = errors(path, "read");
+      mWriteErrors = errors(path, "write");
+    }
+
+    @Override
+    public void writeRaw(String value) throws ChannelException {
+      long start = System.nanoTime();
+      try {
+        super.writeRaw(value);
+      } catch (ChannelException | RuntimeException e) {
+        mWriteErrors.increment();
+        throw e;
+      } finally {
+        mWriteDuration.observeSince(start);
+      }
+    }
+
+    @Override
+    public void write(T value) throws ChannelException {
+      long start = System.nanoTime();
+      try {
+        super.write(value);
+      } catch (ChannelException | RuntimeException e) {
+        mWriteErrors.increment();
+        throw e;
+      } finally {
+        mWriteDuration.observeSince(start);
+      }
+    }
+
+    @Override
+    public T read() throws ChannelException {
+      long start = System.nanoTime();
+      try {
+        return super.read();
+      } catch (ChannelException | RuntimeException e) {
+        mReadErrors.increment();
+        throw e;
+      } finally {
+        mReadDuration.observeSince(start);
+      }
+    }
+  }
+}
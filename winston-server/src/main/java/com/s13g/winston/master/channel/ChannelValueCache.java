@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.flogger.FluentLogger;
+import com.s13g.winston.proto.Master.ValueCache;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Decorates channel values so that their reads are cached, as configured by the
+ * {@link ValueCache} entries of the master config.
+ * <p>
+ * A cached value is returned as is until it is older than 'max_age_millis'. After that, and for
+ * up to another 'max_stale_millis', the old value is still returned while a single read in the
+ * background refreshes it. If the value is older than that, e.g. because the device has been
+ * failing, reads go to the device again and fail with it. Writing a value invalidates its cache.
+ */
+public class ChannelValueCache implements ChannelValueDecorator {
+  private static final FluentLogger log = FluentLogger.forEnclosingClass();
+
+  private final List<ValueCache> mCaches;
+  private final Executor mRefreshExecutor;
+  private final Ticker mTicker;
+
+  /**
+   * @param caches the configured caches.
+   * @param refreshExecutor runs background refreshes of stale values.
+   */
+  public ChannelValueCache(List<ValueCache> caches, Executor refreshExecutor) {
+    this(caches, refreshExecutor, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  ChannelValueCache(List<ValueCache> caches, Executor refreshExecutor, Ticker ticker) {
+    mCaches = caches;
+    mRefreshExecutor = refreshExecutor;
+    mTicker = ticker;
+  }
+
+  @Override
+  public ChannelValue<?> decorate(IndexedChannelValue value) {
+    Optional<ValueCache> cache = findCache(value);
+    if (!cache.isPresent()) {
+      return value.getValue();
+    }
+    log.atInfo().log("Caching %s for %dms", value.getPath(), cache.get().getMaxAgeMillis());
+    return new CachedChannelValue<>(value.getValue(), cache.get());
+  }
+
+  /** @return The cache with the longest path that matches the given value. */
+  private Optional<ValueCache> findCache(IndexedChannelValue value) {
+    ValueCache result = null;
+    for (ValueCache cache : mCaches) {
+      String path = cache.getPath();
+      if (value.isUnder(path) && (result == null || path.length() > result.getPath().length())) {
+        result = cache;
+      }
+    }
+    return Optional.ofNullable(result);
+  }
+
+  private class CachedChannelValue<T> extends ForwardingChannelValue<T> {
+    private final long mMaxAgeNanos;
+    private final long mMaxStaleNanos;
+    private final AtomicBoolean mRefreshing;
+    /** The last read value, null if there is none or it was invalidated. Guarded by this. */
+    private Entry<T> mEntry;
+    /** Incremented on every write, so that reads started before are not cached. Guarded by this. */
+    private long mGeneration;
+
+    private CachedChannelValue(ChannelValue<T> delegate, ValueCache cache) {
+      super(delegate);
+      mMaxAgeNanos = TimeUnit.MILLISECONDS.toNanos(cache.getMaxAgeMillis());
+      mMaxStaleNanos = TimeUnit.MILLISECONDS.toNanos(cache.getMaxStaleMillis());
+      mRefreshing = new AtomicBoolean();
+    }
+
+    @Override
+    public T read() throws ChannelException {
+      Entry<T> entry;
+      synchronized (this) {
+        entry = mEntry;
+      }
+      if (entry != null) {
+        long age = mTicker.read() - entry.mReadNanos;
+        if (age <= mMaxAgeNanos) {
+          return entry.mValue;
+        }
+        if (age <= mMaxAgeNanos + mMaxStaleNanos) {
+          refreshInBackground();
+          return entry.mValue;
+        }
+      }
+      return readAndCache();
+    }
+
+    @Override
+    public void writeRaw(String value) throws ChannelException {
+      try {
+        super.writeRaw(value);
+      } finally {
+        invalidate();
+      }
+    }
+
+    @Override
+    public void write(T value) throws ChannelException {
+      try {
+        super.write(value);
+      } finally {
+        invalidate();
+      }
+    }
+
+    private T readAndCache() throws ChannelException {
+      long generation;
+      synchronized (this) {
+        generation = mGeneration;
+      }
+      long readNanos = mTicker.read();
+      T value = super.read();
+      synchronized (this) {
+        if (generation == mGeneration) {
+          mEntry = new Entry<>(value, readNanos);
+        }
+      }
+      return value;
+    }
+
+    private void refreshInBackground() {
+      if (!mRefreshing.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        mRefreshExecutor.execute(() -> {
+          try {
+            readAndCache();
+          } catch (ChannelException | RuntimeException e) {
+            log.atWarning().log("Cannot refresh '%s': %s", getName(), e.getMessage());
+          } finally {
+            mRefreshing.set(false);
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        mRefreshing.set(false);
+      }
+    }
+
+    private synchronized void invalidate() {
+      ++mGeneration;
+      mEntry = null;
+    }
+  }
+
+  private static class Entry<T> {
+    private final T mValue;
+    private final long mReadNanos;
+
+    private Entry(T value, long readNanos) {
+      mValue = value;
+      mReadNanos = readNanos;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+/**
+ * Adds behavior to channel values, such as observing or caching them, by wrapping them.
+ *
+ * @see ChannelValueIndex#decorate(ChannelValueDecorator)
+ */
+public interface ChannelValueDecorator {
+  /**
+   * @param value the value to decorate, including the module and channel it belongs to.
+   * @return The channel value to use instead of the given value. Must have the same name and mode.
+   */
+  ChannelValue<?> decorate(IndexedChannelValue value);
+}
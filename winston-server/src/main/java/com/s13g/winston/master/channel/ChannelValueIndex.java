@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.s13g.winston.master.modules.Module;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An immutable index of all channel values of a set of modules.
+ * <p>
+ * Modules and channels create their channels and values on demand, which is too expensive to do on
+ * every request. This index resolves them exactly once so that they can be looked up by their path
+ * without any further allocations.
+ */
+public class ChannelValueIndex {
+  private final ImmutableList<Module> mModules;
+  /** Module type -> all channels of the module, in their original order. */
+  private final ImmutableMap<String, ImmutableList<Channel>> mChannels;
+  /** Channel path -> all values of that channel, in their original order. */
+  private final ImmutableMap<String, ImmutableList<IndexedChannelValue>> mChannelValues;
+  /** Value path -> value. */
+  private final ImmutableMap<String, IndexedChannelValue> mValues;
+
+  private ChannelValueIndex(ImmutableList<Module> modules,
+                            ImmutableMap<String, ImmutableList<Channel>> channels,
+                            ImmutableMap<String, ImmutableList<IndexedChannelValue>> channelValues,
+                            ImmutableMap<String, IndexedChannelValue> values) {
+    mModules = modules;
+    mChannels = channels;
+    mChannelValues = channelValues;
+    mValues = values;
+  }
+
+  /**
+   * Resolves all channels and channel values of the given modules.
+   *
+   * @throws IllegalStateException if two modules, channels or values end up with the same path.
+   */
+  public static ChannelValueIndex create(Collection<Module> modules) {
+    Map<String, ImmutableList<Channel>> channels = new LinkedHashMap<>();
+    Map<String, ImmutableList<IndexedChannelValue>> channelValues = new LinkedHashMap<>();
+    Map<String, IndexedChannelValue> values = new LinkedHashMap<>();
+
+    for (Module module : modules) {
+      String moduleType = module.getType();
+      List<Channel> moduleChannels = ImmutableList.copyOf(module.getChannels());
+      checkUnique(channels.put(moduleType, ImmutableList.copyOf(moduleChannels)), moduleType);
+
+      for (Channel channel : moduleChannels) {
+        ImmutableList.Builder<IndexedChannelValue> valuesOfChannel = ImmutableList.builder();
+        for (ChannelValue<?> value : channel.getValues()) {
+          IndexedChannelValue indexedValue = new IndexedChannelValue(moduleType, channel, value);
+          checkUnique(values.put(indexedValue.getPath(), indexedValue), indexedValue.getPath());
+          valuesOfChannel.add(indexedValue);
+        }
+        String channelPath = moduleType + "/" + channel.getChannelId();
+        checkUnique(channelValues.put(channelPath, valuesOfChannel.build()), channelPath);
+      }
+    }
+    return new ChannelValueIndex(ImmutableList.copyOf(modules), ImmutableMap.copyOf(channels),
+        ImmutableMap.copyOf(channelValues), ImmutableMap.copyOf(values));
+  }
+
+  /**
+   * Creates a new index in which every value is replaced by its decorated version. Decorating an
+   * index multiple times nests the decorators, the last one being the outermost.
+   *
+   * @throws IllegalStateException if the decorator changes the name of a value.
+   */
+  public ChannelValueIndex decorate(ChannelValueDecorator decorator) {
+    Map<String, IndexedChannelValue> values = new LinkedHashMap<>();
+    for (IndexedChannelValue value : mValues.values()) {
+      IndexedChannelValue decorated = value.withValue(decorator.decorate(value));
+      if (!decorated.getPath().equals(value.getPath())) {
+        throw new IllegalStateException("Decorator must not rename value: " + value.getPath());
+      }
+      values.put(decorated.getPath(), decorated);
+    }
+    Map<String, ImmutableList<IndexedChannelValue>> channelValues = new LinkedHashMap<>();
+    for (Map.Entry<String, ImmutableList<IndexedChannelValue>> entry :
+        mChannelValues.entrySet()) {
+      ImmutableList.Builder<IndexedChannelValue> valuesOfChannel = ImmutableList.builder();
+      for (IndexedChannelValue value : entry.getValue()) {
+        valuesOfChannel.add(values.get(value.getPath()));
+      }
+      channelValues.put(entry.getKey(), valuesOfChannel.build());
+    }
+    return new ChannelValueIndex(mModules, mChannels, ImmutableMap.copyOf(channelValues),
+        ImmutableMap.copyOf(values));
+  }
+
+  /** @return All indexed modules. */
+  public List<Module> getModules() {
+    return mModules;
+  }
+
+  /** @return All channels of the given module type, or empty if the module is unknown. */
+  public Optional<List<Channel>> getChannels(String moduleType) {
+    return Optional.ofNullable(mChannels.get(moduleType));
+  }
+
+  /**
+   * @param channelPath the path of the channel, i.e. '{module}/{channel}'.
+   * @return All values of the channel, or empty if the channel is unknown.
+   */
+  public Optional<List<IndexedChannelValue>> getChannelValues(String channelPath) {
+    return Optional.ofNullable(mChannelValues.get(channelPath));
+  }
+
+  /**
+   * @param path the path of the value, i.e. '{module}/{channel}/{value}'.
+   * @return The value, or empty if there is no value with the given path.
+   */
+  public Optional<IndexedChannelValue> get(String path) {
+    return Optional.ofNullable(mValues.get(path));
+  }
+
+  /** @return All indexed values, grouped by module and channel. */
+  public Collection<IndexedChannelValue> getAll() {
+    return mValues.values();
+  }
+
+  private static void checkUnique(Object previous, String path) {
+    if (previous != null) {
+      throw new IllegalStateException("Duplicate path in channel index: " + path);
+    }
+  }
+}
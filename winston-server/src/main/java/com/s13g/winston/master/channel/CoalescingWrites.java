@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+import com.google.common.flogger.FluentLogger;
+import com.s13g.winston.proto.Master.WriteDebounce;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Decorates the writable channel values configured with a {@link WriteDebounce} so that writes
+ * that queue up are combined.
+ * <p>
+ * While a write is in flight, e.g. a slow request to a Nest thermostat, the next write waits. If
+ * more writes arrive in the meantime, they replace the waiting one: only the last value is
+ * written, and all of the replaced writes complete with its outcome. Every write also waits for the
+ * configured window before it is sent, so that quick successive writes, e.g. from dragging a
+ * slider, result in a single write.
+ * <p>
+ * Only values whose last write is all that matters may be configured. Values that trigger an
+ * action with every write, such as the garage door clicker, are never combined.
+ */
+public class CoalescingWrites implements ChannelValueDecorator {
+  private static final FluentLogger log = FluentLogger.forEnclosingClass();
+
+  private final List<WriteDebounce> mDebounces;
+
+  /** @param debounces the configured debounce windows. */
+  public CoalescingWrites(List<WriteDebounce> debounces) {
+    mDebounces = debounces;
+  }
+
+  @Override
+  public ChannelValue<?> decorate(IndexedChannelValue value) {
+    Optional<WriteDebounce> debounce = findDebounce(value);
+    if (!debounce.isPresent() || value.getValue().getMode() == ChannelValue.Mode.READ_ONLY) {
+      return value.getValue();
+    }
+    log.atInfo().log("Combining writes of %s with a %dms window", value.getPath(),
+        debounce.get().getWindowMillis());
+    return new CoalescingChannelValue<>(value.getValue(), debounce.get().getWindowMillis());
+  }
+
+  /** @return The debounce with the longest path that matches the given value. */
+  private Optional<WriteDebounce> findDebounce(IndexedChannelValue value) {
+    WriteDebounce result = null;
+    for (WriteDebounce debounce : mDebounces) {
+      String path = debounce.getPath();
+      if (value.isUnder(path) && (result == null || path.length() > result.getPath().length())) {
+        result = debounce;
+      }
+    }
+    return Optional.ofNullable(result);
+  }
+
+  private static class CoalescingChannelValue<T> extends ForwardingChannelValue<T> {
+    private final long mWindowMillis;
+    /** The write that waits to be sent, null if there is none. Guarded by this. */
+    private PendingWrite mPending;
+    /** Whether a write is being sent. Guarded by this. */
+    private boolean mWriting;
+
+    private CoalescingChannelValue(ChannelValue<T> delegate, long windowMillis) {
+      super(delegate);
+      mWindowMillis = windowMillis;
+    }
+
+    @Override
+    public void writeRaw(String value) throws ChannelException {
+      write(() -> delegate().writeRaw(value));
+    }
+
+    @Override
+    public void write(T value) throws ChannelException {
+      write(() -> delegate().write(value));
+    }
+
+    /**
+     * Queues the given write, replacing a write that waits. The thread that queued the waiting
+     * write sends it, the others wait for the outcome.
+     */
+    private void write(Write write) throws ChannelException {
+      PendingWrite pending;
+      boolean isOwner;
+      synchronized (this) {
+        isOwner = mPending == null;
+        if (isOwner) {
+          mPending = new PendingWrite(write);
+        } else {
+          mPending.mWrite = write;
+        }
+        pending = mPending;
+      }
+      if (isOwner) {
+        try {
+          send(pending);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new ChannelException("Interrupted while waiting to write " + getName(), e);
+        }
+      }
+      await(pending.mResult);
+    }
+
+    /** Waits for the window and the write in flight, then sends the pending write. */
+    private void send(PendingWrite pending) throws InterruptedException {
+      Write write;
+      try {
+        if (mWindowMillis > 0) {
+          Thread.sleep(mWindowMillis);
+        }
+        synchronized (this) {
+          while (mWriting) {
+            wait();
+          }
+          mWriting = true;
+          mPending = null;
+          write = pending.mWrite;
+        }
+      } catch (InterruptedException e) {
+        // Nobody else sends this write, so the others waiting for it must not hang.
+        synchronized (this) {
+          if (mPending == pending) {
+            mPending = null;
+          }
+        }
+        pending.mResult.completeExceptionally(
+            new ChannelException("Interrupted while waiting to write " + getName(), e));
+        throw e;
+      }
+
+      try {
+        write.run();
+        pending.mResult.complete(null);
+      } catch (Throwable e) {
+        // Whatever went wrong, the writers waiting for this write must not hang.
+        pending.mResult.completeExceptionally(e);
+      } finally {
+        synchronized (this) {
+          mWriting = false;
+          notifyAll();
+        }
+      }
+    }
+
+    private void await(CompletableFuture<Void> result) throws ChannelException {
+      try {
+        result.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ChannelException("Interrupted while waiting for write of " + getName(), e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        if (e.getCause() instanceof ChannelException) {
+          throw (ChannelException) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+          throw (Error) e.getCause();
+        }
+        throw new ChannelException("Write failed: " + e.getCause().getMessage(), e.getCause());
+      }
+    }
+  }
+
+  /** A write of the delegate. */
+  private interface Write {
+    void run() throws ChannelException;
+  }
+
+  /** A write waiting to be sent, together with everybody waiting for it. */
+  private static class PendingWrite {
+    private final CompletableFuture<Void> mResult;
+    /** The latest write, which replaced all earlier ones. Guarded by the channel value. */
+    private Write mWrite;
+
+    private PendingWrite(Write write) {
+      mResult = new CompletableFuture<>();
+      mWrite = write;
+    }
+  }
+}
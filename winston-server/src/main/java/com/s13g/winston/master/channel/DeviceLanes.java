@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.s13g.winston.lib.core.metrics.Counter;
+import com.s13g.winston.lib.core.metrics.Histogram;
+import com.s13g.winston.lib.core.metrics.MetricsRegistry;
+import com.s13g.winston.shared.ChannelType;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Decorates channel values so that all reads and writes of a device, such as a node or a Wemo
+ * switch, are executed one after the other in a lane of their own. Devices are identified by the
+ * {@link Channel#getAddress() address} of their channels, so channels of different modules that
+ * talk to the same node share a lane.
+ * <p>
+ * Commands to the same device stay in order and never overlap, while different devices are
+ * handled in parallel. Every lane has a bounded queue: once a device stops responding, further
+ * commands to it fail right away, and callers stop waiting after a timeout. This way a dead
+ * device only affects its own commands. Group values are not decorated, since they are not a
+ * device.
+ */
+public class DeviceLanes implements ChannelValueDecorator {
+  private static final String METRIC_QUEUE_TIME = "winston_lane_queue_seconds";
+  private static final String METRIC_QUEUED = "winston_lane_queued";
+  private static final String METRIC_REJECTED = "winston_lane_rejected_total";
+  private static final int QUEUE_CAPACITY = 4;
+  private static final long TIMEOUT_MILLIS = 30 * 1000;
+
+  private final Executor mExecutor;
+  private final MetricsRegistry mRegistry;
+  private final int mQueueCapacity;
+  private final long mTimeoutMillis;
+  /** Device address -> lane. */
+  private final ConcurrentMap<String, Lane> mLanes;
+
+  /**
+   * @param executor runs the lanes. Every lane uses at most one thread at a time, so a cached
+   * thread pool never has more threads than there are devices.
+   */
+  public DeviceLanes(Executor executor, MetricsRegistry registry) {
+    this(executor, registry, QUEUE_CAPACITY, TIMEOUT_MILLIS);
+  }
+
+  @VisibleForTesting
+  DeviceLanes(Executor executor, MetricsRegistry registry, int queueCapacity,
+              long timeoutMillis) {
+    mExecutor = executor;
+    mRegistry = registry;
+    mQueueCapacity = queueCapacity;
+    mTimeoutMillis = timeoutMillis;
+    mLanes = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public ChannelValue<?> decorate(IndexedChannelValue value) {
+    if (value.getChannel().getType() == ChannelType.GROUP) {
+      return value.getValue();
+    }
+    Lane lane = mLanes.computeIfAbsent(value.getChannel().getAddress(), Lane::new);
+    return new LaneChannelValue<>(value.getValue(), lane);
+  }
+
+  /** A read or write of a channel value. */
+  private interface Command<T> {
+    T run() throws ChannelException;
+  }
+
+  private class LaneChannelValue<T> extends ForwardingChannelValue<T> {
+    private final Lane mLane;
+
+    private LaneChannelValue(ChannelValue<T> delegate, Lane lane) {
+      super(delegate);
+      mLane = lane;
+    }
+
+    @Override
+    public void writeRaw(String value) throws ChannelException {
+      mLane.execute(() -> {
+        delegate().writeRaw(value);
+        return null;
+      });
+    }
+
+    @Override
+    public void write(T value) throws ChannelException {
+      mLane.execute(() -> {
+        delegate().write(value);
+        return null;
+      });
+    }
+
+    @Override
+    public T read() throws ChannelException {
+      return mLane.execute(() -> delegate().read());
+    }
+  }
+
+  /** Executes the commands of a single device in order. */
+  private class Lane {
+    private final String mAddress;
+    private final Histogram mQueueTime;
+    private final Counter mRejected;
+    /** Commands waiting to be executed. Guarded by this. */
+    private final ArrayDeque<Runnable> mQueue;
+    /** Whether a thread is executing the commands of this lane. Guarded by this. */
+    private boolean mRunning;
+
+    private Lane(String address) {
+      mAddress = address;
+      mQueueTime = mRegistry.histogram(METRIC_QUEUE_TIME,
+          "Time commands wait for their device lane.", "device", address);
+      mRejected = mRegistry.counter(METRIC_REJECTED,
+          "Commands rejected because their device lane was full.", "device", address);
+      mRegistry.gauge(METRIC_QUEUED, "Commands waiting for their device lane.",
+          this::getQueued, "device", address);
+      mQueue = new ArrayDeque<>();
+    }
+
+    /** Queues the command and waits for its result. */
+    private <T> T execute(Command<T> command) throws ChannelException {
+      CompletableFuture<T> result = new CompletableFuture<>();
+      long queuedNanos = System.nanoTime();
+      Runnable task = () -> {
+        mQueueTime.observeSince(queuedNanos);
+        // The caller gave up, e.g. because the device is not responding.
+        if (result.isDone()) {
+          return;
+        }
+        try {
+          result.complete(command.run());
+        } catch (Throwable e) {
+          // Hand everything to the caller, so that the lane keeps draining.
+          result.completeExceptionally(e);
+        }
+      };
+      synchronized (this) {
+        if (mQueue.size() >= mQueueCapacity) {
+          mRejected.increment();
+          throw new ChannelException("Too many commands waiting for " + mAddress);
+        }
+        mQueue.addLast(task);
+        if (!mRunning) {
+          mRunning = true;
+          mExecutor.execute(this::drain);
+        }
+      }
+      return await(result, task);
+    }
+
+    /**
+     * Waits for the result of the given task. If the caller gives up, the task is removed from the
+     * queue, so that it no longer takes up room. If it already runs, it is skipped when the lane
+     * reaches it.
+     */
+    private <T> T await(CompletableFuture<T> result, Runnable task) throws ChannelException {
+      try {
+        return result.get(mTimeoutMillis, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        giveUp(result, task);
+        Thread.currentThread().interrupt();
+        throw new ChannelException("Interrupted while waiting for " + mAddress, e);
+      } catch (TimeoutException e) {
+        giveUp(result, task);
+        throw new ChannelException("Timed out waiting for " + mAddress, e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+          throw (Error) e.getCause();
+        }
+        if (e.getCause() instanceof ChannelException) {
+          throw (ChannelException) e.getCause();
+        }
+        throw new ChannelException("Command failed: " + e.getCause().getMessage(), e.getCause());
+      }
+    }
+
+    private void giveUp(CompletableFuture<?> result, Runnable task) {
+      result.cancel(false);
+      synchronized (this) {
+        mQueue.remove(task);
+      }
+    }
+
+    /** Executes queued commands until there are none left. */
+    private void drain() {
+      try {
+        Runnable task;
+        while ((task = poll()) != null) {
+          task.run();
+        }
+      } finally {
+        synchronized (this) {
+          mRunning = false;
+          // Commands might have been queued after the last poll, or this thread failed.
+          if (!mQueue.isEmpty()) {
+            mRunning = true;
+            mExecutor.execute(this::drain);
+          }
+        }
+      }
+    }
+
+    private synchronized Runnable poll() {
+      return mQueue.pollFirst();
+    }
+
+    private synchronized double getQueued() {
+      return mQueue.size();
+    }
+  }
+}
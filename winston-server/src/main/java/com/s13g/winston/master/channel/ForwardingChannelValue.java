@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+/**
+ * A channel value that forwards all calls to another channel value. Subclasses override the
+ * methods they want to add behavior to.
+ */
+public abstract class ForwardingChannelValue<T> implements ChannelValue<T> {
+  private final ChannelValue<T> mDelegate;
+
+  protected ForwardingChannelValue(ChannelValue<T> delegate) {
+    mDelegate = delegate;
+  }
+
+  /** @return The channel value that calls are forwarded to. */
+  protected ChannelValue<T> delegate() {
+    return mDelegate;
+  }
+
+  @Override
+  public Mode getMode() {
+    return mDelegate.getMode();
+  }
+
+  @Override
+  public String getName() {
+    return mDelegate.getName();
+  }
+
+  @Override
+  public void writeRaw(String value) throws ChannelException {
+    mDelegate.writeRaw(value);
+  }
+
+  @Override
+  public void write(T value) throws ChannelException {
+    mDelegate.write(value);
+  }
+
+  @Override
+  public T read() throws ChannelException {
+    return mDelegate.read();
+  }
+}
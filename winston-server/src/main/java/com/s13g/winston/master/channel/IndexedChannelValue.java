@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+/**
+ * A channel value together with the module and channel it belongs to, resolved once so that it
+ * can be addressed through its path, e.g. 'winston/10.0.0.1/tempC-0'.
+ */
+public class IndexedChannelValue {
+  private final String mModuleType;
+  private final Channel mChannel;
+  private final ChannelValue<?> mValue;
+  private final String mChannelPath;
+  private final String mPath;
+
+  IndexedChannelValue(String moduleType, Channel channel, ChannelValue<?> value) {
+    this(moduleType, channel, value, moduleType + "/" + channel.getChannelId());
+  }
+
+  private IndexedChannelValue(String moduleType, Channel channel, ChannelValue<?> value,
+                              String channelPath) {
+    mModuleType = moduleType;
+    mChannel = channel;
+    mValue = value;
+    mChannelPath = channelPath;
+    mPath = mChannelPath + "/" + value.getName();
+  }
+
+  /** Returns a copy of this indexed value that refers to the given value instead. */
+  IndexedChannelValue withValue(ChannelValue<?> value) {
+    return new IndexedChannelValue(mModuleType, mChannel, value, mChannelPath);
+  }
+
+  /** @return The type of the module this value belongs to. */
+  public String getModuleType() {
+    return mModuleType;
+  }
+
+  /** @return The channel this value belongs to. */
+  public Channel getChannel() {
+    return mChannel;
+  }
+
+  /** @return The channel value itself. */
+  public ChannelValue<?> getValue() {
+    return mValue;
+  }
+
+  /** @return The path of the channel, i.e. '{module}/{channel}'. */
+  public String getChannelPath() {
+    return mChannelPath;
+  }
+
+  /** @return The path of this value, i.e. '{module}/{channel}/{value}'. */
+  public String getPath() {
+    return mPath;
+  }
+
+  /**
+   * @param path a module type, channel path or value path, e.g. from the configuration.
+   * @return Whether this value is the given value or belongs to the given module or channel.
+   */
+  public boolean isUnder(String path) {
+    return mPath.equals(path) || mPath.startsWith(path + "/");
+  }
+
+  @Override
+  public String toString() {
+    return mPath;
+  }
+}
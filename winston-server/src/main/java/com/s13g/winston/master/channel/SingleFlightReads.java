@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Decorates channel values so that concurrent reads of the same value share a single read.
+ * <p>
+ * Reading a value usually means a request to a slow device, e.g. a 1-Wire temperature sensor that
+ * takes most of a second per conversion. While a read is in flight, other threads reading the
+ * same value wait for it and get its result or error, instead of sending their own request.
+ * Reads that start after the in-flight read completed send a new request.
+ */
+public class SingleFlightReads implements ChannelValueDecorator {
+  @Override
+  public ChannelValue<?> decorate(IndexedChannelValue value) {
+    return new SingleFlightChannelValue<>(value.getValue());
+  }
+
+  private static class SingleFlightChannelValue<T> extends ForwardingChannelValue<T> {
+    /** The read that is currently in flight, null if there is none. */
+    private final AtomicReference<CompletableFuture<T>> mInFlight;
+
+    private SingleFlightChannelValue(ChannelValue<T> delegate) {
+      super(delegate);
+      mInFlight = new AtomicReference<>();
+    }
+
+    @Override
+    public T read() throws ChannelException {
+      CompletableFuture<T> read = new CompletableFuture<>();
+      while (!mInFlight.compareAndSet(null, read)) {
+        CompletableFuture<T> inFlight = mInFlight.get();
+        if (inFlight != null) {
+          return await(inFlight);
+        }
+      }
+
+      try {
+        T value = super.read();
+        read.complete(value);
+        return value;
+      } catch (Throwable e) {
+        // Waiting readers must never be left hanging, whatever went wrong.
+        read.completeExceptionally(e);
+        throw e;
+      } finally {
+        mInFlight.set(null);
+      }
+    }
+
+    private T await(CompletableFuture<T> read) throws ChannelException {
+      try {
+        return read.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ChannelException("Interrupted while waiting for read of " + getName(), e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+          throw (Error) e.getCause();
+        }
+        throw new ChannelException("Shared read failed: " + e.getCause().getMessage(),
+            e.getCause());
+      }
+    }
+  }
+}
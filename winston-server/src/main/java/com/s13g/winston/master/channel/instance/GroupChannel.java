@@ -16,34 +16,57 @@
 
 package com.s13g.winston.master.channel.instance;
 
+import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
-import com.s13g.winston.RequestHandlers;
-import com.s13g.winston.common.RequestHandlingException;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.flogger.FluentLogger;
 import com.s13g.winston.master.channel.Channel;
+import com.s13g.winston.master.channel.ChannelBatchExecutor;
 import com.s13g.winston.master.channel.ChannelException;
 import com.s13g.winston.master.channel.ChannelValue;
+import com.s13g.winston.master.channel.ChannelValueIndex;
+import com.s13g.winston.master.channel.IndexedChannelValue;
 import com.s13g.winston.proto.Master;
 import com.s13g.winston.shared.ChannelType;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executor;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 /**
  * This channel produces a value for each configured group.
+ * <p>
+ * Group actions are writes of the form 'io/{module}/{channel}/{value}/{write value}'. They are
+ * resolved once to the channel values they write, see {@link #resolveActions}, so that firing a
+ * group only costs the device calls. The actions of a group are executed concurrently through a
+ * {@link ChannelBatchExecutor}, i.e. in the configured order per channel, and in parallel for
+ * different channels. Reading a group value returns the report of its last execution, one line
+ * per action.
  */
 public class GroupChannel implements Channel {
-  private final List<Master.Group> mGroups;
-  private final RequestHandlers mRequestHandlers;
-  private final Executor mExecutor;
-
-  public GroupChannel(List<Master.Group> groups, RequestHandlers requestHandlers) {
-    mGroups = groups;
-    mRequestHandlers = requestHandlers;
-    mExecutor = Executors.newCachedThreadPool();
+  private static final FluentLogger log = FluentLogger.forEnclosingClass();
+  private static final String ACTION_PREFIX = "io/";
+  private static final int NUM_ACTION_THREADS = 8;
+  /** Actions that did not complete in this time are reported as failed. */
+  private static final long ACTION_TIMEOUT_MILLIS = 30 * 1000;
+
+  private final ChannelBatchExecutor mBatchExecutor;
+  private final ImmutableList<GroupChannelValue> mValues;
+
+  public GroupChannel(List<Master.Group> groups) {
+    this(groups, Executors.newFixedThreadPool(NUM_ACTION_THREADS));
+  }
+
+  /** @param executor the executor on which the actions of each channel are executed. */
+  public GroupChannel(List<Master.Group> groups, ExecutorService executor) {
+    mBatchExecutor = new ChannelBatchExecutor(executor, ACTION_TIMEOUT_MILLIS);
+    ImmutableList.Builder<GroupChannelValue> values = ImmutableList.builder();
+    for (Master.Group group : groups) {
+      values.add(new GroupChannelValue(group));
+    }
+    mValues = values.build();
   }
 
   @Override
@@ -58,48 +81,98 @@ public class GroupChannel implements Channel {
 
   @Override
   public List<ChannelValue> getValues() {
-    List<ChannelValue> values = new LinkedList<>();
-    for (Master.Group group : mGroups) {
-      values.add(new GroupChannelValue(group.getName(), group.getTriggerList()));
+    return ImmutableList.copyOf(mValues);
+  }
+
+  /**
+   * Resolves the actions of all groups to the values they write. Until then, groups do nothing.
+   * Resolving against an index with decorated values, e.g. cached ones, makes group writes go
+   * through the decorators.
+   *
+   * @throws IllegalArgumentException if an action is not a write of a known value.
+   */
+  public void resolveActions(ChannelValueIndex index) {
+    for (GroupChannelValue value : mValues) {
+      value.resolveActions(index);
     }
-    return ImmutableList.copyOf(values);
   }
 
   private class GroupChannelValue implements ChannelValue<String> {
-    private final String mName;
-    private final List<Master.GroupTrigger> mTriggers;
+    private final Master.Group mGroup;
+    /** Trigger input -> actions, in the configured order. */
+    private volatile ImmutableListMultimap<String, Action> mActions;
+    private volatile String mLastReport;
 
-    private GroupChannelValue(String name, List<Master.GroupTrigger> triggers) {
-      mName = name;
-      mTriggers = triggers;
+    private GroupChannelValue(Master.Group group) {
+      mGroup = group;
+      mActions = ImmutableListMultimap.of();
+      mLastReport = "";
+    }
+
+    private void resolveActions(ChannelValueIndex index) {
+      ImmutableListMultimap.Builder<String, Action> actions = ImmutableListMultimap.builder();
+      for (Master.GroupTrigger trigger : mGroup.getTriggerList()) {
+        List<Action> triggerActions = new ArrayList<>();
+        for (String action : trigger.getActionList()) {
+          triggerActions.add(resolveAction(action, index));
+        }
+        for (String input : trigger.getInputList()) {
+          actions.putAll(input, triggerActions);
+        }
+      }
+      mActions = actions.build();
+    }
+
+    private Action resolveAction(String action, ChannelValueIndex index) {
+      int lastSlash = action.lastIndexOf('/');
+      Optional<IndexedChannelValue> value = action.startsWith(ACTION_PREFIX) && lastSlash > 0
+          ? index.get(action.substring(ACTION_PREFIX.length(), lastSlash)) : Optional.empty();
+      if (!value.isPresent() || value.get().getValue().getMode() == Mode.READ_ONLY) {
+        throw new IllegalArgumentException("Group '" + mGroup.getName()
+            + "' has an action that is not a write of a known value: '" + action + "'.");
+      }
+      return new Action(action,
+          ChannelBatchExecutor.Operation.write(value.get(), action.substring(lastSlash + 1)));
     }
 
     @Override
     public Mode getMode() {
-      return Mode.WRITE_ONLY;
+      return Mode.READ_WRITE;
     }
 
     @Override
     public String getName() {
-      return mName;
+      return mGroup.getName();
     }
 
     @Override
     public void writeRaw(String value) throws ChannelException {
-      for (Master.GroupTrigger trigger : mTriggers) {
-        for (String input : trigger.getInputList()) {
-          if (input.equals(value)) {
-            for (String action : trigger.getActionList()) {
-              try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                // TODO: Consider doing this asynchronously so reuests can fire in parallel.
-                mRequestHandlers.handleRequestTrusted(action, out);
-              } catch (IOException | RequestHandlingException e) {
-                throw new ChannelException("Some request in the group failed '" + mName + "'.");
-              }
-            }
-          }
+      List<Action> actions = mActions.get(value);
+      if (actions.isEmpty()) {
+        return;
+      }
+      List<ChannelBatchExecutor.Operation> operations = new ArrayList<>(actions.size());
+      for (Action action : actions) {
+        operations.add(action.mOperation);
+      }
+      List<ChannelBatchExecutor.Result> results = mBatchExecutor.execute(operations);
+
+      List<String> report = new ArrayList<>(actions.size());
+      List<String> failures = new ArrayList<>();
+      for (int i = 0; i < results.size(); ++i) {
+        ChannelBatchExecutor.Result result = results.get(i);
+        report.add(actions.get(i).mRequest + ": " + (result.success ? "OK" : result.error));
+        if (!result.success) {
+          failures.add(actions.get(i).mRequest + ": " + result.error);
         }
       }
+      mLastReport = Joiner.on('\n').join(report);
+      if (!failures.isEmpty()) {
+        log.atWarning().log("Actions of group '%s' failed: %s", mGroup.getName(), failures);
+        throw new ChannelException(failures.size() + " of " + actions.size()
+            + " actions of group '" + mGroup.getName() + "' failed: "
+            + Joiner.on("; ").join(failures));
+      }
     }
 
     @Override
@@ -107,9 +180,21 @@ public class GroupChannel implements Channel {
       throw new ChannelException("Cannot write to GroupChannelValue");
     }
 
+    /** @return The report of the last execution, one line per action, e.g. '...: OK'. */
     @Override
-    public String read() throws ChannelException {
-      throw new ChannelException("Cannot read from GroupChannelValue");
+    public String read() {
+      return mLastReport;
+    }
+  }
+
+  /** A resolved action, with the request it was configured as. */
+  private static class Action {
+    private final String mRequest;
+    private final ChannelBatchExecutor.Operation mOperation;
+
+    private Action(String request, ChannelBatchExecutor.Operation operation) {
+      mRequest = request;
+      mOperation = operation;
     }
   }
 }
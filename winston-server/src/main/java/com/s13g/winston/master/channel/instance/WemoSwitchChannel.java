@@ -32,10 +32,12 @@ import java.util.Optional;
  */
 public class WemoSwitchChannel implements Channel {
   private final String mChannelId;
+  private final String mAddress;
   private final WemoSwitch mSwitch;
 
-  public WemoSwitchChannel(String channelId, WemoSwitch aSwitch) {
+  public WemoSwitchChannel(String channelId, String address, WemoSwitch aSwitch) {
     mChannelId = channelId;
+    mAddress = address;
     mSwitch = aSwitch;
   }
 
@@ -44,6 +46,11 @@ public class WemoSwitchChannel implements Channel {
     return mChannelId;
   }
 
+  @Override
+  public String getAddress() {
+    return mAddress;
+  }
+
   @Override
   public ChannelType getType() {
     return ChannelType.WEMO_SWITCH;
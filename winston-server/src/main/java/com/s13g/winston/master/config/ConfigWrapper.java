@@ -17,13 +17,18 @@
 package com.s13g.winston.master.config;
 
 import com.google.common.flogger.FluentLogger;
+import com.google.common.primitives.Doubles;
 import com.google.protobuf.TextFormat;
 import com.s13g.winston.proto.Master;
+import com.s13g.winston.proto.Master.AuthenticatedClient;
 import com.s13g.winston.proto.Master.Channel;
 import com.s13g.winston.proto.Master.KnownNode;
 import com.s13g.winston.proto.Master.MasterConfig;
 import com.s13g.winston.proto.Master.Module;
 import com.s13g.winston.proto.Master.Parameter;
+import com.s13g.winston.proto.Master.PollSchedule;
+import com.s13g.winston.proto.Master.ValueCache;
+import com.s13g.winston.proto.Master.WriteDebounce;
 
 import java.io.File;
 import java.io.IOException;
@@ -75,6 +80,10 @@ public class ConfigWrapper {
       throw new AssertionError("Invalid Port:" + mConfigProto.getDaemonPort());
     }
 
+    if (mConfigProto.getHttpThreads() < 0) {
+      throw new AssertionError("Invalid number of HTTP threads: " + mConfigProto.getHttpThreads());
+    }
+
     List<Module> modules = mConfigProto.getModuleList();
     for (Module module : modules) {
       if (isNullOrEmpty(module.getType())) {
@@ -110,6 +119,76 @@ public class ConfigWrapper {
       }
     }
 
+    if (mConfigProto.getMaxConcurrentRequests() < 0 || mConfigProto.getMaxQueuedRequests() < 0) {
+      throw new AssertionError("Request limits must not be negative");
+    }
+
+    for (ValueCache cache : mConfigProto.getValueCacheList()) {
+      if (isNullOrEmpty(cache.getPath())) {
+        throw new AssertionError("ValueCache path must be set");
+      }
+      if (cache.getMaxAgeMillis() <= 0 || cache.getMaxStaleMillis() < 0) {
+        throw new AssertionError("ValueCache max age must be > 0 and max stale >= 0: "
+            + cache.getPath());
+      }
+    }
+
+    for (PollSchedule schedule : mConfigProto.getPollScheduleList()) {
+      if (isNullOrEmpty(schedule.getPath()) || schedule.getIntervalMillis() <= 0) {
+        throw new AssertionError("PollSchedule needs a path and an interval > 0");
+      }
+    }
+    for (WriteDebounce debounce : mConfigProto.getWriteDebounceList()) {
+      if (isNullOrEmpty(debounce.getPath()) || debounce.getWindowMillis() < 0) {
+        throw new AssertionError("WriteDebounce needs a path and a window >= 0");
+      }
+    }
+    if (mConfigProto.getHistoryRetentionHours() < 0) {
+      throw new AssertionError("History retention must not be negative");
+    }
+    for (Master.Rule rule : mConfigProto.getRuleList()) {
+      if (isNullOrEmpty(rule.getName()) || rule.getConditionCount() == 0
+          || rule.getActionCount() == 0) {
+        throw new AssertionError("Rule needs a name, conditions and actions: " + rule.getName());
+      }
+      for (Master.Condition condition : rule.getConditionList()) {
+        if (isNullOrEmpty(condition.getPath()) || condition.getForMillis() < 0) {
+          throw new AssertionError("Rule condition needs a path and a duration >= 0: "
+              + rule.getName());
+        }
+        if (condition.getOperator() != Master.Condition.Operator.EQUALS
+            && condition.getOperator() != Master.Condition.Operator.NOT_EQUALS
+            && condition.getOperator() != Master.Condition.Operator.CHANGED
+            && Doubles.tryParse(condition.getValue()) == null) {
+          throw new AssertionError("Rule condition needs a number to compare with: "
+              + rule.getName());
+        }
+      }
+      for (Master.RuleAction action : rule.getActionList()) {
+        if (isNullOrEmpty(action.getPath())) {
+          throw new AssertionError("Rule action needs a path: " + rule.getName());
+        }
+      }
+    }
+    if (mConfigProto.getMaxPollsPerDevice() < 0) {
+      throw new AssertionError("Max polls per device must not be negative");
+    }
+
+    if (mConfigProto.getAccessLogSampleRate() < 0 || mConfigProto.getAccessLogSampleRate() > 1) {
+      throw new AssertionError("Access log sample rate must be between 0 and 1");
+    }
+
+    for (AuthenticatedClient client : mConfigProto.getAuthClientList()) {
+      if (client.getRequestsPerSecond() < 0 || client.getBurst() < 0) {
+        throw new AssertionError("Rate limits must not be negative: " + client.getName());
+      }
+    }
+
+    if (mConfigProto.getSslSessionCacheSize() < 0 ||
+        mConfigProto.getSslSessionTimeoutSeconds() < 0) {
+      throw new AssertionError("SSL session cache size and timeout must not be negative");
+    }
+
     if (!isNullOrEmpty(mConfigProto.getSslKeystorePath()) &&
         isNullOrEmpty(mConfigProto.getSslKeystorePassword())) {
       throw new AssertionError("SSL keystore given without password");
@@ -125,10 +204,32 @@ public class ConfigWrapper {
    */
   public void printToLog() {
     log.atInfo().log("Daemon Port     :" + mConfigProto.getDaemonPort());
+    log.atInfo().log("HTTP threads    :" + mConfigProto.getHttpThreads());
     log.atInfo().log("Keystore        :" + mConfigProto.getSslKeystorePath());
     log.atInfo().log("Keystore passwd : " + (isNullOrEmpty(mConfigProto.getSslKeystorePassword())
         ? "<not given>" : "<given>"));
+    log.atInfo().log("SSL sessions    :" + mConfigProto.getSslSessionCacheSize() + ", "
+        + mConfigProto.getSslSessionTimeoutSeconds() + "s, tickets "
+        + (mConfigProto.getDisableSslSessionTickets() ? "disabled" : "JDK default"));
     log.atInfo().log("Auth clients    :" + mConfigProto.getAuthClientCount());
+    log.atInfo().log("Max requests    :" + mConfigProto.getMaxConcurrentRequests() + " concurrent, "
+        + mConfigProto.getMaxQueuedRequests() + " queued");
+    log.atInfo().log("Access log rate :" + mConfigProto.getAccessLogSampleRate());
+    log.atInfo().log("History         :" + mConfigProto.getHistoryRetentionHours() + "h, "
+        + (isNullOrEmpty(mConfigProto.getHistoryDirectory())
+        ? "in memory" : "stored in " + mConfigProto.getHistoryDirectory()));
+    for (ValueCache cache : mConfigProto.getValueCacheList()) {
+      log.atInfo().log("Value cache     :" + cache.getPath() + ", " + cache.getMaxAgeMillis()
+          + "ms, stale " + cache.getMaxStaleMillis() + "ms");
+    }
+    for (PollSchedule schedule : mConfigProto.getPollScheduleList()) {
+      log.atInfo().log("Poll schedule   :" + schedule.getPath() + ", every "
+          + schedule.getIntervalMillis() + "ms");
+    }
+    for (WriteDebounce debounce : mConfigProto.getWriteDebounceList()) {
+      log.atInfo().log("Write debounce  :" + debounce.getPath() + ", "
+          + debounce.getWindowMillis() + "ms");
+    }
     List<Module> modules = mConfigProto.getModuleList();
     log.atInfo().log("Modules         : " + modules.size());
     log.atInfo().log("---------------------------------");
@@ -152,6 +253,13 @@ public class ConfigWrapper {
       log.atInfo().log("  Triggers: " + group.getTriggerCount());
     }
 
+    log.atInfo().log("Rules defined: " + mConfigProto.getRuleCount());
+    for (Master.Rule rule : mConfigProto.getRuleList()) {
+      log.atInfo().log("  Name    : " + rule.getName());
+      log.atInfo().log("  Conds   : " + rule.getConditionCount() + ", actions "
+          + rule.getActionCount());
+    }
+
     List<KnownNode> knownNodes = mConfigProto.getKnownClientList();
     log.atInfo().log("Known nodes: " + knownNodes.size());
     log.atInfo().log("---------------------------------");
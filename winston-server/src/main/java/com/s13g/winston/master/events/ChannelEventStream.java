@@ -0,0 +1,321 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.events;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.flogger.FluentLogger;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.s13g.winston.common.HandlerRequest;
+import com.s13g.winston.common.RequestHandlingException;
+import com.s13g.winston.master.state.ChannelState;
+import com.s13g.winston.master.state.ChannelStateStore;
+
+import org.simpleframework.http.Status;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes changes of channel values to clients as a stream of server-sent events.
+ * <p>
+ * Clients connect to '/events' and keep the connection open. For every value that changes in the
+ * {@link ChannelStateStore}, an event with the store version as its ID is sent. Clients can limit
+ * the events to certain modules and channels with the repeatable 'module' and 'channel'
+ * parameters. Passing '?since={version}' or the 'Last-Event-ID' header first replays all values
+ * that changed after that version, so a client that reconnects does not miss any change.
+ * <p>
+ * Every client has its own bounded queue of pending events and its own writer thread. A client that
+ * does not keep up, or whose connection blocks a write for too long, is disconnected instead of
+ * slowing down the master or other clients, and is expected to reconnect.
+ */
+public class ChannelEventStream {
+  private static final FluentLogger log = FluentLogger.forEnclosingClass();
+  public static final String REQ_PATH = "events";
+  public static final String CONTENT_TYPE = "text/event-stream";
+  private static final String PARAM_MODULE = "module";
+  private static final String PARAM_CHANNEL = "channel";
+  private static final String PARAM_SINCE = "since";
+  private static final String HEADER_LAST_EVENT_ID = "Last-Event-ID";
+  private static final int MAX_PENDING_EVENTS = 256;
+  private static final long HEARTBEAT_INTERVAL_SECONDS = 15;
+  /** A client is disconnected if writing a single event blocks for longer than this. */
+  private static final long WRITE_TIMEOUT_SECONDS = 30;
+  /** Tells clients how long to wait before reconnecting. */
+  private static final String RETRY_MESSAGE = "retry: 3000\n\n";
+  /** A comment line, which clients ignore. Detects connections that went away. */
+  private static final String HEARTBEAT_MESSAGE = ": heartbeat\n\n";
+
+  private final ChannelStateStore mStateStore;
+  private final ScheduledExecutorService mExecutor;
+  private final long mHeartbeatIntervalMillis;
+  private final long mWriteTimeoutNanos;
+  private final ThreadFactory mWriterThreads;
+  private final Set<Subscriber> mSubscribers;
+
+  /**
+   * @param executor sends heartbeats and disconnects clients that stopped reading. Never blocks on
+   * a client.
+   */
+  public ChannelEventStream(ChannelStateStore stateStore, ScheduledExecutorService executor) {
+    this(stateStore, executor, TimeUnit.SECONDS.toMillis(HEARTBEAT_INTERVAL_SECONDS),
+        TimeUnit.SECONDS.toMillis(WRITE_TIMEOUT_SECONDS));
+  }
+
+  @VisibleForTesting
+  ChannelEventStream(ChannelStateStore stateStore, ScheduledExecutorService executor,
+                     long heartbeatIntervalMillis, long writeTimeoutMillis) {
+    mStateStore = stateStore;
+    mExecutor = executor;
+    mHeartbeatIntervalMillis = heartbeatIntervalMillis;
+    mWriteTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+    mWriterThreads =
+        new ThreadFactoryBuilder().setNameFormat("event-writer-%d").setDaemon(true).build();
+    mSubscribers = new CopyOnWriteArraySet<>();
+  }
+
+  /**
+   * Starts sending heartbeats to connected clients, and disconnecting clients that stopped
+   * reading.
+   */
+  public void start() {
+    mExecutor.scheduleAtFixedRate(this::sendHeartbeat, mHeartbeatIntervalMillis,
+        mHeartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Subscribes a client to value changes. Returns immediately, events are written to the given
+   * stream asynchronously until the client goes away.
+   *
+   * @param request the request of the client, including its filters.
+   * @param response the stream to write the events to. Closed when the client is disconnected.
+   * @throws RequestHandlingException if the request parameters are invalid.
+   */
+  public void subscribe(HandlerRequest request, OutputStream response)
+      throws RequestHandlingException {
+    subscribe(request, response, response);
+  }
+
+  /**
+   * Subscribes a client to value changes, like {@link #subscribe(HandlerRequest, OutputStream)}.
+   *
+   * @param connection closes the connection to the client without blocking, even while a write to
+   * the response is blocked. Used to disconnect clients that stopped reading.
+   */
+  public void subscribe(HandlerRequest request, OutputStream response, Closeable connection)
+      throws RequestHandlingException {
+    Optional<String> since = request.getParameter(PARAM_SINCE);
+    if (!since.isPresent()) {
+      since = request.getHeader(HEADER_LAST_EVENT_ID);
+    }
+    long sinceVersion;
+    try {
+      sinceVersion = since.isPresent() ? Long.parseLong(since.get()) : mStateStore.getVersion();
+    } catch (NumberFormatException e) {
+      throw new RequestHandlingException("Illegal version: '" + since.get() + "'.",
+          Status.BAD_REQUEST);
+    }
+    if (!mStateStore.isKnownVersion(sinceVersion)) {
+      // The client knows a version of another run of the master, so it needs all values.
+      sinceVersion = -1;
+    }
+
+    Subscriber subscriber = new Subscriber(ImmutableSet.copyOf(request.getParameters(PARAM_MODULE)),
+        ImmutableSet.copyOf(request.getParameters(PARAM_CHANNEL)), response, connection);
+    log.atInfo().log("New event subscriber: %s", subscriber);
+    mSubscribers.add(subscriber);
+    subscriber.offer(RETRY_MESSAGE);
+    mStateStore.addListener(subscriber, sinceVersion);
+    subscriber.mWriter.start();
+  }
+
+  /** @return The number of currently connected clients. */
+  public int getSubscriberCount() {
+    return mSubscribers.size();
+  }
+
+  private void sendHeartbeat() {
+    long nowNanos = System.nanoTime();
+    for (Subscriber subscriber : mSubscribers) {
+      if (subscriber.isStalled(nowNanos)) {
+        log.atWarning().log("Event subscriber stopped reading, disconnecting: %s", subscriber);
+        subscriber.disconnect();
+      } else {
+        subscriber.offer(HEARTBEAT_MESSAGE);
+      }
+    }
+  }
+
+  /** Formats a changed value as a server-sent event. */
+  static String toEvent(ChannelState state) {
+    return "id: " + state.getVersion() + "\n"
+        + "event: value\n"
+        + "data: {\"path\":" + toJsonString(state.getPath())
+        + ",\"value\":" + toJsonString(String.valueOf(state.getValue()))
+        + ",\"version\":" + state.getVersion()
+        + ",\"timestamp_millis\":" + state.getTimestampMillis() + "}\n\n";
+  }
+
+  private static String toJsonString(String str) {
+    StringBuilder result = new StringBuilder("\"");
+    for (char c : str.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        result.append('\\').append(c);
+      } else if (c < 0x20) {
+        result.append(String.format("\\u%04x", (int) c));
+      } else {
+        result.append(c);
+      }
+    }
+    return result.append('"').toString();
+  }
+
+  /**
+   * A connected client. Events are queued by the store's listener callback and written to the
+   * client by the client's own writer thread, so a client that stops reading only blocks its own
+   * thread.
+   */
+  private class Subscriber implements ChannelStateStore.Listener, Runnable {
+    private final Set<String> mModules;
+    private final Set<String> mChannels;
+    private final OutputStream mResponse;
+    private final Closeable mConnection;
+    private final BlockingQueue<String> mPending;
+    private final Thread mWriter;
+    private volatile boolean mClosed;
+    private volatile boolean mWriting;
+    private volatile long mWriteStartNanos;
+
+    private Subscriber(Set<String> modules, Set<String> channels, OutputStream response,
+                       Closeable connection) {
+      mModules = modules;
+      mChannels = channels;
+      mResponse = response;
+      mConnection = connection;
+      mPending = new ArrayBlockingQueue<>(MAX_PENDING_EVENTS);
+      mWriter = mWriterThreads.newThread(this);
+      mClosed = false;
+      mWriting = false;
+    }
+
+    @Override
+    public void onChanged(ChannelState state) {
+      if (matches(state)) {
+        offer(toEvent(state));
+      }
+    }
+
+    /**
+     * Queues all replayed events as a single message, so that a replay of more values than the
+     * queue can hold does not disconnect the client.
+     */
+    @Override
+    public void onReplay(List<ChannelState> states) {
+      StringBuilder events = new StringBuilder();
+      for (ChannelState state : states) {
+        if (matches(state)) {
+          events.append(toEvent(state));
+        }
+      }
+      if (events.length() > 0) {
+        offer(events.toString());
+      }
+    }
+
+    private boolean matches(ChannelState state) {
+      return (mModules.isEmpty() || mModules.contains(state.getModuleType()))
+          && (mChannels.isEmpty() || mChannels.contains(state.getChannelId()));
+    }
+
+    private void offer(String message) {
+      if (mClosed) {
+        return;
+      }
+      if (!mPending.offer(message)) {
+        log.atWarning().log("Event subscriber is too slow, disconnecting: %s", this);
+        disconnect();
+      }
+    }
+
+    /** @return Whether a single write to the client has been blocked for too long. */
+    private boolean isStalled(long nowNanos) {
+      return mWriting && nowNanos - mWriteStartNanos > mWriteTimeoutNanos;
+    }
+
+    /** Writes queued events until the client is disconnected. */
+    @Override
+    public void run() {
+      try {
+        while (!mClosed) {
+          byte[] message = mPending.take().getBytes(StandardCharsets.UTF_8);
+          mWriteStartNanos = System.nanoTime();
+          mWriting = true;
+          mResponse.write(message);
+          if (mPending.isEmpty()) {
+            mResponse.flush();
+          }
+          mWriting = false;
+        }
+      } catch (IOException e) {
+        if (!mClosed) {
+          log.atInfo().log("Event subscriber went away: %s", this);
+        }
+      } catch (InterruptedException e) {
+        // Disconnected while waiting for events.
+      }
+      disconnect();
+      try {
+        mResponse.close();
+      } catch (IOException e) {
+        log.atFine().withCause(e).log("Cannot close event stream");
+      }
+    }
+
+    /**
+     * Stops sending events and closes the connection, which also wakes up a writer that is blocked
+     * on the client.
+     */
+    private void disconnect() {
+      mClosed = true;
+      mStateStore.removeListener(this);
+      mSubscribers.remove(this);
+      mPending.clear();
+      try {
+        mConnection.close();
+      } catch (IOException e) {
+        log.atFine().withCause(e).log("Cannot close event stream connection");
+      }
+      mWriter.interrupt();
+    }
+
+    @Override
+    public String toString() {
+      return "modules=" + mModules + ", channels=" + mChannels;
+    }
+  }
+}
@@ -16,70 +16,137 @@
 
 package com.s13g.winston.master.handlers;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.flogger.FluentLogger;
 import com.google.protobuf.TextFormat;
+import com.s13g.winston.common.HandlerRequest;
+import com.s13g.winston.common.HandlerResponse;
+import com.s13g.winston.common.PreparedResponse;
 import com.s13g.winston.common.RequestHandler;
 import com.s13g.winston.common.RequestHandlingException;
 import com.s13g.winston.master.channel.Channel;
+import com.s13g.winston.master.channel.ChannelBatchExecutor;
 import com.s13g.winston.master.channel.ChannelValue;
+import com.s13g.winston.master.channel.ChannelValueIndex;
+import com.s13g.winston.master.channel.IndexedChannelValue;
 import com.s13g.winston.master.modules.Module;
+import com.s13g.winston.master.state.ChannelPoller;
+import com.s13g.winston.master.state.ChannelState;
+import com.s13g.winston.master.state.ChannelStateStore;
 import com.s13g.winston.proto.ForClients.ChannelData;
 
-
-
 import org.simpleframework.http.Status;
 
 import java.io.IOException;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.StringWriter;
-import java.util.Collection;
-
-import static com.google.common.base.Strings.isNullOrEmpty;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Handles requests to serve channel data information to clients.
+ * <p>
+ * By default only the channel metadata is served. With '?values=true' a snapshot of all current
+ * values and its version is included. With '?since={version}' only the values that changed after
+ * the given snapshot version are included, and only the channels they belong to. Such deltas are
+ * served from the state store without reading any channel. If the version was not handed out by
+ * the current run of the master, e.g. because it restarted in the meantime, a full snapshot is
+ * served instead.
+ * <p>
+ * All responses carry a strong ETag, so clients can revalidate with 'If-None-Match' and get an
+ * empty '304 Not Modified' if nothing changed. Responses are gzipped if the client accepts it.
  */
 public class ChannelDataHandler implements RequestHandler {
   private static final FluentLogger log = FluentLogger.forEnclosingClass();
   private static final String REQ_PREFIX = "channeldata";
   private static final String REQ_PREFIX_TEXT = "channeldatatext";
+  private static final String PARAM_VALUES = "values";
+  private static final String PARAM_SINCE = "since";
+  private static final String CONTENT_TYPE_PROTO = "application/x-protobuf";
+  private static final String CONTENT_TYPE_TEXT = "text/plain; charset=utf-8";
+
   private final ChannelData mChannelData;
+  /** The channel data without values never changes, so it is only serialized once. */
+  private final PreparedResponse mChannelDataBinary;
+  private final PreparedResponse mChannelDataText;
+  private final ChannelBatchExecutor mBatchExecutor;
+  private final ChannelStateStore mStateStore;
+  /**
+   * Reads all readable values that are not polled, to refresh the state store before taking a
+   * snapshot.
+   */
+  private final List<ChannelBatchExecutor.Operation> mReadAllOperations;
+
+  public ChannelDataHandler(ChannelValueIndex channelValueIndex,
+                            ChannelBatchExecutor batchExecutor,
+                            ChannelStateStore stateStore) {
+    this(channelValueIndex, batchExecutor, stateStore, ChannelPoller.none(stateStore));
+  }
 
-  public ChannelDataHandler(Collection<Module> modules) {
+  /**
+   * @param poller polled values are not read before taking a snapshot, since the state store
+   * already has their last polled state.
+   */
+  public ChannelDataHandler(ChannelValueIndex channelValueIndex,
+                            ChannelBatchExecutor batchExecutor,
+                            ChannelStateStore stateStore,
+                            ChannelPoller poller) {
+    mBatchExecutor = batchExecutor;
+    mStateStore = stateStore;
+    ImmutableList.Builder<ChannelBatchExecutor.Operation> readAllOperations =
+        ImmutableList.builder();
     ChannelData.Builder builder = ChannelData.newBuilder();
-    for (Module module : modules) {
-      for (Channel channel : module.getChannels()) {
+    for (Module module : channelValueIndex.getModules()) {
+      for (Channel channel :
+          channelValueIndex.getChannels(module.getType()).orElse(ImmutableList.of())) {
         ChannelData.Channel.Builder channelBuilder = builder.addChannelBuilder();
         channelBuilder.setId(channel.getChannelId());
         channelBuilder.setModuleType(module.getType());
         channelBuilder.setType(channel.getType().name());
-        for (ChannelValue channelValue : channel.getValues()) {
+        String channelPath = module.getType() + "/" + channel.getChannelId();
+        for (IndexedChannelValue channelValue :
+            channelValueIndex.getChannelValues(channelPath).orElse(ImmutableList.of())) {
           ChannelData.Channel.ChannelValue.Builder valueBuilder =
               channelBuilder.addValueBuilder();
-          valueBuilder.setId(channelValue.getName());
-          valueBuilder.setMode(channelValue.getMode().name());
+          valueBuilder.setId(channelValue.getValue().getName());
+          valueBuilder.setMode(channelValue.getValue().getMode().name());
+          if (channelValue.getValue().getMode() != ChannelValue.Mode.WRITE_ONLY &&
+              !poller.isPolled(channelValue.getPath())) {
+            readAllOperations.add(ChannelBatchExecutor.Operation.read(channelValue));
+          }
         }
       }
     }
     mChannelData = builder.build();
+    mChannelDataBinary = prepare(mChannelData, false);
+    mChannelDataText = prepare(mChannelData, true);
+    mReadAllOperations = readAllOperations.build();
   }
 
   @Override
-  public void doHandle(String request, OutputStream response) throws RequestHandlingException {
-    String[] requestParts = request.split("/");
-    if (requestParts[0].equals(REQ_PREFIX_TEXT)) {
-      try (OutputStreamWriter writer = new OutputStreamWriter(response)) {
-        writer.append(dataToText());
-        return;
-      } catch (IOException e) {
-        log.atSevere().log("Cannot write response", e);
-        throw new RequestHandlingException("Cannot write response.", Status.INTERNAL_SERVER_ERROR);
+  public void doHandle(HandlerRequest request, HandlerResponse response)
+      throws RequestHandlingException {
+    boolean text = request.getPath().startsWith(REQ_PREFIX_TEXT);
+    PreparedResponse preparedResponse = text ? mChannelDataText : mChannelDataBinary;
+    Optional<String> since = request.getParameter(PARAM_SINCE);
+    if (since.isPresent()) {
+      long sinceVersion;
+      try {
+        sinceVersion = Long.parseLong(since.get());
+      } catch (NumberFormatException e) {
+        throw new RequestHandlingException("Illegal version: '" + since.get() + "'.",
+            Status.BAD_REQUEST);
       }
+      if (mStateStore.isKnownVersion(sinceVersion)) {
+        preparedResponse = prepare(createSnapshot(sinceVersion), text);
+      } else {
+        preparedResponse = prepare(createFullSnapshot(), text);
+      }
+    } else if (Boolean.parseBoolean(request.getParameter(PARAM_VALUES).orElse("false"))) {
+      preparedResponse = prepare(createFullSnapshot(), text);
     }
+
     try {
-      mChannelData.writeTo(response);
-      response.close();
+      preparedResponse.writeTo(request, response);
     } catch (IOException e) {
       log.atSevere().log("Cannot write response", e);
       throw new RequestHandlingException("Cannot write response.", Status.INTERNAL_SERVER_ERROR);
@@ -87,20 +154,64 @@ public class ChannelDataHandler implements RequestHandler {
   }
 
   @Override
-  public boolean canHandle(String request) {
-    String[] requestParts = request.split("/");
-    return !isNullOrEmpty(request) &&
-        (REQ_PREFIX.equals(requestParts[0]) || REQ_PREFIX_TEXT.equals(requestParts[0]));
+  public List<String> getRequestPrefixes() {
+    return ImmutableList.of(REQ_PREFIX, REQ_PREFIX_TEXT);
   }
 
-  private String dataToText() throws RequestHandlingException {
-    StringWriter result = new StringWriter();
-    try {
-      TextFormat.print(mChannelData, result);
-      return result.toString();
-    } catch (IOException e) {
-      log.atSevere().log("Cannot turn protocol buffer into text.", e);
-      throw new RequestHandlingException("Cannot produce output", Status.INTERNAL_SERVER_ERROR);
+  /** Reads all readable values that are not polled and returns the channel data including them. */
+  private ChannelData createFullSnapshot() {
+    mBatchExecutor.execute(mReadAllOperations);
+    return createSnapshot(-1);
+  }
+
+  /**
+   * Returns the channel data including the last known values from the state store.
+   *
+   * @param sinceVersion if not negative, only values that changed after this version are included,
+   * and only the channels they belong to.
+   */
+  private ChannelData createSnapshot(long sinceVersion) {
+    // Take the version before looking at the values. A value that changes in the meantime is
+    // then included again in the next delta, instead of being missed.
+    long version = mStateStore.getVersion();
+
+    ChannelData.Builder builder = ChannelData.newBuilder().setVersion(version);
+    for (ChannelData.Channel channel : mChannelData.getChannelList()) {
+      ChannelData.Channel.Builder channelBuilder = channel.toBuilder().clearValue();
+      for (ChannelData.Channel.ChannelValue value : channel.getValueList()) {
+        String path = channel.getModuleType() + "/" + channel.getId() + "/" + value.getId();
+        Optional<ChannelState> state = mStateStore.get(path);
+        if (sinceVersion < 0) {
+          channelBuilder.addValue(withState(value, state));
+        } else if (state.isPresent() && state.get().getVersion() > sinceVersion) {
+          channelBuilder.addValue(withState(value, state));
+        }
+      }
+      if (sinceVersion < 0 || channelBuilder.getValueCount() > 0) {
+        builder.addChannel(channelBuilder);
+      }
+    }
+    return builder.build();
+  }
+
+  private static ChannelData.Channel.ChannelValue withState(ChannelData.Channel.ChannelValue value,
+                                                            Optional<ChannelState> state) {
+    if (!state.isPresent()) {
+      return value;
+    }
+    return value.toBuilder()
+        .setValue(String.valueOf(state.get().getValue()))
+        .setVersion(state.get().getVersion())
+        .setTimestampMillis(state.get().getTimestampMillis())
+        .build();
+  }
+
+  private static PreparedResponse prepare(ChannelData channelData, boolean text) {
+    if (text) {
+      return PreparedResponse.create(
+          TextFormat.printToString(channelData).getBytes(StandardCharsets.UTF_8),
+          CONTENT_TYPE_TEXT);
     }
+    return PreparedResponse.create(channelData.toByteArray(), CONTENT_TYPE_PROTO);
   }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.handlers;
+
+import com.google.common.collect.ImmutableList;
+import com.s13g.winston.common.HandlerRequest;
+import com.s13g.winston.common.HandlerResponse;
+import com.s13g.winston.common.RequestHandler;
+import com.s13g.winston.common.RequestHandlingException;
+import com.s13g.winston.master.channel.ChannelValueIndex;
+import com.s13g.winston.master.history.ChannelHistory;
+
+import org.simpleframework.http.Status;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the history of channel values as JSON.
+ * <p>
+ * '/history/{module}/{channel}/{value}?from={millis}&to={millis}&step={millis}' returns the value
+ * between 'from' and 'to', which default to the last day. With a 'step', the history is
+ * downsampled to one point per step with the average, minimum, maximum and number of samples,
+ * otherwise all recorded changes are returned. Steps are aligned to multiples of the step since
+ * the epoch, e.g. to whole hours, which lets them be computed from the rollups.
+ */
+public class HistoryHandler implements RequestHandler {
+  private static final String REQ_PREFIX = "history";
+  private static final String PARAM_FROM = "from";
+  private static final String PARAM_TO = "to";
+  private static final String PARAM_STEP = "step";
+  private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+  private static final long DEFAULT_RANGE_MILLIS = TimeUnit.DAYS.toMillis(1);
+  /** Limits the size of a downsampled response. */
+  private static final long MAX_STEPS = 10000;
+
+  private final ChannelValueIndex mChannelValueIndex;
+  private final ChannelHistory mHistory;
+
+  public HistoryHandler(ChannelValueIndex channelValueIndex, ChannelHistory history) {
+    mChannelValueIndex = channelValueIndex;
+    mHistory = history;
+  }
+
+  @Override
+  public void doHandle(HandlerRequest request, HandlerResponse response)
+      throws RequestHandlingException {
+    String requestPath = request.getPath();
+    String path = requestPath.startsWith(REQ_PREFIX + "/")
+        ? requestPath.substring(REQ_PREFIX.length() + 1) : "";
+    if (path.endsWith("/")) {
+      path = path.substring(0, path.length() - 1);
+    }
+    if (!mChannelValueIndex.get(path).isPresent()) {
+      throw new RequestHandlingException("Unknown channel value: '" + path + "'.",
+          Status.NOT_FOUND);
+    }
+
+    long to = parseMillis(request, PARAM_TO).orElse(System.currentTimeMillis());
+    long from = parseMillis(request, PARAM_FROM).orElse(to - DEFAULT_RANGE_MILLIS);
+    long step = parseMillis(request, PARAM_STEP).orElse(0L);
+    if (from > to || step < 0) {
+      throw new RequestHandlingException("Illegal range or step.", Status.BAD_REQUEST);
+    }
+    if (step > 0) {
+      from -= Math.floorMod(from, step);
+    }
+    if (step > 0 && (to - from) / step >= MAX_STEPS) {
+      throw new RequestHandlingException("Too many steps, use a larger step.",
+          Status.BAD_REQUEST);
+    }
+
+    ChannelHistory.Series series = mHistory.query(path, from, to, step);
+    response.setHeader("Content-Type", CONTENT_TYPE);
+    try {
+      Writer writer = new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+      writer.write(toJson(path, from, to, step, series));
+      writer.flush();
+    } catch (IOException e) {
+      throw new RequestHandlingException("Cannot write response.", Status.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  @Override
+  public List<String> getRequestPrefixes() {
+    return ImmutableList.of(REQ_PREFIX);
+  }
+
+  private static Optional<Long> parseMillis(HandlerRequest request, String name)
+      throws RequestHandlingException {
+    Optional<String> value = request.getParameter(name);
+    if (!value.isPresent()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(Long.parseLong(value.get()));
+    } catch (NumberFormatException e) {
+      throw new RequestHandlingException("Illegal '" + name + "': '" + value.get() + "'.",
+          Status.BAD_REQUEST);
+    }
+  }
+
+  private static String toJson(String path, long from, long to, long step,
+                               ChannelHistory.Series series) {
+    StringBuilder json = new StringBuilder(64 + series.size() * 24);
+    json.append("{\"path\":\"").append(path.replace("\\", "\\\\").replace("\"", "\\\""))
+        .append("\",\"from\":").append(from)
+        .append(",\"to\":").append(to)
+        .append(",\"step\":").append(step)
+        .append(",\"timestamps_millis\":[");
+    for (int i = 0; i < series.size(); ++i) {
+      json.append(i > 0 ? "," : "").append(series.timestampsMillis[i]);
+    }
+    appendValues(json.append("],\"values\":["), series.values);
+    if (step > 0) {
+      appendValues(json.append("],\"min_values\":["), series.minValues);
+      appendValues(json.append("],\"max_values\":["), series.maxValues);
+      json.append("],\"counts\":[");
+      for (int i = 0; i < series.size(); ++i) {
+        json.append(i > 0 ? "," : "").append(series.counts[i]);
+      }
+    }
+    return json.append("]}").toString();
+  }
+
+  private static void appendValues(StringBuilder json, double[] values) {
+    for (int i = 0; i < values.length; ++i) {
+      double value = values[i];
+      json.append(i > 0 ? "," : "");
+      json.append(Double.isNaN(value) || Double.isInfinite(value) ? "null" : value);
+    }
+  }
+}
@@ -17,111 +17,186 @@
 package com.s13g.winston.master.handlers;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.flogger.FluentLogger;
+import com.s13g.winston.common.HandlerRequest;
+import com.s13g.winston.common.HandlerResponse;
 import com.s13g.winston.common.RequestHandler;
 import com.s13g.winston.common.RequestHandlingException;
 import com.s13g.winston.master.channel.Channel;
+import com.s13g.winston.master.channel.ChannelBatchExecutor;
 import com.s13g.winston.master.channel.ChannelException;
 import com.s13g.winston.master.channel.ChannelValue;
+import com.s13g.winston.master.channel.ChannelValueIndex;
+import com.s13g.winston.master.channel.IndexedChannelValue;
 import com.s13g.winston.master.modules.Module;
-
-
+import com.s13g.winston.master.state.ChannelPoller;
+import com.s13g.winston.master.state.ChannelState;
+import com.s13g.winston.master.state.ChannelStateStore;
+import com.s13g.winston.proto.ForClients.BatchResponse;
 
 import org.simpleframework.http.Status;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-
-import static com.google.common.base.Strings.isNullOrEmpty;
+import java.util.Optional;
 
 /**
- * Handles requests for master modules, such as the 'nest' module.
+ * Handles reading and writing channel values as well as listing modules, channels and values.
+ * <p>
+ * Multiple values can be read and written with a single request to '/io/batch', e.g.
+ * '/io/batch?read=nest/abc/humidity&write=wemo/tv/switch/1'. The response is a
+ * {@link BatchResponse} protocol buffer.
  */
 public class MasterModuleHandler implements RequestHandler {
   private static final FluentLogger log = FluentLogger.forEnclosingClass();
   private static final String REQ_PREFIX = "io";
+  private static final String REQ_BATCH = REQ_PREFIX + "/batch";
+  private static final String PARAM_READ = "read";
+  private static final String PARAM_WRITE = "write";
 
-  /** module -> channel -> channelValue. */
-  private final Collection<Module> mModules;
+  /**
+   * Full request path -> channel value, e.g. 'io/nest/abc/humidity'. Pre-computed so that reading
+   * and writing a value is a single lookup.
+   */
+  private final ImmutableMap<String, ChannelValue> mValues;
+  /** Full request path -> listing of the next path level, e.g. 'io/nest' -> 'abc,def'. */
+  private final ImmutableMap<String, String> mListings;
+  private final ChannelValueIndex mChannelValueIndex;
+  private final ChannelBatchExecutor mBatchExecutor;
+  private final ChannelPoller mPoller;
 
-  public MasterModuleHandler(Collection<Module> modules) {
-    mModules = modules;
+  public MasterModuleHandler(ChannelValueIndex channelValueIndex,
+                             ChannelBatchExecutor batchExecutor) {
+    this(channelValueIndex, batchExecutor, ChannelPoller.none(new ChannelStateStore()));
   }
 
-  @Override
-  public void doHandle(String request, OutputStream response) throws RequestHandlingException {
-    try (OutputStreamWriter writer = new OutputStreamWriter(response)) {
-      writer.write(handle(request));
-    } catch (IOException e) {
-      log.atSevere().log("Cannot write response", e);
-      throw new RequestHandlingException("Cannot write response.", Status.INTERNAL_SERVER_ERROR);
-    }
-  }
+  /**
+   * @param poller reads of polled values are served from their last polled state, instead of
+   * reading the device.
+   */
+  public MasterModuleHandler(ChannelValueIndex channelValueIndex,
+                             ChannelBatchExecutor batchExecutor,
+                             ChannelPoller poller) {
+    mChannelValueIndex = channelValueIndex;
+    mBatchExecutor = batchExecutor;
+    mPoller = poller;
 
-  private String handle(String request) throws RequestHandlingException {
-    String[] path = request.split("/");
-    if (!REQ_PREFIX.equals(path[0])) {
-      throw new RequestHandlingException("Path does not match: '" + request + "'.");
-    }
+    Map<String, ChannelValue> values = new HashMap<>();
+    Map<String, String> listings = new HashMap<>();
+    Joiner joiner = Joiner.on(',');
 
-    Map<String, Module> modules = mModules.stream().collect(
-        Collectors.toMap(Module::getType, Function.identity()));
+    List<String> moduleTypes = new ArrayList<>();
+    for (Module module : channelValueIndex.getModules()) {
+      String moduleType = module.getType();
+      moduleTypes.add(moduleType);
 
-    // No arguments given, let's list the active modules.
-    if (path.length == 1) {
-      return Joiner.on(',').join(modules.keySet());
-    }
+      List<String> channelIds = new ArrayList<>();
+      for (Channel channel : channelValueIndex.getChannels(moduleType).orElse(ImmutableList.of())) {
+        channelIds.add(channel.getChannelId());
 
-    String moduleType = path[1];
-    if (!modules.containsKey(moduleType)) {
-      throw new RequestHandlingException("Unknown module: '" + moduleType + "'.");
+        String channelPath = moduleType + "/" + channel.getChannelId();
+        List<String> valueNames = new ArrayList<>();
+        for (IndexedChannelValue value :
+            channelValueIndex.getChannelValues(channelPath).orElse(ImmutableList.of())) {
+          valueNames.add(value.getValue().getName());
+          values.put(REQ_PREFIX + "/" + value.getPath(), value.getValue());
+        }
+        listings.put(REQ_PREFIX + "/" + channelPath, joiner.join(valueNames));
+      }
+      listings.put(REQ_PREFIX + "/" + moduleType, joiner.join(channelIds));
     }
+    listings.put(REQ_PREFIX, joiner.join(moduleTypes));
 
-    Map<String, Channel> channels = modules.get(moduleType).getChannels().stream().collect(
-        Collectors.toMap(Channel::getChannelId, Function.identity()));
-
-    // Only a module name is given, so list all the channel names.
-    if (path.length == 2) {
-      return Joiner.on(',').join(channels.keySet());
-    }
+    mValues = ImmutableMap.copyOf(values);
+    mListings = ImmutableMap.copyOf(listings);
+  }
 
-    String channelId = path[2];
-    if (!channels.containsKey(channelId)) {
-      throw new RequestHandlingException("Unknown channel '" + moduleType + "/" + channelId + "'.");
+  @Override
+  public void doHandle(HandlerRequest request, HandlerResponse response)
+      throws RequestHandlingException {
+    try {
+      if (REQ_BATCH.equals(request.getPath())) {
+        handleBatch(request).writeTo(response.getOutputStream());
+        response.getOutputStream().close();
+        return;
+      }
+      try (OutputStreamWriter writer = new OutputStreamWriter(response.getOutputStream())) {
+        writer.write(handle(request.getPath()));
+      }
+    } catch (IOException e) {
+      log.atSevere().log("Cannot write response", e);
+      throw new RequestHandlingException("Cannot write response.", Status.INTERNAL_SERVER_ERROR);
     }
+  }
 
-    Map<String, ChannelValue> channelValues = channels.get(channelId).getValues().stream().collect(
-        Collectors.toMap(ChannelValue::getName, Function.identity()));
-
-    // No arguments given... list the channels.
-    if (path.length == 3) {
-      return Joiner.on(',').join(channelValues.keySet());
+  /**
+   * Executes all reads and writes given as request parameters. Operations on the same channel are
+   * executed in the order of the request.
+   */
+  private BatchResponse handleBatch(HandlerRequest request) throws RequestHandlingException {
+    List<String> paths = new ArrayList<>();
+    List<ChannelBatchExecutor.Operation> operations = new ArrayList<>();
+    for (Map.Entry<String, String> parameter : request.getParameterEntries()) {
+      String path = parameter.getValue();
+      if (PARAM_READ.equals(parameter.getKey())) {
+        Optional<IndexedChannelValue> value = mChannelValueIndex.get(path);
+        if (!value.isPresent()) {
+          throw new RequestHandlingException("Unknown channel value in batch: '" + path + "'.",
+              Status.BAD_REQUEST);
+        }
+        paths.add(path);
+        operations.add(ChannelBatchExecutor.Operation.read(value.get()));
+      } else if (PARAM_WRITE.equals(parameter.getKey())) {
+        int lastSlash = path.lastIndexOf('/');
+        Optional<IndexedChannelValue> value = lastSlash < 0
+            ? Optional.empty() : mChannelValueIndex.get(path.substring(0, lastSlash));
+        if (!value.isPresent()) {
+          throw new RequestHandlingException("Unknown channel value in batch: '" + path + "'.",
+              Status.BAD_REQUEST);
+        }
+        paths.add(path);
+        operations.add(
+            ChannelBatchExecutor.Operation.write(value.get(), path.substring(lastSlash + 1)));
+      }
     }
 
-    String channelValueName = path[3];
-    if (!channelValues.containsKey(channelValueName)) {
-      throw new RequestHandlingException(
-          "Unknown channel value name in request '" + request + "'.", Status.BAD_REQUEST);
+    List<ChannelBatchExecutor.Result> results = mBatchExecutor.execute(operations);
+    BatchResponse.Builder response = BatchResponse.newBuilder();
+    for (int i = 0; i < results.size(); ++i) {
+      ChannelBatchExecutor.Result result = results.get(i);
+      response.addItemBuilder()
+          .setPath(paths.get(i))
+          .setSuccess(result.success)
+          .setValue(result.value)
+          .setError(result.error);
     }
-    ChannelValue channelValue = channelValues.get(channelValueName);
+    return response.build();
+  }
 
-    if (channelValue == null) {
-      throw new RequestHandlingException(
-          "Cannot find channel value: '" + request + "'.", Status.BAD_REQUEST);
+  private String handle(String request) throws RequestHandlingException {
+    if (request.endsWith("/")) {
+      request = request.substring(0, request.length() - 1);
     }
 
-    // Read request for the channel.
-    if (path.length == 4) {
+    // Read request for a channel value.
+    ChannelValue channelValue = mValues.get(request);
+    if (channelValue != null) {
       try {
         if (channelValue.getMode() == ChannelValue.Mode.WRITE_ONLY) {
           throw new RequestHandlingException(
               "Cannot read from write-only channel: '" + request + "'.", Status.BAD_REQUEST);
         }
+        Optional<ChannelState> polledState =
+            mPoller.getPolledState(request.substring(REQ_PREFIX.length() + 1));
+        if (polledState.isPresent()) {
+          return String.valueOf(polledState.get().getValue());
+        }
         return String.valueOf(channelValue.read());
       } catch (ChannelException e) {
         throw new RequestHandlingException(
@@ -129,27 +204,56 @@ public class MasterModuleHandler implements RequestHandler {
       }
     }
 
-    // Write request for the channel.
-    if (path.length == 5) {
+    // Listing of modules, channels or channel values.
+    String listing = mListings.get(request);
+    if (listing != null) {
+      return listing;
+    }
+
+    // Write request for a channel value.
+    int lastSlash = request.lastIndexOf('/');
+    channelValue = lastSlash < 0 ? null : mValues.get(request.substring(0, lastSlash));
+    if (channelValue != null) {
       try {
         if (channelValue.getMode() == ChannelValue.Mode.READ_ONLY) {
           throw new RequestHandlingException(
               "Cannot write to read-only channel: '" + request + "'.", Status.BAD_REQUEST);
         }
-        channelValue.writeRaw(path[4]);
+        channelValue.writeRaw(request.substring(lastSlash + 1));
         return "OK";
       } catch (ChannelException e) {
         throw new RequestHandlingException(
             "Channel exception on write: '" + e.getMessage() + "'.", Status.BAD_REQUEST);
       }
     }
+    throw createLookupException(request);
+  }
 
-    throw new RequestHandlingException("Illegal request: '" + request + "'.", Status.BAD_REQUEST);
+  /** Creates a descriptive exception for a request that does not match any known path. */
+  private RequestHandlingException createLookupException(String request) {
+    String[] path = request.split("/");
+    if (!REQ_PREFIX.equals(path[0]) || path.length < 2) {
+      return new RequestHandlingException("Path does not match: '" + request + "'.");
+    }
+    if (!mListings.containsKey(REQ_PREFIX + "/" + path[1])) {
+      return new RequestHandlingException("Unknown module: '" + path[1] + "'.");
+    }
+    if (path.length < 3) {
+      return new RequestHandlingException(
+          "Missing channel in request '" + request + "'.", Status.NOT_FOUND);
+    }
+    if (!mListings.containsKey(REQ_PREFIX + "/" + path[1] + "/" + path[2])) {
+      return new RequestHandlingException("Unknown channel '" + path[1] + "/" + path[2] + "'.");
+    }
+    if (path.length <= 5) {
+      return new RequestHandlingException(
+          "Unknown channel value name in request '" + request + "'.", Status.BAD_REQUEST);
+    }
+    return new RequestHandlingException("Illegal request: '" + request + "'.", Status.BAD_REQUEST);
   }
 
   @Override
-  public boolean canHandle(String request) {
-    return !isNullOrEmpty(request) && request.startsWith(REQ_PREFIX);
+  public List<String> getRequestPrefixes() {
+    return ImmutableList.of(REQ_PREFIX);
   }
-
 }
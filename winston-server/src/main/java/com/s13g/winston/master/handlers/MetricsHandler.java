@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.handlers;
+
+import com.google.common.collect.ImmutableList;
+import com.s13g.winston.common.HandlerRequest;
+import com.s13g.winston.common.HandlerResponse;
+import com.s13g.winston.common.RequestHandler;
+import com.s13g.winston.common.RequestHandlingException;
+import com.s13g.winston.lib.core.metrics.MetricsRegistry;
+
+import org.simpleframework.http.Status;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Serves all metrics of the given registry at '/metrics' in the Prometheus text format.
+ */
+public class MetricsHandler implements RequestHandler {
+  private static final String REQ_PREFIX = "metrics";
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final MetricsRegistry mRegistry;
+
+  public MetricsHandler(MetricsRegistry registry) {
+    mRegistry = registry;
+  }
+
+  @Override
+  public void doHandle(HandlerRequest request, HandlerResponse response)
+      throws RequestHandlingException {
+    if (!request.getPath().equals(REQ_PREFIX)) {
+      throw new RequestHandlingException("Unknown metrics request: " + request,
+          Status.NOT_FOUND);
+    }
+    response.setHeader("Content-Type", CONTENT_TYPE);
+    try {
+      Writer writer = new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+      mRegistry.writeTo(writer);
+      writer.flush();
+    } catch (IOException e) {
+      throw new RequestHandlingException("Cannot write metrics.", Status.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  @Override
+  public List<String> getRequestPrefixes() {
+    return ImmutableList.of(REQ_PREFIX);
+  }
+}
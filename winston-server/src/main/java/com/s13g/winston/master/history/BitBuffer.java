@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.history;
+
+import java.util.Arrays;
+
+/**
+ * A growable sequence of bits, backed by a long array. Bits are appended at the end and read
+ * back with a {@link Reader}.
+ */
+class BitBuffer {
+  private static final int INITIAL_WORDS = 16;
+
+  private long[] mWords;
+  /** The number of bits written. */
+  private long mSize;
+
+  BitBuffer() {
+    mWords = new long[INITIAL_WORDS];
+  }
+
+  /**
+   * Appends the lowest bits of the given value, most significant bit first.
+   *
+   * @param value the bits to append.
+   * @param numBits the number of bits to append, between 0 and 64.
+   */
+  void write(long value, int numBits) {
+    if (numBits == 0) {
+      return;
+    }
+    ensureCapacity(mSize + numBits);
+    if (numBits < 64) {
+      value &= (1L << numBits) - 1;
+    }
+    int word = (int) (mSize >>> 6);
+    int offset = (int) (mSize & 63);
+    int free = 64 - offset;
+    if (numBits <= free) {
+      mWords[word] |= value << (free - numBits);
+    } else {
+      mWords[word] |= value >>> (numBits - free);
+      mWords[word + 1] |= value << (64 - (numBits - free));
+    }
+    mSize += numBits;
+  }
+
+  /** Appends a single bit. */
+  void writeBit(boolean bit) {
+    write(bit ? 1 : 0, 1);
+  }
+
+  /** Releases unused capacity, for buffers that will not grow anymore. */
+  void trim() {
+    mWords = Arrays.copyOf(mWords, (int) ((mSize + 63) >>> 6));
+  }
+
+  /** @return The number of bytes used by this buffer. */
+  long getSizeBytes() {
+    return mWords.length * 8L;
+  }
+
+  /** @return A reader that starts at the first bit. */
+  Reader reader() {
+    return new Reader();
+  }
+
+  private void ensureCapacity(long numBits) {
+    int numWords = (int) ((numBits + 63) >>> 6);
+    if (numWords > mWords.length) {
+      mWords = Arrays.copyOf(mWords, Math.max(numWords, mWords.length * 2));
+    }
+  }
+
+  /** Reads bits in the order they were written. */
+  class Reader {
+    private long mPosition;
+
+    /** @return The next bits as the lowest bits of the result. */
+    long read(int numBits) {
+      if (numBits == 0) {
+        return 0;
+      }
+      int word = (int) (mPosition >>> 6);
+      int offset = (int) (mPosition & 63);
+      int available = 64 - offset;
+      long result;
+      if (numBits <= available) {
+        result = mWords[word] >>> (available - numBits);
+      } else {
+        int remaining = numBits - available;
+        result = (mWords[word] << remaining) | (mWords[word + 1] >>> (64 - remaining));
+      }
+      mPosition += numBits;
+      return numBits == 64 ? result : result & ((1L << numBits) - 1);
+    }
+
+    boolean readBit() {
+      return read(1) == 1;
+    }
+  }
+}
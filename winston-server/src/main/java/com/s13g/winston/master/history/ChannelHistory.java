@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.history;
+
+import com.s13g.winston.master.state.ChannelState;
+import com.s13g.winston.master.state.ChannelStateStore;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the history of all numeric and boolean channel values in memory.
+ * <p>
+ * Register it as a {@link ChannelStateStore.Listener}: every change of a value is recorded as a
+ * sample, booleans as 0 and 1. Since only changes are recorded, a value is assumed to keep its
+ * value until the next sample, and averages are weighted by how long each value was held. Samples
+ * are compressed, see {@link CompressedBlock}, and dropped after the retention time.
+ */
+public class ChannelHistory implements ChannelStateStore.Listener {
+  /** Bounds the memory per value, even if it changes all the time. */
+  private static final int MAX_BLOCKS_PER_VALUE = 1024;
+
+  private final long mRetentionMillis;
+  /** Value path -> history. */
+  private final ConcurrentMap<String, ValueHistory> mHistories;
+
+  /** @param retentionMillis how long samples are kept. */
+  public ChannelHistory(long retentionMillis) {
+    mRetentionMillis = retentionMillis;
+    mHistories = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public void onChanged(ChannelState state) {
+    toSample(state.getValue()).ifPresent(
+        sample -> add(state.getPath(), state.getTimestampMillis(), sample));
+  }
+
+  /** @return The sample for a channel value, if it is numeric or boolean. */
+  static OptionalDouble toSample(Object value) {
+    if (value instanceof Number) {
+      return OptionalDouble.of(((Number) value).doubleValue());
+    } else if (value instanceof Boolean) {
+      return OptionalDouble.of((Boolean) value ? 1 : 0);
+    }
+    return OptionalDouble.empty();
+  }
+
+  /** Records a sample of the value with the given path. Samples must be added in order. */
+  void add(String path, long timestampMillis, double value) {
+    mHistories.computeIfAbsent(path,
+        key -> new ValueHistory(mRetentionMillis, MAX_BLOCKS_PER_VALUE))
+        .add(timestampMillis, value);
+  }
+
+  /**
+   * Returns the history of a value within the given time range.
+   * <p>
+   * With a step of 0, all samples are returned, preceded by the last sample before the range.
+   * Otherwise the range is divided into steps, starting at 'fromMillis'. Every step has the
+   * average, minimum and maximum of the values held within it. The average is weighted by how
+   * long each value was held, so a value that changed once in a step and then stayed counts for
+   * the rest of it. Steps before the first known sample are left out.
+   * <p>
+   * If the steps start at whole minutes, hours or days and are multiples of them, they are
+   * computed from the coarsest matching rollup instead of the samples. The last step then
+   * includes all samples of its last minute, hour or day, even those after 'toMillis'.
+   *
+   * @param path the path of the value, i.e. '{module}/{channel}/{value}'.
+   * @param fromMillis the start of the range, inclusive.
+   * @param toMillis the end of the range, inclusive.
+   * @param stepMillis the length of a step, or 0 for all samples.
+   */
+  public Series query(String path, long fromMillis, long toMillis, long stepMillis) {
+    ValueHistory history = mHistories.get(path);
+    SeriesBuilder series = new SeriesBuilder();
+    if (history == null) {
+      return series.build();
+    }
+    if (stepMillis <= 0) {
+      history.forEach(fromMillis, toMillis, series::add);
+      return series.build();
+    }
+
+    Downsampler downsampler = new Downsampler(fromMillis, stepMillis, series);
+    if (!history.forEachBucket(fromMillis, toMillis, stepMillis, downsampler)) {
+      history.forEach(fromMillis, toMillis, downsampler);
+    }
+    downsampler.finish(toMillis);
+    return series.build();
+  }
+
+  /** @return Whether there is any history for the value with the given path. */
+  public boolean contains(String path) {
+    return mHistories.containsKey(path);
+  }
+
+  /** @return The number of bytes used by the compressed samples and rollups of all values. */
+  public long getSizeBytes() {
+    long result = 0;
+    for (ValueHistory history : mHistories.values()) {
+      result += history.getSizeBytes();
+    }
+    return result;
+  }
+
+  /**
+   * A sequence of samples, as parallel arrays of timestamps and values. For downsampled series,
+   * the values are averages, and the minimum, maximum and number of samples per step are given.
+   */
+  public static class Series {
+    public final long[] timestampsMillis;
+    public final double[] values;
+    public final double[] minValues;
+    public final double[] maxValues;
+    /** The number of samples, 0 for steps that carry the previous value forward. */
+    public final int[] counts;
+
+    private Series(long[] timestampsMillis, double[] values, double[] minValues,
+                   double[] maxValues, int[] counts) {
+      this.timestampsMillis = timestampsMillis;
+      this.values = values;
+      this.minValues = minValues;
+      this.maxValues = maxValues;
+      this.counts = counts;
+    }
+
+    public int size() {
+      return timestampsMillis.length;
+    }
+  }
+
+  private static class SeriesBuilder {
+    private long[] mTimestamps = new long[16];
+    private double[] mValues = new double[16];
+    private double[] mMinValues = new double[16];
+    private double[] mMaxValues = new double[16];
+    private int[] mCounts = new int[16];
+    private int mSize;
+
+    private void add(long timestampMillis, double value) {
+      add(timestampMillis, value, value, value, 1);
+    }
+
+    private void add(long timestampMillis, double value, double min, double max, int count) {
+      if (mSize == mTimestamps.length) {
+        mTimestamps = Arrays.copyOf(mTimestamps, mSize * 2);
+        mValues = Arrays.copyOf(mValues, mSize * 2);
+        mMinValues = Arrays.copyOf(mMinValues, mSize * 2);
+        mMaxValues = Arrays.copyOf(mMaxValues, mSize * 2);
+        mCounts = Arrays.copyOf(mCounts, mSize * 2);
+      }
+      mTimestamps[mSize] = timestampMillis;
+      mValues[mSize] = value;
+      mMinValues[mSize] = min;
+      mMaxValues[mSize] = max;
+      mCounts[mSize] = count;
+      ++mSize;
+    }
+
+    private Series build() {
+      return new Series(Arrays.copyOf(mTimestamps, mSize), Arrays.copyOf(mValues, mSize),
+          Arrays.copyOf(mMinValues, mSize), Arrays.copyOf(mMaxValues, mSize),
+          Arrays.copyOf(mCounts, mSize));
+    }
+  }
+
+  /**
+   * Aggregates samples, or buckets of rollups, per step. They must arrive in order, and buckets
+   * must not span steps.
+   * <p>
+   * Every sample is held until the next one, so the average of a step is weighted by how long each
+   * value was held within it, including a value carried over from the previous step.
+   */
+  private static class Downsampler
+      implements CompressedBlock.SampleConsumer, Rollup.BucketConsumer {
+    private final long mFromMillis;
+    private final long mStepMillis;
+    private final SeriesBuilder mSeries;
+    /** The start of the current step. */
+    private long mStepStart;
+    /** The sum of the held values, each multiplied by how many milliseconds it was held. */
+    private double mWeightedSum;
+    private long mWeightMillis;
+    private int mCount;
+    private double mMin;
+    private double mMax;
+    /** The last value seen, held until the next one. */
+    private double mLastValue;
+    private boolean mHasLastValue;
+    /** Since when the last value is held and not yet added to a step. */
+    private long mHeldFromMillis;
+
+    private Downsampler(long fromMillis, long stepMillis, SeriesBuilder series) {
+      mFromMillis = fromMillis;
+      mStepMillis = stepMillis;
+      mSeries = series;
+      mStepStart = fromMillis;
+      resetStep();
+    }
+
+    @Override
+    public void accept(long timestampMillis, double value) {
+      if (timestampMillis >= mFromMillis) {
+        holdUntil(timestampMillis);
+        ++mCount;
+        mMin = Math.min(mMin, value);
+        mMax = Math.max(mMax, value);
+      }
+      mLastValue = value;
+      mHasLastValue = true;
+      mHeldFromMillis = timestampMillis;
+    }
+
+    @Override
+    public void accept(long startMillis, long endMillis, int count, double weightedSum,
+                       long heldMillis, double min, double max, double last) {
+      if (startMillis >= mFromMillis) {
+        // Holds the previous value through the buckets without samples.
+        holdUntil(startMillis);
+        mWeightedSum += weightedSum;
+        mWeightMillis += heldMillis;
+        mCount += count;
+        mMin = Math.min(mMin, min);
+        mMax = Math.max(mMax, max);
+      }
+      mLastValue = last;
+      mHasLastValue = true;
+      mHeldFromMillis = endMillis;
+    }
+
+    private void finish(long toMillis) {
+      holdUntil(toMillis + 1);
+      if (mStepStart <= toMillis) {
+        finishStep();
+      }
+    }
+
+    /**
+     * Adds the last value to the steps until the given time, completing all steps that end at or
+     * before it.
+     */
+    private void holdUntil(long timestampMillis) {
+      while (timestampMillis >= mStepStart + mStepMillis) {
+        hold(mStepStart + mStepMillis);
+        finishStep();
+      }
+      hold(timestampMillis);
+    }
+
+    /** Adds the last value to the current step, for the time it was held until the given one. */
+    private void hold(long untilMillis) {
+      long fromMillis = Math.max(mHeldFromMillis, mStepStart);
+      if (mHasLastValue && untilMillis > fromMillis) {
+        mWeightedSum += mLastValue * (untilMillis - fromMillis);
+        mWeightMillis += untilMillis - fromMillis;
+        mMin = Math.min(mMin, mLastValue);
+        mMax = Math.max(mMax, mLastValue);
+        mHeldFromMillis = untilMillis;
+      }
+    }
+
+    private void finishStep() {
+      if (mWeightMillis > 0) {
+        mSeries.add(mStepStart, mWeightedSum / mWeightMillis, mMin, mMax, mCount);
+      }
+      mStepStart += mStepMillis;
+      resetStep();
+    }
+
+    private void resetStep() {
+      mWeightedSum = 0;
+      mWeightMillis = 0;
+      mCount = 0;
+      mMin = Double.POSITIVE_INFINITY;
+      mMax = Double.NEGATIVE_INFINITY;
+    }
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.history;
+
+/**
+ * A block of samples, compressed as described in the Gorilla paper (Pelkonen et al., "Gorilla: A
+ * Fast, Scalable, In-Memory Time Series Database").
+ * <p>
+ * Timestamps are stored as the difference of their deltas, which is zero for regular intervals
+ * and fits into a few bits otherwise. Values are stored as the XOR with the previous value, which
+ * is zero for repeated values and has few meaningful bits for values that change slowly.
+ * Samples must be appended in timestamp order and can only be read back in that order.
+ */
+class CompressedBlock {
+  private final BitBuffer mBits;
+  private int mCount;
+  private long mFirstTimestamp;
+  private long mLastTimestamp;
+  private long mLastDelta;
+  private long mLastValueBits;
+  private int mLastLeadingZeros;
+  private int mLastTrailingZeros;
+
+  CompressedBlock() {
+    mBits = new BitBuffer();
+    mLastLeadingZeros = Integer.MAX_VALUE;
+  }
+
+  /**
+   * Appends a sample. Its timestamp must not be before the last appended one.
+   */
+  void append(long timestampMillis, double value) {
+    long valueBits = Double.doubleToLongBits(value);
+    if (mCount == 0) {
+      mBits.write(timestampMillis, 64);
+      mBits.write(valueBits, 64);
+      mFirstTimestamp = timestampMillis;
+    } else {
+      long delta = timestampMillis - mLastTimestamp;
+      writeDeltaOfDelta(delta - mLastDelta);
+      writeXor(valueBits ^ mLastValueBits);
+      mLastDelta = delta;
+    }
+    mLastTimestamp = timestampMillis;
+    mLastValueBits = valueBits;
+    ++mCount;
+  }
+
+  /** Releases unused memory. No samples can be appended afterwards. */
+  void seal() {
+    mBits.trim();
+  }
+
+  int getCount() {
+    return mCount;
+  }
+
+  long getFirstTimestamp() {
+    return mFirstTimestamp;
+  }
+
+  long getLastTimestamp() {
+    return mLastTimestamp;
+  }
+
+  long getSizeBytes() {
+    return mBits.getSizeBytes();
+  }
+
+  /** Passes all samples, in order, to the given consumer. */
+  void forEach(SampleConsumer consumer) {
+    BitBuffer.Reader reader = mBits.reader();
+    long timestamp = 0;
+    long delta = 0;
+    long valueBits = 0;
+    int leadingZeros = 0;
+    int trailingZeros = 0;
+    for (int i = 0; i < mCount; ++i) {
+      if (i == 0) {
+        timestamp = reader.read(64);
+        valueBits = reader.read(64);
+      } else {
+        delta += readDeltaOfDelta(reader);
+        timestamp += delta;
+        if (reader.readBit()) {
+          if (reader.readBit()) {
+            leadingZeros = (int) reader.read(5);
+            int meaningfulBits = (int) reader.read(6);
+            trailingZeros = 64 - leadingZeros - (meaningfulBits == 0 ? 64 : meaningfulBits);
+          }
+          valueBits ^= reader.read(64 - leadingZeros - trailingZeros) << trailingZeros;
+        }
+      }
+      consumer.accept(timestamp, Double.longBitsToDouble(valueBits));
+    }
+  }
+
+  private void writeDeltaOfDelta(long dod) {
+    if (dod == 0) {
+      mBits.writeBit(false);
+    } else if (dod >= -64 && dod <= 63) {
+      mBits.write(0b10, 2);
+      mBits.write(dod, 7);
+    } else if (dod >= -256 && dod <= 255) {
+      mBits.write(0b110, 3);
+      mBits.write(dod, 9);
+    } else if (dod >= -2048 && dod <= 2047) {
+      mBits.write(0b1110, 4);
+      mBits.write(dod, 12);
+    } else {
+      // Samples of values that rarely change can be days apart.
+      mBits.write(0b1111, 4);
+      mBits.write(dod, 64);
+    }
+  }
+
+  private static long readDeltaOfDelta(BitBuffer.Reader reader) {
+    if (!reader.readBit()) {
+      return 0;
+    }
+    if (!reader.readBit()) {
+      return signExtend(reader.read(7), 7);
+    }
+    if (!reader.readBit()) {
+      return signExtend(reader.read(9), 9);
+    }
+    if (!reader.readBit()) {
+      return signExtend(reader.read(12), 12);
+    }
+    return reader.read(64);
+  }
+
+  private void writeXor(long xor) {
+    if (xor == 0) {
+      mBits.writeBit(false);
+      return;
+    }
+    mBits.writeBit(true);
+    // At most 31 leading zeros can be encoded in 5 bits.
+    int leadingZeros = Math.min(31, Long.numberOfLeadingZeros(xor));
+    int trailingZeros = Long.numberOfTrailingZeros(xor);
+    if (leadingZeros >= mLastLeadingZeros && trailingZeros >= mLastTrailingZeros) {
+      // The meaningful bits fit into the window of the previous value.
+      mBits.writeBit(false);
+      mBits.write(xor >>> mLastTrailingZeros, 64 - mLastLeadingZeros - mLastTrailingZeros);
+    } else {
+      int meaningfulBits = 64 - leadingZeros - trailingZeros;
+      mBits.writeBit(true);
+      mBits.write(leadingZeros, 5);
+      // 64 meaningful bits are written as 0, which cannot occur otherwise.
+      mBits.write(meaningfulBits, 6);
+      mBits.write(xor >>> trailingZeros, meaningfulBits);
+      mLastLeadingZeros = leadingZeros;
+      mLastTrailingZeros = trailingZeros;
+    }
+  }
+
+  /** @return The given two's complement value of the given width as a long. */
+  private static long signExtend(long value, int numBits) {
+    return (value << (64 - numBits)) >> (64 - numBits);
+  }
+
+  /** Receives samples. */
+  interface SampleConsumer {
+    void accept(long timestampMillis, double value);
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.history;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Aggregates of a value per fixed time bucket, e.g. per hour, updated with every sample.
+ * <p>
+ * Buckets are aligned to multiples of their length since the epoch. Every bucket holds the
+ * number, minimum and maximum of its samples, and the last one, which is the value until the
+ * next bucket. Since a value is assumed to keep its value until the next sample, the average of a
+ * bucket is weighted by how long each value was held, including the value carried over from the
+ * previous bucket.
+ */
+class Rollup {
+  /** The approximate memory used by a bucket, including the object header. */
+  private static final int BUCKET_BYTES = 80;
+
+  private final long mBucketMillis;
+  private final long mRetentionMillis;
+  /** Buckets with samples, in order. Guarded by the owning {@link ValueHistory}. */
+  private final ArrayDeque<Bucket> mBuckets;
+
+  /**
+   * @param bucketMillis the length of a bucket.
+   * @param retentionMillis how long buckets are kept.
+   */
+  Rollup(long bucketMillis, long retentionMillis) {
+    mBucketMillis = bucketMillis;
+    mRetentionMillis = retentionMillis;
+    mBuckets = new ArrayDeque<>();
+  }
+
+  long getBucketMillis() {
+    return mBucketMillis;
+  }
+
+  /** Adds a sample. Timestamps must not decrease. */
+  void add(long timestampMillis, double value) {
+    long start = timestampMillis - Math.floorMod(timestampMillis, mBucketMillis);
+    Bucket bucket = mBuckets.peekLast();
+    if (bucket == null || bucket.mStartMillis != start) {
+      Bucket previous = bucket;
+      bucket = new Bucket(start);
+      if (previous != null) {
+        bucket.carryOver(previous.mLast);
+      }
+      mBuckets.addLast(bucket);
+    }
+    bucket.add(timestampMillis, value);
+
+    // Keep the newest bucket, since it holds the current value.
+    long minStart = start - mRetentionMillis;
+    while (mBuckets.size() > 1 && mBuckets.peekFirst().mStartMillis < minStart) {
+      mBuckets.removeFirst();
+    }
+  }
+
+  /**
+   * Passes all buckets that start within the given time range to the consumer, in order. The
+   * last bucket before the range, if any, is passed first, since it holds the value at the start
+   * of the range.
+   */
+  void forEach(long fromMillis, long toMillis, BucketConsumer consumer) {
+    Bucket previous = null;
+    Iterator<Bucket> buckets = mBuckets.iterator();
+    while (buckets.hasNext()) {
+      Bucket bucket = buckets.next();
+      if (bucket.mStartMillis > toMillis) {
+        break;
+      }
+      if (bucket.mStartMillis < fromMillis) {
+        previous = bucket;
+        continue;
+      }
+      if (previous != null) {
+        previous.passTo(mBucketMillis, consumer);
+        previous = null;
+      }
+      bucket.passTo(mBucketMillis, consumer);
+    }
+    if (previous != null) {
+      previous.passTo(mBucketMillis, consumer);
+    }
+  }
+
+  /** @return The approximate number of bytes used by the buckets. */
+  long getSizeBytes() {
+    return (long) mBuckets.size() * BUCKET_BYTES;
+  }
+
+  /** Receives buckets. */
+  interface BucketConsumer {
+    /**
+     * @param startMillis the start of the bucket, inclusive.
+     * @param endMillis the end of the bucket, exclusive. The last value is held until then.
+     * @param count the number of samples in the bucket.
+     * @param weightedSum the sum of all values held within the bucket, each multiplied by how many
+     * milliseconds it was held.
+     * @param heldMillis how long a value was known within the bucket. Shorter than the bucket only
+     * for the very first one, which has no value carried over.
+     */
+    void accept(long startMillis, long endMillis, int count, double weightedSum, long heldMillis,
+                double min, double max, double last);
+  }
+
+  private static class Bucket {
+    private final long mStartMillis;
+    /** Since when a value is known within the bucket. */
+    private long mHeldFromMillis;
+    private boolean mHasValue;
+    private int mCount;
+    /** The weighted sum of the values held before the last one. */
+    private double mWeightedSum;
+    private double mMin = Double.POSITIVE_INFINITY;
+    private double mMax = Double.NEGATIVE_INFINITY;
+    private long mLastTimestamp;
+    private double mLast;
+
+    private Bucket(long startMillis) {
+      mStartMillis = startMillis;
+    }
+
+    /** Holds the last value of the previous bucket from the start of this one. */
+    private void carryOver(double value) {
+      mHeldFromMillis = mStartMillis;
+      mHasValue = true;
+      mLastTimestamp = mStartMillis;
+      mLast = value;
+    }
+
+    private void add(long timestampMillis, double value) {
+      if (!mHasValue) {
+        mHeldFromMillis = timestampMillis;
+        mHasValue = true;
+      } else if (timestampMillis > mLastTimestamp) {
+        mWeightedSum += mLast * (timestampMillis - mLastTimestamp);
+        // Includes a carried over value, but only if it was held for some time.
+        mMin = Math.min(mMin, mLast);
+        mMax = Math.max(mMax, mLast);
+      }
+      ++mCount;
+      mMin = Math.min(mMin, value);
+      mMax = Math.max(mMax, value);
+      mLastTimestamp = timestampMillis;
+      mLast = value;
+    }
+
+    private void passTo(long bucketMillis, BucketConsumer consumer) {
+      long endMillis = mStartMillis + bucketMillis;
+      consumer.accept(mStartMillis, endMillis, mCount,
+          mWeightedSum + mLast * (endMillis - mLastTimestamp), endMillis - mHeldFromMillis,
+          mMin, mMax, mLast);
+    }
+  }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.history;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * A file of fixed-size history records, memory-mapped for reading and appending.
+ * <p>
+ * The file starts with a header holding the number of committed records, followed by the records
+ * in timestamp order. A writable segment is mapped with room for its full capacity, a read-only
+ * segment exactly as large as it is. Every {@link #INDEX_INTERVAL}th timestamp is kept in memory,
+ * so that a range scan can start close to the first record in the range.
+ */
+class Segment {
+  private static final int MAGIC = 0x57534547;
+  private static final int VERSION = 1;
+  private static final int COUNT_OFFSET = 8;
+  static final int HEADER_BYTES = 16;
+  /** Timestamp, path ID and value. */
+  static final int RECORD_BYTES = 8 + 4 + 8;
+  private static final int INDEX_INTERVAL = 128;
+
+  private final File mFile;
+  private final long mStartMillis;
+  private final int mCapacity;
+  private final MappedByteBuffer mBuffer;
+  private int mCount;
+  private long mLastTimestamp;
+  /** The timestamps of every INDEX_INTERVAL-th record. */
+  private long[] mIndex;
+
+  private Segment(File file, long startMillis, int capacity, MappedByteBuffer buffer) {
+    mFile = file;
+    mStartMillis = startMillis;
+    mCapacity = capacity;
+    mBuffer = buffer;
+    mIndex = new long[16];
+  }
+
+  /**
+   * Opens a segment file, creating it if it does not exist.
+   *
+   * @param file the segment file.
+   * @param startMillis the start of the time range of this segment.
+   * @param capacity the number of records a writable segment can hold.
+   * @param writable whether records are appended to this segment.
+   */
+  static Segment open(File file, long startMillis, int capacity, boolean writable)
+      throws IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(file, writable ? "rw" : "r");
+         FileChannel channel = raf.getChannel()) {
+      boolean isNew = channel.size() == 0;
+      int fileCapacity = (int) ((channel.size() - HEADER_BYTES) / RECORD_BYTES);
+      if (writable) {
+        capacity = Math.max(capacity, fileCapacity);
+      } else {
+        capacity = Math.max(0, fileCapacity);
+      }
+      // The mapping stays valid after the channel is closed.
+      MappedByteBuffer buffer = channel.map(
+          writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0,
+          HEADER_BYTES + (long) capacity * RECORD_BYTES);
+      Segment segment = new Segment(file, startMillis, capacity, buffer);
+      if (isNew) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(COUNT_OFFSET, 0);
+      } else {
+        segment.load();
+      }
+      return segment;
+    }
+  }
+
+  /** Reads the header and builds the index. */
+  private void load() throws IOException {
+    if (mBuffer.getInt(0) != MAGIC || mBuffer.getInt(4) != VERSION) {
+      throw new IOException("Not a history segment: " + mFile);
+    }
+    int count = Math.min(mCapacity, Math.max(0, mBuffer.getInt(COUNT_OFFSET)));
+    for (int i = 0; i < count; ++i) {
+      long timestamp = getTimestamp(i);
+      // After a crash, the count can be written while some of the records are not.
+      if (timestamp < mLastTimestamp || timestamp == 0) {
+        break;
+      }
+      addToIndex(timestamp);
+      mLastTimestamp = timestamp;
+      mCount = i + 1;
+    }
+  }
+
+  /**
+   * Appends a record. It only survives a restart once it is committed.
+   *
+   * @throws IllegalStateException if the segment is full.
+   */
+  void append(long timestampMillis, int pathId, double value) {
+    if (isFull()) {
+      throw new IllegalStateException("Segment is full: " + mFile);
+    }
+    timestampMillis = Math.max(timestampMillis, mLastTimestamp);
+    int offset = HEADER_BYTES + mCount * RECORD_BYTES;
+    mBuffer.putLong(offset, timestampMillis);
+    mBuffer.putInt(offset + 8, pathId);
+    mBuffer.putDouble(offset + 12, value);
+    addToIndex(timestampMillis);
+    mLastTimestamp = timestampMillis;
+    ++mCount;
+  }
+
+  /** Writes the number of records to the header and forces all changes to the disk. */
+  void commit() {
+    mBuffer.putInt(COUNT_OFFSET, mCount);
+    mBuffer.force();
+  }
+
+  /**
+   * Passes all records within the given time range to the given consumer, in order.
+   */
+  void forEach(long fromMillis, long toMillis, RecordConsumer consumer) {
+    // Find the last indexed record before the range, the range starts after it.
+    int indexSize = (mCount + INDEX_INTERVAL - 1) / INDEX_INTERVAL;
+    int indexPosition = Arrays.binarySearch(mIndex, 0, indexSize, fromMillis);
+    if (indexPosition < 0) {
+      indexPosition = -indexPosition - 2;
+    }
+    // Equal timestamps can span several index entries.
+    while (indexPosition > 0 && mIndex[indexPosition] >= fromMillis) {
+      --indexPosition;
+    }
+    for (int i = Math.max(0, indexPosition) * INDEX_INTERVAL; i < mCount; ++i) {
+      long timestamp = getTimestamp(i);
+      if (timestamp > toMillis) {
+        break;
+      }
+      if (timestamp >= fromMillis) {
+        int offset = HEADER_BYTES + i * RECORD_BYTES;
+        consumer.accept(mBuffer.getInt(offset + 8), timestamp, mBuffer.getDouble(offset + 12));
+      }
+    }
+  }
+
+  /** Copies all committed records to the given buffer, which must have enough room. */
+  void copyRecordsTo(ByteBuffer target) {
+    ByteBuffer records = mBuffer.duplicate();
+    records.position(HEADER_BYTES);
+    records.limit(HEADER_BYTES + mCount * RECORD_BYTES);
+    target.put(records);
+  }
+
+  /** @return A buffer holding the header of a segment with the given number of records. */
+  static ByteBuffer createHeader(int count) {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+    header.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(0);
+    header.flip();
+    return header;
+  }
+
+  File getFile() {
+    return mFile;
+  }
+
+  long getStartMillis() {
+    return mStartMillis;
+  }
+
+  long getLastTimestamp() {
+    return mLastTimestamp;
+  }
+
+  int getCount() {
+    return mCount;
+  }
+
+  boolean isFull() {
+    return mCount >= mCapacity;
+  }
+
+  /** @return Whether the file is larger than its records, i.e. it was preallocated. */
+  boolean hasSlack() {
+    return mFile.length() > HEADER_BYTES + (long) mCount * RECORD_BYTES;
+  }
+
+  private long getTimestamp(int record) {
+    return mBuffer.getLong(HEADER_BYTES + record * RECORD_BYTES);
+  }
+
+  private void addToIndex(long timestamp) {
+    if (mCount % INDEX_INTERVAL != 0) {
+      return;
+    }
+    int position = mCount / INDEX_INTERVAL;
+    if (position == mIndex.length) {
+      mIndex = Arrays.copyOf(mIndex, position * 2);
+    }
+    mIndex[position] = timestamp;
+  }
+
+  /** Receives records. */
+  interface RecordConsumer {
+    void accept(int pathId, long timestampMillis, double value);
+  }
+}
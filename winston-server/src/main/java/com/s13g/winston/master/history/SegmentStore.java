@@ -0,0 +1,436 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.history;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.flogger.FluentLogger;
+import com.s13g.winston.master.state.ChannelState;
+import com.s13g.winston.master.state.ChannelStateStore;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stores the history of channel values on disk, so that it survives restarts.
+ * <p>
+ * Register it as a {@link ChannelStateStore.Listener}. Samples are buffered in memory and
+ * appended in batches to memory-mapped segment files, see {@link Segment}, with one sync per
+ * batch. This keeps the number of writes to the SD card low; samples of the last batch are lost
+ * on a crash. A new segment is started every day. In the background, segments older than the
+ * retention time are deleted, and small segments are merged and trimmed to their size. A
+ * manifest of every merge is written before the merged segment replaces the first of its
+ * segments, so that a merge interrupted by a crash is completed on the next start instead of
+ * leaving the other segments' records behind twice.
+ * <p>
+ * Value paths are stored once, in a separate file, and referenced by ID from the records.
+ */
+public class SegmentStore implements ChannelStateStore.Listener {
+  private static final FluentLogger log = FluentLogger.forEnclosingClass();
+  private static final long SEGMENT_MILLIS = TimeUnit.DAYS.toMillis(1);
+  /** About 5 MB per segment. */
+  private static final int SEGMENT_CAPACITY = 256 * 1024;
+  private static final long FLUSH_INTERVAL_SECONDS = 30;
+  private static final long MAINTENANCE_INTERVAL_MINUTES = 60;
+  /** Bounds the memory used if the disk cannot be written. */
+  private static final int MAX_PENDING = 64 * 1024;
+  private static final String PATHS_FILE = "paths";
+  private static final String COMPACTION_FILE = "compaction.tmp";
+  /** The names of the segments being merged, the first one is replaced by the merged segment. */
+  @VisibleForTesting
+  static final String MANIFEST_FILE = "compaction.manifest";
+  private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d+)\\.dat");
+
+  private final File mDirectory;
+  private final long mRetentionMillis;
+  private final int mSegmentCapacity;
+  private final AtomicLong mDropped;
+
+  /** Samples that are not written yet. Guarded by itself. */
+  private List<Sample> mPending;
+
+  // The following fields are guarded by mLock.
+  private final Object mLock;
+  /** Path ID -> path. */
+  private final List<String> mPaths;
+  private final Map<String, Integer> mPathIds;
+  private final FileOutputStream mPathsOutput;
+  private final Writer mPathsWriter;
+  /** Start millis -> segment, the last one is the one appended to. */
+  private final TreeMap<Long, Segment> mSegments;
+
+  private SegmentStore(File directory, long retentionMillis, int segmentCapacity)
+      throws IOException {
+    mDirectory = directory;
+    mRetentionMillis = retentionMillis;
+    mSegmentCapacity = segmentCapacity;
+    mDropped = new AtomicLong();
+    mPending = new ArrayList<>();
+    mLock = new Object();
+    mPaths = new ArrayList<>();
+    mPathIds = new HashMap<>();
+    mSegments = new TreeMap<>();
+
+    File pathsFile = new File(directory, PATHS_FILE);
+    if (pathsFile.exists()) {
+      for (String path : Files.readAllLines(pathsFile.toPath(), StandardCharsets.UTF_8)) {
+        mPathIds.put(path, mPaths.size());
+        mPaths.add(path);
+      }
+    }
+    mPathsOutput = new FileOutputStream(pathsFile, true);
+    mPathsWriter = new OutputStreamWriter(mPathsOutput, StandardCharsets.UTF_8);
+
+    recoverCompaction();
+    File[] files = directory.listFiles();
+    for (File file : files == null ? new File[0] : files) {
+      Matcher matcher = SEGMENT_FILE.matcher(file.getName());
+      if (matcher.matches()) {
+        long startMillis = Long.parseLong(matcher.group(1));
+        mSegments.put(startMillis, Segment.open(file, startMillis, 0, false));
+      }
+    }
+    // Continue appending to the last segment, if it is the current one.
+    if (!mSegments.isEmpty()) {
+      Segment last = mSegments.lastEntry().getValue();
+      if (last.hasSlack()) {
+        mSegments.put(last.getStartMillis(), Segment.open(last.getFile(), last.getStartMillis(),
+            mSegmentCapacity, true));
+      }
+    }
+    log.atInfo().log("Opened %d history segments in %s", mSegments.size(), directory);
+  }
+
+  /**
+   * Opens the store in the given directory, creating it if needed.
+   *
+   * @param directory the directory holding the segment files.
+   * @param retentionMillis how long samples are kept.
+   */
+  public static SegmentStore open(File directory, long retentionMillis) throws IOException {
+    return open(directory, retentionMillis, SEGMENT_CAPACITY);
+  }
+
+  @VisibleForTesting
+  static SegmentStore open(File directory, long retentionMillis, int segmentCapacity)
+      throws IOException {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Cannot create history directory " + directory);
+    }
+    return new SegmentStore(directory, retentionMillis, segmentCapacity);
+  }
+
+  /** Periodically writes the buffered samples and maintains the segments on the executor. */
+  public void start(ScheduledExecutorService executor) {
+    executor.scheduleWithFixedDelay(() -> {
+      try {
+        flush();
+      } catch (IOException | RuntimeException e) {
+        log.atWarning().withCause(e).log("Cannot write history");
+      }
+    }, FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    executor.scheduleWithFixedDelay(() -> {
+      try {
+        deleteExpired(System.currentTimeMillis());
+        compact();
+      } catch (IOException | RuntimeException e) {
+        log.atWarning().withCause(e).log("Cannot compact history");
+      }
+    }, 1, MAINTENANCE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+  }
+
+  @Override
+  public void onChanged(ChannelState state) {
+    OptionalDouble sample = ChannelHistory.toSample(state.getValue());
+    if (sample.isPresent()) {
+      add(state.getPath(), state.getTimestampMillis(), sample.getAsDouble());
+    }
+  }
+
+  /** Buffers a sample of the value with the given path, until the next flush. */
+  @VisibleForTesting
+  synchronized void add(String path, long timestampMillis, double value) {
+    if (mPending.size() >= MAX_PENDING) {
+      mDropped.incrementAndGet();
+      return;
+    }
+    mPending.add(new Sample(path, timestampMillis, value));
+  }
+
+  /** Adds all stored samples within the retention time to the given history. */
+  public void loadInto(ChannelHistory history) {
+    long now = System.currentTimeMillis();
+    synchronized (mLock) {
+      forEach(now - mRetentionMillis, now,
+          (pathId, timestampMillis, value) -> history.add(mPaths.get(pathId), timestampMillis,
+              value));
+    }
+  }
+
+  /** Writes all buffered samples to disk, with a single sync. */
+  public void flush() throws IOException {
+    List<Sample> samples;
+    synchronized (this) {
+      samples = mPending;
+      mPending = new ArrayList<>();
+    }
+    if (samples.isEmpty()) {
+      return;
+    }
+    synchronized (mLock) {
+      boolean newPaths = false;
+      for (Sample sample : samples) {
+        Integer pathId = mPathIds.get(sample.mPath);
+        if (pathId == null) {
+          pathId = mPaths.size();
+          mPaths.add(sample.mPath);
+          mPathIds.put(sample.mPath, pathId);
+          mPathsWriter.write(sample.mPath + "\n");
+          newPaths = true;
+        }
+        getSegmentFor(sample.mTimestampMillis).append(sample.mTimestampMillis, pathId,
+            sample.mValue);
+      }
+      // Paths must be on disk before the records that reference them.
+      if (newPaths) {
+        mPathsWriter.flush();
+        mPathsOutput.getChannel().force(false);
+      }
+      mSegments.lastEntry().getValue().commit();
+    }
+  }
+
+  /** Writes all buffered samples. The store must not be used afterwards. */
+  public void close() throws IOException {
+    flush();
+    synchronized (mLock) {
+      mPathsWriter.close();
+    }
+  }
+
+  /** Deletes all segments whose samples are older than the retention time. */
+  @VisibleForTesting
+  void deleteExpired(long nowMillis) {
+    synchronized (mLock) {
+      if (mSegments.isEmpty()) {
+        return;
+      }
+      long lastStart = mSegments.lastKey();
+      mSegments.values().removeIf(segment -> {
+        if (segment.getStartMillis() == lastStart
+            || segment.getLastTimestamp() >= nowMillis - mRetentionMillis) {
+          return false;
+        }
+        if (!segment.getFile().delete()) {
+          log.atWarning().log("Cannot delete %s", segment.getFile());
+          return false;
+        }
+        return true;
+      });
+    }
+  }
+
+  /**
+   * Merges adjacent segments that fit into one and trims them to their size. The segment that is
+   * appended to is left alone.
+   */
+  @VisibleForTesting
+  void compact() throws IOException {
+    synchronized (mLock) {
+      if (mSegments.isEmpty()) {
+        return;
+      }
+      List<Segment> closed = new ArrayList<>(mSegments.headMap(mSegments.lastKey()).values());
+      List<Segment> group = new ArrayList<>();
+      int groupCount = 0;
+      for (Segment segment : closed) {
+        if (groupCount + segment.getCount() > mSegmentCapacity) {
+          merge(group, groupCount);
+          group.clear();
+          groupCount = 0;
+        }
+        group.add(segment);
+        groupCount += segment.getCount();
+      }
+      merge(group, groupCount);
+    }
+  }
+
+  /** Replaces the given segments with a single one, unless there is nothing to gain. */
+  private void merge(List<Segment> segments, int count) throws IOException {
+    if (segments.isEmpty() || (segments.size() == 1 && !segments.get(0).hasSlack())) {
+      return;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(Segment.HEADER_BYTES + count * Segment.RECORD_BYTES);
+    buffer.put(Segment.createHeader(count));
+    for (Segment segment : segments) {
+      segment.copyRecordsTo(buffer);
+    }
+    buffer.flip();
+
+    File compactionFile = new File(mDirectory, COMPACTION_FILE);
+    writeFully(compactionFile, buffer);
+    StringBuilder manifest = new StringBuilder();
+    for (Segment segment : segments) {
+      manifest.append(segment.getFile().getName()).append('\n');
+    }
+    File manifestFile = new File(mDirectory, MANIFEST_FILE);
+    File manifestTmpFile = new File(mDirectory, MANIFEST_FILE + ".tmp");
+    writeFully(manifestTmpFile,
+        ByteBuffer.wrap(manifest.toString().getBytes(StandardCharsets.UTF_8)));
+    Files.move(manifestTmpFile.toPath(), manifestFile.toPath(),
+        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    // The merged segment takes the place of the first one, the others are deleted after.
+    Segment first = segments.get(0);
+    Files.move(compactionFile.toPath(), first.getFile().toPath(),
+        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    mSegments.put(first.getStartMillis(),
+        Segment.open(first.getFile(), first.getStartMillis(), 0, false));
+    boolean deleted = true;
+    for (Segment segment : segments.subList(1, segments.size())) {
+      mSegments.remove(segment.getStartMillis());
+      if (!segment.getFile().delete()) {
+        log.atWarning().log("Cannot delete merged segment %s", segment.getFile());
+        deleted = false;
+      }
+    }
+    // Otherwise the next start tries again.
+    if (deleted) {
+      Files.delete(manifestFile.toPath());
+    }
+  }
+
+  /** Replaces the contents of the given file and forces them to the disk. */
+  private static void writeFully(File file, ByteBuffer buffer) throws IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+         FileChannel channel = raf.getChannel()) {
+      channel.truncate(0);
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+  }
+
+  /**
+   * Finishes or undoes a merge that was interrupted. If the merged segment did not replace the
+   * first segment yet, all segments are still intact and the merged one is dropped. Otherwise
+   * the other merged segments are deleted, since their records are in the merged one.
+   */
+  private void recoverCompaction() throws IOException {
+    File manifestFile = new File(mDirectory, MANIFEST_FILE);
+    File compactionFile = new File(mDirectory, COMPACTION_FILE);
+    if (manifestFile.exists()) {
+      if (compactionFile.exists()) {
+        log.atInfo().log("Undoing interrupted history compaction");
+      } else {
+        log.atInfo().log("Completing interrupted history compaction");
+        List<String> names = Files.readAllLines(manifestFile.toPath(), StandardCharsets.UTF_8);
+        for (String name : names.subList(Math.min(1, names.size()), names.size())) {
+          Files.deleteIfExists(new File(mDirectory, name).toPath());
+        }
+      }
+    }
+    Files.deleteIfExists(compactionFile.toPath());
+    Files.deleteIfExists(manifestFile.toPath());
+  }
+
+  /** Passes all stored samples within the given time range to the consumer, in order. */
+  @VisibleForTesting
+  void forEach(long fromMillis, long toMillis, Segment.RecordConsumer consumer) {
+    synchronized (mLock) {
+      for (Segment segment : mSegments.headMap(toMillis, true).values()) {
+        if (segment.getLastTimestamp() >= fromMillis) {
+          segment.forEach(fromMillis, toMillis, consumer);
+        }
+      }
+    }
+  }
+
+  /** @return The path with the given ID, as passed to {@link #forEach}. */
+  @VisibleForTesting
+  String getPath(int pathId) {
+    synchronized (mLock) {
+      return mPaths.get(pathId);
+    }
+  }
+
+  @VisibleForTesting
+  int getSegmentCount() {
+    synchronized (mLock) {
+      return mSegments.size();
+    }
+  }
+
+  /** @return The number of samples dropped because they could not be written in time. */
+  public long getDropped() {
+    return mDropped.get();
+  }
+
+  /** Returns the segment to append a sample with the given timestamp to, starting a new one. */
+  private Segment getSegmentFor(long timestampMillis) throws IOException {
+    Map.Entry<Long, Segment> last = mSegments.lastEntry();
+    if (last != null) {
+      Segment segment = last.getValue();
+      if (!segment.isFull() && timestampMillis < segment.getStartMillis() + SEGMENT_MILLIS) {
+        return segment;
+      }
+      segment.commit();
+    }
+    long startMillis = timestampMillis - timestampMillis % SEGMENT_MILLIS;
+    if (last != null) {
+      // A full segment is followed by one starting within the same day.
+      startMillis = Math.max(startMillis, last.getKey() + 1);
+    }
+    File file = new File(mDirectory, String.format("segment-%013d.dat", startMillis));
+    Segment segment = Segment.open(file, startMillis, mSegmentCapacity, true);
+    mSegments.put(startMillis, segment);
+    return segment;
+  }
+
+  private static class Sample {
+    private final String mPath;
+    private final long mTimestampMillis;
+    private final double mValue;
+
+    private Sample(String path, long timestampMillis, double value) {
+      mPath = path;
+      mTimestampMillis = timestampMillis;
+      mValue = value;
+    }
+  }
+}
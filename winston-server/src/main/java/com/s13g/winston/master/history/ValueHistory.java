@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.history;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The history of a single value, as a sequence of compressed blocks. Old blocks are dropped once
+ * they are outside of the retention time.
+ * <p>
+ * Additionally, the value is rolled up per minute, hour and day as samples are added, so that
+ * long time ranges can be downsampled without decoding every sample. The coarser rollups are kept
+ * for longer than the samples: hours for 90 days and days for two years, or at least as long as
+ * the samples.
+ */
+class ValueHistory {
+  /** Sealing blocks at this size keeps decoding a short time range cheap. */
+  private static final int MAX_SAMPLES_PER_BLOCK = 1024;
+  /**
+   * The bucket lengths of the rollups, from fine to coarse, and how long they are kept. 0 means as
+   * long as the samples.
+   */
+  private static final ImmutableMap<Long, Long> ROLLUP_RETENTION_MILLIS = ImmutableMap.of(
+      TimeUnit.MINUTES.toMillis(1), 0L,
+      TimeUnit.HOURS.toMillis(1), TimeUnit.DAYS.toMillis(90),
+      TimeUnit.DAYS.toMillis(1), TimeUnit.DAYS.toMillis(2 * 365));
+
+  private final long mRetentionMillis;
+  private final int mMaxBlocks;
+  /** Guarded by this. */
+  private final ArrayDeque<CompressedBlock> mBlocks;
+  /** Guarded by this. */
+  private final List<Rollup> mRollups;
+
+  /**
+   * @param retentionMillis how long samples are kept, and at least as long as rollups are kept.
+   * @param maxBlocks the maximum number of blocks kept, regardless of their age.
+   */
+  ValueHistory(long retentionMillis, int maxBlocks) {
+    mRetentionMillis = retentionMillis;
+    mMaxBlocks = maxBlocks;
+    mBlocks = new ArrayDeque<>();
+    mRollups = new ArrayList<>();
+    for (Map.Entry<Long, Long> rollup : ROLLUP_RETENTION_MILLIS.entrySet()) {
+      mRollups.add(
+          new Rollup(rollup.getKey(), Math.max(rollup.getValue(), retentionMillis)));
+    }
+  }
+
+  /** Appends a sample. A timestamp before the last one, e.g. after a clock change, is clamped. */
+  synchronized void add(long timestampMillis, double value) {
+    CompressedBlock block = mBlocks.peekLast();
+    if (block != null) {
+      timestampMillis = Math.max(timestampMillis, block.getLastTimestamp());
+    }
+    if (block == null || block.getCount() >= MAX_SAMPLES_PER_BLOCK) {
+      if (block != null) {
+        block.seal();
+      }
+      block = new CompressedBlock();
+      mBlocks.addLast(block);
+    }
+    block.append(timestampMillis, value);
+    for (Rollup rollup : mRollups) {
+      rollup.add(timestampMillis, value);
+    }
+
+    // Keep the newest block, since it holds the current value.
+    long minTimestamp = timestampMillis - mRetentionMillis;
+    while (mBlocks.size() > 1 && (mBlocks.size() > mMaxBlocks ||
+        mBlocks.peekFirst().getLastTimestamp() < minTimestamp)) {
+      mBlocks.removeFirst();
+    }
+  }
+
+  /**
+   * Passes all samples within the given time range to the given consumer, in order. The last
+   * sample before the range, if any, is passed first, since it holds the value at the start of
+   * the range.
+   */
+  synchronized void forEach(long fromMillis, long toMillis,
+                            CompressedBlock.SampleConsumer consumer) {
+    // Decoding starts at the last block that starts before the range, it holds the sample before.
+    List<CompressedBlock> blocks = new ArrayList<>();
+    for (CompressedBlock block : mBlocks) {
+      if (block.getFirstTimestamp() > toMillis) {
+        break;
+      }
+      if (block.getFirstTimestamp() <= fromMillis) {
+        blocks.clear();
+      }
+      blocks.add(block);
+    }
+    RangeConsumer range = new RangeConsumer(fromMillis, toMillis, consumer);
+    for (CompressedBlock block : blocks) {
+      block.forEach(range);
+    }
+    range.passPrevious();
+  }
+
+  /**
+   * Passes the buckets of the coarsest rollup that fits into steps of the given length to the
+   * consumer, see {@link Rollup#forEach}. Buckets fit if the steps start and end at bucket
+   * boundaries.
+   *
+   * @return Whether there was a rollup that fits.
+   */
+  synchronized boolean forEachBucket(long fromMillis, long toMillis, long stepMillis,
+                                     Rollup.BucketConsumer consumer) {
+    for (int i = mRollups.size() - 1; i >= 0; --i) {
+      Rollup rollup = mRollups.get(i);
+      long bucketMillis = rollup.getBucketMillis();
+      if (stepMillis % bucketMillis == 0 && Math.floorMod(fromMillis, bucketMillis) == 0) {
+        rollup.forEach(fromMillis, toMillis, consumer);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** @return The number of bytes used by the compressed samples and the rollups. */
+  synchronized long getSizeBytes() {
+    long result = 0;
+    for (CompressedBlock block : mBlocks) {
+      result += block.getSizeBytes();
+    }
+    for (Rollup rollup : mRollups) {
+      result += rollup.getSizeBytes();
+    }
+    return result;
+  }
+
+  /** Passes the samples within a time range on, preceded by the last sample before the range. */
+  private static class RangeConsumer implements CompressedBlock.SampleConsumer {
+    private final long mFromMillis;
+    private final long mToMillis;
+    private final CompressedBlock.SampleConsumer mConsumer;
+    private boolean mHasPrevious;
+    private long mPreviousTimestamp;
+    private double mPreviousValue;
+
+    private RangeConsumer(long fromMillis, long toMillis,
+                          CompressedBlock.SampleConsumer consumer) {
+      mFromMillis = fromMillis;
+      mToMillis = toMillis;
+      mConsumer = consumer;
+    }
+
+    @Override
+    public void accept(long timestampMillis, double value) {
+      if (timestampMillis < mFromMillis) {
+        mHasPrevious = true;
+        mPreviousTimestamp = timestampMillis;
+        mPreviousValue = value;
+        return;
+      }
+      passPrevious();
+      if (timestampMillis <= mToMillis) {
+        mConsumer.accept(timestampMillis, value);
+      }
+    }
+
+    /** Passes the sample before the range on, unless that already happened. */
+    private void passPrevious() {
+      if (mHasPrevious) {
+        mHasPrevious = false;
+        mConsumer.accept(mPreviousTimestamp, mPreviousValue);
+      }
+    }
+  }
+}
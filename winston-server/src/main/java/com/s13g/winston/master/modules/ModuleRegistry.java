@@ -18,8 +18,8 @@ package com.s13g.winston.master.modules;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.flogger.FluentLogger;
-import com.s13g.winston.RequestHandlers;
 import com.s13g.winston.master.ModuleContext;
+import com.s13g.winston.master.channel.ChannelValueIndex;
 import com.s13g.winston.master.modules.instance.GroupModule;
 import com.s13g.winston.master.modules.instance.NestModule;
 import com.s13g.winston.master.modules.instance.SamsungTvModule;
@@ -46,15 +46,13 @@ public class ModuleRegistry {
   private static final List<Class<? extends ModuleCreator>> sCreatorClasses = initCreatorsList();
 
   private final ModuleContext mModuleContext;
-  private final RequestHandlers mRequestHandlers;
   private final Map<String, ModuleCreator> mCreators;
   private Collection<Module> mActiveModules = null;
+  private ChannelValueIndex mChannelValueIndex = null;
+  private GroupModule mGroupModule = null;
 
-  public ModuleRegistry(ModuleContext moduleContext,
-                        Master.MasterConfig config,
-                        RequestHandlers requestHandlers) {
+  public ModuleRegistry(ModuleContext moduleContext, Master.MasterConfig config) {
     mModuleContext = moduleContext;
-    mRequestHandlers = requestHandlers;
     mCreators = createCreators()
         .stream()
         .collect(Collectors.toMap(
@@ -73,6 +71,29 @@ public class ModuleRegistry {
     return mActiveModules;
   }
 
+  /**
+   * @return The index of all channel values of all active modules. It is created once, after all
+   * modules have been initialized.
+   */
+  public ChannelValueIndex getChannelValueIndex() {
+    if (mChannelValueIndex == null) {
+      throw new RuntimeException("Must called initialize() first!");
+    }
+    return mChannelValueIndex;
+  }
+
+  /**
+   * Resolves the actions of all groups against the given index, e.g. one with decorated values,
+   * so that group writes go through the decorators.
+   *
+   * @throws IllegalArgumentException if an action is not a write of a known value.
+   */
+  public void resolveGroupActions(ChannelValueIndex index) {
+    if (mGroupModule != null) {
+      mGroupModule.resolveActions(index);
+    }
+  }
+
   /**
    * Creates all the modules from the given configuration.
    *
@@ -102,11 +123,16 @@ public class ModuleRegistry {
 
     // If groups are configured, we add the Group module.
     if (config.getGroupCount() > 0) {
-      modules.add(new GroupModule(config.getGroupList(), mRequestHandlers));
+      mGroupModule = new GroupModule(config.getGroupList());
+      modules.add(mGroupModule);
     }
 
     mActiveModules = ImmutableList.copyOf(modules);
+    mChannelValueIndex = ChannelValueIndex.create(mActiveModules);
+    // Bad group actions are rejected here, at startup.
+    resolveGroupActions(mChannelValueIndex);
     log.atInfo().log("Active modules: " + mActiveModules.size());
+    log.atInfo().log("Channel values: " + mChannelValueIndex.getAll().size());
   }
 
   private List<ModuleCreator> createCreators() {
@@ -17,8 +17,8 @@
 package com.s13g.winston.master.modules.instance;
 
 import com.google.common.collect.ImmutableList;
-import com.s13g.winston.RequestHandlers;
 import com.s13g.winston.master.channel.Channel;
+import com.s13g.winston.master.channel.ChannelValueIndex;
 import com.s13g.winston.master.channel.instance.GroupChannel;
 import com.s13g.winston.master.modules.Module;
 import com.s13g.winston.master.modules.ModuleParameters;
@@ -31,12 +31,11 @@ import java.util.List;
  * set-up through the configuration. It fires certain actions on other modules when invoked.
  */
 public class GroupModule implements Module {
-  private final List<Master.Group> mGroups;
-  private final RequestHandlers mRequestHandlers;
+  /** Created once, since it owns the threads that execute the actions. */
+  private final GroupChannel mChannel;
 
-  public GroupModule(List<Master.Group> groups, RequestHandlers requestHandlers) {
-    mGroups = groups;
-    mRequestHandlers = requestHandlers;
+  public GroupModule(List<Master.Group> groups) {
+    mChannel = new GroupChannel(groups);
   }
 
   @Override
@@ -51,6 +50,11 @@ public class GroupModule implements Module {
 
   @Override
   public List<Channel> getChannels() {
-    return ImmutableList.of(new GroupChannel(mGroups, mRequestHandlers));
+    return ImmutableList.of(mChannel);
+  }
+
+  /** See {@link GroupChannel#resolveActions}. */
+  public void resolveActions(ChannelValueIndex index) {
+    mChannel.resolveActions(index);
   }
 }
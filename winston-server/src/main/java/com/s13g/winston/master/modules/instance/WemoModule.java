@@ -68,6 +68,7 @@ public class WemoModule implements Module {
       // IP, as long as it uniquely defines the switch.
       channels.add(new WemoSwitchChannel(
           wemoSwitch.get().getFriendlyName(),
+          switchIp,
           wemoSwitch.get()));
     }
     mChannels = ImmutableList.copyOf(channels);
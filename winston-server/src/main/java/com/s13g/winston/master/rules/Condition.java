@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.rules;
+
+import com.google.common.primitives.Doubles;
+import com.s13g.winston.proto.Master;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A compiled {@link Master.Condition} together with its state, i.e. since when its comparison is
+ * true. The state is guarded by the {@link RuleEngine}.
+ */
+class Condition {
+  private final String mPath;
+  private final Master.Condition.Operator mOperator;
+  private final String mValue;
+  /** The value to compare with as a number, or null if it is not a number. */
+  private final Double mNumber;
+  private final long mForNanos;
+
+  private boolean mMatches;
+  private long mSinceNanos;
+  /** Whether the value just changed, for CHANGED conditions. */
+  private boolean mChanged;
+
+  Condition(Master.Condition condition) {
+    mPath = condition.getPath();
+    mOperator = condition.getOperator();
+    mValue = condition.getValue();
+    mNumber = Doubles.tryParse(condition.getValue());
+    mForNanos = TimeUnit.MILLISECONDS.toNanos(condition.getForMillis());
+  }
+
+  String getPath() {
+    return mPath;
+  }
+
+  /** @return How long the comparison must be true, in nanoseconds. */
+  long getForNanos() {
+    return mForNanos;
+  }
+
+  /** @return Whether the condition is true only for the moment its value changes. */
+  boolean isMomentary() {
+    return mOperator == Master.Condition.Operator.CHANGED;
+  }
+
+  /**
+   * Updates the state with a new value.
+   *
+   * @return Whether the comparison became true, i.e. the condition will be true after its
+   * duration.
+   */
+  boolean update(Object value, long nowNanos) {
+    mChanged = true;
+    boolean matches = matches(value);
+    boolean started = matches && !mMatches;
+    if (started) {
+      mSinceNanos = nowNanos;
+    }
+    mMatches = matches;
+    return started;
+  }
+
+  /** Ends the moment in which the value changed. */
+  void clearChanged() {
+    mChanged = false;
+  }
+
+  boolean isTrue(long nowNanos) {
+    if (isMomentary()) {
+      return mChanged;
+    }
+    return mMatches && nowNanos - mSinceNanos >= mForNanos;
+  }
+
+  private boolean matches(Object value) {
+    switch (mOperator) {
+      case EQUALS:
+        return compareTo(value) == 0;
+      case NOT_EQUALS:
+        return compareTo(value) != 0;
+      case GREATER:
+        return compareTo(value) > 0;
+      case GREATER_OR_EQUAL:
+        return compareTo(value) >= 0;
+      case LESS:
+        return compareTo(value) < 0;
+      case LESS_OR_EQUAL:
+        return compareTo(value) <= 0;
+      case CHANGED:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /** Compares the given value to the value of this condition. */
+  private int compareTo(Object value) {
+    if (mNumber != null) {
+      Double number = toNumber(value);
+      if (number != null) {
+        return Double.compare(number, mNumber);
+      }
+    }
+    return String.valueOf(value).compareTo(mValue);
+  }
+
+  private static Double toNumber(Object value) {
+    // Floats are converted through their string, so that e.g. 0.1f equals '0.1'.
+    if (value instanceof Float) {
+      return Double.valueOf(value.toString());
+    } else if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    } else if (value instanceof String) {
+      return Doubles.tryParse((String) value);
+    }
+    return null;
+  }
+}
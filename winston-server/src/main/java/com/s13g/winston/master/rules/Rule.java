@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.rules;
+
+import com.google.common.collect.ImmutableList;
+import com.s13g.winston.master.channel.IndexedChannelValue;
+
+/**
+ * A compiled {@link com.s13g.winston.proto.Master.Rule}: its conditions, and its actions with
+ * their channel values already resolved. The state is guarded by the {@link RuleEngine}.
+ */
+class Rule {
+  private final String mName;
+  private final ImmutableList<Condition> mConditions;
+  private final ImmutableList<Action> mActions;
+  private final boolean mMomentary;
+  /** Whether all conditions were true at the last evaluation. */
+  private boolean mActive;
+
+  Rule(String name, ImmutableList<Condition> conditions, ImmutableList<Action> actions) {
+    mName = name;
+    mConditions = conditions;
+    mActions = actions;
+    mMomentary = conditions.stream().anyMatch(Condition::isMomentary);
+  }
+
+  String getName() {
+    return mName;
+  }
+
+  ImmutableList<Condition> getConditions() {
+    return mConditions;
+  }
+
+  ImmutableList<Action> getActions() {
+    return mActions;
+  }
+
+  /**
+   * Evaluates the conditions.
+   *
+   * @return Whether the rule should execute, i.e. all conditions became true.
+   */
+  boolean evaluate(long nowNanos) {
+    boolean isTrue = true;
+    for (Condition condition : mConditions) {
+      isTrue &= condition.isTrue(nowNanos);
+    }
+    boolean execute = isTrue && !mActive;
+    // A momentary condition is false again right after, so the rule can execute on every change.
+    mActive = isTrue && !mMomentary;
+    return execute;
+  }
+
+  /** Writes a value to a channel value. */
+  static class Action {
+    private final IndexedChannelValue mValue;
+    private final String mWriteValue;
+
+    Action(IndexedChannelValue value, String writeValue) {
+      mValue = value;
+      mWriteValue = writeValue;
+    }
+
+    IndexedChannelValue getValue() {
+      return mValue;
+    }
+
+    String getWriteValue() {
+      return mWriteValue;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.rules;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.flogger.FluentLogger;
+import com.s13g.winston.master.channel.ChannelException;
+import com.s13g.winston.master.channel.ChannelValue;
+import com.s13g.winston.master.channel.ChannelValueIndex;
+import com.s13g.winston.master.channel.IndexedChannelValue;
+import com.s13g.winston.master.state.ChannelState;
+import com.s13g.winston.master.state.ChannelStateStore;
+import com.s13g.winston.proto.Master;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes the configured {@link Master.Rule}s.
+ * <p>
+ * Register it as a {@link ChannelStateStore.Listener}. Rules are compiled once, with their action
+ * values resolved, and indexed by the paths of the values in their conditions, so that a change
+ * only evaluates the rules that depend on the changed value. Conditions with a duration are
+ * evaluated again once the duration passed. Actions are executed on the given executor, never
+ * while the state store is locked.
+ */
+public class RuleEngine implements ChannelStateStore.Listener {
+  private static final FluentLogger log = FluentLogger.forEnclosingClass();
+
+  /** Condition value path -> rules with a condition on that value. */
+  private final ImmutableSetMultimap<String, Rule> mRulesByPath;
+  private final ScheduledExecutorService mScheduler;
+  private final Executor mActionExecutor;
+  private final Ticker mTicker;
+  /** Guards the state of all rules and conditions. */
+  private final Object mLock;
+
+  /**
+   * @param rules the rules from the configuration.
+   * @param index the channel values that rules read and write.
+   * @param scheduler evaluates conditions with a duration once it passed.
+   * @param actionExecutor executes the actions of rules.
+   * @throws IllegalArgumentException if a rule refers to an unknown or read-only value.
+   */
+  public RuleEngine(List<Master.Rule> rules, ChannelValueIndex index,
+                    ScheduledExecutorService scheduler, Executor actionExecutor) {
+    this(rules, index, scheduler, actionExecutor, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  RuleEngine(List<Master.Rule> rules, ChannelValueIndex index,
+             ScheduledExecutorService scheduler, Executor actionExecutor, Ticker ticker) {
+    ImmutableSetMultimap.Builder<String, Rule> rulesByPath = ImmutableSetMultimap.builder();
+    for (Master.Rule ruleConfig : rules) {
+      Rule rule = compile(ruleConfig, index);
+      for (Condition condition : rule.getConditions()) {
+        rulesByPath.put(condition.getPath(), rule);
+      }
+    }
+    mRulesByPath = rulesByPath.build();
+    mScheduler = scheduler;
+    mActionExecutor = actionExecutor;
+    mTicker = ticker;
+    mLock = new Object();
+  }
+
+  @Override
+  public void onChanged(ChannelState state) {
+    ImmutableList<Rule> rules = mRulesByPath.get(state.getPath()).asList();
+    if (rules.isEmpty()) {
+      return;
+    }
+    synchronized (mLock) {
+      long now = mTicker.read();
+      for (Rule rule : rules) {
+        for (Condition condition : rule.getConditions()) {
+          if (condition.getPath().equals(state.getPath())
+              && condition.update(state.getValue(), now) && condition.getForNanos() > 0) {
+            mScheduler.schedule(() -> evaluate(rule), condition.getForNanos(),
+                TimeUnit.NANOSECONDS);
+          }
+        }
+        evaluateLocked(rule, now);
+        for (Condition condition : rule.getConditions()) {
+          condition.clearChanged();
+        }
+      }
+    }
+  }
+
+  private void evaluate(Rule rule) {
+    synchronized (mLock) {
+      evaluateLocked(rule, mTicker.read());
+    }
+  }
+
+  private void evaluateLocked(Rule rule, long nowNanos) {
+    if (rule.evaluate(nowNanos)) {
+      log.atInfo().log("Executing rule '%s'", rule.getName());
+      mActionExecutor.execute(() -> execute(rule));
+    }
+  }
+
+  /** Executes the actions of a rule in order. A failed action does not stop the others. */
+  @SuppressWarnings("unchecked")
+  private static void execute(Rule rule) {
+    for (Rule.Action action : rule.getActions()) {
+      try {
+        action.getValue().getValue().writeRaw(action.getWriteValue());
+      } catch (ChannelException | RuntimeException e) {
+        log.atWarning().withCause(e).log("Rule '%s' cannot write '%s'", rule.getName(),
+            action.getValue().getPath());
+      }
+    }
+  }
+
+  private static Rule compile(Master.Rule rule, ChannelValueIndex index) {
+    ImmutableList.Builder<Condition> conditions = ImmutableList.builder();
+    for (Master.Condition condition : rule.getConditionList()) {
+      if (!index.get(condition.getPath()).isPresent()) {
+        throw new IllegalArgumentException(
+            "Rule '" + rule.getName() + "' has unknown condition value: " + condition.getPath());
+      }
+      conditions.add(new Condition(condition));
+    }
+    ImmutableList.Builder<Rule.Action> actions = ImmutableList.builder();
+    for (Master.RuleAction action : rule.getActionList()) {
+      Optional<IndexedChannelValue> value = index.get(action.getPath());
+      if (!value.isPresent() || value.get().getValue().getMode() == ChannelValue.Mode.READ_ONLY) {
+        throw new IllegalArgumentException(
+            "Rule '" + rule.getName() + "' has unknown or read-only action value: "
+                + action.getPath());
+      }
+      actions.add(new Rule.Action(value.get(), action.getValue()));
+    }
+    return new Rule(rule.getName(), conditions.build(), actions.build());
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.state;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.flogger.FluentLogger;
+import com.s13g.winston.master.channel.ChannelException;
+import com.s13g.winston.master.channel.ChannelValue;
+import com.s13g.winston.master.channel.ChannelValueIndex;
+import com.s13g.winston.master.channel.IndexedChannelValue;
+import com.s13g.winston.proto.Master.PollSchedule;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls channel values in the background, as configured by the {@link PollSchedule} entries of
+ * the master config, so that clients are served the last polled value from memory.
+ * <p>
+ * Polls read the values of the given index, which is expected to record them in the
+ * {@link ChannelStateStore}. Polls are spread out over time: the first poll of a value happens
+ * at a random time within its interval, and every later poll is shifted by a random jitter.
+ * Only a limited number of polls run at the same time per device, i.e. per
+ * {@link com.s13g.winston.master.channel.Channel#getAddress() channel address}, the same key
+ * that the device lanes use. A poll that finds the limit reached is retried shortly after.
+ */
+public class ChannelPoller {
+  private static final FluentLogger log = FluentLogger.forEnclosingClass();
+  /** Polls are shifted by up to this fraction of their interval. */
+  private static final double JITTER_FRACTION = 0.1;
+  /** Delay of a poll that could not run because its device was busy. */
+  private static final long BUSY_RETRY_MILLIS = 100;
+  /** Polled values are only served until this many polls in a row failed or were late. */
+  private static final int MAX_MISSED_POLLS = 3;
+
+  private final ChannelStateStore mStateStore;
+  private final ScheduledExecutorService mScheduler;
+  private final Executor mPollExecutor;
+  /** Value path -> poll of that value. */
+  private final ImmutableMap<String, Poll> mPolls;
+  private volatile boolean mStopped;
+
+  /**
+   * @param index the values to poll. Reads must be recorded in the state store.
+   * @param schedules which values to poll how often.
+   * @param maxPollsPerDevice the maximum number of polls per device at the same time.
+   * @param stateStore where the polled values are recorded.
+   * @param scheduler schedules the polls.
+   * @param pollExecutor runs the polls, i.e. the device reads.
+   */
+  public ChannelPoller(ChannelValueIndex index, List<PollSchedule> schedules,
+                       int maxPollsPerDevice, ChannelStateStore stateStore,
+                       ScheduledExecutorService scheduler, Executor pollExecutor) {
+    mStateStore = stateStore;
+    mScheduler = scheduler;
+    mPollExecutor = pollExecutor;
+
+    Map<String, Semaphore> deviceSlots = new HashMap<>();
+    ImmutableMap.Builder<String, Poll> polls = ImmutableMap.builder();
+    for (IndexedChannelValue value : index.getAll()) {
+      Optional<PollSchedule> schedule = findSchedule(value, schedules);
+      if (!schedule.isPresent() || value.getValue().getMode() == ChannelValue.Mode.WRITE_ONLY) {
+        continue;
+      }
+      Semaphore slots = deviceSlots.computeIfAbsent(value.getChannel().getAddress(),
+          address -> new Semaphore(Math.max(1, maxPollsPerDevice)));
+      polls.put(value.getPath(), new Poll(value, schedule.get().getIntervalMillis(), slots));
+    }
+    mPolls = polls.build();
+  }
+
+  /** @return A poller that does not poll anything. */
+  public static ChannelPoller none(ChannelStateStore stateStore) {
+    return new ChannelPoller(ChannelValueIndex.create(ImmutableList.of()), ImmutableList.of(), 1,
+        stateStore, null, null);
+  }
+
+  /** Schedules the first poll of every polled value. */
+  public void start() {
+    log.atInfo().log("Polling %d channel values", mPolls.size());
+    for (Poll poll : mPolls.values()) {
+      poll.schedule(ThreadLocalRandom.current().nextLong(Math.max(1, poll.mIntervalMillis)));
+    }
+  }
+
+  /** Stops scheduling polls. Polls that are already running are not interrupted. */
+  public void stop() {
+    mStopped = true;
+  }
+
+  /** @return Whether the value with the given path is polled. */
+  public boolean isPolled(String path) {
+    return mPolls.containsKey(path);
+  }
+
+  /**
+   * @param path the path of the value, i.e. '{module}/{channel}/{value}'.
+   * @return The last polled state of the value, or empty if the value is not polled or the last
+   * successful poll is too old. Callers should read the value themselves in that case.
+   */
+  public Optional<ChannelState> getPolledState(String path) {
+    Poll poll = mPolls.get(path);
+    if (poll == null) {
+      return Optional.empty();
+    }
+    Optional<ChannelState> state = mStateStore.get(path);
+    long maxAgeMillis = MAX_MISSED_POLLS * poll.mIntervalMillis;
+    if (!state.isPresent() ||
+        System.currentTimeMillis() - state.get().getTimestampMillis() > maxAgeMillis) {
+      return Optional.empty();
+    }
+    return state;
+  }
+
+  /** @return The given value, shifted by a random jitter of up to {@link #JITTER_FRACTION}. */
+  private static long withJitter(long millis) {
+    long jitter = (long) (millis * JITTER_FRACTION);
+    return millis + ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+  }
+
+  /** @return The schedule with the longest path that matches the given value. */
+  private static Optional<PollSchedule> findSchedule(IndexedChannelValue value,
+                                                     List<PollSchedule> schedules) {
+    PollSchedule result = null;
+    for (PollSchedule schedule : schedules) {
+      String path = schedule.getPath();
+      if (value.isUnder(path) && (result == null || path.length() > result.getPath().length())) {
+        result = schedule;
+      }
+    }
+    return Optional.ofNullable(result);
+  }
+
+  private class Poll {
+    private final IndexedChannelValue mValue;
+    private final long mIntervalMillis;
+    /** Shared by all polls of the same device. */
+    private final Semaphore mDeviceSlots;
+
+    private Poll(IndexedChannelValue value, long intervalMillis, Semaphore deviceSlots) {
+      mValue = value;
+      mIntervalMillis = intervalMillis;
+      mDeviceSlots = deviceSlots;
+    }
+
+    private void schedule(long delayMillis) {
+      if (mStopped) {
+        return;
+      }
+      try {
+        mScheduler.schedule(this::submit, delayMillis, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        log.atWarning().log("Cannot schedule poll of %s", mValue);
+      }
+    }
+
+    private void submit() {
+      if (!mDeviceSlots.tryAcquire()) {
+        schedule(withJitter(BUSY_RETRY_MILLIS));
+        return;
+      }
+      try {
+        mPollExecutor.execute(this::poll);
+      } catch (RejectedExecutionException e) {
+        mDeviceSlots.release();
+        schedule(withJitter(mIntervalMillis));
+      }
+    }
+
+    private void poll() {
+      try {
+        mValue.getValue().read();
+      } catch (ChannelException | RuntimeException e) {
+        log.atWarning().log("Cannot poll %s: %s", mValue, e.getMessage());
+      } finally {
+        mDeviceSlots.release();
+        schedule(withJitter(mIntervalMillis));
+      }
+    }
+  }
+}
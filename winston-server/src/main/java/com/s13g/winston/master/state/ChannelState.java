@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.state;
+
+/**
+ * The last known value of a channel value, as observed by the master.
+ */
+public class ChannelState {
+  private final String mPath;
+  private final String mModuleType;
+  private final String mChannelId;
+  private final Object mValue;
+  private final long mVersion;
+  private final long mTimestampMillis;
+
+  ChannelState(String path, Object value, long version, long timestampMillis) {
+    this(path, path.split("/"), value, version, timestampMillis);
+  }
+
+  private ChannelState(String path, String[] parts, Object value, long version,
+                       long timestampMillis) {
+    this(path, parts[0], parts.length > 1 ? parts[1] : "", value, version, timestampMillis);
+  }
+
+  private ChannelState(String path, String moduleType, String channelId, Object value,
+                       long version, long timestampMillis) {
+    mPath = path;
+    mModuleType = moduleType;
+    mChannelId = channelId;
+    mValue = value;
+    mVersion = version;
+    mTimestampMillis = timestampMillis;
+  }
+
+  /** Returns a copy of this state that was read again at the given time, with the same value. */
+  ChannelState withTimestamp(long timestampMillis) {
+    return new ChannelState(mPath, mModuleType, mChannelId, mValue, mVersion, timestampMillis);
+  }
+
+  /** @return The path of the channel value, i.e. '{module}/{channel}/{value}'. */
+  public String getPath() {
+    return mPath;
+  }
+
+  /** @return The type of the module the value belongs to, i.e. the first part of the path. */
+  public String getModuleType() {
+    return mModuleType;
+  }
+
+  /** @return The ID of the channel the value belongs to, i.e. the second part of the path. */
+  public String getChannelId() {
+    return mChannelId;
+  }
+
+  /** @return The value that was read. */
+  public Object getValue() {
+    return mValue;
+  }
+
+  /** @return The version of the store at which the value last changed. */
+  public long getVersion() {
+    return mVersion;
+  }
+
+  /** @return The time at which the value was last read, in millis since epoch. */
+  public long getTimestampMillis() {
+    return mTimestampMillis;
+  }
+
+  @Override
+  public String toString() {
+    return mPath + "=" + mValue + " (v" + mVersion + ")";
+  }
+}
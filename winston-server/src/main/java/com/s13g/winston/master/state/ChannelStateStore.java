@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.state;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.s13g.winston.master.channel.ChannelException;
+import com.s13g.winston.master.channel.ChannelValue;
+import com.s13g.winston.master.channel.ChannelValueDecorator;
+import com.s13g.winston.master.channel.ForwardingChannelValue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the last known value of every channel value that the master has read.
+ * <p>
+ * Every time a value changes, the store's version is incremented and assigned to the new value.
+ * This lets clients ask for only the values that changed after a version they already know.
+ * <p>
+ * Versions start at the time the store was created, in microseconds, so that a version handed out
+ * by an earlier run of the master is lower than every version of this run.
+ */
+public class ChannelStateStore {
+  /** Channel value path -> last known state. */
+  private final ConcurrentMap<String, ChannelState> mStates;
+  /** The version the store started at. All versions of this run are higher. */
+  private final long mStartVersion;
+  /** The version of the latest change. Only modified while holding mLock. */
+  private volatile long mVersion;
+  /** Guards changes of values, so that versions are assigned and reported in order. */
+  private final Object mLock;
+  private final List<Listener> mListeners;
+
+  public ChannelStateStore() {
+    this(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+  }
+
+  @VisibleForTesting
+  ChannelStateStore(long startVersion) {
+    mStates = new ConcurrentHashMap<>();
+    mStartVersion = startVersion;
+    mVersion = startVersion;
+    mLock = new Object();
+    mListeners = new CopyOnWriteArrayList<>();
+  }
+
+  /** Adds a listener that is notified about every change of a value. */
+  public void addListener(Listener listener) {
+    mListeners.add(listener);
+  }
+
+  /**
+   * Adds a listener that is notified about every change of a value. Before any new change, the
+   * listener is notified about all values that changed after the given version, in version order.
+   * No change is missed or reported twice in between.
+   */
+  public void addListener(Listener listener, long sinceVersion) {
+    synchronized (mLock) {
+      List<ChannelState> changed = getChangedSince(sinceVersion);
+      changed.sort(Comparator.comparingLong(ChannelState::getVersion));
+      listener.onReplay(changed);
+      mListeners.add(listener);
+    }
+  }
+
+  /** Removes a listener that was previously added. */
+  public void removeListener(Listener listener) {
+    mListeners.remove(listener);
+  }
+
+  /**
+   * @return A decorator that records every value that is successfully read from a channel value in
+   * this store.
+   */
+  public ChannelValueDecorator createObserver() {
+    return indexedValue -> new ObservedChannelValue<>(
+        indexedValue.getValue(), indexedValue.getPath());
+  }
+
+  /**
+   * Records the given value. If it differs from the last known value, the version is incremented.
+   *
+   * @param path the path of the channel value, i.e. '{module}/{channel}/{value}'.
+   * @param value the value that was read.
+   * @return The new state of the value.
+   */
+  public ChannelState record(String path, Object value) {
+    long now = System.currentTimeMillis();
+    // Most reads do not change the value. Those only refresh the timestamp, which does not need the
+    // lock as long as no other thread replaced the state in the meantime.
+    ChannelState unchanged = mStates.get(path);
+    if (unchanged != null && Objects.equals(unchanged.getValue(), value)) {
+      ChannelState state = unchanged.withTimestamp(now);
+      if (mStates.replace(path, unchanged, state)) {
+        return state;
+      }
+    }
+    synchronized (mLock) {
+      ChannelState previous = mStates.get(path);
+      boolean changed = previous == null || !Objects.equals(previous.getValue(), value);
+      long version = changed ? mVersion + 1 : previous.getVersion();
+      ChannelState state = new ChannelState(path, value, version, now);
+      mStates.put(path, state);
+      // Publish the version only after the state is visible, so that a reader who sees a version
+      // is guaranteed to also see all states up to it.
+      mVersion = Math.max(mVersion, version);
+      if (changed) {
+        for (Listener listener : mListeners) {
+          listener.onChanged(state);
+        }
+      }
+      return state;
+    }
+  }
+
+  /** @return The version of the latest change. The start version if nothing was recorded yet. */
+  public long getVersion() {
+    return mVersion;
+  }
+
+  /**
+   * @return Whether the given version was handed out by this store, i.e. whether the values that
+   * changed after it are all a client needs to catch up. A client that knows a version outside of
+   * this run, e.g. from before the master restarted, needs all values instead.
+   */
+  public boolean isKnownVersion(long version) {
+    return version >= mStartVersion && version <= mVersion;
+  }
+
+  /** @return The last known state of the given channel value, if it was ever read. */
+  public Optional<ChannelState> get(String path) {
+    return Optional.ofNullable(mStates.get(path));
+  }
+
+  /** @return The states of all values that changed after the given version. */
+  public List<ChannelState> getChangedSince(long version) {
+    List<ChannelState> result = new ArrayList<>();
+    for (ChannelState state : mStates.values()) {
+      if (state.getVersion() > version) {
+        result.add(state);
+      }
+    }
+    return result;
+  }
+
+  /** Gets notified about changes of values in the store. */
+  public interface Listener {
+    /**
+     * Called for every value that changed, in the order of their versions.
+     * <p>
+     * This is called while the store is locked, so implementations must return quickly and must
+     * not block.
+     */
+    void onChanged(ChannelState state);
+
+    /**
+     * Called once when the listener is added with a version, with all values that changed after
+     * it, in the order of their versions. Called while the store is locked, like
+     * {@link #onChanged}.
+     */
+    default void onReplay(List<ChannelState> states) {
+      for (ChannelState state : states) {
+        onChanged(state);
+      }
+    }
+  }
+
+  /** Records every value read from the delegate. */
+  private class ObservedChannelValue<T> extends ForwardingChannelValue<T> {
+    private final String mPath;
+
+    private ObservedChannelValue(ChannelValue<T> delegate, String path) {
+      super(delegate);
+      mPath = path;
+    }
+
+    @Override
+    public T read() throws ChannelException {
+      T value = super.read();
+      record(mPath, value);
+      return value;
+    }
+  }
+}
@@ -19,6 +19,7 @@ package com.s13g.winston.node;
 import com.google.common.flogger.FluentLogger;
 import com.pi4j.io.gpio.GpioController;
 import com.pi4j.io.gpio.GpioFactory;
+import com.s13g.winston.common.AccessLog;
 import com.s13g.winston.lib.core.Provider;
 import com.s13g.winston.lib.core.SingletonProvider;
 import com.s13g.winston.node.handler.Handler;
@@ -30,13 +31,8 @@ import org.simpleframework.http.Request;
 import org.simpleframework.http.Response;
 import org.simpleframework.http.Status;
 import org.simpleframework.http.core.Container;
-import org.simpleframework.http.core.ContainerSocketProcessor;
-import org.simpleframework.transport.connect.Connection;
-import org.simpleframework.transport.connect.SocketConnection;
 
 import java.io.IOException;
-import java.net.InetSocketAddress;
-import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -54,23 +50,24 @@ public class NodeContainer implements Container {
 
   private static final String IO_PREFIX = "/io/";
 
-  private final int mPort;
   private HashMap<String, Handler> mRegisteredHandlers;
+  private final AccessLog mAccessLog;
 
 
-  NodeContainer(int port, HashMap<String, Handler> registeredHandlers) {
-    mPort = port;
+  NodeContainer(HashMap<String, Handler> registeredHandlers, AccessLog accessLog) {
     mRegisteredHandlers = registeredHandlers;
+    mAccessLog = accessLog;
   }
 
   /**
    * Creates and returns a container based on the given configuration.
    *
    * @param config the configuration to be used for this container.
+   * @param accessLog where handled requests are recorded.
    * @return The valid container to serve the master requests.
    */
   @Nonnull
-  public static NodeContainer from(NodeConfig config) {
+  public static NodeContainer from(NodeConfig config, AccessLog accessLog) {
 
     final Provider<GpioController> gpioController = SingletonProvider.from
         (GpioFactory::getInstance);
@@ -106,7 +103,7 @@ public class NodeContainer implements Container {
         activeHandlers.add(plugin.handler.get());
       }
     }
-    return new NodeContainer(config.getDaemonPort(), createHandlerMap(activeHandlers));
+    return new NodeContainer(createHandlerMap(activeHandlers), accessLog);
   }
 
   @Nonnull
@@ -123,27 +120,16 @@ public class NodeContainer implements Container {
     return handlerMap;
   }
 
-  public void startServing(int numThreads)
-      throws IOException {
-    final ContainerSocketProcessor processor = new ContainerSocketProcessor(this, numThreads);
-
-    // Since this server will run forever, no need to close connection.
-    @SuppressWarnings("resource")
-    final Connection connection = new SocketConnection(processor);
-    final SocketAddress address = new InetSocketAddress(mPort);
-    log.atInfo().log("Listening to: " + address.toString());
-    connection.connect(address);
-  }
-
   @Override
   public void handle(Request req, Response resp) {
+    long startNanos = System.nanoTime();
     final String requestUrl = req.getAddress().toString();
     // Ignore favicon requests.
     if ("/favicon.ico".equals(requestUrl)) {
       resp.setStatus(Status.NOT_FOUND);
       return;
     }
-    log.atInfo().log("Request: " + requestUrl);
+    log.atFine().log("Request: %s", requestUrl);
 
     Optional<String> returnValue = Optional.empty();
     if (requestUrl.startsWith(IO_PREFIX)) {
@@ -157,7 +143,8 @@ public class NodeContainer implements Container {
     } catch (final IOException e) {
       log.atWarning().log("Could not deliver response");
     }
-    log.atFine().log("Request handled");
+    mAccessLog.record(req.getClientAddress(), req.getMethod(), req.getPath().getPath(),
+        resp.getCode(), startNanos);
   }
 
   /**
@@ -169,7 +156,7 @@ public class NodeContainer implements Container {
   @Nonnull
   private Optional<String> handleIoRequest(String command) {
     final String rpcName = command.substring(0, command.indexOf('/'));
-    log.atInfo().log("IO RPC: " + rpcName);
+    log.atFine().log("IO RPC: %s", rpcName);
     if (mRegisteredHandlers.containsKey(rpcName)) {
       return Optional.of(mRegisteredHandlers.get(rpcName)
           .handleRequest(command.substring(rpcName.length() + 1)));
@@ -17,10 +17,14 @@
 package com.s13g.winston.node;
 
 import com.google.common.flogger.FluentLogger;
+import com.s13g.winston.common.AccessLog;
+import com.s13g.winston.common.ContainerServer;
 import com.s13g.winston.node.config.ConfigWrapper;
+import com.s13g.winston.proto.Node.NodeConfig;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.Executors;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -45,7 +49,17 @@ public class NodeDaemon {
     configWrapper.assertSane();
 
 
-    NodeContainer container = NodeContainer.from(configWrapper.getConfig());
-    container.startServing(NUM_THREADS);
+    NodeConfig config = configWrapper.getConfig();
+    int numThreads = config.getHttpThreads() > 0 ? config.getHttpThreads() : NUM_THREADS;
+    ContainerServer server =
+        ContainerServer.getDefaultCreator().create(config.getDaemonPort(), numThreads);
+    server.startServing(NodeContainer.from(config, createAccessLog(config)));
+  }
+
+  private static AccessLog createAccessLog(NodeConfig config) {
+    double sampleRate = config.getAccessLogSampleRate() > 0 ? config.getAccessLogSampleRate() : 1;
+    AccessLog accessLog = new AccessLog(sampleRate);
+    accessLog.start(Executors.newSingleThreadExecutor());
+    return accessLog;
   }
 }
@@ -71,6 +71,13 @@ public class ConfigWrapper {
       throw new AssertionError("Invalid Port:" + mConfigProto.getDaemonPort());
     }
 
+    if (mConfigProto.getHttpThreads() < 0) {
+      throw new AssertionError("Invalid number of HTTP threads: " + mConfigProto.getHttpThreads());
+    }
+    if (mConfigProto.getAccessLogSampleRate() < 0 || mConfigProto.getAccessLogSampleRate() > 1) {
+      throw new AssertionError("Access log sample rate must be between 0 and 1");
+    }
+
     int numPlugins = mConfigProto.getGpioPluginList().size() +
         mConfigProto.getOnewirePluginList().size() +
         mConfigProto.getI2CPluginList().size();
@@ -97,6 +104,8 @@ public class ConfigWrapper {
   public void printToLog() {
     log.atInfo().log("---------------------------------");
     log.atInfo().log("Daemon Port:" + mConfigProto.getDaemonPort());
+    log.atInfo().log("HTTP threads:" + mConfigProto.getHttpThreads());
+    log.atInfo().log("Access log sample rate:" + mConfigProto.getAccessLogSampleRate());
     List<NodeConfig.GpioPlugin> gpioPluginsList = mConfigProto.getGpioPluginList();
     log.atInfo().log("Active GPIO plugins: " + gpioPluginsList.size());
     for (NodeConfig.GpioPlugin plugin : gpioPluginsList) {
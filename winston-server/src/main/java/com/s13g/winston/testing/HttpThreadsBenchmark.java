@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.testing;
+
+import com.s13g.winston.common.ContainerServer;
+
+import org.simpleframework.http.Request;
+import org.simpleframework.http.Response;
+import org.simpleframework.http.Status;
+import org.simpleframework.http.core.Container;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the HTTP server with different numbers of threads under a load that mixes fast
+ * requests with requests waiting for a slow device, which is what the master sees when a Nest or
+ * WeMo device is slow to respond. Helps choosing 'http_threads' in the config.
+ * <p>
+ * Usage: HttpThreadsBenchmark [threads,...] [clients] [requests per client] [slow device millis]
+ */
+public class HttpThreadsBenchmark {
+  /** Every n-th request waits for the slow device. */
+  private static final int SLOW_REQUEST_INTERVAL = 4;
+
+  public static void main(String[] args) throws Exception {
+    String threads = args.length > 0 ? args[0] : "4,8,32";
+    int numClients = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+    int numRequests = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+    long slowMillis = args.length > 3 ? Long.parseLong(args[3]) : 200;
+
+    System.out.println(String.format("clients=%d, requests/client=%d, slow=%dms",
+        numClients, numRequests, slowMillis));
+    for (String numThreads : threads.split(",")) {
+      run(Integer.parseInt(numThreads), numClients, numRequests, slowMillis);
+    }
+  }
+
+  private static void run(int numThreads, int numClients, int numRequests, long slowMillis)
+      throws Exception {
+    int port = findFreePort();
+    ContainerServer server = new ContainerServer(port, numThreads);
+    server.startServing(new SlowDeviceContainer(slowMillis));
+
+    ExecutorService clients = Executors.newFixedThreadPool(numClients);
+    List<Future<List<Long>>> results = new ArrayList<>();
+    long start = System.nanoTime();
+    for (int c = 0; c < numClients; ++c) {
+      final int client = c;
+      results.add(clients.submit(() -> {
+        List<Long> fastLatencies = new ArrayList<>();
+        for (int i = 0; i < numRequests; ++i) {
+          boolean slow = (client + i) % SLOW_REQUEST_INTERVAL == 0;
+          long requestStart = System.nanoTime();
+          request(port, slow ? "/slow" : "/fast");
+          if (!slow) {
+            fastLatencies.add(System.nanoTime() - requestStart);
+          }
+        }
+        return fastLatencies;
+      }));
+    }
+    List<Long> fastLatencies = new ArrayList<>();
+    for (Future<List<Long>> result : results) {
+      fastLatencies.addAll(result.get());
+    }
+    long elapsedNanos = System.nanoTime() - start;
+    clients.shutdown();
+    server.stop();
+
+    Collections.sort(fastLatencies);
+    System.out.println(String.format(
+        "%3d threads %8.1f req/s   fast requests: p50=%6.1fms p99=%6.1fms", numThreads,
+        numClients * numRequests / (elapsedNanos / 1e9),
+        percentileMillis(fastLatencies, 0.5), percentileMillis(fastLatencies, 0.99)));
+  }
+
+  private static void request(int port, String path) throws IOException {
+    HttpURLConnection connection =
+        (HttpURLConnection) new URL("http://localhost:" + port + path).openConnection();
+    try (InputStream in = connection.getInputStream()) {
+      while (in.read() != -1) {
+        // Drain the response.
+      }
+    }
+  }
+
+  private static double percentileMillis(List<Long> sortedNanos, double percentile) {
+    int index = (int) Math.min(sortedNanos.size() - 1, Math.ceil(percentile * sortedNanos.size()));
+    return TimeUnit.NANOSECONDS.toMicros(sortedNanos.get(index)) / 1000.0;
+  }
+
+  private static int findFreePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  /** Answers '/slow' after a delay, like a device that is slow to respond, and all else at once. */
+  private static class SlowDeviceContainer implements Container {
+    private final long mSlowMillis;
+
+    private SlowDeviceContainer(long slowMillis) {
+      mSlowMillis = slowMillis;
+    }
+
+    @Override
+    public void handle(Request request, Response response) {
+      try {
+        if (request.getPath().getPath().equals("/slow")) {
+          Thread.sleep(mSlowMillis);
+        }
+        response.setStatus(Status.OK);
+        response.getPrintStream().append("OK");
+        response.close();
+      } catch (IOException | InterruptedException e) {
+        System.err.println("Cannot handle request: " + e);
+      }
+    }
+  }
+}
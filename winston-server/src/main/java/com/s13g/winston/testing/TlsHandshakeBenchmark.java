@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.testing;
+
+import com.s13g.winston.common.ContainerServer;
+import com.s13g.winston.common.HandshakeStats;
+import com.s13g.winston.common.SslContextCreator;
+
+import org.simpleframework.http.Request;
+import org.simpleframework.http.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+/**
+ * Measures the cost of full TLS handshakes compared to resumed sessions against the master's
+ * HTTPS setup.
+ * <p>
+ * Usage: TlsHandshakeBenchmark {keystore} {password} [connections]
+ * <p>
+ * A keystore can be created with e.g. 'keytool -genkeypair -keyalg RSA -keystore bench.jks'.
+ */
+public class TlsHandshakeBenchmark {
+  public static void main(String[] args) throws Exception {
+    if (args.length < 2) {
+      System.err.println("Usage: TlsHandshakeBenchmark {keystore} {password} [connections]");
+      System.exit(1);
+    }
+    int numConnections = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+
+    HandshakeStats stats = new HandshakeStats();
+    SSLContext serverContext = SslContextCreator.from(args[0], args[1])
+        .setHandshakeStats(stats).create();
+    int port = findFreePort();
+    ContainerServer server = new ContainerServer(port, 4);
+    server.startServing(TlsHandshakeBenchmark::respond, serverContext);
+
+    // Warm up, so that class loading and JIT don't count against the first run.
+    run(port, numConnections / 4, false);
+    run(port, numConnections / 4, true);
+
+    long fullBefore = stats.getFullHandshakes();
+    double fullMillis = run(port, numConnections, false);
+    long fullHandshakes = stats.getFullHandshakes() - fullBefore;
+    long resumedBefore = stats.getResumedHandshakes();
+    double resumedMillis = run(port, numConnections, true);
+    long resumedHandshakes = stats.getResumedHandshakes() - resumedBefore;
+    server.stop();
+
+    System.out.println(String.format("New session per connection: %6.2fms/handshake (%d full)",
+        fullMillis, fullHandshakes));
+    System.out.println(String.format("Resumed sessions          : %6.2fms/handshake (%d resumed)",
+        resumedMillis, resumedHandshakes));
+  }
+
+  /**
+   * Opens the given number of connections one after the other and makes one request on each.
+   *
+   * @param resume whether all connections share a client context, so sessions can be resumed.
+   * @return The average time per handshake in milliseconds.
+   */
+  private static double run(int port, int numConnections, boolean resume) throws Exception {
+    SSLContext clientContext = createClientContext();
+    long handshakeNanos = 0;
+    for (int i = 0; i < numConnections; ++i) {
+      if (!resume) {
+        clientContext = createClientContext();
+      }
+      handshakeNanos += request(clientContext, port);
+    }
+    return handshakeNanos / 1e6 / numConnections;
+  }
+
+  /** @return The time the handshake took in nanoseconds. */
+  private static long request(SSLContext clientContext, int port) throws IOException {
+    try (SSLSocket socket =
+             (SSLSocket) clientContext.getSocketFactory().createSocket("localhost", port)) {
+      long start = System.nanoTime();
+      socket.startHandshake();
+      long handshakeNanos = System.nanoTime() - start;
+      OutputStream out = socket.getOutputStream();
+      out.write("GET / HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n"
+          .getBytes(StandardCharsets.US_ASCII));
+      out.flush();
+      InputStream in = socket.getInputStream();
+      while (in.read() != -1) {
+        // Drain the response.
+      }
+      return handshakeNanos;
+    }
+  }
+
+  private static void respond(Request request, Response response) {
+    try {
+      response.getPrintStream().append("OK");
+      response.close();
+    } catch (IOException e) {
+      System.err.println("Cannot respond: " + e);
+    }
+  }
+
+  /** Creates a client context that trusts any certificate, e.g. a self-signed test keystore. */
+  private static SSLContext createClientContext() throws Exception {
+    SSLContext context = SSLContext.getInstance("TLS");
+    context.init(null, new TrustManager[] {new X509TrustManager() {
+      @Override
+      public void checkClientTrusted(X509Certificate[] chain, String authType) {
+      }
+
+      @Override
+      public void checkServerTrusted(X509Certificate[] chain, String authType) {
+      }
+
+      @Override
+      public X509Certificate[] getAcceptedIssuers() {
+        return new X509Certificate[0];
+      }
+    }}, null);
+    return context;
+  }
+
+  private static int findFreePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston;
+
+import com.google.common.collect.ImmutableList;
+import com.s13g.winston.common.AdmissionController;
+import com.s13g.winston.common.HandlerRequest;
+import com.s13g.winston.common.HandlerResponse;
+import com.s13g.winston.common.RequestHandler;
+import com.s13g.winston.common.RequestHandlingException;
+import com.s13g.winston.proto.Master.AuthenticatedClient;
+
+import org.junit.Test;
+import org.simpleframework.http.Status;
+import org.simpleframework.http.parse.AddressParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link RequestHandlers}.
+ */
+public class RequestHandlersTest {
+
+  @Test
+  public void testRoutesByFirstSegment() throws Exception {
+    RequestHandlers handlers = new RequestHandlers(new ArrayList<>());
+    handlers.addRequestHandler(new EchoHandler("io"));
+    handlers.addRequestHandler(new EchoHandler("channeldata", "channeldatatext"));
+
+    assertEquals("io:io/nest/foo", handle(handlers, "io/nest/foo"));
+    assertEquals("io:io", handle(handlers, "io"));
+    assertEquals("channeldata:channeldatatext", handle(handlers, "channeldatatext"));
+  }
+
+  @Test
+  public void testUnknownPrefix() {
+    RequestHandlers handlers = new RequestHandlers(new ArrayList<>());
+    handlers.addRequestHandler(new EchoHandler("io"));
+    try {
+      // Must not match on a mere string prefix.
+      handle(handlers, "iofoo/bar");
+      fail("Should throw exception.");
+    } catch (RequestHandlingException ex) {
+      assertEquals(Status.NOT_FOUND, ex.errorCode.get());
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDuplicatePrefix() {
+    RequestHandlers handlers = new RequestHandlers(new ArrayList<>());
+    handlers.addRequestHandler(new EchoHandler("io"));
+    handlers.addRequestHandler(new EchoHandler("io"));
+  }
+
+  @Test
+  public void testConcurrentDispatch() throws Exception {
+    // Both requests block until the other one has started, which can only succeed if they are
+    // not serialized.
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    RequestHandlers handlers = new RequestHandlers(new ArrayList<>());
+    handlers.addRequestHandler(new RequestHandler() {
+      @Override
+      public void doHandle(HandlerRequest request, HandlerResponse response) throws
+          RequestHandlingException {
+        bothStarted.countDown();
+        try {
+          if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+            throw new RequestHandlingException("Requests did not run concurrently.");
+          }
+        } catch (InterruptedException e) {
+          throw new RequestHandlingException("Interrupted");
+        }
+      }
+
+      @Override
+      public List<String> getRequestPrefixes() {
+        return ImmutableList.of("slow");
+      }
+    });
+
+    List<Exception> errors = new ArrayList<>();
+    Thread other = new Thread(() -> {
+      try {
+        handle(handlers, "slow/1");
+      } catch (Exception e) {
+        synchronized (errors) {
+          errors.add(e);
+        }
+      }
+    });
+    other.start();
+    handle(handlers, "slow/2");
+    other.join();
+    assertTrue(errors.isEmpty());
+  }
+
+  @Test
+  public void testRateLimitPerClient() throws Exception {
+    RequestHandlers handlers = new RequestHandlers(ImmutableList.of(
+        AuthenticatedClient.newBuilder().setName("tablet").setAuthToken("t1")
+            .setRequestsPerSecond(0.001).setBurst(2).build(),
+        AuthenticatedClient.newBuilder().setName("phone").setAuthToken("t2").build()));
+    handlers.addRequestHandler(new EchoHandler("io"));
+
+    handleAuthorized(handlers, "/io?authtoken=t1");
+    handleAuthorized(handlers, "/io?authtoken=t1");
+    try {
+      handleAuthorized(handlers, "/io?authtoken=t1");
+      fail("Should throw exception.");
+    } catch (RequestHandlers.TooManyRequestsException ex) {
+      assertTrue(ex.retryAfterSeconds > 0);
+    }
+    // Other clients are not affected.
+    for (int i = 0; i < 10; ++i) {
+      handleAuthorized(handlers, "/io?authtoken=t2");
+    }
+  }
+
+  @Test
+  public void testAdmissionRejected() throws Exception {
+    RequestHandlers handlers = new RequestHandlers(ImmutableList.of(
+        AuthenticatedClient.newBuilder().setName("tablet").setAuthToken("t1").build()),
+        new AdmissionController(0, 0, 0));
+    handlers.addRequestHandler(new EchoHandler("io"));
+    try {
+      handleAuthorized(handlers, "/io?authtoken=t1");
+      fail("Should throw exception.");
+    } catch (RequestHandlingException ex) {
+      assertEquals(Status.SERVICE_UNAVAILABLE, ex.errorCode.get());
+    }
+  }
+
+  private static void handleAuthorized(RequestHandlers handlers, String url) throws Exception {
+    handlers.handleRequest(HandlerRequest.from(new AddressParser(url)),
+        HandlerResponse.from(new ByteArrayOutputStream()));
+  }
+
+  private static String handle(RequestHandlers handlers, String request)
+      throws RequestHandlingException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    handlers.handleRequestTrusted(request, out);
+    return out.toString();
+  }
+
+  /** Writes its name and the request it received. */
+  private static class EchoHandler implements RequestHandler {
+    private final List<String> mPrefixes;
+
+    private EchoHandler(String... prefixes) {
+      mPrefixes = ImmutableList.copyOf(prefixes);
+    }
+
+    @Override
+    public void doHandle(HandlerRequest request, HandlerResponse response)
+        throws RequestHandlingException {
+      try {
+        response.getOutputStream().write((mPrefixes.get(0) + ":" + request).getBytes());
+      } catch (IOException e) {
+        throw new RequestHandlingException("Cannot write response.");
+      }
+    }
+
+    @Override
+    public List<String> getRequestPrefixes() {
+      return mPrefixes;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.common;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class AccessLogTest {
+  @Test
+  public void testRecordsAreSampled() {
+    AccessLog accessLog = new AccessLog(0, 10);
+    accessLog.record("client", "GET", "/io", 200, System.nanoTime());
+    assertEquals(0, accessLog.getPending());
+
+    // Failed requests are always recorded.
+    accessLog.record("client", "GET", "/io", 500, System.nanoTime());
+    assertEquals(1, accessLog.getPending());
+  }
+
+  @Test
+  public void testFullQueueDropsRecords() {
+    AccessLog accessLog = new AccessLog(1, 2);
+    for (int i = 0; i < 5; ++i) {
+      accessLog.record("client", "GET", "/io", 200, System.nanoTime());
+    }
+    assertEquals(2, accessLog.getPending());
+    assertEquals(3, accessLog.getDropped());
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package com.s13g.winston.common;
+
+import com.google.common.base.Ticker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A ticker that only moves when told to, for tests.
+ */
+public class FakeTicker extends Ticker {
+  private long mNanos;
+
+  @Override
+  public long read() {
+    return mNanos;
+  }
+
+  public void advanceMillis(long millis) {
+    mNanos += TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package com.s13g.winston.common;
+
+import com.s13g.winston.common.ObservedSslContext.ObservedSslEngine;
+import com.s13g.winston.common.ObservedSslContext.SessionIds;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLEngineResult.Status;
+import javax.net.ssl.SSLSession;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ObservedSslContext}.
+ */
+public class ObservedSslContextTest {
+  private HandshakeStats mStats;
+  private SessionIds mSessionIds;
+
+  @Before
+  public void setUp() {
+    mStats = new HandshakeStats();
+    mSessionIds = new SessionIds(10);
+  }
+
+  @Test
+  public void testNewSessionsAreFull() throws Exception {
+    handshake(new byte[]{1}, Long.MAX_VALUE);
+    handshake(new byte[]{2}, Long.MAX_VALUE);
+    assertEquals(2, mStats.getFullHandshakes());
+    assertEquals(0, mStats.getResumedHandshakes());
+  }
+
+  @Test
+  public void testKnownSessionIdsAreResumed() throws Exception {
+    // TLS 1.2 resumes a session under its old ID.
+    handshake(new byte[]{1}, Long.MAX_VALUE);
+    handshake(new byte[]{1}, Long.MAX_VALUE);
+    assertEquals(1, mStats.getFullHandshakes());
+    assertEquals(1, mStats.getResumedHandshakes());
+  }
+
+  @Test
+  public void testSessionsCreatedBeforeTheEngineAreResumed() throws Exception {
+    // TLS 1.3 gives a resumed session a new ID, but keeps its creation time.
+    handshake(new byte[]{1}, 0);
+    assertEquals(0, mStats.getFullHandshakes());
+    assertEquals(1, mStats.getResumedHandshakes());
+  }
+
+  @Test
+  public void testEmptySessionIdsAreNotRemembered() throws Exception {
+    handshake(new byte[0], Long.MAX_VALUE);
+    handshake(new byte[0], Long.MAX_VALUE);
+    assertEquals(2, mStats.getFullHandshakes());
+  }
+
+  @Test
+  public void testApplicationProtocolsAreForwarded() {
+    SSLEngine delegate = mock(SSLEngine.class);
+    BiFunction<SSLEngine, List<String>, String> selector = (engine, protocols) -> "h2";
+    when(delegate.getApplicationProtocol()).thenReturn("h2");
+    when(delegate.getHandshakeApplicationProtocol()).thenReturn("http/1.1");
+    when(delegate.getHandshakeApplicationProtocolSelector()).thenReturn(selector);
+
+    SSLEngine engine = new ObservedSslEngine(delegate, mStats, mSessionIds);
+    engine.setHandshakeApplicationProtocolSelector(selector);
+    verify(delegate).setHandshakeApplicationProtocolSelector(selector);
+    assertSame(selector, engine.getHandshakeApplicationProtocolSelector());
+    assertEquals("h2", engine.getApplicationProtocol());
+    assertEquals("http/1.1", engine.getHandshakeApplicationProtocol());
+  }
+
+  /** Runs a handshake that finishes with a session of the given ID and creation time. */
+  private void handshake(byte[] sessionId, long creationTimeMillis) throws Exception {
+    SSLSession session = mock(SSLSession.class);
+    when(session.getId()).thenReturn(sessionId);
+    when(session.getCreationTime()).thenReturn(creationTimeMillis);
+    SSLEngine delegate = mock(SSLEngine.class);
+    when(delegate.getSession()).thenReturn(session);
+    when(delegate.wrap(any(ByteBuffer[].class), anyInt(), anyInt(), any(ByteBuffer.class)))
+        .thenReturn(new SSLEngineResult(Status.OK, HandshakeStatus.FINISHED, 0, 0));
+
+    new ObservedSslEngine(delegate, mStats, mSessionIds)
+        .wrap(ByteBuffer.allocate(0), ByteBuffer.allocate(0));
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.common;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+
+import org.junit.Test;
+import org.simpleframework.http.Request;
+import org.simpleframework.http.Status;
+import org.simpleframework.http.parse.AddressParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link PreparedResponse}.
+ */
+public class PreparedResponseTest {
+  private static final byte[] BODY = new byte[1000];
+
+  static {
+    Arrays.fill(BODY, (byte) 'x');
+  }
+
+  @Test
+  public void testPlain() throws Exception {
+    PreparedResponse prepared = PreparedResponse.create(BODY, "text/plain");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    HandlerResponse response = HandlerResponse.from(out);
+    prepared.writeTo(createRequest(), response);
+
+    assertEquals(Status.OK, response.getStatus());
+    assertEquals(prepared.getETag(), response.getHeader("ETag").get());
+    assertFalse(response.getHeader("Content-Encoding").isPresent());
+    assertArrayEquals(BODY, out.toByteArray());
+  }
+
+  @Test
+  public void testGzip() throws Exception {
+    PreparedResponse prepared = PreparedResponse.create(BODY, "text/plain");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    HandlerResponse response = HandlerResponse.from(out);
+    prepared.writeTo(createRequest("Accept-Encoding", "deflate, gzip;q=0.8"), response);
+
+    assertEquals("gzip", response.getHeader("Content-Encoding").get());
+    assertNotEquals(prepared.getETag(), response.getHeader("ETag").get());
+    assertArrayEquals(BODY, gunzip(out.toByteArray()));
+
+    // Explicitly not accepted.
+    response = HandlerResponse.from(new ByteArrayOutputStream());
+    prepared.writeTo(createRequest("Accept-Encoding", "gzip;q=0"), response);
+    assertFalse(response.getHeader("Content-Encoding").isPresent());
+  }
+
+  @Test
+  public void testNotModified() throws Exception {
+    PreparedResponse prepared = PreparedResponse.create(BODY, "text/plain");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    HandlerResponse response = HandlerResponse.from(out);
+    prepared.writeTo(createRequest("If-None-Match", "\"foo\", W/" + prepared.getETag()),
+        response);
+
+    assertEquals(Status.NOT_MODIFIED, response.getStatus());
+    assertEquals(0, out.size());
+
+    // A different body must not match.
+    response = HandlerResponse.from(new ByteArrayOutputStream());
+    PreparedResponse.create(new byte[] {1, 2, 3}, "text/plain")
+        .writeTo(createRequest("If-None-Match", prepared.getETag()), response);
+    assertEquals(Status.OK, response.getStatus());
+  }
+
+  private static HandlerRequest createRequest(String... headers) {
+    Request request = mock(Request.class);
+    when(request.getAddress()).thenReturn(new AddressParser("/channeldata"));
+    ImmutableList.Builder<String> names = ImmutableList.builder();
+    for (int i = 0; i < headers.length; i += 2) {
+      names.add(headers[i]);
+      when(request.getValue(headers[i])).thenReturn(headers[i + 1]);
+    }
+    when(request.getNames()).thenReturn(names.build());
+    return HandlerRequest.from(request);
+  }
+
+  private static byte[] gunzip(byte[] data) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+      return ByteStreams.toByteArray(in);
+    }
+  }
+}
@@ -22,10 +22,17 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 
@@ -33,6 +40,7 @@ import static org.junit.Assert.fail;
  * Tests for {@link RefreshableData}.
  */
 public class RefreshableDataTest {
+  private static final int NUM_READERS = 8;
 
   @Test
   public void testEmptyCollection() {
@@ -97,6 +105,85 @@ public class RefreshableDataTest {
     assertEquals("world", data.get(2));
   }
 
+  @Test
+  public void testBackgroundRefreshNeverBlocksReaders() throws Exception {
+    CountDownLatch refreshStarted = new CountDownLatch(1);
+    CountDownLatch releaseRefresh = new CountDownLatch(1);
+    AtomicInteger numRefreshes = new AtomicInteger();
+    ExecutorService refreshExecutor = Executors.newSingleThreadExecutor();
+    // 0 TTL means that every read finds the data expired.
+    RefreshableData<String> data = RefreshableData.refreshingInBackground(() -> {
+      numRefreshes.incrementAndGet();
+      refreshStarted.countDown();
+      awaitUninterruptibly(releaseRefresh);
+      return getTestData();
+    }, 0, refreshExecutor);
+    assertTrue(refreshStarted.await(5, TimeUnit.SECONDS));
+
+    // While the refresh hangs, all readers get the (empty) last snapshot right away.
+    ExecutorService readers = Executors.newFixedThreadPool(NUM_READERS);
+    List<Future<Integer>> sizes = new ArrayList<>();
+    for (int i = 0; i < NUM_READERS * 100; ++i) {
+      sizes.add(readers.submit(data::size));
+    }
+    for (Future<Integer> size : sizes) {
+      assertEquals(0, (int) size.get(5, TimeUnit.SECONDS));
+    }
+    assertEquals(1, numRefreshes.get());
+    assertEquals(-1, data.getSnapshot().getAgeMillis());
+
+    releaseRefresh.countDown();
+    refreshExecutor.shutdown();
+    assertTrue(refreshExecutor.awaitTermination(5, TimeUnit.SECONDS));
+    RefreshableData.Snapshot<String> snapshot = data.getSnapshot();
+    assertEquals(3, snapshot.getData().size());
+    assertTrue(snapshot.getAgeMillis() >= 0);
+    readers.shutdown();
+  }
+
+  @Test
+  public void testBackgroundRefreshKeepsLastGoodSnapshot() throws Exception {
+    AtomicInteger numRefreshes = new AtomicInteger();
+    RefreshableData<String> data = RefreshableData.refreshingInBackground(() -> {
+      if (numRefreshes.incrementAndGet() > 1) {
+        throw new IllegalStateException("Device not reachable");
+      }
+      return getTestData();
+    }, 0, Runnable::run);
+
+    assertEquals(3, data.size());
+    assertEquals("dear", data.get(1));
+    assertEquals(3, numRefreshes.get());
+  }
+
+  @Test
+  public void testBlockingRefreshUnderContention() throws Exception {
+    AtomicInteger numRefreshes = new AtomicInteger();
+    RefreshableData<String> data = new RefreshableData<>(() -> {
+      numRefreshes.incrementAndGet();
+      return getTestData();
+    }, 10);
+
+    ExecutorService readers = Executors.newFixedThreadPool(NUM_READERS);
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < NUM_READERS * 100; ++i) {
+      results.add(readers.submit(() -> data.get(2)));
+    }
+    for (Future<String> result : results) {
+      assertEquals("world", result.get(5, TimeUnit.SECONDS));
+    }
+    assertEquals(1, numRefreshes.get());
+    readers.shutdown();
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   private static List<String> getTestData() {
     return Lists.newArrayList("Hello", "dear", "world");
   }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.common;
+
+import com.google.common.base.Ticker;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link TokenBucket}.
+ */
+public class TokenBucketTest {
+  private long mNowNanos = 0;
+  private final Ticker mTicker = new Ticker() {
+    @Override
+    public long read() {
+      return mNowNanos;
+    }
+  };
+
+  @Test
+  public void testBurstThenRate() {
+    TokenBucket bucket = new TokenBucket(2, 3, mTicker);
+    assertTrue(bucket.tryAcquire());
+    assertTrue(bucket.tryAcquire());
+    assertTrue(bucket.tryAcquire());
+    assertFalse(bucket.tryAcquire());
+    assertEquals(1, bucket.getSecondsUntilAvailable());
+
+    // Two tokens per second, so one is back after half a second.
+    mNowNanos += TimeUnit.MILLISECONDS.toNanos(500);
+    assertTrue(bucket.tryAcquire());
+    assertFalse(bucket.tryAcquire());
+  }
+
+  @Test
+  public void testRefillIsCappedAtBurst() {
+    TokenBucket bucket = new TokenBucket(10, 2, mTicker);
+    assertTrue(bucket.tryAcquire());
+    assertTrue(bucket.tryAcquire());
+    mNowNanos += TimeUnit.HOURS.toNanos(1);
+    assertTrue(bucket.tryAcquire());
+    assertTrue(bucket.tryAcquire());
+    assertFalse(bucket.tryAcquire());
+  }
+}
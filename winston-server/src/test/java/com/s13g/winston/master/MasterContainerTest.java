@@ -17,7 +17,9 @@
 package com.s13g.winston.master;
 
 import com.s13g.winston.RequestHandlers;
+import com.s13g.winston.common.AccessLog;
 import com.s13g.winston.lib.core.util.concurrent.HttpRequester;
+import com.s13g.winston.master.events.ChannelEventStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -46,7 +48,8 @@ public class MasterContainerTest {
 
   private void initializeWithMap() throws IOException {
     when(mHttpRequester.requestUrl(anyString())).thenReturn("OK");
-    masterContainer = new MasterContainer(0, new RequestHandlers(new ArrayList<>()));
+    masterContainer = new MasterContainer(new RequestHandlers(new ArrayList<>()),
+        mock(ChannelEventStream.class), new AccessLog(1));
   }
 
   @Test
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+import com.google.common.collect.ImmutableList;
+import com.s13g.winston.common.FakeTicker;
+import com.s13g.winston.proto.Master.ValueCache;
+import com.s13g.winston.shared.ChannelType;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link ChannelValueCache}.
+ */
+public class ChannelValueCacheTest {
+  private static final ValueCache CACHE = ValueCache.newBuilder()
+      .setPath("winston/garage")
+      .setMaxAgeMillis(1000)
+      .setMaxStaleMillis(5000)
+      .build();
+
+  private FakeTicker mTicker;
+  private List<Runnable> mRefreshes;
+  private AtomicInteger mNumReads;
+  private boolean mFailReads;
+
+  @Before
+  public void setUp() {
+    mTicker = new FakeTicker();
+    mRefreshes = new ArrayList<>();
+    mNumReads = new AtomicInteger();
+    mFailReads = false;
+  }
+
+  @Test
+  public void testOnlyMatchingValuesAreCached() {
+    ChannelValue<Integer> uncached = createValue();
+    assertSame(uncached, new ChannelValueCache(ImmutableList.of(CACHE), mRefreshes::add, mTicker)
+        .decorate(index("winston", "garagedoor", uncached)));
+  }
+
+  @Test
+  public void testStaleValueIsRefreshedInBackground() throws Exception {
+    ChannelValue<Integer> value = createCachedValue();
+    assertEquals(1, (int) value.read());
+    mTicker.advanceMillis(1000);
+    assertEquals(1, (int) value.read());
+    assertEquals(0, mRefreshes.size());
+
+    // Stale: the old value is returned, only a single refresh is started.
+    mTicker.advanceMillis(1);
+    assertEquals(1, (int) value.read());
+    assertEquals(1, (int) value.read());
+    assertEquals(1, mRefreshes.size());
+    mRefreshes.remove(0).run();
+    assertEquals(2, (int) value.read());
+    assertEquals(2, mNumReads.get());
+  }
+
+  @Test
+  public void testStalenessIsCappedWhenRefreshFails() throws Exception {
+    ChannelValue<Integer> value = createCachedValue();
+    assertEquals(1, (int) value.read());
+    mFailReads = true;
+    mTicker.advanceMillis(3000);
+    assertEquals(1, (int) value.read());
+    mRefreshes.remove(0).run();
+
+    mTicker.advanceMillis(3001);
+    try {
+      value.read();
+      fail("Expected ChannelException");
+    } catch (ChannelException expected) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testWriteInvalidates() throws Exception {
+    ChannelValue<Integer> value = createCachedValue();
+    assertEquals(1, (int) value.read());
+    value.write(5);
+    assertEquals(2, (int) value.read());
+  }
+
+  @SuppressWarnings("unchecked")
+  private ChannelValue<Integer> createCachedValue() {
+    return (ChannelValue<Integer>) new ChannelValueCache(ImmutableList.of(CACHE),
+        mRefreshes::add, mTicker).decorate(index("winston", "garage", createValue()));
+  }
+
+  private ChannelValue<Integer> createValue() {
+    return new ReadOnlyChannelValue<Integer>("door", () -> {
+      if (mFailReads) {
+        throw new ChannelException("Device not reachable");
+      }
+      return mNumReads.incrementAndGet();
+    }) {
+      @Override
+      public void write(Integer value) {
+      }
+    };
+  }
+
+  private static IndexedChannelValue index(String module, String channelId,
+                                           ChannelValue<Integer> value) {
+    return new FakeChannel(channelId, ChannelType.WINSTON_GARAGE).index(module, value);
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+import com.google.common.collect.ImmutableList;
+import com.s13g.winston.proto.Master.WriteDebounce;
+import com.s13g.winston.shared.ChannelType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link CoalescingWrites}.
+ */
+public class CoalescingWritesTest {
+  private static final WriteDebounce NO_WINDOW =
+      WriteDebounce.newBuilder().setPath("nest/thermostat").build();
+
+  private ExecutorService mExecutor;
+  private List<Integer> mWrites;
+  private CountDownLatch mWriteReleased;
+
+  @Before
+  public void setUp() {
+    mExecutor = Executors.newCachedThreadPool();
+    mWrites = Collections.synchronizedList(new ArrayList<>());
+    mWriteReleased = new CountDownLatch(0);
+  }
+
+  @After
+  public void tearDown() {
+    mExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testWritesWaitingForSlowWriteAreCoalesced() throws Exception {
+    ChannelValue<Integer> value = createCoalescedValue(ImmutableList.of(NO_WINDOW));
+    mWriteReleased = new CountDownLatch(1);
+    List<Future<?>> writes = new ArrayList<>();
+    writes.add(writeLater(value, 1));
+    Thread.sleep(100);
+    // The first write is in flight, the others replace each other.
+    for (int i = 2; i <= 4; ++i) {
+      writes.add(writeLater(value, i));
+      Thread.sleep(50);
+    }
+    mWriteReleased.countDown();
+    for (Future<?> write : writes) {
+      write.get(1, TimeUnit.SECONDS);
+    }
+    assertEquals(ImmutableList.of(1, 4), mWrites);
+  }
+
+  @Test
+  public void testReplacedWritesFailWithFinalWrite() throws Exception {
+    ChannelValue<Integer> value = createCoalescedValue(ImmutableList.of(NO_WINDOW));
+    mWriteReleased = new CountDownLatch(1);
+    Future<?> first = writeLater(value, 1);
+    Thread.sleep(100);
+    Future<?> replaced = writeLater(value, 2);
+    Thread.sleep(50);
+    Future<?> last = writeLater(value, -1);
+    Thread.sleep(50);
+    mWriteReleased.countDown();
+    first.get(1, TimeUnit.SECONDS);
+    for (Future<?> write : ImmutableList.of(replaced, last)) {
+      try {
+        write.get(1, TimeUnit.SECONDS);
+        fail();
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof ChannelException);
+      }
+    }
+    assertEquals(ImmutableList.of(1), mWrites);
+  }
+
+  @Test
+  public void testDebouncedWritesAreCoalesced() throws Exception {
+    ChannelValue<Integer> value = createCoalescedValue(ImmutableList.of(
+        WriteDebounce.newBuilder().setPath("nest/thermostat").setWindowMillis(200).build()));
+    List<Future<?>> writes = new ArrayList<>();
+    for (int i = 1; i <= 3; ++i) {
+      writes.add(writeLater(value, i));
+      Thread.sleep(20);
+    }
+    for (Future<?> write : writes) {
+      write.get(1, TimeUnit.SECONDS);
+    }
+    assertEquals(ImmutableList.of(3), mWrites);
+
+    value.write(4);
+    assertEquals(ImmutableList.of(3, 4), mWrites);
+  }
+
+  @Test
+  public void testWritesOfUnconfiguredValuesAreNotCoalesced() throws Exception {
+    ChannelValue<Integer> value = createCoalescedValue(ImmutableList.of(
+        WriteDebounce.newBuilder().setPath("nest/other").setWindowMillis(200).build()));
+    mWriteReleased = new CountDownLatch(1);
+    List<Future<?>> writes = new ArrayList<>();
+    for (int i = 1; i <= 3; ++i) {
+      writes.add(writeLater(value, i));
+    }
+    Thread.sleep(100);
+    mWriteReleased.countDown();
+    for (Future<?> write : writes) {
+      write.get(1, TimeUnit.SECONDS);
+    }
+    assertEquals(3, mWrites.size());
+  }
+
+  @Test
+  public void testErrorsCompleteTheWrite() throws Exception {
+    ChannelValue<Integer> value = createCoalescedValue(ImmutableList.of(NO_WINDOW));
+    mWriteReleased = new CountDownLatch(1);
+    Future<?> first = writeLater(value, 1);
+    Thread.sleep(100);
+    // Both writes of zero wait for the first one and are combined.
+    Future<?> sender = writeLater(value, 0);
+    Thread.sleep(50);
+    Future<?> waiter = writeLater(value, 0);
+    Thread.sleep(50);
+    mWriteReleased.countDown();
+    first.get(1, TimeUnit.SECONDS);
+    for (Future<?> write : ImmutableList.of(sender, waiter)) {
+      try {
+        write.get(1, TimeUnit.SECONDS);
+        fail();
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof IllegalAccessError);
+      }
+    }
+    value.write(5);
+    assertEquals(ImmutableList.of(1, 5), mWrites);
+  }
+
+  private Future<?> writeLater(ChannelValue<Integer> value, int writeValue) {
+    return mExecutor.submit(() -> {
+      value.write(writeValue);
+      return null;
+    });
+  }
+
+  /** A value whose writes wait for mWriteReleased, negative values fail, zero throws an Error. */
+  @SuppressWarnings("unchecked")
+  private ChannelValue<Integer> createCoalescedValue(List<WriteDebounce> debounces) {
+    ChannelValue<Integer> value = new ReadOnlyChannelValue<Integer>("target", () -> 0) {
+      @Override
+      public Mode getMode() {
+        return Mode.READ_WRITE;
+      }
+
+      @Override
+      public void write(Integer value) throws ChannelException {
+        try {
+          mWriteReleased.await();
+        } catch (InterruptedException e) {
+          throw new ChannelException("Interrupted", e);
+        }
+        if (value < 0) {
+          throw new ChannelException("Illegal value");
+        }
+        if (value == 0) {
+          throw new IllegalAccessError("Broken device driver");
+        }
+        mWrites.add(value);
+      }
+    };
+    FakeChannel channel = new FakeChannel("thermostat", ChannelType.NEST_THERMOSTAT);
+    return (ChannelValue<Integer>) new CoalescingWrites(debounces)
+        .decorate(channel.index("nest", value));
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+import com.s13g.winston.lib.core.metrics.MetricsRegistry;
+import com.s13g.winston.shared.ChannelType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link DeviceLanes}.
+ */
+public class DeviceLanesTest {
+  private ExecutorService mLaneExecutor;
+  private ExecutorService mCallers;
+  private MetricsRegistry mRegistry;
+  private DeviceLanes mLanes;
+  private CountDownLatch mGarageCalled;
+  private CountDownLatch mGarageResponds;
+  private AtomicInteger mConcurrentReads;
+  private AtomicInteger mMaxConcurrentReads;
+
+  @Before
+  public void setUp() {
+    mLaneExecutor = Executors.newCachedThreadPool();
+    mCallers = Executors.newCachedThreadPool();
+    mRegistry = new MetricsRegistry();
+    mLanes = new DeviceLanes(mLaneExecutor, mRegistry, 2, 2000);
+    mGarageCalled = new CountDownLatch(1);
+    mGarageResponds = new CountDownLatch(1);
+    mConcurrentReads = new AtomicInteger();
+    mMaxConcurrentReads = new AtomicInteger();
+  }
+
+  @After
+  public void tearDown() {
+    mGarageResponds.countDown();
+    mLaneExecutor.shutdownNow();
+    mCallers.shutdownNow();
+  }
+
+  @Test
+  public void testCommandsOfTheSameDeviceDoNotOverlap() throws Exception {
+    ChannelValue<Integer> temperature0 = decorate("10.0.0.1", "tempC-0");
+    ChannelValue<Integer> temperature1 = decorate("10.0.0.1", "tempC-1");
+    // Commands wait until the lane picks them up, so at most two are submitted at once.
+    List<Future<Integer>> reads = new ArrayList<>();
+    for (int i = 0; i < 3; ++i) {
+      reads.add(mCallers.submit(temperature0::read));
+      reads.add(mCallers.submit(temperature1::read));
+      reads.get(reads.size() - 2).get(1, TimeUnit.SECONDS);
+      reads.get(reads.size() - 1).get(1, TimeUnit.SECONDS);
+    }
+    for (Future<Integer> read : reads) {
+      assertEquals(21, (int) read.get(1, TimeUnit.SECONDS));
+    }
+    assertEquals(1, mMaxConcurrentReads.get());
+  }
+
+  @Test
+  public void testChannelsWithTheSameAddressShareALane() throws Exception {
+    ChannelValue<Integer> temperature = decorate("sensor", "10.0.0.1", "tempC-0");
+    ChannelValue<Integer> power = decorate("power", "10.0.0.1", "power-0");
+    List<Future<Integer>> reads = new ArrayList<>();
+    for (int i = 0; i < 3; ++i) {
+      reads.add(mCallers.submit(temperature::read));
+      reads.add(mCallers.submit(power::read));
+      reads.get(reads.size() - 2).get(1, TimeUnit.SECONDS);
+      reads.get(reads.size() - 1).get(1, TimeUnit.SECONDS);
+    }
+    assertEquals(1, mMaxConcurrentReads.get());
+  }
+
+  @Test
+  public void testDeadDeviceDoesNotStallOthers() throws Exception {
+    ChannelValue<Integer> garage = decorate("garage", "door");
+    ChannelValue<Integer> light = decorate("10.0.0.1", "tempC-0");
+    // One command in flight, two waiting, the next one is rejected.
+    mCallers.submit(garage::read);
+    assertTrue(mGarageCalled.await(1, TimeUnit.SECONDS));
+    mCallers.submit(garage::read);
+    mCallers.submit(garage::read);
+    while (!getMetrics().contains("winston_lane_queued{device=\"garage\"} 2.0")) {
+      Thread.sleep(10);
+    }
+    assertEquals(21, (int) light.read());
+    try {
+      garage.read();
+      fail();
+    } catch (ChannelException e) {
+      assertTrue(e.getMessage().startsWith("Too many commands"));
+    }
+  }
+
+  @Test
+  public void testCallersStopWaitingAfterTimeout() {
+    ChannelValue<Integer> garage = decorate("garage", "door");
+    long start = System.currentTimeMillis();
+    try {
+      garage.read();
+      fail();
+    } catch (ChannelException e) {
+      assertTrue(e.getMessage().startsWith("Timed out"));
+    }
+    assertTrue(System.currentTimeMillis() - start < 4000);
+  }
+
+  @Test
+  public void testTimedOutCommandsLeaveTheQueue() throws Exception {
+    ChannelValue<Integer> garage = decorate("garage", "door");
+    mCallers.submit(garage::read);
+    assertTrue(mGarageCalled.await(1, TimeUnit.SECONDS));
+    try {
+      garage.read();
+      fail();
+    } catch (ChannelException e) {
+      assertTrue(e.getMessage().startsWith("Timed out"));
+    }
+    assertTrue(getMetrics().contains("winston_lane_queued{device=\"garage\"} 0.0"));
+  }
+
+  @Test
+  public void testErrorsDoNotStopTheLane() throws Exception {
+    ChannelValue<Integer> broken = decorate("broken", "door");
+    for (int i = 0; i < 2; ++i) {
+      try {
+        broken.read();
+        fail();
+      } catch (IllegalAccessError expected) {
+        // Expected.
+      }
+    }
+  }
+
+  private String getMetrics() throws IOException {
+    StringWriter writer = new StringWriter();
+    mRegistry.writeTo(writer);
+    return writer.toString();
+  }
+
+  private ChannelValue<Integer> decorate(String address, String name) {
+    return decorate(address, address, name);
+  }
+
+  /** The garage device never responds, the broken one throws an Error, others take a moment. */
+  @SuppressWarnings("unchecked")
+  private ChannelValue<Integer> decorate(String channelId, String address, String name) {
+    ChannelValue<Integer> value = new ReadOnlyChannelValue<>(name, () -> {
+      if (address.equals("broken")) {
+        throw new IllegalAccessError("Broken device driver");
+      }
+      if (address.equals("garage")) {
+        mGarageCalled.countDown();
+        try {
+          mGarageResponds.await();
+        } catch (InterruptedException e) {
+          throw new ChannelException("Interrupted", e);
+        }
+      }
+      int concurrent = mConcurrentReads.incrementAndGet();
+      mMaxConcurrentReads.accumulateAndGet(concurrent, Math::max);
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      mConcurrentReads.decrementAndGet();
+      return 21;
+    });
+    FakeChannel channel =
+        new FakeChannel(channelId, ChannelType.WINSTON_SENSORBOX).setAddress(address);
+    return (ChannelValue<Integer>) mLanes.decorate(channel.index("winston", value));
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package com.s13g.winston.master.channel;
+
+import com.google.common.collect.ImmutableList;
+import com.s13g.winston.shared.ChannelType;
+
+import java.util.List;
+
+/**
+ * A channel with a fixed set of values, for tests.
+ */
+public class FakeChannel implements Channel {
+  private final String mChannelId;
+  private final ChannelType mType;
+  private final List<ChannelValue> mValues;
+  private String mAddress;
+
+  public FakeChannel(String channelId, ChannelType type, ChannelValue... values) {
+    mChannelId = channelId;
+    mType = type;
+    mValues = ImmutableList.copyOf(values);
+    mAddress = channelId;
+  }
+
+  /** Sets the address of the device behind this channel, which defaults to its ID. */
+  public FakeChannel setAddress(String address) {
+    mAddress = address;
+    return this;
+  }
+
+  @Override
+  public String getChannelId() {
+    return mChannelId;
+  }
+
+  @Override
+  public ChannelType getType() {
+    return mType;
+  }
+
+  @Override
+  public String getAddress() {
+    return mAddress;
+  }
+
+  @Override
+  public List<ChannelValue> getValues() {
+    return mValues;
+  }
+
+  /** Indexes the given value as a value of this channel in a module of the given type. */
+  IndexedChannelValue index(String moduleType, ChannelValue<?> value) {
+    return new IndexedChannelValue(moduleType, this, value);
+  }
+}
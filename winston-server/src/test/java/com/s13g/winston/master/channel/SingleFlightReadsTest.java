@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel;
+
+import com.s13g.winston.shared.ChannelType;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link SingleFlightReads}.
+ */
+public class SingleFlightReadsTest {
+  private static final int NUM_READERS = 5;
+
+  @Test
+  public void testConcurrentReadsShareOneRead() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger numReads = new AtomicInteger();
+    ChannelValue<Integer> value = decorate(() -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        throw new ChannelException("Interrupted", e);
+      }
+      return numReads.incrementAndGet();
+    });
+
+    ExecutorService executor = Executors.newFixedThreadPool(NUM_READERS);
+    List<Future<Integer>> results = new ArrayList<>();
+    for (int i = 0; i < NUM_READERS; ++i) {
+      results.add(executor.submit(value::read));
+    }
+    // Give all readers the chance to join the first read, which is blocked until released.
+    Thread.sleep(200);
+    release.countDown();
+    for (Future<Integer> result : results) {
+      assertEquals(1, (int) result.get());
+    }
+    assertEquals(1, numReads.get());
+
+    // Later reads are not served from the completed read.
+    assertEquals(2, (int) value.read());
+    executor.shutdown();
+  }
+
+  @Test
+  public void testErrorsAreNotCached() throws Exception {
+    AtomicInteger numReads = new AtomicInteger();
+    ChannelValue<Integer> value = decorate(() -> {
+      if (numReads.incrementAndGet() == 1) {
+        throw new ChannelException("Device not reachable");
+      }
+      return 42;
+    });
+
+    try {
+      value.read();
+      fail("Expected ChannelException");
+    } catch (ChannelException expected) {
+      // Expected.
+    }
+    assertEquals(42, (int) value.read());
+  }
+
+  @Test
+  public void testErrorDoesNotBlockLaterReads() throws Exception {
+    AtomicInteger numReads = new AtomicInteger();
+    ChannelValue<Integer> value = decorate(() -> {
+      if (numReads.incrementAndGet() == 1) {
+        throw new StackOverflowError();
+      }
+      return 42;
+    });
+    try {
+      value.read();
+      fail("Expected StackOverflowError");
+    } catch (StackOverflowError expected) {
+      // Expected.
+    }
+    assertEquals(42, (int) value.read());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ChannelValue<Integer> decorate(
+      ReadOnlyChannelValue.ChannelReadAction<Integer> readAction) {
+    FakeChannel channel = new FakeChannel("sensor", ChannelType.WINSTON_SENSORBOX);
+    return (ChannelValue<Integer>) new SingleFlightReads().decorate(
+        channel.index("test", new ReadOnlyChannelValue<>("temp", readAction)));
+  }
+}
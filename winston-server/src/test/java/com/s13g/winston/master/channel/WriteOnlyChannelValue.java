@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package com.s13g.winston.master.channel;
+
+/**
+ * A write-only channel value that hands every written value to a write action, for tests.
+ */
+public class WriteOnlyChannelValue implements ChannelValue<String> {
+  private final String mName;
+  private final ChannelWriteAction mWriteAction;
+
+  public WriteOnlyChannelValue(String name, ChannelWriteAction writeAction) {
+    mName = name;
+    mWriteAction = writeAction;
+  }
+
+  @Override
+  public Mode getMode() {
+    return Mode.WRITE_ONLY;
+  }
+
+  @Override
+  public String getName() {
+    return mName;
+  }
+
+  @Override
+  public void writeRaw(String value) throws ChannelException {
+    write(value);
+  }
+
+  @Override
+  public void write(String value) throws ChannelException {
+    mWriteAction.write(value);
+  }
+
+  @Override
+  public String read() throws ChannelException {
+    throw new ChannelException("Write only.");
+  }
+
+  /** Writes a value to the channel and reports errors through a ChannelException. */
+  public interface ChannelWriteAction {
+    void write(String value) throws ChannelException;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.channel.instance;
+
+import com.google.common.collect.ImmutableList;
+import com.s13g.winston.master.channel.Channel;
+import com.s13g.winston.master.channel.ChannelException;
+import com.s13g.winston.master.channel.ChannelValue;
+import com.s13g.winston.master.channel.ChannelValueIndex;
+import com.s13g.winston.master.channel.FakeChannel;
+import com.s13g.winston.master.channel.WriteOnlyChannelValue;
+import com.s13g.winston.master.modules.FakeModule;
+import com.s13g.winston.master.modules.Module;
+import com.s13g.winston.proto.Master;
+import com.s13g.winston.shared.ChannelType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link GroupChannel}.
+ */
+public class GroupChannelTest {
+  private ExecutorService mExecutor;
+  private ChannelValueIndex mIndex;
+  private List<String> mExecuted;
+
+  @Before
+  public void setUp() {
+    mExecutor = Executors.newFixedThreadPool(8);
+    mIndex = ChannelValueIndex.create(ImmutableList.of(createModule()));
+    mExecuted = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  @After
+  public void tearDown() {
+    mExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testChannelsAreHandledInParallelAndInOrder() throws Exception {
+    ChannelValue value = createGroupValue("io/wemo/tv/switch/1", "io/wemo/tv/switch/0",
+        "io/wemo/fan/switch/1", "io/wemo/lamp/switch/1", "io/wemo/radio/switch/1");
+    long start = System.currentTimeMillis();
+    value.writeRaw("on");
+    // Two actions on the TV one after the other, the others in parallel.
+    assertTrue(System.currentTimeMillis() - start < 400);
+    assertEquals(5, mExecuted.size());
+    assertTrue(mExecuted.indexOf("tv/1") < mExecuted.indexOf("tv/0"));
+
+    value.writeRaw("unknown");
+    assertEquals(5, mExecuted.size());
+    assertEquals("io/wemo/tv/switch/1: OK\nio/wemo/tv/switch/0: OK\nio/wemo/fan/switch/1: OK\n"
+        + "io/wemo/lamp/switch/1: OK\nio/wemo/radio/switch/1: OK", value.read());
+  }
+
+  @Test
+  public void testFailuresAreReported() throws Exception {
+    ChannelValue value = createGroupValue("io/wemo/tv/switch/1", "io/wemo/fan/switch/fail");
+    try {
+      value.writeRaw("on");
+      fail();
+    } catch (ChannelException e) {
+      assertEquals("1 of 2 actions of group 'night' failed: "
+          + "io/wemo/fan/switch/fail: Device offline.", e.getMessage());
+    }
+    assertEquals(ImmutableList.of("tv/1"), mExecuted);
+    assertEquals("io/wemo/tv/switch/1: OK\nio/wemo/fan/switch/fail: Device offline.",
+        value.read());
+  }
+
+  @Test
+  public void testBadActionsAreRejected() {
+    for (String action : ImmutableList.of("io/wemo/garage/switch/1", "io/wemo/tv/switch",
+        "data/wemo/tv/switch/1")) {
+      try {
+        createGroupValue(action);
+        fail(action);
+      } catch (IllegalArgumentException expected) {
+      }
+    }
+  }
+
+  private ChannelValue createGroupValue(String... actions) {
+    Master.Group group = Master.Group.newBuilder()
+        .setName("night")
+        .addTrigger(Master.GroupTrigger.newBuilder()
+            .addInput("on")
+            .addAllAction(ImmutableList.copyOf(actions)))
+        .build();
+    GroupChannel channel = new GroupChannel(ImmutableList.of(group), mExecutor);
+    channel.resolveActions(mIndex);
+    return channel.getValues().get(0);
+  }
+
+  /** A module with a switch per channel. Writes take a while, 'fail' fails. */
+  private Module createModule() {
+    List<Channel> channels = new ArrayList<>();
+    for (String device : ImmutableList.of("tv", "fan", "lamp", "radio")) {
+      channels.add(new FakeChannel(device, ChannelType.WEMO_SWITCH,
+          new WriteOnlyChannelValue("switch", value -> {
+            try {
+              Thread.sleep(100);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            if (value.equals("fail")) {
+              throw new ChannelException("Device offline.");
+            }
+            mExecuted.add(device + "/" + value);
+          })));
+    }
+    return new FakeModule("wemo", channels);
+  }
+}
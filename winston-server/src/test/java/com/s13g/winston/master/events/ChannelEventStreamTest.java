@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.events;
+
+import com.s13g.winston.common.HandlerRequest;
+import com.s13g.winston.common.RequestHandlingException;
+import com.s13g.winston.master.state.ChannelStateStore;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.simpleframework.http.parse.AddressParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ChannelEventStream}.
+ */
+public class ChannelEventStreamTest {
+  private ScheduledExecutorService mExecutor;
+  private ChannelStateStore mStateStore;
+  private ChannelEventStream mEventStream;
+
+  @Before
+  public void initialize() {
+    mExecutor = Executors.newSingleThreadScheduledExecutor();
+    mStateStore = new ChannelStateStore();
+    mEventStream = new ChannelEventStream(mStateStore, mExecutor);
+  }
+
+  @After
+  public void shutdown() {
+    mExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testFilterByModuleAndChannel() throws Exception {
+    ByteArrayOutputStream nest = subscribe("/events?module=nest");
+    ByteArrayOutputStream tv = subscribe("/events?module=wemo&channel=tv");
+
+    long version = mStateStore.getVersion() + 1;
+    mStateStore.record("nest/abc/humidity", 40f);
+    mStateStore.record("wemo/tv/switch", true);
+    mStateStore.record("wemo/lamp/switch", true);
+    String nestEvents = awaitEvents(nest, "nest/abc/humidity");
+    String tvEvents = awaitEvents(tv, "wemo/tv/switch");
+
+    assertTrue(nestEvents.contains("id: " + version + "\nevent: value\n"
+        + "data: {\"path\":\"nest/abc/humidity\",\"value\":\"40.0\",\"version\":" + version
+        + ","));
+    assertFalse(nestEvents.contains("wemo"));
+    assertTrue(tvEvents.contains("\"path\":\"wemo/tv/switch\""));
+    assertFalse(tvEvents.contains("nest"));
+    assertFalse(tvEvents.contains("lamp"));
+  }
+
+  @Test
+  public void testReplaySince() throws Exception {
+    long version = mStateStore.record("nest/abc/humidity", 40f).getVersion();
+    mStateStore.record("wemo/tv/switch", true);
+
+    String events = awaitEvents(subscribe("/events?since=" + version), "wemo/tv/switch");
+    assertFalse(events.contains("nest/abc/humidity"));
+    assertTrue(events.contains("id: " + (version + 1) + "\n"));
+  }
+
+  @Test
+  public void testReplayLargerThanQueue() throws Exception {
+    long version = mStateStore.getVersion();
+    for (int i = 0; i < 1000; i++) {
+      mStateStore.record("winston/node/value-" + i, i);
+    }
+
+    String events = awaitEvents(subscribe("/events?since=" + version), "winston/node/value-999");
+    assertTrue(events.contains("\"path\":\"winston/node/value-999\""));
+    assertEquals(1, mEventStream.getSubscriberCount());
+  }
+
+  @Test
+  public void testStalledSubscriberIsDisconnected() throws Exception {
+    mEventStream = new ChannelEventStream(mStateStore, mExecutor, 50, 200);
+    mEventStream.start();
+    StalledStream stalled = new StalledStream();
+    mEventStream.subscribe(HandlerRequest.from(new AddressParser("/events")), stalled);
+    ByteArrayOutputStream healthy = subscribe("/events");
+
+    mStateStore.record("nest/abc/humidity", 40f);
+    mStateStore.record("wemo/tv/switch", true);
+    // The stalled client does not hold up events for the other client.
+    awaitEvents(healthy, "wemo/tv/switch");
+
+    assertTrue(stalled.mClosed.await(5, TimeUnit.SECONDS));
+    long deadline = System.currentTimeMillis() + 5000;
+    while (mEventStream.getSubscriberCount() > 1 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(1, mEventStream.getSubscriberCount());
+  }
+
+  @Test(expected = RequestHandlingException.class)
+  public void testIllegalSince() throws Exception {
+    subscribe("/events?since=foo");
+  }
+
+  private ByteArrayOutputStream subscribe(String url) throws RequestHandlingException {
+    ByteArrayOutputStream response = new ByteArrayOutputStream();
+    mEventStream.subscribe(HandlerRequest.from(new AddressParser(url)), response);
+    return response;
+  }
+
+  /** Waits until the given text was written and returns the stream contents. */
+  private static String awaitEvents(ByteArrayOutputStream response, String expected)
+      throws Exception {
+    long deadline = System.currentTimeMillis() + 5000;
+    String events = "";
+    while (!events.contains(expected) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+      events = new String(response.toByteArray(), StandardCharsets.UTF_8);
+    }
+    return events;
+  }
+
+  /** A client that stopped reading: every write blocks until the stream is closed. */
+  private static class StalledStream extends OutputStream {
+    private final CountDownLatch mClosed = new CountDownLatch(1);
+
+    @Override
+    public void write(int b) throws IOException {
+      try {
+        mClosed.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      throw new IOException("Stream closed");
+    }
+
+    @Override
+    public void close() {
+      mClosed.countDown();
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.handlers;
+
+import com.google.common.collect.ImmutableList;
+import com.s13g.winston.common.HandlerRequest;
+import com.s13g.winston.common.HandlerResponse;
+import com.s13g.winston.common.RequestHandlingException;
+import com.s13g.winston.master.channel.ChannelBatchExecutor;
+import com.s13g.winston.master.channel.ChannelValue;
+import com.s13g.winston.master.channel.ChannelValueIndex;
+import com.s13g.winston.master.channel.FakeChannel;
+import com.s13g.winston.master.channel.ReadOnlyChannelValue;
+import com.s13g.winston.master.channel.WriteOnlyChannelValue;
+import com.s13g.winston.master.modules.FakeModule;
+import com.s13g.winston.master.modules.Module;
+import com.s13g.winston.proto.ForClients.BatchResponse;
+import com.s13g.winston.shared.ChannelType;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.simpleframework.http.Status;
+import org.simpleframework.http.parse.AddressParser;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link MasterModuleHandler}.
+ */
+public class MasterModuleHandlerTest {
+  private MasterModuleHandler mHandler;
+  private String mLastWritten;
+
+  @Before
+  public void initialize() {
+    mHandler = createHandler(
+        new ReadOnlyChannelValue<>("tempC-0", () -> 21.5f),
+        new WriteOnlyChannelValue("switch", value -> mLastWritten = value));
+  }
+
+  private MasterModuleHandler createHandler(ChannelValue... values) {
+    Module module = new FakeModule("winston",
+        new FakeChannel("10.0.0.1", ChannelType.WINSTON_SENSORBOX, values));
+    return new MasterModuleHandler(ChannelValueIndex.create(ImmutableList.of(module)),
+        new ChannelBatchExecutor(Executors.newFixedThreadPool(2), 1000));
+  }
+
+  @Test
+  public void testListings() throws Exception {
+    assertEquals("winston", handle("io"));
+    assertEquals("10.0.0.1", handle("io/winston"));
+    assertEquals("tempC-0,switch", handle("io/winston/10.0.0.1"));
+  }
+
+  @Test
+  public void testReadAndWrite() throws Exception {
+    assertEquals("21.5", handle("io/winston/10.0.0.1/tempC-0"));
+    assertEquals("OK", handle("io/winston/10.0.0.1/switch/on"));
+    assertEquals("on", mLastWritten);
+  }
+
+  @Test
+  public void testIllegalRequests() {
+    assertFails("io/nest");
+    assertFails("io/winston/10.0.0.2");
+    assertFails("io/winston/10.0.0.1/humidity");
+    assertFails("io/winston/10.0.0.1/tempC-0/22");
+    assertFails("io/winston/10.0.0.1/switch");
+    assertFails("io/winston/10.0.0.1/switch/on/off");
+  }
+
+  @Test
+  public void testEmptyChannelIsNotFound() {
+    try {
+      handle("io/winston//");
+      fail("Request should fail");
+    } catch (RequestHandlingException expected) {
+      assertEquals(Optional.of(Status.NOT_FOUND), expected.errorCode);
+    }
+  }
+
+  @Test
+  public void testBatch() throws Exception {
+    BatchResponse response = BatchResponse.parseFrom(handleRaw(
+        "/io/batch?read=winston/10.0.0.1/tempC-0&read=winston/10.0.0.1/switch" +
+            "&write=winston/10.0.0.1/switch/off"));
+
+    assertEquals(3, response.getItemCount());
+    assertTrue(response.getItem(0).getSuccess());
+    assertEquals("winston/10.0.0.1/tempC-0", response.getItem(0).getPath());
+    assertEquals("21.5", response.getItem(0).getValue());
+    assertFalse(response.getItem(1).getSuccess());
+    assertFalse(response.getItem(1).getError().isEmpty());
+    assertTrue(response.getItem(2).getSuccess());
+    assertEquals("off", mLastWritten);
+  }
+
+  @Test
+  public void testBatchKeepsRequestOrder() throws Exception {
+    mHandler = createHandler(new LevelValue());
+    BatchResponse response = BatchResponse.parseFrom(handleRaw(
+        "/io/batch?write=winston/10.0.0.1/level/1&read=winston/10.0.0.1/level" +
+            "&write=winston/10.0.0.1/level/2&read=winston/10.0.0.1/level"));
+
+    assertEquals(4, response.getItemCount());
+    assertEquals("winston/10.0.0.1/level/1", response.getItem(0).getPath());
+    assertEquals("1", response.getItem(1).getValue());
+    assertEquals("winston/10.0.0.1/level/2", response.getItem(2).getPath());
+    assertEquals("2", response.getItem(3).getValue());
+  }
+
+  @Test(expected = RequestHandlingException.class)
+  public void testBatchUnknownValue() throws Exception {
+    handleRaw("/io/batch?read=winston/10.0.0.1/humidity");
+  }
+
+  private String handle(String request) throws RequestHandlingException {
+    return new String(handleRaw("/" + request));
+  }
+
+  private byte[] handleRaw(String url) throws RequestHandlingException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    mHandler.doHandle(HandlerRequest.from(new AddressParser(url)), HandlerResponse.from(out));
+    return out.toByteArray();
+  }
+
+  private void assertFails(String request) {
+    try {
+      handle(request);
+      fail("Request should fail: " + request);
+    } catch (RequestHandlingException expected) {
+      // Expected.
+    }
+  }
+
+  /** A value that can be read and written. */
+  private static class LevelValue implements ChannelValue<String> {
+    private volatile String mLevel = "0";
+
+    @Override
+    public Mode getMode() {
+      return Mode.READ_WRITE;
+    }
+
+    @Override
+    public String getName() {
+      return "level";
+    }
+
+    @Override
+    public void writeRaw(String value) {
+      write(value);
+    }
+
+    @Override
+    public void write(String value) {
+      mLevel = value;
+    }
+
+    @Override
+    public String read() {
+      return mLevel;
+    }
+  }
+}
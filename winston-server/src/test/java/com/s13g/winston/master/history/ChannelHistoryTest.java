@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.history;
+
+import com.s13g.winston.master.state.ChannelStateStore;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ChannelHistory}.
+ */
+public class ChannelHistoryTest {
+  private static final String PATH = "winston/10.0.0.1/tempC-0";
+  private static final double DELTA = 1e-9;
+
+  @Test
+  public void testOnlyNumbersAndBooleansAreRecorded() {
+    ChannelStateStore store = new ChannelStateStore();
+    ChannelHistory history = new ChannelHistory(TimeUnit.DAYS.toMillis(1));
+    store.addListener(history);
+    store.record(PATH, 21.5f);
+    store.record("wemo/tv/switch", true);
+    store.record("nest/home/away", "AWAY");
+
+    assertEquals(21.5, history.query(PATH, 0, Long.MAX_VALUE, 0).values[0], DELTA);
+    assertEquals(1, history.query("wemo/tv/switch", 0, Long.MAX_VALUE, 0).values[0], DELTA);
+    assertFalse(history.contains("nest/home/away"));
+  }
+
+  @Test
+  public void testRawQueryIncludesValueBeforeRange() {
+    ChannelHistory history = createHistory(TimeUnit.DAYS.toMillis(1));
+    ChannelHistory.Series series = history.query(PATH, 1500, 3000, 0);
+    assertArrayEquals(new long[]{1000, 2000, 3000}, series.timestampsMillis);
+    assertArrayEquals(new double[]{1, 2, 3}, series.values, DELTA);
+
+    assertEquals(0, history.query(PATH, 0, 999, 0).size());
+    assertArrayEquals(new double[]{4}, history.query(PATH, 5000, 6000, 0).values, DELTA);
+  }
+
+  @Test
+  public void testDownsampling() {
+    ChannelHistory history = createHistory(TimeUnit.DAYS.toMillis(1));
+    // Samples at 1000, 2000, 3000 and 4000 with values 1 to 4.
+    ChannelHistory.Series series = history.query(PATH, 0, 5999, 2000);
+    // No value is known in the first step. 1 at 1000 is before the second step, which averages
+    // 2 and 3. The last step carries 4 forward.
+    assertArrayEquals(new long[]{0, 2000, 4000}, series.timestampsMillis);
+    assertArrayEquals(new double[]{1, 2.5, 4}, series.values, DELTA);
+  }
+
+  @Test
+  public void testDownsamplingIsTimeWeighted() {
+    ChannelHistory history = new ChannelHistory(TimeUnit.DAYS.toMillis(1));
+    history.add(PATH, 0, 0);
+    history.add(PATH, 9000, 10);
+    history.add(PATH, 9500, 10);
+
+    ChannelHistory.Series series = history.query(PATH, 0, 19999, 10000);
+    // 0 is held for 9 seconds, 10 for 1 second. The second step carries 10 forward.
+    assertArrayEquals(new double[]{1, 10}, series.values, DELTA);
+    assertArrayEquals(new double[]{0, 10}, series.minValues, DELTA);
+    assertArrayEquals(new double[]{10, 10}, series.maxValues, DELTA);
+    assertArrayEquals(new int[]{3, 0}, series.counts);
+  }
+
+  @Test
+  public void testDownsamplingFromRollups() {
+    long hour = TimeUnit.HOURS.toMillis(1);
+    long start = 1000 * TimeUnit.DAYS.toMillis(1);
+    ChannelHistory history = new ChannelHistory(TimeUnit.DAYS.toMillis(7));
+    // Values 0 to 1079, every 10 seconds for three hours.
+    for (int i = 0; i < 1080; ++i) {
+      history.add(PATH, start + i * 10000L, i);
+    }
+
+    ChannelHistory.Series series = history.query(PATH, start - hour, start + 4 * hour - 1, hour);
+    assertArrayEquals(new long[]{start, start + hour, start + 2 * hour, start + 3 * hour},
+        series.timestampsMillis);
+    assertArrayEquals(new double[]{179.5, 539.5, 899.5, 1079}, series.values, DELTA);
+    assertArrayEquals(new double[]{0, 360, 720, 1079}, series.minValues, DELTA);
+    assertArrayEquals(new double[]{359, 719, 1079, 1079}, series.maxValues, DELTA);
+    assertArrayEquals(new int[]{360, 360, 360, 0}, series.counts);
+
+    // Steps that do not start at whole minutes are computed from the samples. 0 is held for
+    // almost 10 seconds, 360 for a single millisecond.
+    ChannelHistory.Series raw = history.query(PATH, start + 1, start + hour, hour);
+    assertArrayEquals(new double[]{(64620 * 10000.0 + 360) / hour}, raw.values, DELTA);
+    assertArrayEquals(new double[]{0}, raw.minValues, DELTA);
+    assertArrayEquals(new int[]{360}, raw.counts);
+  }
+
+  @Test
+  public void testRollupsAreTimeWeighted() {
+    long minute = TimeUnit.MINUTES.toMillis(1);
+    long hour = TimeUnit.HOURS.toMillis(1);
+    long start = 1000 * TimeUnit.DAYS.toMillis(1);
+    ChannelHistory history = new ChannelHistory(TimeUnit.DAYS.toMillis(1));
+    history.add(PATH, start, 0);
+    history.add(PATH, start + 50 * minute, 10);
+    history.add(PATH, start + 50 * minute + 1, 10);
+
+    // 0 is held for 50 minutes, 10 for the remaining 10 minutes and the whole next hour.
+    ChannelHistory.Series series = history.query(PATH, start, start + 2 * hour - 1, hour);
+    assertArrayEquals(new double[]{10.0 / 6, 10}, series.values, DELTA);
+    assertArrayEquals(new int[]{3, 0}, series.counts);
+  }
+
+  @Test
+  public void testCoarseRollupsOutliveSamples() {
+    long hour = TimeUnit.HOURS.toMillis(1);
+    long start = 1000 * TimeUnit.DAYS.toMillis(1);
+    ChannelHistory history = new ChannelHistory(hour);
+    for (int i = 0; i < 72; ++i) {
+      history.add(PATH, start + i * hour, i);
+    }
+
+    // The minutes of the first day are gone, its hours and day are kept.
+    assertEquals(0, history.query(PATH, start, start + hour - 1, TimeUnit.MINUTES.toMillis(1))
+        .size());
+    assertArrayEquals(new double[]{0, 1},
+        history.query(PATH, start, start + 2 * hour - 1, hour).values, DELTA);
+    assertArrayEquals(new double[]{11.5},
+        history.query(PATH, start, start + 24 * hour - 1, 24 * hour).values, DELTA);
+  }
+
+  @Test
+  public void testRetention() {
+    ChannelHistory history = new ChannelHistory(1000);
+    for (int i = 1; i <= 5000; ++i) {
+      history.add(PATH, i * 10L, i);
+    }
+    ChannelHistory.Series series = history.query(PATH, 0, Long.MAX_VALUE, 0);
+    assertEquals(5000, series.values[series.size() - 1], DELTA);
+    // Samples are dropped in whole blocks, once all of their samples are too old.
+    assertTrue(series.timestampsMillis[0] > 50000 - 1000 - 1024 * 10);
+    assertTrue(series.timestampsMillis[0] <= 50000 - 1000);
+  }
+
+  private static ChannelHistory createHistory(long retentionMillis) {
+    ChannelHistory history = new ChannelHistory(retentionMillis);
+    for (int i = 1; i <= 4; ++i) {
+      history.add(PATH, i * 1000L, i);
+    }
+    return history;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.history;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link CompressedBlock}.
+ */
+public class CompressedBlockTest {
+  @Test
+  public void testRoundTrip() {
+    Random random = new Random(42);
+    long[] timestamps = new long[1000];
+    double[] values = new double[timestamps.length];
+    long timestamp = 1500000000000L;
+    double value = 21.5;
+    for (int i = 0; i < timestamps.length; ++i) {
+      // Mostly regular intervals, with some jitter, duplicates and gaps of several days.
+      int kind = random.nextInt(10);
+      timestamp += kind == 0 ? random.nextInt(1000000000) : kind == 1 ? 0 : 10000 + kind;
+      value = kind == 2 ? value : kind == 3 ? -value : kind == 4 ? Double.NaN
+          : Math.round((value + random.nextGaussian()) * 10) / 10.0;
+      timestamps[i] = timestamp;
+      values[i] = value;
+    }
+
+    CompressedBlock block = new CompressedBlock();
+    for (int i = 0; i < timestamps.length; ++i) {
+      block.append(timestamps[i], values[i]);
+    }
+    block.seal();
+
+    List<Long> readTimestamps = new ArrayList<>();
+    List<Double> readValues = new ArrayList<>();
+    block.forEach((t, v) -> {
+      readTimestamps.add(t);
+      readValues.add(v);
+    });
+    assertEquals(timestamps.length, readTimestamps.size());
+    for (int i = 0; i < timestamps.length; ++i) {
+      assertEquals(timestamps[i], (long) readTimestamps.get(i));
+      assertEquals(Double.doubleToLongBits(values[i]),
+          Double.doubleToLongBits(readValues.get(i)));
+    }
+    assertEquals(timestamps[0], block.getFirstTimestamp());
+    assertEquals(timestamps[timestamps.length - 1], block.getLastTimestamp());
+  }
+
+  @Test
+  public void testRegularSamplesCompressWell() {
+    CompressedBlock block = new CompressedBlock();
+    for (int i = 0; i < 1000; ++i) {
+      block.append(i * 60000L, i % 2);
+    }
+    block.seal();
+    // Uncompressed, every sample takes 16 bytes. Here every timestamp takes a single bit and
+    // every value 12 bits, since 0 and 1 only differ in 10 bits.
+    assertTrue(block.getSizeBytes() < 1000 * 16 / 8);
+  }
+}
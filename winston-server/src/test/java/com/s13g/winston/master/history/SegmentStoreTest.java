@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.history;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for {@link SegmentStore}.
+ */
+public class SegmentStoreTest {
+  private static final String PATH = "winston/10.0.0.1/tempC-0";
+  private static final long DAY = TimeUnit.DAYS.toMillis(1);
+  private static final long RETENTION = 10 * DAY;
+  private static final long START = 1000 * DAY;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testSamplesSurviveReopening() throws IOException {
+    File directory = folder.newFolder();
+    SegmentStore store = SegmentStore.open(directory, RETENTION, 1000);
+    store.add(PATH, 1000, 21.5);
+    store.add("wemo/tv/switch", 2000, 1);
+    store.add(PATH, 3000, 22);
+    store.close();
+
+    SegmentStore reopened = SegmentStore.open(directory, RETENTION, 1000);
+    reopened.add(PATH, 4000, 23);
+    reopened.flush();
+    assertEquals(1, reopened.getSegmentCount());
+    assertArrayEquals(new String[]{PATH, "wemo/tv/switch", PATH, PATH},
+        readPaths(reopened, 0, Long.MAX_VALUE).toArray());
+    assertArrayEquals(new String[]{"wemo/tv/switch", PATH},
+        readPaths(reopened, 1500, 3000).toArray());
+  }
+
+  @Test
+  public void testRangeScanAcrossIndexEntries() throws IOException {
+    SegmentStore store = SegmentStore.open(folder.newFolder(), RETENTION, 10000);
+    for (int i = 0; i < 1000; ++i) {
+      store.add(PATH, i * 10, i);
+    }
+    store.flush();
+    List<Double> values = new ArrayList<>();
+    store.forEach(5000, 5200, (pathId, timestampMillis, value) -> values.add(value));
+    assertEquals(21, values.size());
+    assertEquals(500, values.get(0), 0);
+    assertEquals(520, values.get(20), 0);
+  }
+
+  @Test
+  public void testSegmentsRollCompactAndExpire() throws IOException {
+    File directory = folder.newFolder();
+    SegmentStore store = SegmentStore.open(directory, RETENTION, 1000);
+    for (int day = 0; day < 4; ++day) {
+      store.add(PATH, START + day * DAY, day);
+      store.add(PATH, START + day * DAY + 1, day);
+    }
+    store.flush();
+    assertEquals(4, store.getSegmentCount());
+
+    // All but the current segment are merged.
+    store.compact();
+    assertEquals(2, store.getSegmentCount());
+    assertEquals(8, readPaths(store, 0, Long.MAX_VALUE).size());
+
+    store.deleteExpired(START + 3 * DAY + RETENTION);
+    assertEquals(1, store.getSegmentCount());
+    assertEquals(2, readPaths(store, 0, Long.MAX_VALUE).size());
+    store.close();
+
+    SegmentStore reopened = SegmentStore.open(directory, RETENTION, 1000);
+    assertEquals(1, reopened.getSegmentCount());
+    assertEquals(2, readPaths(reopened, 0, Long.MAX_VALUE).size());
+  }
+
+  @Test
+  public void testInterruptedCompactionIsCompleted() throws IOException {
+    File directory = folder.newFolder();
+    List<Path> merged = writeDays(directory, 4);
+    Map<Path, byte[]> contents = read(merged.subList(1, merged.size()));
+    SegmentStore store = SegmentStore.open(directory, RETENTION, 1000);
+    store.compact();
+    store.close();
+    // A crash after the merged segment replaced the first one, before the others were deleted.
+    for (Map.Entry<Path, byte[]> file : contents.entrySet()) {
+      Files.write(file.getKey(), file.getValue());
+    }
+    writeManifest(directory, merged);
+
+    SegmentStore reopened = SegmentStore.open(directory, RETENTION, 1000);
+    assertEquals(2, reopened.getSegmentCount());
+    assertEquals(8, readPaths(reopened, 0, Long.MAX_VALUE).size());
+    assertFalse(new File(directory, SegmentStore.MANIFEST_FILE).exists());
+  }
+
+  @Test
+  public void testCompactionInterruptedBeforeReplacingIsUndone() throws IOException {
+    File directory = folder.newFolder();
+    List<Path> merged = writeDays(directory, 4);
+    // A crash after the merged segment was written, before it replaced the first one.
+    Files.write(new File(directory, "compaction.tmp").toPath(), new byte[]{1, 2, 3});
+    writeManifest(directory, merged);
+
+    SegmentStore reopened = SegmentStore.open(directory, RETENTION, 1000);
+    assertEquals(4, reopened.getSegmentCount());
+    assertEquals(8, readPaths(reopened, 0, Long.MAX_VALUE).size());
+    assertFalse(new File(directory, "compaction.tmp").exists());
+  }
+
+  @Test
+  public void testLoadIntoHistory() throws IOException {
+    long now = System.currentTimeMillis();
+    SegmentStore store = SegmentStore.open(folder.newFolder(), RETENTION, 1000);
+    store.add(PATH, now - RETENTION - 1, 1);
+    store.add(PATH, now - 1000, 2);
+    store.flush();
+
+    ChannelHistory history = new ChannelHistory(RETENTION);
+    store.loadInto(history);
+    assertArrayEquals(new double[]{2}, history.query(PATH, 0, now, 0).values, 0);
+  }
+
+  /**
+   * Stores two samples per day for the given number of days.
+   *
+   * @return The files of the segments that a compaction merges, i.e. all but the last.
+   */
+  private static List<Path> writeDays(File directory, int days) throws IOException {
+    SegmentStore store = SegmentStore.open(directory, RETENTION, 1000);
+    for (int day = 0; day < days; ++day) {
+      store.add(PATH, START + day * DAY, day);
+      store.add(PATH, START + day * DAY + 1, day);
+    }
+    store.close();
+    List<Path> files = new ArrayList<>();
+    for (int day = 0; day < days - 1; ++day) {
+      files.add(new File(directory, String.format("segment-%013d.dat", START + day * DAY))
+          .toPath());
+    }
+    return files;
+  }
+
+  private static Map<Path, byte[]> read(List<Path> files) throws IOException {
+    Map<Path, byte[]> contents = new HashMap<>();
+    for (Path file : files) {
+      contents.put(file, Files.readAllBytes(file));
+    }
+    return contents;
+  }
+
+  private static void writeManifest(File directory, List<Path> files) throws IOException {
+    List<String> names = new ArrayList<>();
+    for (Path file : files) {
+      names.add(file.getFileName().toString());
+    }
+    Files.write(new File(directory, SegmentStore.MANIFEST_FILE).toPath(), names,
+        StandardCharsets.UTF_8);
+  }
+
+  private static List<String> readPaths(SegmentStore store, long fromMillis, long toMillis) {
+    List<String> paths = new ArrayList<>();
+    store.forEach(fromMillis, toMillis,
+        (pathId, timestampMillis, value) -> paths.add(store.getPath(pathId)));
+    return paths;
+  }
+}
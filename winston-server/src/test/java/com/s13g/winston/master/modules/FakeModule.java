@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package com.s13g.winston.master.modules;
+
+import com.google.common.collect.ImmutableList;
+import com.s13g.winston.master.channel.Channel;
+
+import java.util.List;
+
+/**
+ * A module with a fixed set of channels, for tests.
+ */
+public class FakeModule implements Module {
+  private final String mType;
+  private final List<Channel> mChannels;
+
+  public FakeModule(String type, Channel... channels) {
+    this(type, ImmutableList.copyOf(channels));
+  }
+
+  public FakeModule(String type, List<Channel> channels) {
+    mType = type;
+    mChannels = ImmutableList.copyOf(channels);
+  }
+
+  @Override
+  public void initialize(ModuleParameters params) {
+  }
+
+  @Override
+  public String getType() {
+    return mType;
+  }
+
+  @Override
+  public List<Channel> getChannels() {
+    return mChannels;
+  }
+}
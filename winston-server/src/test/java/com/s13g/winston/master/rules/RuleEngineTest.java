@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.rules;
+
+import com.google.common.collect.ImmutableList;
+import com.s13g.winston.common.FakeTicker;
+import com.s13g.winston.master.channel.ChannelValueIndex;
+import com.s13g.winston.master.channel.FakeChannel;
+import com.s13g.winston.master.channel.ReadOnlyChannelValue;
+import com.s13g.winston.master.channel.WriteOnlyChannelValue;
+import com.s13g.winston.master.modules.FakeModule;
+import com.s13g.winston.master.modules.Module;
+import com.s13g.winston.master.state.ChannelStateStore;
+import com.s13g.winston.proto.Master;
+import com.s13g.winston.proto.Master.Condition.Operator;
+import com.s13g.winston.shared.ChannelType;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link RuleEngine}.
+ */
+public class RuleEngineTest {
+  private static final String TEMPERATURE = "winston/10.0.0.1/tempC-0";
+  private static final String DOOR = "winston/10.0.0.1/door";
+  private static final String RELAY = "winston/10.0.0.1/relay";
+
+  private ChannelStateStore mStateStore;
+  private ChannelValueIndex mIndex;
+  private ScheduledExecutorService mScheduler;
+  private FakeTicker mTicker;
+  private List<String> mWrites;
+
+  @Before
+  public void setUp() {
+    mStateStore = new ChannelStateStore();
+    mIndex = ChannelValueIndex.create(ImmutableList.of(createModule()));
+    mScheduler = mock(ScheduledExecutorService.class);
+    mTicker = new FakeTicker();
+    mWrites = new ArrayList<>();
+  }
+
+  @Test
+  public void testThresholdExecutesOnceWhenCrossed() {
+    addRule(condition(TEMPERATURE, Operator.GREATER, "25", 0));
+    mStateStore.record(TEMPERATURE, 24.5f);
+    mStateStore.record(TEMPERATURE, 25.5f);
+    mStateStore.record(TEMPERATURE, 26f);
+    assertEquals(ImmutableList.of("on"), mWrites);
+
+    mStateStore.record(TEMPERATURE, 25f);
+    mStateStore.record(TEMPERATURE, 25.1f);
+    assertEquals(ImmutableList.of("on", "on"), mWrites);
+  }
+
+  @Test
+  public void testAllConditionsMustBeTrue() {
+    addRule(condition(TEMPERATURE, Operator.GREATER_OR_EQUAL, "25", 0),
+        condition(DOOR, Operator.EQUALS, "closed", 0));
+    mStateStore.record(TEMPERATURE, 25f);
+    mStateStore.record(DOOR, "open");
+    assertEquals(0, mWrites.size());
+    mStateStore.record(DOOR, "closed");
+    assertEquals(1, mWrites.size());
+  }
+
+  @Test
+  public void testChangedExecutesOnEveryChange() {
+    addRule(condition(DOOR, Operator.CHANGED, "", 0));
+    mStateStore.record(DOOR, "open");
+    mStateStore.record(DOOR, "open");
+    mStateStore.record(DOOR, "closed");
+    assertEquals(2, mWrites.size());
+  }
+
+  @Test
+  public void testDurationIsEvaluatedWhenItPassed() {
+    addRule(condition(TEMPERATURE, Operator.LESS, "10", 60000));
+    mStateStore.record(TEMPERATURE, 9f);
+    ArgumentCaptor<Runnable> evaluation = ArgumentCaptor.forClass(Runnable.class);
+    verify(mScheduler).schedule(evaluation.capture(), eq(TimeUnit.MINUTES.toNanos(1)),
+        eq(TimeUnit.NANOSECONDS));
+
+    mTicker.advanceMillis(30000);
+    mStateStore.record(TEMPERATURE, 8f);
+    assertEquals(0, mWrites.size());
+    mTicker.advanceMillis(30000);
+    evaluation.getValue().run();
+    assertEquals(1, mWrites.size());
+  }
+
+  @Test
+  public void testDurationRestartsWhenInterrupted() {
+    addRule(condition(TEMPERATURE, Operator.LESS, "10", 60000));
+    mStateStore.record(TEMPERATURE, 9f);
+    mTicker.advanceMillis(30000);
+    mStateStore.record(TEMPERATURE, 11f);
+    mStateStore.record(TEMPERATURE, 9f);
+    ArgumentCaptor<Runnable> evaluations = ArgumentCaptor.forClass(Runnable.class);
+    verify(mScheduler, times(2))
+        .schedule(evaluations.capture(), anyLong(), any(TimeUnit.class));
+
+    mTicker.advanceMillis(30000);
+    evaluations.getAllValues().get(0).run();
+    assertEquals(0, mWrites.size());
+    mTicker.advanceMillis(30000);
+    evaluations.getAllValues().get(1).run();
+    assertEquals(1, mWrites.size());
+  }
+
+  @Test
+  public void testUnknownValuesAreRejected() {
+    try {
+      new RuleEngine(ImmutableList.of(rule(condition("winston/10.0.0.2/tempC-0",
+          Operator.GREATER, "25", 0))), mIndex, mScheduler, Runnable::run, mTicker);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      new RuleEngine(ImmutableList.of(rule(condition(TEMPERATURE, Operator.GREATER, "25", 0))
+          .toBuilder().setAction(0, Master.RuleAction.newBuilder().setPath(TEMPERATURE))
+          .build()), mIndex, mScheduler, Runnable::run, mTicker);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  private void addRule(Master.Condition... conditions) {
+    mStateStore.addListener(new RuleEngine(ImmutableList.of(rule(conditions)), mIndex,
+        mScheduler, Runnable::run, mTicker));
+  }
+
+  private static Master.Rule rule(Master.Condition... conditions) {
+    return Master.Rule.newBuilder()
+        .setName("test")
+        .addAllCondition(ImmutableList.copyOf(conditions))
+        .addAction(Master.RuleAction.newBuilder().setPath(RELAY).setValue("on"))
+        .build();
+  }
+
+  private static Master.Condition condition(String path, Operator operator, String value,
+                                            int forMillis) {
+    return Master.Condition.newBuilder()
+        .setPath(path)
+        .setOperator(operator)
+        .setValue(value)
+        .setForMillis(forMillis)
+        .build();
+  }
+
+  private Module createModule() {
+    return new FakeModule("winston", new FakeChannel("10.0.0.1", ChannelType.WINSTON_SENSORBOX,
+        new ReadOnlyChannelValue<>("tempC-0", () -> 20f),
+        new ReadOnlyChannelValue<>("door", () -> "open"),
+        new WriteOnlyChannelValue("relay", value -> mWrites.add(value))));
+  }
+}
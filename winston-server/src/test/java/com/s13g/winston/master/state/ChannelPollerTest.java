@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.state;
+
+import com.google.common.collect.ImmutableList;
+import com.s13g.winston.master.channel.ChannelValueIndex;
+import com.s13g.winston.master.channel.FakeChannel;
+import com.s13g.winston.master.channel.ReadOnlyChannelValue;
+import com.s13g.winston.master.modules.FakeModule;
+import com.s13g.winston.master.modules.Module;
+import com.s13g.winston.proto.Master.PollSchedule;
+import com.s13g.winston.shared.ChannelType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ChannelPoller}.
+ */
+public class ChannelPollerTest {
+  private ChannelStateStore mStateStore;
+  private ChannelValueIndex mIndex;
+  private ScheduledExecutorService mScheduler;
+  private ExecutorService mPollExecutor;
+  private AtomicInteger mNumReads;
+  private AtomicInteger mConcurrentReads;
+  private AtomicInteger mMaxConcurrentReads;
+
+  @Before
+  public void setUp() {
+    mStateStore = new ChannelStateStore();
+    mScheduler = Executors.newScheduledThreadPool(1);
+    mPollExecutor = Executors.newFixedThreadPool(4);
+    mNumReads = new AtomicInteger();
+    mConcurrentReads = new AtomicInteger();
+    mMaxConcurrentReads = new AtomicInteger();
+    mIndex = ChannelValueIndex.create(ImmutableList.of(createModule()))
+        .decorate(mStateStore.createObserver());
+  }
+
+  @After
+  public void tearDown() {
+    mScheduler.shutdownNow();
+    mPollExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testOnlyScheduledValuesArePolled() {
+    ChannelPoller poller = createPoller("winston/10.0.0.1/tempC-0", 1, 5);
+    assertTrue(poller.isPolled("winston/10.0.0.1/tempC-0"));
+    assertFalse(poller.isPolled("winston/10.0.0.1/tempC-1"));
+    assertFalse(poller.getPolledState("winston/10.0.0.1/tempC-1").isPresent());
+    // Not polled yet.
+    assertFalse(poller.getPolledState("winston/10.0.0.1/tempC-0").isPresent());
+  }
+
+  @Test
+  public void testPolledValuesAreServedFromMemory() throws Exception {
+    ChannelPoller poller = createPoller("winston", 1, 100);
+    poller.start();
+    waitUntilPolled(poller, "winston/10.0.0.1/tempC-0");
+    waitUntilPolled(poller, "winston/10.0.0.1/tempC-1");
+    assertEquals(21.5f, poller.getPolledState("winston/10.0.0.1/tempC-0").get().getValue());
+    poller.stop();
+  }
+
+  @Test
+  public void testPollsPerDeviceAreLimited() throws Exception {
+    ChannelPoller poller = createPoller("winston/10.0.0.1", 1, 5);
+    poller.start();
+    Thread.sleep(300);
+    poller.stop();
+    assertTrue(mNumReads.get() > 2);
+    assertEquals(1, mMaxConcurrentReads.get());
+  }
+
+  @Test
+  public void testChannelsWithTheSameAddressShareTheLimit() throws Exception {
+    // Both channels of the module talk to 10.0.0.1.
+    ChannelPoller poller = createPoller("winston", 1, 5);
+    poller.start();
+    Thread.sleep(300);
+    poller.stop();
+    assertTrue(mNumReads.get() > 2);
+    assertEquals(1, mMaxConcurrentReads.get());
+  }
+
+  private ChannelPoller createPoller(String path, int maxPollsPerDevice, int intervalMillis) {
+    PollSchedule schedule =
+        PollSchedule.newBuilder().setPath(path).setIntervalMillis(intervalMillis).build();
+    return new ChannelPoller(mIndex, ImmutableList.of(schedule), maxPollsPerDevice, mStateStore,
+        mScheduler, mPollExecutor);
+  }
+
+  private static void waitUntilPolled(ChannelPoller poller, String path) throws Exception {
+    for (int i = 0; i < 500 && !poller.getPolledState(path).isPresent(); ++i) {
+      Thread.sleep(10);
+    }
+    assertTrue(poller.getPolledState(path).isPresent());
+  }
+
+  /** Reads take a while, to detect reads of the same device that overlap. */
+  private float slowRead() {
+    mNumReads.incrementAndGet();
+    int concurrent = mConcurrentReads.incrementAndGet();
+    mMaxConcurrentReads.accumulateAndGet(concurrent, Math::max);
+    try {
+      Thread.sleep(10);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    mConcurrentReads.decrementAndGet();
+    return 21.5f;
+  }
+
+  private Module createModule() {
+    return new FakeModule("winston",
+        new FakeChannel("10.0.0.1", ChannelType.WINSTON_SENSORBOX,
+            new ReadOnlyChannelValue<>("tempC-0", () -> slowRead()),
+            new ReadOnlyChannelValue<>("tempC-1", () -> slowRead())),
+        new FakeChannel("power", ChannelType.WINSTON_POWERBOX,
+            new ReadOnlyChannelValue<>("power-0", () -> slowRead())).setAddress("10.0.0.1"));
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 The Winston Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.s13g.winston.master.state;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ChannelStateStore}.
+ */
+public class ChannelStateStoreTest {
+
+  @Test
+  public void testVersionOnlyChangesWithValue() {
+    ChannelStateStore store = new ChannelStateStore(0);
+    assertEquals(0, store.getVersion());
+    assertFalse(store.get("nest/abc/humidity").isPresent());
+
+    assertEquals(1, store.record("nest/abc/humidity", 40f).getVersion());
+    assertEquals(1, store.record("nest/abc/humidity", 40f).getVersion());
+    assertEquals(2, store.record("wemo/tv/switch", true).getVersion());
+    assertEquals(3, store.record("nest/abc/humidity", 41f).getVersion());
+    assertEquals(3, store.getVersion());
+    assertEquals(41f, store.get("nest/abc/humidity").get().getValue());
+  }
+
+  @Test
+  public void testChangedSince() {
+    ChannelStateStore store = new ChannelStateStore();
+    store.record("nest/abc/humidity", 40f);
+    store.record("wemo/tv/switch", true);
+    long version = store.getVersion();
+    assertTrue(store.getChangedSince(version).isEmpty());
+    assertEquals(2, store.getChangedSince(0).size());
+
+    store.record("wemo/tv/switch", true);
+    assertTrue(store.getChangedSince(version).isEmpty());
+
+    store.record("wemo/tv/switch", false);
+    List<ChannelState> changed = store.getChangedSince(version);
+    assertEquals(1, changed.size());
+    assertEquals("wemo/tv/switch", changed.get(0).getPath());
+    assertEquals(false, changed.get(0).getValue());
+  }
+
+  @Test
+  public void testVersionsOfOtherRunsAreUnknown() {
+    ChannelStateStore store = new ChannelStateStore(1000);
+    store.record("wemo/tv/switch", true);
+    assertTrue(store.isKnownVersion(1000));
+    assertTrue(store.isKnownVersion(1001));
+    assertFalse(store.isKnownVersion(999));
+    assertFalse(store.isKnownVersion(1002));
+  }
+}